@@ -0,0 +1,99 @@
+package nus.climods.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.logic.commands.CommandResult;
+import nus.climods.logic.commands.FindCommand;
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.logic.parser.FindCommandParser;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.model.Model;
+import nus.climods.model.ModelManager;
+import nus.climods.model.UserPrefs;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.ModuleSearchIndex;
+import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.module.comparator.ModuleBestMatchKeywordComparator;
+import nus.climods.model.module.predicate.ModuleContainsKeywordsPredicate;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * Benchmarks {@code find}, with and without the search index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindBenchmark {
+
+    @Param({"6000", "60000", "600000"})
+    private int catalogueSize;
+
+    @Param({"software engineering", "^CS00[0-9]{2}$"})
+    private String searchPhrase;
+
+    private Model model;
+    private List<Module> modules;
+    private List<Pattern> searchRegexes;
+    private FindCommand findCommand;
+
+    /**
+     * Builds the catalogue and its search index, which the app builds once on the first {@code find}.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        modules = SyntheticCatalogue.getModules(catalogueSize);
+        model = new ModelManager(new ModuleList(modules), new UniqueUserModuleList(), new UserPrefs(),
+            (academicYear, semester) -> new VenueIndex(Map.of()));
+        model.getModuleList().getSearchIndex();
+
+        findCommand = new FindCommandParser().parse(searchPhrase);
+        searchRegexes = Arrays.stream(searchPhrase.split("\\s+"))
+            .map(token -> Pattern.compile(token, Pattern.CASE_INSENSITIVE))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Executes {@code find}, filtering and ranking the module list through the search index.
+     */
+    @Benchmark
+    public CommandResult find() throws CommandException {
+        return findCommand.execute(model);
+    }
+
+    /**
+     * Filters and ranks the module list by testing each regex against each module, as {@code find} did before the
+     * search index.
+     */
+    @Benchmark
+    public int findByScan() {
+        model.setFilteredModuleList(new ModuleContainsKeywordsPredicate(searchRegexes),
+            new ModuleBestMatchKeywordComparator(searchRegexes));
+        return model.getFilteredModuleList().size();
+    }
+
+    @Benchmark
+    public ModuleSearchIndex buildSearchIndex() {
+        return new ModuleSearchIndex(modules);
+    }
+}
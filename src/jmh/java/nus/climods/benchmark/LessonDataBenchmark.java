@@ -0,0 +1,61 @@
+package nus.climods.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.ModuleInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.model.module.Module;
+
+/**
+ * Benchmarks building the lesson maps of a module from its detailed information, as {@code view}, {@code add} and
+ * {@code pick} do on first use of a module.
+ * <p>
+ * The detail loader serves a prebuilt response, so only the lesson map construction is measured.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LessonDataBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lessonsPerSemester;
+
+    private ModuleInformation moduleInfo;
+
+    /**
+     * Picks a module of the catalogue and serves synthetic lessons for it.
+     */
+    @Setup
+    public void setUp() {
+        moduleInfo = SyntheticCatalogue.getModuleInformation(1).get(0);
+        org.openapitools.client.model.Module moduleDetail =
+            SyntheticCatalogue.getModuleDetail(moduleInfo.getModuleCode(), lessonsPerSemester);
+        Module.setDetailLoader((academicYear, moduleCode) -> moduleDetail);
+    }
+
+    /**
+     * Loads the details of a fresh module, which builds its lesson maps.
+     */
+    @Benchmark
+    public Module setLessonData() throws ApiException {
+        Module module = new Module(moduleInfo, SyntheticCatalogue.ACADEMIC_YEAR);
+        module.loadMoreData();
+        return module;
+    }
+}
@@ -0,0 +1,65 @@
+package nus.climods.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.logic.commands.CommandResult;
+import nus.climods.logic.commands.ListCommand;
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.logic.parser.ListCommandParser;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.model.Model;
+import nus.climods.model.ModelManager;
+import nus.climods.model.UserPrefs;
+import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * Benchmarks {@code ls} filtered by a faculty code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ListBenchmark {
+
+    @Param({"6000", "60000", "600000"})
+    private int catalogueSize;
+
+    @Param({"CS"})
+    private String facultyCode;
+
+    private Model model;
+    private ListCommand listCommand;
+
+    /**
+     * Builds the catalogue and parses the {@code ls} command.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(new ModuleList(SyntheticCatalogue.getModules(catalogueSize)),
+            new UniqueUserModuleList(), new UserPrefs(),
+            (academicYear, semester) -> new VenueIndex(Map.of()));
+        listCommand = new ListCommandParser().parse(" " + facultyCode);
+    }
+
+    @Benchmark
+    public CommandResult list() throws CommandException {
+        return listCommand.execute(model);
+    }
+}
@@ -0,0 +1,63 @@
+package nus.climods.benchmark;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleList;
+
+/**
+ * Benchmarks looking up modules of the catalogue by code, as every command naming a module does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModuleListBenchmark {
+
+    private static final int LOOKUP_CODES_COUNT = 1024;
+
+    @Param({"6000", "60000", "600000"})
+    private int catalogueSize;
+
+    private ModuleList moduleList;
+    private String[] lookupCodes;
+    private int nextLookup;
+
+    /**
+     * Builds the catalogue and picks codes spread across it to look up, in lower case as typed by users.
+     */
+    @Setup
+    public void setUp() {
+        moduleList = new ModuleList(SyntheticCatalogue.getModules(catalogueSize));
+        lookupCodes = new String[LOOKUP_CODES_COUNT];
+        for (int i = 0; i < LOOKUP_CODES_COUNT; i++) {
+            int index = (int) ((long) i * catalogueSize / LOOKUP_CODES_COUNT);
+            lookupCodes[i] = SyntheticCatalogue.getModuleCode(index).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Looks up the next code, cycling through the chosen codes.
+     */
+    @Benchmark
+    public Optional<Module> getModule() {
+        nextLookup = (nextLookup + 1) % LOOKUP_CODES_COUNT;
+        return moduleList.getModule(lookupCodes[nextLookup]);
+    }
+}
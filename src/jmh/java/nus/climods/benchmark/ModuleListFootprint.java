@@ -0,0 +1,137 @@
+package nus.climods.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openapitools.client.model.ModuleInformation;
+
+import nus.climods.commons.util.JsonUtil;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.ReadOnlyModuleList;
+import nus.climods.storage.module.BinaryModuleListStorage;
+import nus.climods.storage.module.ModuleInformationReader;
+
+/**
+ * Measures the heap retained by the module list of a catalogue, for each way the app loads one:
+ * <ul>
+ *     <li>{@code json, bound}: the whole {@code moduleInfo.json} bound by Jackson, as before it was streamed</li>
+ *     <li>{@code json, streamed}: {@code moduleInfo.json} read by {@link ModuleInformationReader}, as on a refresh</li>
+ *     <li>{@code snapshot}: the binary snapshot read by {@link BinaryModuleListStorage}, as at startup</li>
+ * </ul>
+ * <p>
+ * Retained heap is measured as the growth in used heap after garbage collection, taking the smallest of several runs.
+ * Memory mapped snapshot files are outside the heap and are not counted. This is not a JMH benchmark, as JMH
+ * measures time and allocation rather than retained heap, but it lives here so that it is built the same way:
+ * </p>
+ * <pre>
+ * ./gradlew jmhJar
+ * java -cp build/libs/*-jmh.jar nus.climods.benchmark.ModuleListFootprint [moduleInfo.json [academicYear]]
+ * </pre>
+ * <p>
+ * Without a file, a synthetic catalogue of {@value #SYNTHETIC_MODULE_COUNT} modules is measured. A real catalogue can
+ * be downloaded from {@code https://api.nusmods.com/v2/<academicYear>/moduleInfo.json}. Only storage and model APIs
+ * older than the compact module information are used, so the same tool can be copied onto earlier commits to compare
+ * them on the same catalogue.
+ * </p>
+ */
+public class ModuleListFootprint {
+
+    private static final int SYNTHETIC_MODULE_COUNT = 6000;
+    private static final int RUNS = 5;
+    private static final int GC_ROUNDS = 4;
+
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Loads a module list, failing if there is none.
+     */
+    private interface ModuleListLoader {
+        ReadOnlyModuleList load() throws Exception;
+    }
+
+    /**
+     * Prints the heap retained by the module list of the catalogue in {@code args[0]}, or of a synthetic catalogue.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("climods-footprint");
+        try {
+            Path catalogueFilePath = args.length > 0 ? Path.of(args[0]) : writeSyntheticCatalogue(directory);
+            String academicYear = args.length > 1 ? args[1] : SyntheticCatalogue.ACADEMIC_YEAR;
+
+            BinaryModuleListStorage storage = new BinaryModuleListStorage(directory.resolve("snapshots"));
+            try (InputStream in = Files.newInputStream(catalogueFilePath)) {
+                storage.saveModuleList(ModuleInformationReader.readAll(in), academicYear);
+            }
+
+            System.out.println("Catalogue: " + catalogueFilePath);
+            measure("json, bound", () -> new ModuleList(toModules(
+                Arrays.asList(JsonUtil.readJsonFile(catalogueFilePath, ModuleInformation[].class).orElseThrow()),
+                academicYear)));
+            measure("json, streamed", () -> {
+                try (InputStream in = Files.newInputStream(catalogueFilePath)) {
+                    return new ModuleList(toModules(ModuleInformationReader.readAll(in), academicYear));
+                }
+            });
+            measure("snapshot", () -> storage.readModuleList(academicYear).orElseThrow());
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static Path writeSyntheticCatalogue(Path directory) throws IOException {
+        Path filePath = directory.resolve("moduleInfo.json");
+        JsonUtil.saveJsonFile(SyntheticCatalogue.getModuleInformation(SYNTHETIC_MODULE_COUNT), filePath);
+        return filePath;
+    }
+
+    private static List<Module> toModules(List<ModuleInformation> moduleInfos, String academicYear) {
+        return moduleInfos.stream()
+            .map(moduleInfo -> new Module(moduleInfo, academicYear))
+            .collect(Collectors.toList());
+    }
+
+    private static void measure(String name, ModuleListLoader loader) throws Exception {
+        // Loads once first, so that classes and caches set up on the first load are not counted
+        Reference.reachabilityFence(loader.load());
+
+        long minRetained = Long.MAX_VALUE;
+        int moduleCount = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long usedBefore = getUsedHeapAfterGc();
+            ReadOnlyModuleList moduleList = loader.load();
+            long retained = getUsedHeapAfterGc() - usedBefore;
+            moduleCount = moduleList.getModules().size();
+            Reference.reachabilityFence(moduleList);
+            minRetained = Math.min(minRetained, retained);
+        }
+
+        System.out.printf("%-16s %6d modules %8d KiB %6d B/module%n", name, moduleCount, minRetained / 1024,
+            moduleCount == 0 ? 0 : minRetained / moduleCount);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package nus.climods.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemesterData;
+import org.openapitools.client.model.SemestersEnum;
+import org.openapitools.client.model.Workload;
+
+import nus.climods.model.module.LessonTypeEnum;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.module.UserModule;
+
+/**
+ * Generates module catalogues shaped like the NUSMods data, at sizes beyond the real catalogue.
+ * <p>
+ * Codes are a two letter faculty prefix followed by four digits, so that {@code ls} with a faculty code matches one
+ * in {@value #FACULTY_CODES_COUNT} modules. Generation is seeded, so every run benchmarks the same catalogue.
+ * </p>
+ */
+public class SyntheticCatalogue {
+
+    public static final String ACADEMIC_YEAR = "2022-2023";
+
+    private static final int FACULTY_CODES_COUNT = 60;
+    private static final int MAX_MODULES = FACULTY_CODES_COUNT * 10000;
+    private static final long SEED = 2103;
+
+    private static final String[] TITLE_WORDS = {
+        "Software", "Engineering", "Data", "Structures", "Algorithms", "Introduction", "Advanced", "Systems",
+        "Computer", "Networks", "Design", "Analysis", "Programming", "Methodology", "Theory", "Applied", "Statistics",
+        "Machine", "Learning", "Security", "Databases", "Operating", "Linear", "Algebra", "Calculus", "Physics",
+        "Chemistry", "Economics", "Management", "Communication", "Principles", "Foundations", "Topics", "Project"
+    };
+    private static final String[] DEPARTMENTS = {
+        "Computer Science", "Information Systems and Analytics", "Mathematics", "Statistics and Data Science",
+        "Electrical and Computer Engineering", "Physics", "Economics", "Chemistry"
+    };
+    private static final String[] LESSON_TYPES = {"Lecture", "Tutorial", "Laboratory", "Recitation"};
+    private static final String[] DAYS = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
+
+    private static final String[] FACULTY_CODES = buildFacultyCodes();
+
+    private static String[] buildFacultyCodes() {
+        String[] facultyCodes = new String[FACULTY_CODES_COUNT];
+        facultyCodes[0] = "CS";
+        int i = 1;
+        for (char first = 'A'; i < FACULTY_CODES_COUNT; first++) {
+            for (char second = 'A'; second <= 'Z' && i < FACULTY_CODES_COUNT; second += 7) {
+                String facultyCode = "" + first + second;
+                if (!facultyCode.equals("CS")) {
+                    facultyCodes[i++] = facultyCode;
+                }
+            }
+        }
+        return facultyCodes;
+    }
+
+    /**
+     * Returns the code of the {@code index}-th module of every catalogue.
+     */
+    public static String getModuleCode(int index) {
+        return String.format("%s%04d", FACULTY_CODES[index % FACULTY_CODES_COUNT], index / FACULTY_CODES_COUNT);
+    }
+
+    /**
+     * Returns a catalogue of {@code size} distinct modules.
+     *
+     * @param size number of modules, at most 600000
+     */
+    public static List<ModuleInformation> getModuleInformation(int size) {
+        if (size > MAX_MODULES) {
+            throw new IllegalArgumentException("Catalogue size cannot exceed " + MAX_MODULES);
+        }
+
+        Random random = new Random(SEED);
+        List<ModuleInformation> catalogue = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+            ModuleInformation moduleInfo = new ModuleInformation()
+                .moduleCode(getModuleCode(i))
+                .title(getWords(random, 2 + random.nextInt(4)))
+                .description(getWords(random, 30 + random.nextInt(50)))
+                .moduleCredit("4")
+                .department(department)
+                .faculty(department)
+                .workload(new Workload("2-1-1-3-3"))
+                .prerequisite(random.nextBoolean() ? getModuleCode(random.nextInt(size)) : null);
+            moduleInfo.addSemesterDataItem(new ModuleInformationSemesterDataInner()
+                .semester(new BigDecimal(1 + random.nextInt(2))));
+            catalogue.add(moduleInfo);
+        }
+        return catalogue;
+    }
+
+    /**
+     * Returns the modules of a catalogue of {@code size} distinct modules.
+     */
+    public static List<Module> getModules(int size) {
+        return getModuleInformation(size).stream()
+            .map(moduleInfo -> new Module(moduleInfo, ACADEMIC_YEAR))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns detailed information of a module with {@code lessonsPerSemester} lessons in each of semester 1 and 2.
+     * Lessons of the same type are split into class numbers of two lessons each.
+     */
+    public static org.openapitools.client.model.Module getModuleDetail(String moduleCode, int lessonsPerSemester) {
+        Random random = new Random(SEED);
+        org.openapitools.client.model.Module moduleDetail = new org.openapitools.client.model.Module()
+            .acadYear(ACADEMIC_YEAR)
+            .moduleCode(moduleCode)
+            .title(getWords(random, 3))
+            .moduleCredit("4");
+        for (int semester = 1; semester <= 2; semester++) {
+            SemesterData semesterData = new SemesterData().semester(new BigDecimal(semester));
+            for (int i = 0; i < lessonsPerSemester; i++) {
+                int startHour = 8 + random.nextInt(10);
+                semesterData.addTimetableItem(new Lesson()
+                    .classNo(String.valueOf(i / (2 * LESSON_TYPES.length)))
+                    .lessonType(LESSON_TYPES[i % LESSON_TYPES.length])
+                    .day(DAYS[random.nextInt(DAYS.length)])
+                    .startTime(String.format("%02d00", startHour))
+                    .endTime(String.format("%02d00", startHour + 1))
+                    .venue("COM1-" + random.nextInt(100)));
+            }
+            moduleDetail.addSemesterDataItem(semesterData);
+        }
+        return moduleDetail;
+    }
+
+    /**
+     * Returns a user module list of {@code size} modules with a lecture and a tutorial chosen for each.
+     */
+    public static UniqueUserModuleList getUserModules(int size) {
+        UniqueUserModuleList userModules = new UniqueUserModuleList();
+        for (int i = 0; i < size; i++) {
+            HashMap<LessonTypeEnum, String> lessons = new HashMap<>();
+            lessons.put(LessonTypeEnum.LEC, "1");
+            lessons.put(LessonTypeEnum.TUT, String.valueOf(i % 10));
+            userModules.add(new UserModule(getModuleCode(i), SemestersEnum.S1, lessons));
+        }
+        return userModules;
+    }
+
+    private static String getWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]);
+        }
+        return words.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package nus.climods.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.model.module.LessonTypeEnum;
+import nus.climods.model.timetable.LessonSlot;
+import nus.climods.model.timetable.TimetableEntry;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.timetable.TimetableSolution;
+import nus.climods.model.timetable.TimetableSolver;
+
+/**
+ * Benchmarks picking lessons again after a module is added to a solved timetable, as {@code add} does, against
+ * solving the whole timetable from scratch.
+ * <p>
+ * Each module has a tutorial and a lab, whose classes are spread over the hours of the week.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimetableRepairBenchmark {
+
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(10);
+    private static final List<LessonTypeEnum> LESSON_TYPES = List.of(LessonTypeEnum.TUT, LessonTypeEnum.LAB);
+
+    @Param({"4", "8", "12"})
+    private int modules;
+
+    @Param({"10", "40"})
+    private int classesPerLessonType;
+
+    @Param({"none", "days"})
+    private String objectiveName;
+
+    private final TimetableSolver solver = new TimetableSolver();
+    private TimetableObjective objective;
+    private List<List<TimetableEntry>> choices;
+    private List<Optional<TimetableEntry>> previousEntries;
+
+    /**
+     * Solves the timetable of all modules but the last, which is then added.
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        objective = objectiveName.equals("days")
+            ? new TimetableObjective(true, Optional.empty(), false, false)
+            : TimetableObjective.NONE;
+        choices = new ArrayList<>();
+        for (int module = 0; module < modules; module++) {
+            for (int type = 0; type < LESSON_TYPES.size(); type++) {
+                choices.add(getClasses(module, type));
+            }
+        }
+
+        int solvedChoices = choices.size() - LESSON_TYPES.size();
+        List<TimetableEntry> solution = solver.optimise(List.of(), choices.subList(0, solvedChoices), objective,
+            TIME_BUDGET).getEntries().orElseThrow(() -> new IllegalStateException("Timetable cannot be solved"));
+        previousEntries = new ArrayList<>();
+        solution.forEach(entry -> previousEntries.add(Optional.of(entry)));
+        LESSON_TYPES.forEach(lessonType -> previousEntries.add(Optional.empty()));
+    }
+
+    private List<TimetableEntry> getClasses(int module, int type) {
+        String moduleCode = SyntheticCatalogue.getModuleCode(module);
+        List<TimetableEntry> classes = new ArrayList<>();
+        for (int c = 0; c < classesPerLessonType; c++) {
+            int day = (c + module + type) % 5;
+            int startHour = 8 + (c * 7 + module * 3 + type * 5) % 10;
+            LessonSlot slot = new LessonSlot(day, startHour * 60, (startHour + 1) * 60, LessonSlot.TEACHING_WEEKS);
+            String lessonId = String.format("%02d", c);
+            classes.add(new TimetableEntry(moduleCode, LESSON_TYPES.get(type), lessonId, List.of(slot)));
+        }
+        return classes;
+    }
+
+    /**
+     * Picks the lessons of every module again, ignoring the previous solution.
+     */
+    @Benchmark
+    public TimetableSolution solveFromScratch() throws InterruptedException {
+        return solver.optimise(List.of(), choices, objective, TIME_BUDGET);
+    }
+
+    /**
+     * Picks the lessons of the added module around the previous solution, widening the search as needed.
+     */
+    @Benchmark
+    public TimetableSolution repair() throws InterruptedException {
+        return solver.repair(List.of(), choices, previousEntries, objective, TIME_BUDGET);
+    }
+}
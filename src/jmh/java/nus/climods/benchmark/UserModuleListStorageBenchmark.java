@@ -0,0 +1,74 @@
+package nus.climods.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.storage.exceptions.StorageException;
+import nus.climods.storage.module.user.JsonUserModuleListStorage;
+
+/**
+ * Benchmarks saving and loading the user's modules, which happens after every command changing them and at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UserModuleListStorageBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int userModuleCount;
+
+    private Path directory;
+    private JsonUserModuleListStorage storage;
+    private UniqueUserModuleList userModules;
+
+    /**
+     * Creates a storage in a temporary directory, holding {@code userModuleCount} modules.
+     */
+    @Setup
+    public void setUp() throws IOException, StorageException {
+        directory = Files.createTempDirectory("climods-benchmark");
+        storage = new JsonUserModuleListStorage(directory.resolve("userModuleList.json"));
+        userModules = SyntheticCatalogue.getUserModules(userModuleCount);
+        storage.saveUserModuleList(userModules);
+    }
+
+    /**
+     * Deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getUserModuleListFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws StorageException {
+        storage.saveUserModuleList(userModules);
+    }
+
+    @Benchmark
+    public Optional<UniqueUserModuleList> load() throws DataConversionException {
+        return storage.readUserModuleList();
+    }
+}
@@ -8,8 +8,13 @@ import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.openapitools.client.ApiClient;
 import org.openapitools.client.ApiException;
+import org.openapitools.client.RevalidationCache;
 import org.openapitools.client.api.ModulesApi;
+import org.openapitools.client.api.VenuesApi;
+import org.openapitools.client.model.ModuleCondensed;
+import org.openapitools.client.model.ModuleInformation;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -26,13 +31,31 @@ import nus.climods.model.ModelManager;
 import nus.climods.model.ReadOnlyUserPrefs;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleDetailLoader;
+import nus.climods.model.module.ModuleDetailPrefetcher;
 import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.ModuleSummaryList;
+import nus.climods.model.module.ReadOnlyModuleList;
+import nus.climods.model.module.ReadOnlyModuleSummaryList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueIndex;
+import nus.climods.model.venue.VenueLoader;
 import nus.climods.storage.JsonUserPrefsStorage;
 import nus.climods.storage.Storage;
 import nus.climods.storage.StorageManager;
 import nus.climods.storage.UserPrefsStorage;
+import nus.climods.storage.module.BinaryModuleListStorage;
+import nus.climods.storage.module.CachedModuleDetailLoader;
+import nus.climods.storage.module.JsonModuleDetailStorage;
+import nus.climods.storage.module.ModuleDetailCrawler;
+import nus.climods.storage.module.ModuleListRefresher;
+import nus.climods.storage.module.ModuleListStorage;
+import nus.climods.storage.module.SavedModuleDetailLoader;
+import nus.climods.storage.module.summary.JsonModuleSummaryListStorage;
+import nus.climods.storage.module.summary.ModuleSummaryListStorage;
 import nus.climods.storage.module.user.JsonUserModuleListStorage;
+import nus.climods.storage.venue.CachedVenueLoader;
+import nus.climods.storage.venue.JsonVenueStorage;
 import nus.climods.ui.Ui;
 import nus.climods.ui.UiManager;
 
@@ -43,6 +66,11 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
+    private static final String HTTP_CACHE_DIRECTORY_NAME = "http";
+    private static final String CRAWL_DIRECTORY_NAME = "crawl";
+    private static final String CRAWL_CHECKPOINT_FILE_NAME = "checkpoint.json";
+    private static final String MODULE_SUMMARY_LIST_FILE_NAME = "moduleList.json";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -50,6 +78,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ModuleDetailPrefetcher moduleDetailPrefetcher;
+    protected ModuleDetailCrawler moduleDetailCrawler;
+    protected SavedModuleDetailLoader savedModuleDetailLoader;
+    protected ModuleListRefresher moduleListRefresher;
 
     @Override
     public void init() throws Exception {
@@ -65,29 +97,74 @@ public class MainApp extends Application {
         JsonUserModuleListStorage userModuleListStorage = new JsonUserModuleListStorage(userPrefs
             .getUserModuleListFilePath());
 
-        storage = new StorageManager(userModuleListStorage, userPrefsStorage);
+        BinaryModuleListStorage moduleListStorage = new BinaryModuleListStorage(userPrefs
+            .getModuleCacheDirectoryPath());
+        JsonModuleDetailStorage moduleDetailStorage = new JsonModuleDetailStorage(userPrefs
+            .getModuleCacheDirectoryPath());
+
+        storage = new StorageManager(userModuleListStorage, userPrefsStorage, moduleListStorage, moduleDetailStorage);
 
         initLogging(config);
+        initModulesApi(userPrefs);
+        // Details missing from the cache of viewed modules may have been crawled with the rest of the catalogue
+        Path crawlDirectoryPath = userPrefs.getModuleCacheDirectoryPath().resolve(CRAWL_DIRECTORY_NAME);
+        JsonModuleDetailStorage crawledModuleDetailStorage = new JsonModuleDetailStorage(crawlDirectoryPath,
+            ModuleDetailCrawler.MAX_CRAWL_AGE, JsonModuleDetailStorage.UNBOUNDED_ENTRIES);
+        ModuleDetailLoader apiLoader = ModulesApi.getInstance()::acadYearModulesModuleCodeJsonGet;
+        Module.setDetailLoader(new CachedModuleDetailLoader(moduleDetailStorage,
+            new CachedModuleDetailLoader(crawledModuleDetailStorage, apiLoader)));
+        // Checks of every module, such as find --fits, only read the details saved so far
+        savedModuleDetailLoader = new SavedModuleDetailLoader(crawledModuleDetailStorage, moduleDetailStorage);
+        Module.setSavedDetailLoader(savedModuleDetailLoader);
+        moduleDetailCrawler = new ModuleDetailCrawler(crawledModuleDetailStorage, apiLoader,
+            crawlDirectoryPath.resolve(CRAWL_CHECKPOINT_FILE_NAME));
 
-        model = initModelManager(storage, userPrefs);
+        String academicYear = userPrefs.getAcademicYear();
+        ModuleSummaryListStorage moduleSummaryListStorage = new JsonModuleSummaryListStorage(userPrefs
+            .getModuleCacheDirectoryPath().resolve(academicYear).resolve(MODULE_SUMMARY_LIST_FILE_NAME));
+        moduleListRefresher = new ModuleListRefresher(moduleListStorage,
+            ModulesApi.getInstance()::acadYearModuleInfoJsonGetAsStream);
+
+        VenuesApi venuesApi = new VenuesApi();
+        VenueLoader venueLoader = new CachedVenueLoader(new JsonVenueStorage(userPrefs.getModuleCacheDirectoryPath()),
+            (venueAcademicYear, semester) -> VenueIndex.of(venuesApi
+                .acadYearSemestersSemesterVenueInformationJsonGet(venueAcademicYear, semester.getValue())));
+
+        model = initModelManager(storage, moduleSummaryListStorage, userPrefs, venueLoader);
+        prefetchSavedModules(model);
         logic = new LogicManager(model, storage);
+        if (moduleListStorage.isModuleListStale(academicYear)) {
+            refreshModuleList(academicYear);
+        } else {
+            // Start building the graph for preq --all while the user gets going
+            model.getModuleList().getPrerequisiteGraph();
+            crawlModuleDetails(academicYear, model.getModuleList().getModuleSnapshot().stream()
+                .map(Module::getCode)
+                .collect(Collectors.toList()));
+        }
         ui = new UiManager(logic);
     }
 
+    /**
+     * Configures the NUSMods API to revalidate its responses against a cache in the module cache directory, so that
+     * unchanged data is not downloaded again.
+     */
+    private void initModulesApi(ReadOnlyUserPrefs userPrefs) {
+        Path httpCacheDirectoryPath = userPrefs.getModuleCacheDirectoryPath().resolve(HTTP_CACHE_DIRECTORY_NAME);
+        ApiClient apiClient = new ApiClient().setRevalidationCache(new RevalidationCache(httpCacheDirectoryPath));
+        ModulesApi.setInstance(new ModulesApi(apiClient));
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br> The
      * data from the sample address book will be used instead if {@code storage}'s address book is not found, or an
      * empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ModuleSummaryListStorage moduleSummaryListStorage,
+        ReadOnlyUserPrefs userPrefs, VenueLoader venueLoader) {
         String academicYear = userPrefs.getAcademicYear();
-
-        List<Module> modules = Collections.emptyList();
-        try {
-            modules = loadModules(academicYear);
-        } catch (ApiException apiException) {
-            logger.severe("Failed to load module list from nusmods API!");
-        }
+        ReadOnlyModuleList moduleList = loadModules(storage.getModuleListStorage(), moduleSummaryListStorage,
+            academicYear);
 
         UniqueUserModuleList userModuleList;
         Optional<UniqueUserModuleList> userModuleListOptional = Optional.empty();
@@ -99,13 +176,93 @@ public class MainApp extends Application {
             userModuleList = loadStoredList(userModuleListOptional, new UniqueUserModuleList());
         }
 
-        return new ModelManager(new ModuleList(modules), userModuleList, userPrefs);
+        return new ModelManager(moduleList, userModuleList, userPrefs, venueLoader);
     }
 
-    private List<Module> loadModules(String academicYear) throws ApiException {
-        return ModulesApi.getInstance().acadYearModuleInfoJsonGet(academicYear).stream()
-            .map(moduleInfo -> new Module(moduleInfo, academicYear))
+    /**
+     * Starts loading the details of the user's saved modules in the background, so that the first command on each of
+     * them does not wait on NUSMods.
+     */
+    private void prefetchSavedModules(Model model) {
+        List<Module> savedModules = model.getUserModuleList().asUnmodifiableObservableList().stream()
+            .map(userModule -> model.getListModule(userModule.getCode()))
+            .flatMap(Optional::stream)
             .collect(Collectors.toList());
+
+        moduleDetailPrefetcher = new ModuleDetailPrefetcher();
+        moduleDetailPrefetcher.prefetch(savedModules);
+    }
+
+    /**
+     * Starts saving the details of {@code moduleCodes} in the background, resuming an earlier crawl, so that questions
+     * about the timetables of all modules can be answered offline.
+     */
+    private void crawlModuleDetails(String academicYear, List<String> moduleCodes) {
+        moduleDetailCrawler.crawl(academicYear, moduleCodes, progress -> {
+            // Modules missing so far may have just been crawled
+            savedModuleDetailLoader.forgetMissingModules();
+            logic.updateCrawlProgress(progress);
+        });
+    }
+
+    /**
+     * Returns the module list for {@code academicYear}, without waiting on the nusmods API if there is anything to
+     * show. <br> The local snapshot is used if there is one, even if it is stale. Otherwise the condensed module list,
+     * of codes, titles and semesters, is used from its local copy or the nusmods API, and an empty module list is used
+     * if neither is available. Anything other than an up to date snapshot is filled in by
+     * {@link #refreshModuleList(String)}.
+     */
+    private ReadOnlyModuleList loadModules(ModuleListStorage moduleListStorage,
+        ModuleSummaryListStorage moduleSummaryListStorage, String academicYear) {
+        Optional<ReadOnlyModuleList> snapshot = Optional.empty();
+        try {
+            snapshot = moduleListStorage.readModuleList(academicYear);
+        } catch (DataConversionException e) {
+            logger.warning("Module list snapshot not in the correct format! Will be downloading a new one");
+        }
+
+        if (snapshot.isPresent()) {
+            logger.info("Using module list snapshot : " + moduleListStorage.getModuleListFilePath(academicYear));
+            return snapshot.get();
+        }
+
+        Optional<ReadOnlyModuleSummaryList> summaryList = Optional.empty();
+        try {
+            summaryList = moduleSummaryListStorage.readModuleSummaryList();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Condensed module list not in the correct format! Will be downloading a new one");
+        }
+
+        if (summaryList.isEmpty()) {
+            try {
+                List<ModuleCondensed> condensedModules = ModulesApi.getInstance()
+                    .acadYearModuleListJsonGet(academicYear);
+                moduleSummaryListStorage.saveModuleSummaryList(condensedModules);
+                summaryList = Optional.of(new ModuleSummaryList(condensedModules));
+            } catch (ApiException apiException) {
+                logger.severe("Failed to load condensed module list from nusmods API!");
+                return new ModuleList(Collections.emptyList());
+            } catch (IOException e) {
+                logger.warning("Failed to save condensed module list : " + StringUtil.getDetails(e));
+            }
+        }
+
+        logger.info("Using condensed module list until the module list is downloaded");
+        return new ModuleList(summaryList.get().toModules(academicYear));
+    }
+
+    /**
+     * Streams the module list for {@code academicYear} from the nusmods API in the background, merging it into the
+     * model in batches and saving it as the new snapshot, then starts crawling the details of its modules.
+     */
+    private void refreshModuleList(String academicYear) {
+        moduleListRefresher.refresh(academicYear, logic::mergeModules).whenComplete((moduleInfos, error) -> {
+            // Without a download, crawl the modules known so far
+            List<String> moduleCodes = moduleInfos == null
+                ? model.getModuleList().getModuleSnapshot().stream().map(Module::getCode).collect(Collectors.toList())
+                : moduleInfos.stream().map(ModuleInformation::getModuleCode).collect(Collectors.toList());
+            crawlModuleDetails(academicYear, moduleCodes);
+        });
     }
 
     private <T> T loadStoredList(Optional<T> optionalList, T alternative) {
@@ -196,6 +353,13 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping CliMods ] =============================");
+        // Either may be missing if init failed before creating it
+        if (moduleDetailPrefetcher != null) {
+            moduleDetailPrefetcher.shutdown();
+        }
+        if (moduleDetailCrawler != null) {
+            moduleDetailCrawler.shutdown();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
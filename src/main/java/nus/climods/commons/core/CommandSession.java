@@ -2,12 +2,10 @@ package nus.climods.commons.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import nus.climods.logic.Logic;
 import nus.climods.logic.commands.CommandResult;
-import nus.climods.logic.commands.exceptions.CommandException;
-import nus.climods.logic.parser.exceptions.ParseException;
-import nus.climods.storage.exceptions.StorageException;
 
 /**
  * Keeps the state of commands in application
@@ -84,11 +82,11 @@ public class CommandSession {
     }
 
     /**
-     * Execute the command and returns the result
+     * Execute the command and returns the pending result
      *
      * @param commandText command string
      */
-    public CommandResult execute(String commandText) throws CommandException, ParseException, StorageException {
+    public CompletableFuture<CommandResult> execute(String commandText) {
         addCommand(commandText);
         return commandExecutor.execute(commandText);
     }
@@ -100,10 +98,10 @@ public class CommandSession {
     public interface CommandExecutor {
 
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns the pending result.
          *
-         * @see Logic#execute(String)
+         * @see Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, StorageException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 }
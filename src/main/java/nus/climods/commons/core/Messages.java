@@ -9,4 +9,6 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_MODULES_LISTED_OVERVIEW = "%1$d modules listed!";
     public static final String MESSAGE_SHOW_HELP = "Opened help window.";
+    public static final String MESSAGE_API_ERROR = "Unable to fetch module data from NUSMods";
+    public static final String MESSAGE_PREREQUISITE_GRAPH_ERROR = "Unable to read the prerequisites of the modules";
 }
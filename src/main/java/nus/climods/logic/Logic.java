@@ -1,7 +1,10 @@
 package nus.climods.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import nus.climods.commons.core.GuiSettings;
 import nus.climods.logic.commands.CommandResult;
@@ -11,6 +14,7 @@ import nus.climods.model.module.Module;
 import nus.climods.model.module.ReadOnlyModuleList;
 import nus.climods.model.module.UserModule;
 import nus.climods.storage.exceptions.StorageException;
+import nus.climods.storage.module.CrawlProgress;
 
 /**
  * API of the Logic component
@@ -18,7 +22,7 @@ import nus.climods.storage.exceptions.StorageException;
 public interface Logic {
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the result, fetching the data it needs on the calling thread.
      *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
@@ -28,6 +32,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException, StorageException;
 
+    /**
+     * Executes the command without blocking the calling thread. Network-bound work runs on a worker thread, while the
+     * model is only modified on the JavaFX Application Thread.
+     * <p>
+     * The returned future is completed on the JavaFX Application Thread, exceptionally with a
+     * {@code CommandException}, {@code ParseException} or {@code StorageException} if the command fails. Cancelling
+     * it before it completes interrupts the worker thread and leaves the model unchanged.
+     * </p>
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     ReadOnlyModuleList getModuleList();
 
     ObservableList<UserModule> getFilteredUserModuleList();
@@ -39,6 +57,22 @@ public interface Logic {
      */
     Path getUserModuleListPath();
 
+    /**
+     * Returns the progress of saving the details of every module for offline use, which is null until it starts. It
+     * only changes on the JavaFX Application Thread.
+     */
+    ObservableValue<CrawlProgress> getCrawlProgress();
+
+    /**
+     * Updates the progress of saving the details of every module for offline use. May be called from any thread.
+     */
+    void updateCrawlProgress(CrawlProgress crawlProgress);
+
+    /**
+     * Merges {@code modules} into the module list on the JavaFX Application Thread. May be called from any thread.
+     */
+    void mergeModules(List<Module> modules);
+
     /**
      * Returns the user prefs' GUI settings.
      */
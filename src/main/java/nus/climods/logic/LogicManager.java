@@ -1,8 +1,19 @@
 package nus.climods.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import nus.climods.commons.core.GuiSettings;
 import nus.climods.commons.core.LogsCenter;
@@ -17,6 +28,7 @@ import nus.climods.model.module.ReadOnlyModuleList;
 import nus.climods.model.module.UserModule;
 import nus.climods.storage.Storage;
 import nus.climods.storage.exceptions.StorageException;
+import nus.climods.storage.module.CrawlProgress;
 
 /**
  * The main LogicManager of the app.
@@ -26,13 +38,33 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final ExecutorService commandExecutor;
+    private final Executor uiExecutor;
+    private final ObjectProperty<CrawlProgress> crawlProgress = new SimpleObjectProperty<>();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Executors.newSingleThreadExecutor(LogicManager::createCommandThread), Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that fetches data for commands on {@code commandExecutor} and modifies the
+     * model on {@code uiExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, ExecutorService commandExecutor, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.commandExecutor = commandExecutor;
+        this.uiExecutor = uiExecutor;
+    }
+
+    private static Thread createCommandThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "command-executor");
+        // Do not keep the application alive for a pending network call
+        thread.setDaemon(true);
+        return thread;
     }
 
     private void saveModuleList(boolean isSave) throws StorageException {
@@ -43,16 +75,65 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException, StorageException {
         logger.info("[User Command] " + commandText);
+        Command command = CliModsParser.parseCommand(commandText);
+        command.prefetch(model);
+        return execute(command);
+    }
+
+    private CommandResult execute(Command command) throws CommandException, StorageException {
         // clear module in focus before each command
         model.clearModuleInFocus();
 
-        CommandResult commandResult;
-        Command command = CliModsParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model);
         saveModuleList(commandResult.isSave());
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        logger.info("[User Command] " + commandText);
+        long startTime = System.nanoTime();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        Command command;
+        try {
+            command = CliModsParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        Future<?> prefetch = commandExecutor.submit(() -> {
+            try {
+                command.prefetch(model);
+            } catch (CommandException | RuntimeException e) {
+                uiExecutor.execute(() -> result.completeExceptionally(e));
+                return;
+            }
+            uiExecutor.execute(() -> {
+                // The command may have been cancelled while its data was being fetched
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(execute(command));
+                } catch (CommandException | StorageException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        });
+        result.whenComplete((unused, e) -> {
+            if (result.isCancelled()) {
+                logger.info("[Cancelled Command] " + commandText);
+                prefetch.cancel(true);
+                return;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.info("[Command Time] " + elapsedMillis + " ms for " + commandText);
+        });
+        return result;
+    }
+
     @Override
     public ReadOnlyModuleList getModuleList() {
         return model.getModuleList();
@@ -68,6 +149,21 @@ public class LogicManager implements Logic {
         return model.getFilteredUserModuleList();
     }
 
+    @Override
+    public ObservableValue<CrawlProgress> getCrawlProgress() {
+        return crawlProgress;
+    }
+
+    @Override
+    public void updateCrawlProgress(CrawlProgress progress) {
+        uiExecutor.execute(() -> crawlProgress.set(progress));
+    }
+
+    @Override
+    public void mergeModules(List<Module> modules) {
+        uiExecutor.execute(() -> model.mergeModules(modules));
+    }
+
     @Override
     public Path getUserModuleListPath() {
         return storage.getUserModuleListPath();
@@ -1,6 +1,12 @@
 package nus.climods.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.openapitools.client.ApiException;
 import org.openapitools.client.model.SemestersEnum;
@@ -11,6 +17,8 @@ import nus.climods.model.Model;
 import nus.climods.model.module.LessonTypeEnum;
 import nus.climods.model.module.Module;
 import nus.climods.model.module.UserModule;
+import nus.climods.model.timetable.LessonClash;
+import nus.climods.model.timetable.TimetableEntry;
 
 /**
  * Adds a module into the UserModule List
@@ -29,6 +37,12 @@ public class AddCommand extends Command {
     private final String toAdd;
     private final SemestersEnum semester;
 
+    /**
+     * Lessons of the semester picked again around the module, searched for by {@link #prefetch(Model)} if the semester
+     * was solved.
+     */
+    private Optional<TimetableRepair> prefetchedRepair = Optional.empty();
+
     /**
      * Creates an AddCommand to add the specified {@code Module}
      */
@@ -38,6 +52,34 @@ public class AddCommand extends Command {
         this.semester = semester;
     }
 
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        loadModuleDetails(model, toAdd.toUpperCase(), MESSAGE_API_ERROR);
+        loadUserModuleDetails(model, semester);
+
+        Optional<Module> module = model.getListModule(toAdd.toUpperCase());
+        if (module.isPresent() && module.get().availableInSemester(semester)) {
+            UserModule moduleToAdd = createUserModule(module.get(), new ArrayList<>());
+            prefetchedRepair = TimetableRepair.search(model, semester, List.of(), List.of(moduleToAdd));
+        }
+    }
+
+    /**
+     * Returns the user module of {@code module} taken in the semester, with the lessons which cannot be picked already
+     * picked, and adds the classes of those lessons to {@code fixedLessons}.
+     */
+    private UserModule createUserModule(Module module, List<TimetableEntry> fixedLessons) {
+        UserModule userModule = new UserModule(module.getCode(), semester);
+        for (LessonTypeEnum t : module.getUnselectableLessonTypeEnums(semester)) {
+            String lessonId = module.getUnselectableLessonId(t, semester);
+            String lessonInfo = lessonId + "\n" + module.getLessonInfo(t, semester, lessonId);
+
+            userModule.addLesson(t, lessonInfo);
+            TimetableEntry.of(module, semester, t, lessonId).ifPresent(fixedLessons::add);
+        }
+        return userModule;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -52,9 +94,7 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_MODULE_NOT_OFFERED_IN_SEMESTER);
         }
 
-        UserModule moduleToAdd = new UserModule(uppercaseToAdd, semester);
-
-        if (model.hasUserModule(moduleToAdd)) {
+        if (model.hasUserModule(new UserModule(uppercaseToAdd, semester))) {
             throw new CommandException(MESSAGE_DUPLICATE_MODULE);
         }
 
@@ -63,19 +103,29 @@ public class AddCommand extends Command {
         try {
             module.loadMoreData();
         } catch (ApiException e) {
-            throw new CommandException("Error 404 something went wrong");
+            throw new CommandException(MESSAGE_API_ERROR);
         }
 
-        for (LessonTypeEnum t : module.getUnselectableLessonTypeEnums(semester)) {
-            String lessonId = module.getUnselectableLessonId(t, semester);
-            String lessonInfo = lessonId + "\n" + module.getLessonInfo(t, semester, lessonId);
-
-            moduleToAdd.addLesson(t, lessonInfo);
-        }
+        List<TimetableEntry> fixedLessons = new ArrayList<>();
+        UserModule moduleToAdd = createUserModule(module, fixedLessons);
 
+        // Checked before adding the module, so that its lessons are not compared with themselves
+        List<LessonClash> clashes = getClashes(model, semester, fixedLessons);
         model.addUserModule(moduleToAdd);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, uppercaseToAdd), COMMAND_WORD);
+        String feedback = String.format(MESSAGE_SUCCESS, uppercaseToAdd);
+        Optional<Set<String>> repickedModules = prefetchedRepair.flatMap(repair -> repair.pick(model));
+        prefetchedRepair = Optional.empty();
+        if (repickedModules.isPresent()) {
+            // Only clashes between lessons which cannot be picked are left
+            clashes = getClashes(model, semester, fixedLessons);
+            if (!repickedModules.get().isEmpty()) {
+                feedback += "\n" + String.format(SolveCommand.MESSAGE_REPICKED,
+                    String.join(", ", repickedModules.get()));
+            }
+        }
+
+        return new CommandResult(feedback, COMMAND_WORD, clashes);
     }
 
     @Override
@@ -1,13 +1,37 @@
 package nus.climods.logic.commands;
 
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
+import static nus.climods.commons.core.Messages.MESSAGE_PREREQUISITE_GRAPH_ERROR;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.core.LogsCenter;
 import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.model.Model;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+import nus.climods.model.timetable.LessonClash;
+import nus.climods.model.timetable.Timetable;
+import nus.climods.model.timetable.TimetableEntry;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
 
+    private static final Logger logger = LogsCenter.getLogger(Command.class);
+
     /**
      * Executes the command and returns the result message.
      *
@@ -16,4 +40,105 @@ public abstract class Command {
      * @throws CommandException If an error occurs during command execution.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Fetches the data the command needs from outside the model, such as module details from NUSMods, so that
+     * {@link #execute(Model)} does not block on the network.
+     * <p>
+     * This is called on a worker thread before {@link #execute(Model)}, so it must not modify the model.
+     * </p>
+     *
+     * @param model {@code Model} which the command will operate on.
+     * @throws CommandException If the data cannot be fetched.
+     */
+    public void prefetch(Model model) throws CommandException {
+    }
+
+    /**
+     * Loads the details of the module with {@code moduleCode}, if it is in the module list.
+     *
+     * @param errorMessage message of the exception thrown if the details cannot be fetched
+     */
+    protected static void loadModuleDetails(Model model, String moduleCode, String errorMessage)
+        throws CommandException {
+        Optional<Module> module = model.getListModule(moduleCode);
+        if (module.isEmpty()) {
+            return;
+        }
+
+        try {
+            module.get().loadMoreData();
+        } catch (ApiException e) {
+            throw new CommandException(errorMessage);
+        }
+    }
+
+    /**
+     * Returns the prerequisite graph of the module list, waiting for it to be built if need be.
+     *
+     * @throws CommandException if the graph cannot be built
+     */
+    protected static PrerequisiteGraph getPrerequisiteGraph(Model model) throws CommandException {
+        try {
+            return model.getModuleList().getPrerequisiteGraph().join();
+        } catch (CompletionException e) {
+            logger.warning("Unable to build the prerequisite graph: " + e.getCause());
+            throw new CommandException(MESSAGE_PREREQUISITE_GRAPH_ERROR, e.getCause());
+        }
+    }
+
+    /**
+     * Loads the details of the user modules taken in {@code semester}, which clash checks need. A module whose details
+     * cannot be fetched is skipped with a warning, as the clash checks treat it as having no lessons.
+     */
+    protected static void loadUserModuleDetails(Model model, SemestersEnum semester) {
+        for (UserModule userModule : model.getUserModuleList()) {
+            if (userModule.getSelectedSemester() != semester) {
+                continue;
+            }
+            try {
+                loadModuleDetails(model, userModule.getCode(), MESSAGE_API_ERROR);
+            } catch (CommandException e) {
+                logger.warning("Unable to load the details of " + userModule.getCode() + " for clash checks");
+            }
+        }
+    }
+
+    /**
+     * Returns the clashes of {@code entries} with the user's timetable for {@code semester}, apart from the classes
+     * {@code entries} replace. User modules whose details are not loaded, such as those {@link #prefetch(Model)} could
+     * not fetch, are treated as having no lessons, so that this never blocks on the network.
+     */
+    protected static List<LessonClash> getClashes(Model model, SemestersEnum semester, List<TimetableEntry> entries) {
+        Timetable timetable = model.getLoadedUserTimetable(semester);
+        entries.forEach(timetable::removeSameLessonType);
+
+        List<LessonClash> clashes = new ArrayList<>();
+        entries.forEach(entry -> clashes.addAll(timetable.getClashes(entry)));
+        return clashes;
+    }
+
+    /**
+     * Returns the modules of {@code modules} offered in {@code semester} and not in the user's module list which have a
+     * class of each lesson type clashing with none of the classes picked by the user for {@code semester}. Modules
+     * whose details are not saved on disk are left out, so that this does not fetch the details of every module.
+     */
+    protected static Set<Module> getFittingModules(Model model, Collection<Module> modules, SemestersEnum semester)
+        throws CommandException {
+        loadUserModuleDetails(model, semester);
+        Timetable timetable;
+        try {
+            timetable = model.getUserTimetable(semester);
+        } catch (ApiException e) {
+            throw new CommandException(MESSAGE_API_ERROR);
+        }
+
+        Set<Module> fittingModules = model.getModuleList().getTimetableFitIndex()
+            .getFittingModules(modules, semester, timetable);
+        Set<String> userModuleCodes = model.getUserModuleList().asUnmodifiableObservableList().stream()
+            .map(UserModule::getCode)
+            .collect(Collectors.toSet());
+        fittingModules.removeIf(module -> userModuleCodes.contains(module.getCode()));
+        return fittingModules;
+    }
 }
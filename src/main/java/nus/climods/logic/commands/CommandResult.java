@@ -2,12 +2,17 @@ package nus.climods.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
+import nus.climods.model.timetable.LessonClash;
+
 /**
  * Represents the result of a command execution.
  */
 public class CommandResult {
+    public static final String MESSAGE_CLASH = "Warning: %1$s";
+
     private final String feedbackToUser;
 
     /**
@@ -23,6 +28,11 @@ public class CommandResult {
     /* The application should save userModuleList */
     private boolean isSave;
 
+    /**
+     * Clashes of the lessons added by the command with the user's timetable.
+     */
+    private final List<LessonClash> clashes;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -31,6 +41,7 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         isSave = false;
+        clashes = List.of();
     }
 
     /**
@@ -38,12 +49,26 @@ public class CommandResult {
      * default value.
      */
     public CommandResult(String feedbackToUser, String commandWord) {
-        this(feedbackToUser, false, false);
+        this(feedbackToUser, commandWord, List.of());
+    }
+
+    /**
+     * Constructs a {@code CommandResult} reporting {@code clashes} after {@code feedbackToUser}, with other fields set
+     * to their default value.
+     */
+    public CommandResult(String feedbackToUser, String commandWord, List<LessonClash> clashes) {
+        this.feedbackToUser = requireNonNull(clashes).stream()
+            .map(clash -> String.format(MESSAGE_CLASH, clash))
+            .reduce(requireNonNull(feedbackToUser), (feedback, clash) -> feedback + "\n" + clash);
+        this.showHelp = false;
+        this.exit = false;
+        this.clashes = List.copyOf(clashes);
 
         switch (commandWord) {
         case (AddCommand.COMMAND_WORD):
         case (DeleteCommand.COMMAND_WORD):
         case (PickCommand.COMMAND_WORD):
+        case (SolveCommand.COMMAND_WORD):
             isSave = true;
             break;
         default:
@@ -67,6 +92,10 @@ public class CommandResult {
         return isSave;
     }
 
+    public List<LessonClash> getClashes() {
+        return clashes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -82,7 +111,8 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
             && showHelp == otherCommandResult.isShowHelp()
             && exit == otherCommandResult.isExit()
-            && isSave == otherCommandResult.isSave();
+            && isSave == otherCommandResult.isSave()
+            && clashes.equals(otherCommandResult.clashes);
     }
 
     @Override
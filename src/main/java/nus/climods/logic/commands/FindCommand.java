@@ -2,12 +2,22 @@ package nus.climods.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.openapitools.client.model.SemestersEnum;
+
 import nus.climods.commons.core.Messages;
+import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.model.Model;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleSearchIndex;
 import nus.climods.model.module.comparator.ModuleBestMatchKeywordComparator;
 import nus.climods.model.module.predicate.ModuleContainsKeywordsPredicate;
 
@@ -19,24 +29,76 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find a module using a search phrase.\n"
-        + "Parameters: KEYWORD [KEYWORD...]\n"
+        + "Parameters: KEYWORD [KEYWORD...] [--fits SEMESTER]\n"
         + "KEYWORD can be a String or a valid RegEx\n"
         + "Example: " + COMMAND_WORD + " " + "Software Engineering";
 
+
+    /**
+     * Fields of a module searched for the keywords.
+     */
+    private static final Set<ModuleSearchIndex.Field> SEARCH_FIELDS =
+        EnumSet.of(ModuleSearchIndex.Field.CODE, ModuleSearchIndex.Field.TITLE);
+
     private final List<Pattern> searchRegexes;
+    private final Optional<SemestersEnum> fitsSemester;
+    /**
+     * Matches and fitting modules found by {@link #prefetch(Model)}, used only by the {@link #execute(Model)} call
+     * following it, so that executing the command again sees later changes to the module list.
+     */
+    private Map<Module, Integer> prefetchedNumMatches;
+    private Set<Module> prefetchedFittingModules;
 
     /**
      * Constructor for FindCommand class
      */
     public FindCommand(List<Pattern> searchRegexes) {
+        this(searchRegexes, Optional.empty());
+    }
+
+    /**
+     * Constructor for FindCommand class, keeping only the modules fitting the user's timetable for {@code fitsSemester}
+     * if it is given
+     */
+    public FindCommand(List<Pattern> searchRegexes, Optional<SemestersEnum> fitsSemester) {
+        requireNonNull(fitsSemester);
         this.searchRegexes = searchRegexes;
+        this.fitsSemester = fitsSemester;
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        if (fitsSemester.isEmpty()) {
+            return;
+        }
+        // Only the matching modules are checked against the timetable, which may read their details from disk
+        prefetchedNumMatches = countMatches(model);
+        prefetchedFittingModules = getFittingModules(model, prefetchedNumMatches.keySet(), fitsSemester.get());
+    }
+
+    private Map<Module, Integer> countMatches(Model model) {
+        return model.getModuleList().getSearchIndex().countMatches(searchRegexes, SEARCH_FIELDS);
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.setFilteredModuleList(new ModuleContainsKeywordsPredicate(searchRegexes),
-            new ModuleBestMatchKeywordComparator(searchRegexes));
+        if (fitsSemester.isPresent() && prefetchedFittingModules == null) {
+            prefetch(model);
+        }
+        // Matches are counted once per run, and reused for both filtering and ranking
+        Map<Module, Integer> keywordNumMatches = prefetchedNumMatches != null
+            ? prefetchedNumMatches
+            : countMatches(model);
+        Set<Module> fittingModules = prefetchedFittingModules;
+        prefetchedNumMatches = null;
+        prefetchedFittingModules = null;
+
+        Predicate<Module> predicate = new ModuleContainsKeywordsPredicate(searchRegexes, keywordNumMatches.keySet());
+        if (fittingModules != null) {
+            predicate = predicate.and(fittingModules::contains);
+        }
+        model.setFilteredModuleList(predicate, new ModuleBestMatchKeywordComparator(keywordNumMatches));
 
         return new CommandResult(
             String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, model.getFilteredModuleList().size()),
@@ -48,6 +110,7 @@ public class FindCommand extends Command {
         return other == this
             || (other instanceof FindCommand
             && searchRegexes.stream().map(Pattern::toString).collect(Collectors.toList())
-            .equals(((FindCommand) other).searchRegexes.stream().map(Pattern::toString).collect(Collectors.toList())));
+            .equals(((FindCommand) other).searchRegexes.stream().map(Pattern::toString).collect(Collectors.toList()))
+            && fitsSemester.equals(((FindCommand) other).fitsSemester));
     }
 }
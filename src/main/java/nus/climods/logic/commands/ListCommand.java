@@ -3,11 +3,20 @@ package nus.climods.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static nus.climods.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIEW;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.logic.parser.parameters.FacultyCodeParameter;
 import nus.climods.logic.parser.parameters.UserFlagParameter;
 import nus.climods.model.Model;
+import nus.climods.model.module.Module;
 import nus.climods.model.module.predicate.CodeContainsKeywordsPredicate;
 
 /**
@@ -17,13 +26,17 @@ public class ListCommand extends Command {
     public static final String COMMAND_WORD = "ls";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all modules with module code containing any of "
             + "the specified keywords (case-insensitive) and displays them as a list.\n"
-            + "Parameters: [faculty code] [--user]...\n"
+            + "Parameters: [faculty code] [--user] [--fits SEMESTER]...\n"
             + "Example: " + COMMAND_WORD + "CS --user";
     public static final String MESSAGE_SUCCESS = "Listed all relevant modules";
     private final Optional<String> facultyCode;
 
     private final Optional<Boolean> hasUser;
 
+    private final Optional<SemestersEnum> fitsSemester;
+    // Found by prefetch, and used only by the execute call following it
+    private Set<Module> prefetchedFittingModules;
+
 
     /**
      * Used for list command containing predicates
@@ -32,15 +45,62 @@ public class ListCommand extends Command {
      * @param hasUser
      */
     public ListCommand(FacultyCodeParameter faculty, UserFlagParameter hasUser) {
+        this(faculty, hasUser, Optional.empty());
+    }
+
+    /**
+     * Used for list command containing predicates, keeping only the modules fitting the user's timetable
+     *
+     * @param faculty      optional argument to specify the faculty
+     * @param hasUser
+     * @param fitsSemester semester whose timetable listed modules must fit, if any
+     */
+    public ListCommand(FacultyCodeParameter faculty, UserFlagParameter hasUser, Optional<SemestersEnum> fitsSemester) {
+        requireNonNull(fitsSemester);
         this.facultyCode = faculty.getOptionalArgValue();
         this.hasUser = hasUser.getOptionalArgValue();
+        this.fitsSemester = fitsSemester;
+    }
+
+    private CodeContainsKeywordsPredicate getFacultyPredicate(Model model) {
+        if (facultyCode.isEmpty()) {
+            return new CodeContainsKeywordsPredicate(facultyCode);
+        }
+        // Only the modules with the faculty code as prefix are tested against the faculty code regex
+        CodeContainsKeywordsPredicate facultyCodePredicate = new CodeContainsKeywordsPredicate(facultyCode);
+        Set<Module> facultyModules = model.getModuleList().getCodePrefixIndex()
+            .getModulesWithPrefix(facultyCode.get()).stream()
+            .filter(facultyCodePredicate)
+            .collect(Collectors.toSet());
+        return new CodeContainsKeywordsPredicate(facultyCode, facultyModules);
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        if (fitsSemester.isEmpty()) {
+            return;
+        }
+        // Checking every module against the timetable may read their details from disk, so it is not done in execute.
+        // Only the modules offered in the semester are checked.
+        Collection<Module> candidates = model.getModuleList().getModulesOfferedIn(fitsSemester.get()).stream()
+            .filter(getFacultyPredicate(model))
+            .collect(Collectors.toList());
+        prefetchedFittingModules = getFittingModules(model, List.copyOf(candidates), fitsSemester.get());
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.setFilteredModuleList(new CodeContainsKeywordsPredicate(facultyCode));
+        Predicate<Module> predicate = getFacultyPredicate(model);
+        if (fitsSemester.isPresent()) {
+            if (prefetchedFittingModules == null) {
+                prefetch(model);
+            }
+            predicate = predicate.and(prefetchedFittingModules::contains);
+            prefetchedFittingModules = null;
+        }
+        model.setFilteredModuleList(predicate);
 
         return new CommandResult(String.format(MESSAGE_MODULES_LISTED_OVERVIEW,
                 model.getFilteredModuleList().size()), COMMAND_WORD);
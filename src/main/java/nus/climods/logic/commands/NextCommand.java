@@ -0,0 +1,85 @@
+package nus.climods.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.logic.parser.parameters.ModuleCodeParameter;
+import nus.climods.model.Model;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+
+/**
+ * Lists the modules the user can take next, or the modules a module is a prerequisite of.
+ */
+public class NextCommand extends Command {
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " [MODULE-CODE]: List the modules whose prerequisites "
+        + "the modules in your list meet, or the modules the given module is a prerequisite of.\n"
+        + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " CS2030";
+    public static final String MESSAGE_MODULE_NOT_FOUND = ModuleCodeParameter.PARSE_EXCEPTION_MESSAGE;
+    public static final String MESSAGE_ELIGIBLE_SUCCESS = "Showing %d modules the modules in your list unlock";
+    public static final String MESSAGE_NO_ELIGIBLE_MODULES = "The modules in your list do not unlock any more modules";
+    public static final String MESSAGE_DEPENDENT_SUCCESS = "Showing %1$d modules %2$s is a prerequisite of";
+    public static final String MESSAGE_NO_DEPENDENT_MODULES = "%s is not a prerequisite of any module in current NUS "
+        + "curriculum";
+
+    private final Optional<String> moduleCode;
+    private PrerequisiteGraph prerequisiteGraph;
+
+    /**
+     * Creates a NextCommand listing the modules {@code moduleCode} is a prerequisite of, or if it is empty, the modules
+     * the user can take next.
+     */
+    public NextCommand(Optional<String> moduleCode) {
+        requireNonNull(moduleCode);
+        this.moduleCode = moduleCode.map(code -> code.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        // Usually built at startup, otherwise waited for here rather than on the JavaFX Application Thread
+        prerequisiteGraph = getPrerequisiteGraph(model);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (prerequisiteGraph == null) {
+            prefetch(model);
+        }
+
+        if (moduleCode.isPresent()) {
+            if (!model.isModuleOffered(moduleCode.get())) {
+                throw new CommandException(String.format(MESSAGE_MODULE_NOT_FOUND, moduleCode.get()));
+            }
+            List<String> dependentCodes = prerequisiteGraph.getDependentCodes(moduleCode.get());
+            if (!model.showModules(dependentCodes)) {
+                return new CommandResult(String.format(MESSAGE_NO_DEPENDENT_MODULES, moduleCode.get()), false, false);
+            }
+            return new CommandResult(String.format(MESSAGE_DEPENDENT_SUCCESS, dependentCodes.size(), moduleCode.get()),
+                false, false);
+        }
+
+        List<String> takenModuleCodes = model.getUserModuleList().asUnmodifiableObservableList().stream()
+            .map(UserModule::getCode)
+            .collect(Collectors.toList());
+        List<String> eligibleCodes = prerequisiteGraph.getEligibleModuleCodes(takenModuleCodes);
+        if (!model.showModules(eligibleCodes)) {
+            return new CommandResult(MESSAGE_NO_ELIGIBLE_MODULES, false, false);
+        }
+        return new CommandResult(String.format(MESSAGE_ELIGIBLE_SUCCESS, eligibleCodes.size()), false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof NextCommand // instanceof handles nulls
+            && moduleCode.equals(((NextCommand) other).moduleCode));
+    }
+}
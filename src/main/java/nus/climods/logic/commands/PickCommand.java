@@ -1,16 +1,22 @@
 package nus.climods.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
 
 import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.model.Model;
 import nus.climods.model.module.LessonTypeEnum;
 import nus.climods.model.module.Module;
 import nus.climods.model.module.UserModule;
+import nus.climods.model.timetable.LessonClash;
+import nus.climods.model.timetable.TimetableEntry;
 
 
 /**
@@ -32,6 +38,12 @@ public class PickCommand extends Command {
     private final LessonTypeEnum lessonType;
     private final String lessonId;
 
+    /**
+     * Lessons of the semester picked again around the picked lesson, searched for by {@link #prefetch(Model)} if the
+     * semester was solved and the lesson clashes.
+     */
+    private Optional<TimetableRepair> prefetchedRepair = Optional.empty();
+
     /**
      * Creates an PickCommand to add the specified lesson in Module
      */
@@ -42,6 +54,28 @@ public class PickCommand extends Command {
         this.lessonId = lessonId;
     }
 
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        loadModuleDetails(model, toPick, MESSAGE_API_ERROR);
+        Optional<UserModule> userModule = model.getUserModule(toPick);
+        Optional<Module> module = model.getListModule(toPick);
+        if (userModule.isEmpty() || module.isEmpty()) {
+            return;
+        }
+
+        SemestersEnum semester = userModule.get().getSelectedSemester();
+        loadUserModuleDetails(model, semester);
+        if (!module.get().isLessonTypeEnumSelectable(lessonType, semester)
+            || module.get().getUnselectableLessonTypeEnums(semester).contains(lessonType)) {
+            return;
+        }
+        List<TimetableEntry> pickedEntries =
+            TimetableEntry.of(module.get(), semester, lessonType, lessonId).map(List::of).orElse(List.of());
+        if (!getClashes(model, semester, pickedEntries).isEmpty()) {
+            prefetchedRepair = TimetableRepair.search(model, semester, pickedEntries, List.of());
+        }
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -59,7 +93,7 @@ public class PickCommand extends Command {
         try {
             module.loadMoreData();
         } catch (ApiException e) {
-            throw new CommandException("Error 404 something went wrong");
+            throw new CommandException(MESSAGE_API_ERROR);
         }
 
         //check if lesson class code is unselectable
@@ -79,11 +113,27 @@ public class PickCommand extends Command {
 
         String lessonInfo = lessonId + "\n" + module.getLessonInfo(lessonType, curr.getSelectedSemester(), lessonId);
 
+        // The lesson picked before for this lesson type is replaced, so it is not reported as a clash
+        List<TimetableEntry> pickedEntries =
+            TimetableEntry.of(module, curr.getSelectedSemester(), lessonType, lessonId).map(List::of).orElse(List.of());
+        List<LessonClash> clashes = getClashes(model, curr.getSelectedSemester(), pickedEntries);
+
         // if everything correct then set accordingly in hashmap in UserModule
-        curr.addLesson(lessonType, lessonInfo);
+        model.pickLesson(curr, lessonType, lessonInfo);
 
         String addedDetails = String.format("%s %s %s", toPick, lessonType.name(), lessonId);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, addedDetails.toUpperCase()), COMMAND_WORD);
+        String feedback = String.format(MESSAGE_SUCCESS, addedDetails.toUpperCase());
+        if (!clashes.isEmpty()) {
+            // The picked lesson stays, and the lessons it clashes with are moved if the timetable was solved
+            Optional<Set<String>> repickedModules = prefetchedRepair.flatMap(repair -> repair.pick(model));
+            if (repickedModules.isPresent() && !repickedModules.get().isEmpty()) {
+                clashes = getClashes(model, curr.getSelectedSemester(), pickedEntries);
+                feedback += "\n" + String.format(SolveCommand.MESSAGE_REPICKED,
+                    String.join(", ", repickedModules.get()));
+            }
+        }
+        prefetchedRepair = Optional.empty();
+        return new CommandResult(feedback, COMMAND_WORD, clashes);
     }
 
     @Override
@@ -3,9 +3,6 @@ package nus.climods.logic.commands;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.openapitools.client.ApiException;
@@ -14,6 +11,10 @@ import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.logic.parser.parameters.ModuleCodeParameter;
 import nus.climods.model.Model;
 import nus.climods.model.module.Module;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.module.prerequisite.ModuleIds;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+import nus.climods.model.module.prerequisite.PrerequisiteTree;
 
 /**
  * Lists prerequisites for a module.
@@ -21,7 +22,10 @@ import nus.climods.model.module.Module;
 public class PrereqsCommand extends Command {
     public static final String COMMAND_WORD = "preq";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + "<Module Code>: List prerequisites for a module.\n"
+    public static final String ALL_FLAG = "--all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " [" + ALL_FLAG + "] <Module Code>: List prerequisites "
+            + "for a module, or with " + ALL_FLAG + ", every module in its prerequisite chain.\n"
             + "Example: " + COMMAND_WORD + " " + "CS2103";
     public static final String MESSAGE_MODULE_NOT_FOUND = ModuleCodeParameter.PARSE_EXCEPTION_MESSAGE;
     public static final String MESSAGE_MODULE_LOAD_ERROR = "Error loading prerequisites for %s";
@@ -30,19 +34,44 @@ public class PrereqsCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Prerequisite description: %s\nShowing available prerequisites for %s";
     public static final String MESSAGE_MODULE_NO_PREREQUISITES = "Prerequisite description: %s\nUnable to show "
             + "prerequisites for %s.";
-    /**
-     * Pattern to extract module codes from a string
-     */
-    private static final Pattern MODULE_CODE_EXTRACT_PATTERN = Pattern.compile("[A-Z]{2,4}\\d{4}[A-Z]{0,5}\\d{0,2}");
+    public static final String MESSAGE_PREREQUISITE_TREE = "\nPrerequisites: %s\n%s";
+    public static final String MESSAGE_PREREQUISITES_MET = "Modules in your list meet these prerequisites";
+    public static final String MESSAGE_PREREQUISITES_NOT_MET = "Modules in your list do not meet these prerequisites";
+    public static final String MESSAGE_CHAIN_SUCCESS = "Showing %1$d modules in the prerequisite chain of %2$s";
+    public static final String MESSAGE_MODULE_NO_CHAIN = "Module %s has no prerequisites in current NUS curriculum "
+            + "named in its description";
     private final String moduleCode;
+    private final boolean isShowingChain;
+    private PrerequisiteGraph prerequisiteGraph;
 
     /**
      * Constructor for PrereqsCommand class
      * @param moduleCode Module code to list prerequisites for
      */
     public PrereqsCommand(String moduleCode) {
+        this(moduleCode, false);
+    }
+
+    /**
+     * Constructor for PrereqsCommand class
+     * @param moduleCode Module code to list prerequisites for
+     * @param isShowingChain whether to list the whole prerequisite chain rather than the direct prerequisites
+     */
+    public PrereqsCommand(String moduleCode, boolean isShowingChain) {
         Objects.requireNonNull(moduleCode);
         this.moduleCode = moduleCode.trim();
+        this.isShowingChain = isShowingChain;
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        String moduleCodeUppercase = moduleCode.toUpperCase();
+        if (isShowingChain) {
+            // Usually built at startup, otherwise waited for here rather than on the JavaFX Application Thread
+            prerequisiteGraph = getPrerequisiteGraph(model);
+            return;
+        }
+        loadModuleDetails(model, moduleCodeUppercase, String.format(MESSAGE_MODULE_LOAD_ERROR, moduleCodeUppercase));
     }
 
     @Override
@@ -54,6 +83,10 @@ public class PrereqsCommand extends Command {
             throw new CommandException(String.format(MESSAGE_MODULE_NOT_FOUND, moduleCode));
         }
 
+        if (isShowingChain) {
+            return executeShowChain(model, moduleCodeUppercase);
+        }
+
         Module module = moduleOptional.get();
         try {
             module.loadMoreData();
@@ -66,8 +99,10 @@ public class PrereqsCommand extends Command {
             return new CommandResult(String.format(MESSAGE_MODULE_NULL_PREREQUISITES, moduleCodeUppercase),
                     false, false);
         }
-        Matcher matcher = MODULE_CODE_EXTRACT_PATTERN.matcher(prereqString);
-        List<String> prereqs = matcher.results().map(MatchResult::group).collect(Collectors.toList());
+        Optional<PrerequisiteTree> prereqTree = module.getPrerequisiteTree();
+        // Modules NUSMods gives no prerequisite tree for fall back to the codes named in the description
+        List<String> prereqs = prereqTree.map(PrerequisiteTree::getModuleCodes)
+            .orElseGet(() -> Module.extractModuleCodes(prereqString));
 
         // returns false for classes where no prereq in current NUS curriculum
         if (!model.showModules(prereqs)) {
@@ -75,6 +110,26 @@ public class PrereqsCommand extends Command {
                     false, false);
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, prereqString, moduleCodeUppercase), false, false);
+        String message = String.format(MESSAGE_SUCCESS, prereqString, moduleCodeUppercase);
+        if (prereqTree.isPresent()) {
+            List<String> userModuleCodes = model.getUserModuleList().asUnmodifiableObservableList().stream()
+                .map(UserModule::getCode).collect(Collectors.toList());
+            boolean isMet = prereqTree.get().isSatisfiedBy(ModuleIds.toBitSet(userModuleCodes));
+            message += String.format(MESSAGE_PREREQUISITE_TREE, prereqTree.get(),
+                isMet ? MESSAGE_PREREQUISITES_MET : MESSAGE_PREREQUISITES_NOT_MET);
+        }
+        return new CommandResult(message, false, false);
+    }
+
+    private CommandResult executeShowChain(Model model, String moduleCodeUppercase) throws CommandException {
+        if (prerequisiteGraph == null) {
+            prerequisiteGraph = getPrerequisiteGraph(model);
+        }
+        List<String> chain = prerequisiteGraph.getAllPrerequisiteCodes(moduleCodeUppercase);
+        if (!model.showModules(chain)) {
+            return new CommandResult(String.format(MESSAGE_MODULE_NO_CHAIN, moduleCodeUppercase), false, false);
+        }
+        return new CommandResult(String.format(MESSAGE_CHAIN_SUCCESS, chain.size(), moduleCodeUppercase), false,
+                false);
     }
 }
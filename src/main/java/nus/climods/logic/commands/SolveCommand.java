@@ -0,0 +1,143 @@
+package nus.climods.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.model.Model;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.timetable.TimetableSolution;
+
+/**
+ * Picks a clash-free class for every lesson type of the user's modules in a semester
+ */
+public class SolveCommand extends Command {
+
+    public static final String COMMAND_WORD = "solve";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + " <Semester> [--days] [--after <HHMM>] [--lunch] [--gaps] : picks lessons without clashes for all your "
+        + "modules in the semester, with as few days, lessons before HHMM, days without a lunch break, and gaps "
+        + "between lessons as possible.";
+
+    public static final String MESSAGE_SUCCESS = "Picked lessons without clashes for %1$d modules";
+    public static final String MESSAGE_SEARCH_STATS = "Timetable cost: %1$d, search nodes explored: %2$d";
+    public static final String MESSAGE_TIME_BUDGET_REACHED = "Best timetable found within %1$d ms";
+    public static final String MESSAGE_NO_MODULES = "You have no modules in this semester";
+    public static final String MESSAGE_NO_SOLUTION = "Lessons of your modules in this semester cannot avoid clashes";
+    public static final String MESSAGE_NO_CLASSES = "No classes are offered in this semester for: %1$s";
+    public static final String MESSAGE_NO_SOLUTION_IN_TIME = "No lessons without clashes were found within %1$d ms";
+    public static final String MESSAGE_REPICKED = "Picked lessons of %1$s again to keep your solved timetable free "
+        + "of clashes";
+    public static final String MESSAGE_INTERRUPTED = "Search for lessons without clashes was interrupted";
+    public static final String MESSAGE_TIMETABLE_CHANGED = "Your modules in this semester changed during the search, "
+        + "run solve again";
+
+    /**
+     * Time after which the search settles for the best timetable found so far.
+     */
+    public static final Duration TIME_BUDGET = Duration.ofSeconds(2);
+
+    private final SemestersEnum semester;
+    private final TimetableObjective objective;
+
+    /**
+     * Problem and solution found by {@link #prefetch(Model)}, so that {@link #execute(Model)} only writes the solution
+     * back if the problem has not changed since, without searching on the JavaFX Application Thread.
+     */
+    private TimetableProblem prefetchedProblem;
+    private TimetableSolution prefetchedSolution;
+
+    /**
+     * Creates a SolveCommand for the user modules in {@code semester}, accepting any timetable without clashes
+     */
+    public SolveCommand(SemestersEnum semester) {
+        this(semester, TimetableObjective.NONE);
+    }
+
+    /**
+     * Creates a SolveCommand for the user modules in {@code semester}, optimising their timetable for
+     * {@code objective}
+     */
+    public SolveCommand(SemestersEnum semester, TimetableObjective objective) {
+        requireNonNull(semester);
+        requireNonNull(objective);
+        this.semester = semester;
+        this.objective = objective;
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        loadUserModuleDetails(model, semester);
+        prefetchedProblem = TimetableProblem.of(model, semester, List.of());
+        prefetchedSolution = solve(prefetchedProblem);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<TimetableProblem> currentProblem = TimetableProblem.ofLoaded(model, semester, List.of());
+        TimetableProblem problem = prefetchedProblem;
+        TimetableSolution solution = prefetchedSolution;
+        prefetchedProblem = null;
+        prefetchedSolution = null;
+        if (problem == null || currentProblem.isEmpty() || !problem.hasSameClasses(currentProblem.get())) {
+            throw new CommandException(MESSAGE_TIMETABLE_CHANGED);
+        }
+        problem = currentProblem.get();
+
+        String lessonTypesWithoutClasses = String.join(", ", problem.getLessonTypesWithoutClasses());
+        if (solution.getEntries().isEmpty()) {
+            String message = solution.isComplete()
+                ? MESSAGE_NO_SOLUTION
+                : String.format(MESSAGE_NO_SOLUTION_IN_TIME, TIME_BUDGET.toMillis());
+            if (!lessonTypesWithoutClasses.isEmpty()) {
+                message += "\n" + String.format(MESSAGE_NO_CLASSES, lessonTypesWithoutClasses);
+            }
+            throw new CommandException(message);
+        }
+
+        problem.pick(model, solution.getEntries().get());
+        model.setTimetableObjective(semester, objective);
+
+        String feedback = String.format(MESSAGE_SUCCESS, problem.getModuleCount()) + "\n"
+            + String.format(MESSAGE_SEARCH_STATS, solution.getCost(), solution.getNodesExplored());
+        if (!solution.isComplete()) {
+            feedback += "\n" + String.format(MESSAGE_TIME_BUDGET_REACHED, TIME_BUDGET.toMillis());
+        }
+        if (!lessonTypesWithoutClasses.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_NO_CLASSES, lessonTypesWithoutClasses);
+        }
+        return new CommandResult(feedback, COMMAND_WORD);
+    }
+
+    /**
+     * Searches for the cheapest class of each selectable lesson type of {@code problem}, around its fixed lessons.
+     */
+    private TimetableSolution solve(TimetableProblem problem) throws CommandException {
+        if (!problem.hasModules()) {
+            throw new CommandException(MESSAGE_NO_MODULES);
+        }
+
+        try {
+            return problem.solve(objective, TIME_BUDGET);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SolveCommand // instanceof handles nulls
+            && semester.equals(((SolveCommand) other).semester)
+            && objective.equals(((SolveCommand) other).objective));
+    }
+}
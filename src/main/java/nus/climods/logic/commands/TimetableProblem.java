@@ -0,0 +1,204 @@
+package nus.climods.logic.commands;
+
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.model.Model;
+import nus.climods.model.module.LessonTypeEnum;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.timetable.TimetableEntry;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.timetable.TimetableSolution;
+import nus.climods.model.timetable.TimetableSolver;
+
+/**
+ * The lesson types of the user modules taken in a semester, as searched by the timetable solver: the classes of lesson
+ * types which cannot be picked, the classes to choose from for the others, and the class picked for each so far.
+ */
+class TimetableProblem {
+
+    private static final TimetableSolver solver = new TimetableSolver();
+
+    private final SemestersEnum semester;
+    private final Map<String, UserModule> userModules = new HashMap<>();
+    private final Map<String, Module> modules = new HashMap<>();
+    private final List<TimetableEntry> fixedEntries = new ArrayList<>();
+    private final List<List<TimetableEntry>> choices = new ArrayList<>();
+    private final List<Optional<TimetableEntry>> pickedEntries = new ArrayList<>();
+    // Selectable lesson types with no classes in the semester, as module code and lesson type
+    private final Set<String> lessonTypesWithoutClasses = new LinkedHashSet<>();
+
+    private TimetableProblem(SemestersEnum semester) {
+        this.semester = semester;
+    }
+
+    /**
+     * Returns the problem of the user modules of {@code model} taken in {@code semester}, loading their lesson data.
+     *
+     * @param pinnedEntries classes treated as if their lesson types could not be picked, such as a class just picked
+     * @throws CommandException if the lesson data of a module cannot be fetched
+     */
+    static TimetableProblem of(Model model, SemestersEnum semester, List<TimetableEntry> pinnedEntries)
+        throws CommandException {
+        return of(model, model.getUserModuleList(), semester, pinnedEntries);
+    }
+
+    /**
+     * Returns the problem of {@code userModules} taken in {@code semester}, such as the user modules of {@code model}
+     * together with a module about to be added, loading their lesson data.
+     *
+     * @see #of(Model, SemestersEnum, List)
+     */
+    static TimetableProblem of(Model model, Iterable<UserModule> userModules, SemestersEnum semester,
+        List<TimetableEntry> pinnedEntries) throws CommandException {
+        for (UserModule userModule : userModules) {
+            Optional<Module> module = model.getListModule(userModule.getCode());
+            if (userModule.getSelectedSemester() != semester || module.isEmpty()) {
+                continue;
+            }
+            try {
+                module.get().loadMoreData();
+            } catch (ApiException e) {
+                throw new CommandException(MESSAGE_API_ERROR);
+            }
+        }
+        // A module added while the lesson data was being fetched is not loaded
+        return ofLoaded(model, userModules, semester, pinnedEntries)
+            .orElseThrow(() -> new CommandException(MESSAGE_API_ERROR));
+    }
+
+    /**
+     * Returns the problem of the user modules of {@code model} taken in {@code semester} without fetching anything, or
+     * an empty Optional if the lesson data of one of them is not loaded.
+     *
+     * @see #of(Model, SemestersEnum, List)
+     */
+    static Optional<TimetableProblem> ofLoaded(Model model, SemestersEnum semester,
+        List<TimetableEntry> pinnedEntries) {
+        return ofLoaded(model, model.getUserModuleList(), semester, pinnedEntries);
+    }
+
+    private static Optional<TimetableProblem> ofLoaded(Model model, Iterable<UserModule> userModules,
+        SemestersEnum semester, List<TimetableEntry> pinnedEntries) {
+        TimetableProblem problem = new TimetableProblem(semester);
+        for (UserModule userModule : userModules) {
+            Optional<Module> module = model.getListModule(userModule.getCode());
+            if (userModule.getSelectedSemester() != semester || module.isEmpty()) {
+                continue;
+            }
+            if (!module.get().isDetailLoaded()) {
+                return Optional.empty();
+            }
+            problem.userModules.put(module.get().getCode(), userModule);
+            problem.modules.put(module.get().getCode(), module.get());
+            if (module.get().getLessons(semester) == null) {
+                continue;
+            }
+
+            for (LessonTypeEnum lessonType : module.get().getLessonTypeEnums(semester)) {
+                List<TimetableEntry> classes = TimetableEntry.getClasses(module.get(), semester, lessonType);
+                Optional<TimetableEntry> pinnedEntry = pinnedEntries.stream()
+                    .filter(entry -> entry.getModuleCode().equals(module.get().getCode())
+                        && entry.getLessonType() == lessonType)
+                    .findFirst();
+                if (pinnedEntry.isPresent()) {
+                    problem.fixedEntries.add(pinnedEntry.get());
+                } else if (classes.isEmpty()) {
+                    problem.lessonTypesWithoutClasses.add(module.get().getCode() + " " + lessonType);
+                } else if (module.get().isLessonTypeEnumSelectable(lessonType, semester)) {
+                    problem.choices.add(classes);
+                    problem.pickedEntries.add(userModule.getLessonId(lessonType)
+                        .flatMap(lessonId -> TimetableEntry.of(module.get(), semester, lessonType, lessonId)));
+                } else {
+                    problem.fixedEntries.addAll(classes);
+                }
+            }
+        }
+        return Optional.of(problem);
+    }
+
+    boolean hasModules() {
+        return !userModules.isEmpty();
+    }
+
+    /**
+     * Returns the lesson types which have no classes in the semester, as module code and lesson type, which are left
+     * out of the search rather than making it fail.
+     */
+    Set<String> getLessonTypesWithoutClasses() {
+        return Collections.unmodifiableSet(lessonTypesWithoutClasses);
+    }
+
+    /**
+     * Returns true if {@code other} has the same fixed classes and choices, so that a solution of either solves both.
+     */
+    boolean hasSameClasses(TimetableProblem other) {
+        return semester == other.semester
+            && fixedEntries.equals(other.fixedEntries)
+            && choices.equals(other.choices);
+    }
+
+    /**
+     * Searches for the cheapest class of each choice under {@code objective}, around the fixed classes.
+     */
+    TimetableSolution solve(TimetableObjective objective, Duration timeBudget) throws InterruptedException {
+        return solver.optimise(fixedEntries, choices, objective, timeBudget);
+    }
+
+    /**
+     * Searches for a class of each choice around the fixed classes, changing as few picked classes as it can.
+     */
+    TimetableSolution repair(TimetableObjective objective, Duration timeBudget) throws InterruptedException {
+        return solver.repair(fixedEntries, choices, pickedEntries, objective, timeBudget);
+    }
+
+    /**
+     * Returns the number of modules with a fixed class or a choice.
+     */
+    int getModuleCount() {
+        Set<String> moduleCodes = new HashSet<>();
+        fixedEntries.forEach(entry -> moduleCodes.add(entry.getModuleCode()));
+        choices.forEach(classes -> classes.forEach(entry -> moduleCodes.add(entry.getModuleCode())));
+        return moduleCodes.size();
+    }
+
+    /**
+     * Picks {@code chosenEntries} in {@code model}, chosen for each of the choices in order, as well as the fixed
+     * classes in case they were not picked yet.
+     *
+     * @return codes of the modules some of whose picked classes changed, in the order they were picked
+     */
+    Set<String> pick(Model model, List<TimetableEntry> chosenEntries) {
+        List<TimetableEntry> entries = new ArrayList<>(fixedEntries);
+        entries.addAll(chosenEntries);
+
+        Set<String> changedModuleCodes = new LinkedHashSet<>();
+        for (TimetableEntry entry : entries) {
+            UserModule userModule = userModules.get(entry.getModuleCode());
+            if (userModule.getLessonId(entry.getLessonType()).equals(Optional.of(entry.getLessonId()))) {
+                continue;
+            }
+            Module module = modules.get(entry.getModuleCode());
+            String lessonInfo = entry.getLessonId() + "\n"
+                + module.getLessonInfo(entry.getLessonType(), semester, entry.getLessonId());
+            model.pickLesson(userModule, entry.getLessonType(), lessonInfo);
+            changedModuleCodes.add(entry.getModuleCode());
+        }
+        return changedModuleCodes;
+    }
+}
@@ -0,0 +1,99 @@
+package nus.climods.logic.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.model.Model;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.timetable.TimetableEntry;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.timetable.TimetableSolution;
+
+/**
+ * Lessons of a semester solved by {@link SolveCommand} picked again around a change to it, searched for by
+ * {@link Command#prefetch(Model)} off the JavaFX Application Thread and picked by {@link Command#execute(Model)} if the
+ * semester has not changed since.
+ */
+class TimetableRepair {
+
+    private static final Logger logger = LogsCenter.getLogger(TimetableRepair.class);
+
+    private final SemestersEnum semester;
+    private final TimetableObjective objective;
+    private final List<TimetableEntry> pinnedEntries;
+    private final TimetableProblem problem;
+    private final TimetableSolution solution;
+
+    private TimetableRepair(SemestersEnum semester, TimetableObjective objective, List<TimetableEntry> pinnedEntries,
+        TimetableProblem problem, TimetableSolution solution) {
+        this.semester = semester;
+        this.objective = objective;
+        this.pinnedEntries = pinnedEntries;
+        this.problem = problem;
+        this.solution = solution;
+    }
+
+    /**
+     * Searches for lessons of {@code semester} to pick again around {@code pinnedEntries} if its lessons were picked
+     * by {@link SolveCommand}, keeping as many of the lessons picked so far as it can.
+     *
+     * @param pinnedEntries classes which must stay picked, such as a class about to be picked by the user
+     * @param addedUserModules user modules about to be added to the user's module list
+     * @return the lessons found, or an empty Optional if the lessons of the semester were not picked by
+     *               {@link SolveCommand} or include a module whose details cannot be fetched
+     * @throws CommandException if the search is interrupted
+     */
+    static Optional<TimetableRepair> search(Model model, SemestersEnum semester, List<TimetableEntry> pinnedEntries,
+        List<UserModule> addedUserModules) throws CommandException {
+        Optional<TimetableObjective> objective = model.getTimetableObjective(semester);
+        if (objective.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<UserModule> userModules = new ArrayList<>(model.getUserModuleList().asUnmodifiableObservableList());
+        userModules.addAll(addedUserModules);
+        TimetableProblem problem;
+        try {
+            problem = TimetableProblem.of(model, userModules, semester, pinnedEntries);
+        } catch (CommandException e) {
+            logger.warning("Not picking the lessons of " + semester + " again, as the details of a module in it "
+                + "cannot be fetched");
+            return Optional.empty();
+        }
+
+        try {
+            TimetableSolution solution = problem.repair(objective.get(), SolveCommand.TIME_BUDGET);
+            return Optional.of(new TimetableRepair(semester, objective.get(), pinnedEntries, problem, solution));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(SolveCommand.MESSAGE_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Picks the lessons found, if the semester in {@code model} still has the classes and objective they were found
+     * for.
+     *
+     * @return codes of the modules whose lessons changed, or an empty Optional if no lessons avoiding clashes were
+     *               found or the semester changed since
+     */
+    Optional<Set<String>> pick(Model model) {
+        if (solution.getEntries().isEmpty() || !model.getTimetableObjective(semester).equals(Optional.of(objective))) {
+            return Optional.empty();
+        }
+
+        Optional<TimetableProblem> currentProblem = TimetableProblem.ofLoaded(model, semester, pinnedEntries);
+        if (currentProblem.isEmpty() || !problem.hasSameClasses(currentProblem.get())) {
+            logger.info("Not picking the lessons of " + semester + " again, as it changed during the search");
+            return Optional.empty();
+        }
+        return Optional.of(currentProblem.get().pick(model, solution.getEntries().get()));
+    }
+}
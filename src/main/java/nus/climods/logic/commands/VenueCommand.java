@@ -0,0 +1,124 @@
+package nus.climods.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.exceptions.CommandException;
+import nus.climods.model.Model;
+import nus.climods.model.timetable.LessonSlot;
+import nus.climods.model.venue.VenueBooking;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * Shows the lessons held in a venue at a time, or the venues of a building which are free then.
+ */
+public class VenueCommand extends Command {
+    public static final String COMMAND_WORD = "venue";
+    public static final String FREE_FLAG = "--free";
+
+    /**
+     * The teaching week of a time is not known, so lessons in any week are counted.
+     */
+    public static final long ALL_WEEKS = -1L;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the lessons held in a venue at a time, or with "
+        + FREE_FLAG + ", the venues whose name starts with the given name which are free for the whole time. "
+        + "Without a time, the current time is used.\n"
+        + "Parameters: SEMESTER VENUE [DAY START-TIME [END-TIME]] [" + FREE_FLAG + "]\n"
+        + "Example: " + COMMAND_WORD + " s1 I3-AUD, " + COMMAND_WORD + " s1 COM1 mon 1400 1600 " + FREE_FLAG;
+    public static final String MESSAGE_INVALID_DAY = "Invalid day: %s";
+    public static final String MESSAGE_INVALID_TIME = "Times should be given as HHMM, with the start before the end";
+    public static final String MESSAGE_VENUE_NOT_FOUND = "No lessons are held in %1$s in %2$s";
+    public static final String MESSAGE_BOOKINGS = "Lessons in %1$s on %2$s:\n%3$s";
+    public static final String MESSAGE_NO_BOOKINGS = "%1$s is free on %2$s";
+    public static final String MESSAGE_FREE_VENUES = "%1$d venues starting with %2$s are free on %3$s:\n%4$s";
+    public static final String MESSAGE_NO_FREE_VENUES = "No venue starting with %1$s is free on %2$s";
+
+    private final SemestersEnum semester;
+    private final String name;
+    private final Optional<LessonSlot> time;
+    private final boolean isFindingFreeVenues;
+    private VenueIndex venueIndex;
+
+    /**
+     * Creates a VenueCommand.
+     *
+     * @param semester            semester whose timetable is looked up
+     * @param name                name of the venue, or with {@code isFindingFreeVenues}, the start of venue names
+     * @param time                time looked up, or an empty Optional for the current time
+     * @param isFindingFreeVenues whether to list the free venues rather than the lessons of a venue
+     */
+    public VenueCommand(SemestersEnum semester, String name, Optional<LessonSlot> time, boolean isFindingFreeVenues) {
+        requireNonNull(semester);
+        requireNonNull(name);
+        requireNonNull(time);
+        this.semester = semester;
+        this.name = name;
+        this.time = time;
+        this.isFindingFreeVenues = isFindingFreeVenues;
+    }
+
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        try {
+            venueIndex = model.getVenueIndex(semester);
+        } catch (ApiException e) {
+            throw new CommandException(MESSAGE_API_ERROR);
+        }
+    }
+
+    private static LessonSlot getCurrentTime() {
+        LocalDateTime now = LocalDateTime.now();
+        int startMinute = (now.getHour() * 60 + now.getMinute()) / LessonSlot.MINUTES_PER_UNIT
+            * LessonSlot.MINUTES_PER_UNIT;
+        return new LessonSlot(now.getDayOfWeek().ordinal(), startMinute, startMinute + LessonSlot.MINUTES_PER_UNIT,
+            ALL_WEEKS);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (venueIndex == null) {
+            prefetch(model);
+        }
+
+        LessonSlot slot = time.orElseGet(VenueCommand::getCurrentTime);
+        if (isFindingFreeVenues) {
+            List<String> freeVenues = venueIndex.getFreeVenues(name, slot);
+            if (freeVenues.isEmpty()) {
+                return new CommandResult(String.format(MESSAGE_NO_FREE_VENUES, name, slot), COMMAND_WORD);
+            }
+            return new CommandResult(String.format(MESSAGE_FREE_VENUES, freeVenues.size(), name, slot,
+                String.join(", ", freeVenues)), COMMAND_WORD);
+        }
+
+        Optional<String> venueName = venueIndex.getVenueName(name);
+        if (venueName.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_VENUE_NOT_FOUND, name, semester));
+        }
+        List<VenueBooking> bookings = venueIndex.getBookings(venueName.get(), slot);
+        if (bookings.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_BOOKINGS, venueName.get(), slot), COMMAND_WORD);
+        }
+        return new CommandResult(String.format(MESSAGE_BOOKINGS, venueName.get(), slot,
+            bookings.stream().map(VenueBooking::toString).collect(Collectors.joining("\n"))), COMMAND_WORD);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof VenueCommand // instanceof handles nulls
+            && semester == ((VenueCommand) other).semester
+            && name.equals(((VenueCommand) other).name)
+            && time.equals(((VenueCommand) other).time)
+            && isFindingFreeVenues == ((VenueCommand) other).isFindingFreeVenues);
+    }
+}
@@ -1,5 +1,7 @@
 package nus.climods.logic.commands;
 
+import static nus.climods.commons.core.Messages.MESSAGE_API_ERROR;
+
 import java.util.Optional;
 
 import org.openapitools.client.ApiException;
@@ -18,7 +20,6 @@ public class ViewCommand extends Command {
             + "Parameters: MODULE-CODE [LESSON-TYPE...]\n"
             + "Example: " + COMMAND_WORD + " " + "CS2103";
     public static final String MESSAGE_MODULE_NOT_FOUND = ModuleCodeParameter.PARSE_EXCEPTION_MESSAGE;
-    public static final String MESSAGE_API_ERROR = "Error retrieving module details";
     public static final String MESSAGE_SUCCESS = "Viewing details for module %s";
 
     private final String moduleCode;
@@ -27,6 +28,11 @@ public class ViewCommand extends Command {
         this.moduleCode = moduleCode.trim();
     }
 
+    @Override
+    public void prefetch(Model model) throws CommandException {
+        loadModuleDetails(model, moduleCode, MESSAGE_API_ERROR);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         Optional<Module> module = model.getListModule(moduleCode);
@@ -13,8 +13,11 @@ import nus.climods.logic.commands.ExitCommand;
 import nus.climods.logic.commands.FindCommand;
 import nus.climods.logic.commands.HelpCommand;
 import nus.climods.logic.commands.ListCommand;
+import nus.climods.logic.commands.NextCommand;
 import nus.climods.logic.commands.PickCommand;
 import nus.climods.logic.commands.PrereqsCommand;
+import nus.climods.logic.commands.SolveCommand;
+import nus.climods.logic.commands.VenueCommand;
 import nus.climods.logic.commands.ViewCommand;
 import nus.climods.logic.parser.exceptions.ParseException;
 
@@ -63,6 +66,12 @@ public class CliModsParser {
             return new ViewCommandParser().parse(arguments);
         case (PrereqsCommand.COMMAND_WORD):
             return new PrereqsCommandParser().parse(arguments);
+        case (SolveCommand.COMMAND_WORD):
+            return new SolveCommandParser().parse(arguments);
+        case (NextCommand.COMMAND_WORD):
+            return new NextCommandParser().parse(arguments);
+        case (VenueCommand.COMMAND_WORD):
+            return new VenueCommandParser().parse(arguments);
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
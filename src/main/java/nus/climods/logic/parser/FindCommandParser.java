@@ -3,12 +3,16 @@ package nus.climods.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static nus.climods.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+import org.openapitools.client.model.SemestersEnum;
+
 import nus.climods.logic.commands.FindCommand;
 import nus.climods.logic.parser.exceptions.ParseException;
 
@@ -33,7 +37,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         List<Pattern> searchRegexes;
-        List<String> searchTokens = Arrays.asList(trimmedSearchPhrase.split("\\s+"));
+        List<String> searchTokens = new ArrayList<>(Arrays.asList(trimmedSearchPhrase.split("\\s+")));
+        Optional<SemestersEnum> fitsSemester = ParserUtil.removeFitsFlag(searchTokens);
+        if (searchTokens.isEmpty()) {
+            throw new ParseException(DEFAULT_ERROR_MESSAGE);
+        }
         try {
             searchRegexes = generateSearchRegexes(searchTokens);
         } catch (PatternSyntaxException patternSyntaxException) {
@@ -41,6 +49,6 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         requireNonNull(searchRegexes);
-        return new FindCommand(searchRegexes);
+        return new FindCommand(searchRegexes, fitsSemester);
     }
 }
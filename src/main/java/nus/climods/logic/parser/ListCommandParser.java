@@ -1,5 +1,10 @@
 package nus.climods.logic.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.openapitools.client.model.SemestersEnum;
 
 import nus.climods.logic.commands.ListCommand;
 import nus.climods.logic.parser.exceptions.ParseException;
@@ -17,8 +22,11 @@ public class ListCommandParser implements Parser<ListCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        return new ListCommand(new FacultyCodeParameter(trimmedArgs), new UserFlagParameter(trimmedArgs));
+        List<String> arguments = new ArrayList<>(ParserUtil.convertArgumentStringToList(args));
+        Optional<SemestersEnum> fitsSemester = ParserUtil.removeFitsFlag(arguments);
+        String trimmedArgs = String.join(" ", arguments);
+        return new ListCommand(new FacultyCodeParameter(trimmedArgs), new UserFlagParameter(trimmedArgs),
+            fitsSemester);
     }
 
 }
@@ -0,0 +1,21 @@
+package nus.climods.logic.parser;
+
+import java.util.Optional;
+
+import nus.climods.logic.commands.NextCommand;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.logic.parser.parameters.ModuleCodeParameter;
+
+/**
+ * Parses input arguments and creates a new NextCommand object
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+    @Override
+    public NextCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new NextCommand(Optional.empty());
+        }
+        ModuleCodeParameter mcp = new ModuleCodeParameter(args);
+        return new NextCommand(Optional.of(mcp.getArgValue()));
+    }
+}
@@ -6,6 +6,7 @@ import java.util.regex.Pattern;
 
 import org.openapitools.client.model.SemestersEnum;
 
+import nus.climods.logic.parser.exceptions.ParseException;
 import nus.climods.model.module.LessonTypeEnum;
 
 /**
@@ -24,6 +25,11 @@ public class ParserUtil {
     // TODO: Change this to a less hacky solution
     public static final String FAULTY_FACULTY_CODE = "zzz";
 
+    public static final String FITS_FLAG = "--fits";
+
+    public static final String MESSAGE_INVALID_FITS_SEMESTER = FITS_FLAG + " should be followed by a semester: "
+        + "S1, S2, ST1 or ST2";
+
     /**
      * Returns List of whitespace-delimited arguments given arguments string supplied by the user
      * @param arguments String supplied by user as arguments after preamble
@@ -125,4 +131,34 @@ public class ParserUtil {
             return Optional.empty();
         }
     }
+
+    /**
+     * Removes the {@value #FITS_FLAG} flag and the semester following it from {@code arguments}.
+     *
+     * @param arguments whitespace-delimited arguments supplied by the user, which must be modifiable
+     * @return semester following the flag, or an empty Optional if the flag is not given
+     * @throws ParseException if the flag is not followed by a valid semester
+     */
+    public static Optional<SemestersEnum> removeFitsFlag(List<String> arguments) throws ParseException {
+        int flagIndex = -1;
+        for (int i = 0; i < arguments.size(); i++) {
+            if (arguments.get(i).equalsIgnoreCase(FITS_FLAG)) {
+                flagIndex = i;
+                break;
+            }
+        }
+        if (flagIndex == -1) {
+            return Optional.empty();
+        }
+        if (flagIndex + 1 >= arguments.size()) {
+            throw new ParseException(MESSAGE_INVALID_FITS_SEMESTER);
+        }
+
+        Optional<SemestersEnum> semester = parseSemesterType(arguments.get(flagIndex + 1));
+        if (semester.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FITS_SEMESTER);
+        }
+        arguments.subList(flagIndex, flagIndex + 2).clear();
+        return semester;
+    }
 }
@@ -1,5 +1,8 @@
 package nus.climods.logic.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import nus.climods.logic.commands.PrereqsCommand;
 import nus.climods.logic.parser.exceptions.ParseException;
 import nus.climods.logic.parser.parameters.ModuleCodeParameter;
@@ -10,8 +13,10 @@ import nus.climods.logic.parser.parameters.ModuleCodeParameter;
 public class PrereqsCommandParser implements Parser<PrereqsCommand> {
     @Override
     public PrereqsCommand parse(String args) throws ParseException {
-        ModuleCodeParameter mcp = new ModuleCodeParameter(args);
+        List<String> arguments = new ArrayList<>(ParserUtil.convertArgumentStringToList(args));
+        boolean isShowingChain = arguments.removeIf(argument -> argument.equalsIgnoreCase(PrereqsCommand.ALL_FLAG));
+        ModuleCodeParameter mcp = new ModuleCodeParameter(String.join(" ", arguments));
         String moduleCode = mcp.getArgValue();
-        return new PrereqsCommand(moduleCode);
+        return new PrereqsCommand(moduleCode, isShowingChain);
     }
 }
@@ -0,0 +1,72 @@
+package nus.climods.logic.parser;
+
+import static nus.climods.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import nus.climods.logic.commands.SolveCommand;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.logic.parser.parameters.SemesterTypeParameter;
+import nus.climods.model.timetable.TimetableObjective;
+
+/**
+ * Parses input arguments and creates a new SolveCommand object
+ */
+public class SolveCommandParser implements Parser<SolveCommand> {
+
+    public static final String DAYS_FLAG = "--days";
+    public static final String AFTER_FLAG = "--after";
+    public static final String LUNCH_FLAG = "--lunch";
+    public static final String GAPS_FLAG = "--gaps";
+
+    private static final int SEMESTER_INDEX = 0;
+    private static final Pattern TIME_PATTERN = Pattern.compile("([01]\\d|2[0-3])[0-5]\\d");
+    private static final String DEFAULT_ERROR_MESSAGE =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SolveCommand.MESSAGE_USAGE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SolveCommand and returns a SolveCommand object
+     * for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SolveCommand parse(String args) throws ParseException {
+        SemesterTypeParameter stp = new SemesterTypeParameter(args, SEMESTER_INDEX);
+
+        boolean isMinimisingDays = false;
+        Optional<Integer> earliestStartMinute = Optional.empty();
+        boolean isKeepingLunchBreak = false;
+        boolean isMinimisingDeadTime = false;
+        List<String> arguments = ParserUtil.convertArgumentStringToList(args);
+        for (int i = SEMESTER_INDEX + 1; i < arguments.size(); i++) {
+            switch (arguments.get(i).toLowerCase(Locale.ROOT)) {
+            case DAYS_FLAG:
+                isMinimisingDays = true;
+                break;
+            case AFTER_FLAG:
+                i++;
+                if (i == arguments.size() || !TIME_PATTERN.matcher(arguments.get(i)).matches()) {
+                    throw new ParseException(DEFAULT_ERROR_MESSAGE);
+                }
+                String time = arguments.get(i);
+                earliestStartMinute = Optional.of(
+                    Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2)));
+                break;
+            case LUNCH_FLAG:
+                isKeepingLunchBreak = true;
+                break;
+            case GAPS_FLAG:
+                isMinimisingDeadTime = true;
+                break;
+            default:
+                throw new ParseException(DEFAULT_ERROR_MESSAGE);
+            }
+        }
+
+        return new SolveCommand(stp.getArgValue(),
+            new TimetableObjective(isMinimisingDays, earliestStartMinute, isKeepingLunchBreak, isMinimisingDeadTime));
+    }
+}
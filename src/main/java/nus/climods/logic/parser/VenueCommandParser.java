@@ -0,0 +1,81 @@
+package nus.climods.logic.parser;
+
+import static nus.climods.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import nus.climods.logic.commands.VenueCommand;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.logic.parser.parameters.SemesterTypeParameter;
+import nus.climods.model.timetable.LessonSlot;
+
+/**
+ * Parses input arguments and creates a new VenueCommand object
+ */
+public class VenueCommandParser implements Parser<VenueCommand> {
+
+    private static final int SEMESTER_INDEX = 0;
+    private static final int NAME_INDEX = 1;
+    private static final int DAY_INDEX = 2;
+    private static final int START_INDEX = 3;
+    private static final int END_INDEX = 4;
+    private static final Pattern TIME_PATTERN = Pattern.compile("([01]\\d|2[0-3])[0-5]\\d|2400");
+    private static final String DEFAULT_ERROR_MESSAGE =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, VenueCommand.MESSAGE_USAGE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the VenueCommand and returns a VenueCommand object
+     * for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public VenueCommand parse(String args) throws ParseException {
+        List<String> arguments = new ArrayList<>(ParserUtil.convertArgumentStringToList(args));
+        boolean isFindingFreeVenues = arguments.removeIf(argument ->
+            argument.equalsIgnoreCase(VenueCommand.FREE_FLAG));
+        if (arguments.size() <= NAME_INDEX || arguments.size() == DAY_INDEX + 1 || arguments.size() > END_INDEX + 1) {
+            throw new ParseException(DEFAULT_ERROR_MESSAGE);
+        }
+
+        SemesterTypeParameter stp = new SemesterTypeParameter(String.join(" ", arguments), SEMESTER_INDEX);
+        String name = arguments.get(NAME_INDEX);
+        if (arguments.size() == NAME_INDEX + 1) {
+            return new VenueCommand(stp.getArgValue(), name, Optional.empty(), isFindingFreeVenues);
+        }
+
+        int day = parseDay(arguments.get(DAY_INDEX));
+        int startMinute = parseTime(arguments.get(START_INDEX));
+        // Without an end time, the lessons running at the start time are asked for
+        int endMinute = arguments.size() > END_INDEX
+            ? parseTime(arguments.get(END_INDEX))
+            : startMinute + LessonSlot.MINUTES_PER_UNIT;
+        if (startMinute >= endMinute || endMinute > 24 * 60) {
+            throw new ParseException(VenueCommand.MESSAGE_INVALID_TIME);
+        }
+        return new VenueCommand(stp.getArgValue(), name,
+            Optional.of(new LessonSlot(day, startMinute, endMinute, VenueCommand.ALL_WEEKS)), isFindingFreeVenues);
+    }
+
+    private static int parseDay(String day) throws ParseException {
+        String upperCaseDay = day.toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            // Both full names and their first three letters, e.g. MON, are accepted
+            if (upperCaseDay.length() >= 3 && dayOfWeek.name().startsWith(upperCaseDay)) {
+                return dayOfWeek.ordinal();
+            }
+        }
+        throw new ParseException(String.format(VenueCommand.MESSAGE_INVALID_DAY, day));
+    }
+
+    private static int parseTime(String time) throws ParseException {
+        if (!TIME_PATTERN.matcher(time).matches()) {
+            throw new ParseException(VenueCommand.MESSAGE_INVALID_TIME);
+        }
+        return Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+}
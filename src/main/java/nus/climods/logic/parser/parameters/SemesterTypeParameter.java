@@ -18,7 +18,17 @@ public class SemesterTypeParameter extends PositionalParameter<SemestersEnum> {
      * @param argumentsString Arguments string to parse lesson type from
      */
     public SemesterTypeParameter(String argumentsString) {
-        super(LESSON_TYPE_INDEX, argumentsString, ParserUtil::parseSemesterType, PARSE_EXCEPTION_MESSAGE);
+        this(argumentsString, LESSON_TYPE_INDEX);
+    }
+
+    /**
+     * Creates a SemesterTypeParameter with argumentsString, for a semester at {@code index}
+     *
+     * @param argumentsString Arguments string to parse lesson type from
+     * @param index           Index of the semester in the arguments
+     */
+    public SemesterTypeParameter(String argumentsString, int index) {
+        super(index, argumentsString, ParserUtil::parseSemesterType, PARSE_EXCEPTION_MESSAGE);
         this.setEmptyInputMessage(INVALID_INPUT_MESSAGE);
     }
 }
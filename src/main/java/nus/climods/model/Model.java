@@ -16,6 +16,9 @@ import nus.climods.model.module.Module;
 import nus.climods.model.module.ReadOnlyModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
 import nus.climods.model.module.UserModule;
+import nus.climods.model.timetable.Timetable;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.venue.VenueIndex;
 
 /**
  * The API of the Model component.
@@ -49,6 +52,11 @@ public interface Model {
 
     ReadOnlyModuleList getModuleList();
 
+    /**
+     * Merges {@code modules} into the module list, updating the modules already in it.
+     */
+    void mergeModules(List<Module> modules);
+
     /**
      * Returns Optional Module corresponding to the supplied module code.
      */
@@ -181,4 +189,43 @@ public interface Model {
      */
     Optional<UserModule> getUserModule(String toGet);
 
+    /**
+     * Returns the timetable of the lessons picked for the user modules taken in {@code semester}, loading the lesson
+     * data of the modules as needed.
+     *
+     * @throws ApiException if the lesson data of a module cannot be fetched.
+     */
+    Timetable getUserTimetable(SemestersEnum semester) throws ApiException;
+
+    /**
+     * Returns a copy of the timetable of the lessons picked for the user modules taken in {@code semester}, like
+     * {@link #getUserTimetable(SemestersEnum)}, but without loading anything: modules whose lesson data is not loaded
+     * yet are left out as if they had no lessons.
+     */
+    Timetable getLoadedUserTimetable(SemestersEnum semester);
+
+    /**
+     * Picks the class described by {@code lessonInfo} for {@code lessonType} of {@code userModule}, which is in the
+     * user's module list, replacing the class picked before.
+     */
+    void pickLesson(UserModule userModule, LessonTypeEnum lessonType, String lessonInfo);
+
+    /**
+     * Records that the lessons of {@code semester} were picked for {@code objective}, so that they are picked again
+     * around later changes to the semester.
+     */
+    void setTimetableObjective(SemestersEnum semester, TimetableObjective objective);
+
+    /**
+     * Returns the objective the lessons of {@code semester} were last picked for, if they were picked by a search.
+     */
+    Optional<TimetableObjective> getTimetableObjective(SemestersEnum semester);
+
+    /**
+     * Returns the index of the lessons held in each venue in {@code semester}, loading it on first use.
+     *
+     * @throws ApiException if the venue information cannot be fetched.
+     */
+    VenueIndex getVenueIndex(SemestersEnum semester) throws ApiException;
+
 }
@@ -3,16 +3,22 @@ package nus.climods.model;
 import static java.util.Objects.requireNonNull;
 import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.openapitools.client.ApiException;
 import org.openapitools.client.model.SemestersEnum;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -26,6 +32,11 @@ import nus.climods.model.module.UniqueUserModuleList;
 import nus.climods.model.module.UserModule;
 import nus.climods.model.module.predicate.ModulesByCodesPredicate;
 import nus.climods.model.module.predicate.ViewModulePredicate;
+import nus.climods.model.timetable.Timetable;
+import nus.climods.model.timetable.TimetableEntry;
+import nus.climods.model.timetable.TimetableObjective;
+import nus.climods.model.venue.VenueIndex;
+import nus.climods.model.venue.VenueLoader;
 
 
 /**
@@ -46,26 +57,40 @@ public class ModelManager implements Model {
 
     private final UserPrefs userPrefs;
 
+    // Classes picked in each semester for the user modules whose lesson data is loaded, built on first use and kept up
+    // to date as user modules are added or removed and lessons are picked
+    private final Map<SemestersEnum, Timetable> userTimetables = new EnumMap<>(SemestersEnum.class);
+    // User modules left out of the timetable of their semester, as their lesson data was not loaded yet
+    private final Set<UserModule> unloadedUserModules = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Map<SemestersEnum, TimetableObjective> timetableObjectives = new EnumMap<>(SemestersEnum.class);
+
+    private final Map<SemestersEnum, VenueIndex> venueIndexes = new EnumMap<>(SemestersEnum.class);
+    private final VenueLoader venueLoader;
+
     private Module moduleInFocus;
 
     /**
-     * Initializes a ModelManager with the given moduleList and userPrefs.
+     * Initializes a ModelManager with the given moduleList and userPrefs, loading the venues of a semester with
+     * {@code venueLoader}.
      */
     public ModelManager(ReadOnlyModuleList moduleList, UniqueUserModuleList userModuleList,
-        ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(moduleList, userPrefs);
+        ReadOnlyUserPrefs userPrefs, VenueLoader venueLoader) {
+        requireAllNonNull(moduleList, userPrefs, venueLoader);
 
         logger.fine("Initializing with module list: " + moduleList + " and user prefs " + userPrefs);
 
         this.userPrefs = new UserPrefs(userPrefs);
         this.moduleList = new ModuleList(moduleList);
         this.userModuleList = userModuleList;
+        this.venueLoader = venueLoader;
 
-        this.filteredModuleList = new FilteredList<>(moduleList.getModules());
+        this.filteredModuleList = new FilteredList<>(this.moduleList.getModules());
         this.filteredAndSortedModuleList = new SortedList<>(filteredModuleList);
         this.defaultModuleListComparator = filteredAndSortedModuleList.getComparator();
 
         this.filteredUserModuleList = new FilteredList<>(userModuleList.asUnmodifiableObservableList());
+        userModuleList.asUnmodifiableObservableList().addListener(this::updateUserTimetables);
     }
 
     //=========== Module ==================================================================================
@@ -75,6 +100,12 @@ public class ModelManager implements Model {
         return moduleList;
     }
 
+    @Override
+    public void mergeModules(List<Module> modules) {
+        requireNonNull(modules);
+        moduleList.mergeModules(modules);
+    }
+
     @Override
     public Optional<Module> getListModule(String moduleCode) {
         return getModuleList().getListModule(moduleCode);
@@ -243,6 +274,127 @@ public class ModelManager implements Model {
         return userModuleList.get(toGet);
     }
 
+    @Override
+    public Timetable getUserTimetable(SemestersEnum semester) throws ApiException {
+        requireNonNull(semester);
+        Timetable timetable = new Timetable();
+        for (UserModule userModule : userModuleList) {
+            Optional<Module> module = getListModule(userModule.getCode());
+            if (userModule.getSelectedSemester() != semester || module.isEmpty()) {
+                continue;
+            }
+
+            module.get().loadMoreData();
+            addPickedLessons(timetable, userModule, module.get(), semester);
+        }
+        return timetable;
+    }
+
+    @Override
+    public synchronized Timetable getLoadedUserTimetable(SemestersEnum semester) {
+        requireNonNull(semester);
+        Timetable timetable = userTimetables.get(semester);
+        if (timetable == null) {
+            timetable = new Timetable();
+            userTimetables.put(semester, timetable);
+            for (UserModule userModule : userModuleList) {
+                if (userModule.getSelectedSemester() == semester) {
+                    addToUserTimetable(timetable, userModule);
+                }
+            }
+            return new Timetable(timetable);
+        }
+
+        List<UserModule> userModulesToAdd = unloadedUserModules.stream()
+            .filter(userModule -> userModule.getSelectedSemester() == semester)
+            .collect(Collectors.toList());
+        for (UserModule userModule : userModulesToAdd) {
+            unloadedUserModules.remove(userModule);
+            addToUserTimetable(timetable, userModule);
+        }
+        return new Timetable(timetable);
+    }
+
+    @Override
+    public synchronized void pickLesson(UserModule userModule, LessonTypeEnum lessonType, String lessonInfo) {
+        requireAllNonNull(userModule, lessonType, lessonInfo);
+        userModule.addLesson(lessonType, lessonInfo);
+
+        Timetable timetable = userTimetables.get(userModule.getSelectedSemester());
+        if (timetable != null && !unloadedUserModules.contains(userModule)) {
+            timetable.removeModule(userModule.getCode());
+            addToUserTimetable(timetable, userModule);
+        }
+    }
+
+    private synchronized void updateUserTimetables(ListChangeListener.Change<? extends UserModule> change) {
+        while (change.next()) {
+            for (UserModule userModule : change.getRemoved()) {
+                Timetable timetable = userTimetables.get(userModule.getSelectedSemester());
+                if (!unloadedUserModules.remove(userModule) && timetable != null) {
+                    timetable.removeModule(userModule.getCode());
+                }
+            }
+            for (UserModule userModule : change.getAddedSubList()) {
+                Timetable timetable = userTimetables.get(userModule.getSelectedSemester());
+                if (timetable != null) {
+                    addToUserTimetable(timetable, userModule);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the classes picked for {@code userModule} to {@code timetable} if its lesson data is loaded, or records it
+     * to be added once it is.
+     */
+    private void addToUserTimetable(Timetable timetable, UserModule userModule) {
+        Optional<Module> module = getListModule(userModule.getCode());
+        if (module.isEmpty()) {
+            return;
+        }
+        if (!module.get().isDetailLoaded()) {
+            unloadedUserModules.add(userModule);
+            return;
+        }
+        addPickedLessons(timetable, userModule, module.get(), userModule.getSelectedSemester());
+    }
+
+    /**
+     * Adds the classes picked for {@code userModule}, whose details are {@code module}, to {@code timetable}.
+     */
+    private static void addPickedLessons(Timetable timetable, UserModule userModule, Module module,
+        SemestersEnum semester) {
+        for (LessonTypeEnum lessonType : userModule.getLessons().keySet()) {
+            userModule.getLessonId(lessonType)
+                .flatMap(lessonId -> TimetableEntry.of(module, semester, lessonType, lessonId))
+                .ifPresent(timetable::add);
+        }
+    }
+
+    @Override
+    public void setTimetableObjective(SemestersEnum semester, TimetableObjective objective) {
+        requireAllNonNull(semester, objective);
+        timetableObjectives.put(semester, objective);
+    }
+
+    @Override
+    public Optional<TimetableObjective> getTimetableObjective(SemestersEnum semester) {
+        return Optional.ofNullable(timetableObjectives.get(semester));
+    }
+
+    @Override
+    public synchronized VenueIndex getVenueIndex(SemestersEnum semester) throws ApiException {
+        requireNonNull(semester);
+        // Loaded once per semester, as every venue of the semester is indexed at once
+        VenueIndex venueIndex = venueIndexes.get(semester);
+        if (venueIndex == null) {
+            venueIndex = venueLoader.loadVenueIndex(userPrefs.getAcademicYear(), semester);
+            venueIndexes.put(semester, venueIndex);
+        }
+        return venueIndex;
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
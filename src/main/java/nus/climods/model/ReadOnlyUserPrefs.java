@@ -14,4 +14,6 @@ public interface ReadOnlyUserPrefs {
     String getAcademicYear();
 
     Path getUserModuleListFilePath();
+
+    Path getModuleCacheDirectoryPath();
 }
@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path userModuleListFilePath = Paths.get("data", "userModuleList.json");
+    private Path moduleCacheDirectoryPath = Paths.get("data", "cache");
 
     private String academicYear = "2022-2023";
 
@@ -53,6 +54,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return userModuleListFilePath;
     }
 
+    public Path getModuleCacheDirectoryPath() {
+        return moduleCacheDirectoryPath;
+    }
+
     public String getAcademicYear() {
         return academicYear;
     }
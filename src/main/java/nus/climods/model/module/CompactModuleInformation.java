@@ -0,0 +1,170 @@
+package nus.climods.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Module information that keeps its most repeated fields in a compact form: the department and faculty as ids in the
+ * {@link ModuleFieldDictionary}, the credits as a fixed-point number of hundredths, and the semesters offered as a
+ * {@link SemesterBitmask}. Names that do not fit in a full dictionary are kept as text. The getters give the same
+ * values as the module information it was made from, although credits are given without trailing zeros and semesters
+ * without their exam times.
+ */
+public class CompactModuleInformation extends ModuleInformation {
+
+    private static final int CREDIT_SCALE = 2;
+    // Credits that are missing or not a number are kept as text
+    private static final int NO_CREDIT = -1;
+
+    @JsonIgnore
+    private short departmentId = ModuleFieldDictionary.NO_ID;
+    @JsonIgnore
+    private short facultyId = ModuleFieldDictionary.NO_ID;
+    @JsonIgnore
+    private int creditHundredths = NO_CREDIT;
+    @JsonIgnore
+    private int semesters = SemesterBitmask.NONE;
+
+    /**
+     * Returns a compact copy of the list-view fields of {@code moduleInfo}: its code, title, description, credits,
+     * department, faculty, catalogue prerequisite and semesters.
+     */
+    public static CompactModuleInformation of(ModuleInformation moduleInfo) {
+        requireNonNull(moduleInfo);
+        CompactModuleInformation compactModuleInfo = new CompactModuleInformation();
+        compactModuleInfo.setModuleCode(moduleInfo.getModuleCode());
+        compactModuleInfo.setTitle(moduleInfo.getTitle());
+        compactModuleInfo.setDescription(moduleInfo.getDescription());
+        compactModuleInfo.setModuleCredit(moduleInfo.getModuleCredit());
+        compactModuleInfo.setDepartment(moduleInfo.getDepartment());
+        compactModuleInfo.setFaculty(moduleInfo.getFaculty());
+        compactModuleInfo.setPrerequisite(moduleInfo.getPrerequisite());
+        compactModuleInfo.setSemesterData(moduleInfo.getSemesterData());
+        return compactModuleInfo;
+    }
+
+    /**
+     * Returns the semesters the module is offered in.
+     */
+    @JsonIgnore
+    public int getSemesterBitmask() {
+        return semesters;
+    }
+
+    @Override
+    public ModuleInformation moduleCredit(String moduleCredit) {
+        setModuleCredit(moduleCredit);
+        return this;
+    }
+
+    @Override
+    public String getModuleCredit() {
+        if (creditHundredths == NO_CREDIT) {
+            return super.getModuleCredit();
+        }
+        return BigDecimal.valueOf(creditHundredths, CREDIT_SCALE).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public void setModuleCredit(String moduleCredit) {
+        creditHundredths = toHundredths(moduleCredit);
+        super.setModuleCredit(creditHundredths == NO_CREDIT ? moduleCredit : null);
+    }
+
+    private static int toHundredths(String moduleCredit) {
+        if (moduleCredit == null) {
+            return NO_CREDIT;
+        }
+        try {
+            BigDecimal credit = new BigDecimal(moduleCredit.trim()).movePointRight(CREDIT_SCALE);
+            return credit.signum() < 0 ? NO_CREDIT : credit.intValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            return NO_CREDIT;
+        }
+    }
+
+    @Override
+    public ModuleInformation department(String department) {
+        setDepartment(department);
+        return this;
+    }
+
+    @Override
+    public String getDepartment() {
+        if (departmentId == ModuleFieldDictionary.NO_ID) {
+            return super.getDepartment();
+        }
+        return ModuleFieldDictionary.nameOf(departmentId);
+    }
+
+    @Override
+    public void setDepartment(String department) {
+        departmentId = ModuleFieldDictionary.idOf(department);
+        super.setDepartment(departmentId == ModuleFieldDictionary.NO_ID ? department : null);
+    }
+
+    @Override
+    public ModuleInformation faculty(String faculty) {
+        setFaculty(faculty);
+        return this;
+    }
+
+    @Override
+    public String getFaculty() {
+        if (facultyId == ModuleFieldDictionary.NO_ID) {
+            return super.getFaculty();
+        }
+        return ModuleFieldDictionary.nameOf(facultyId);
+    }
+
+    @Override
+    public void setFaculty(String faculty) {
+        facultyId = ModuleFieldDictionary.idOf(faculty);
+        super.setFaculty(facultyId == ModuleFieldDictionary.NO_ID ? faculty : null);
+    }
+
+    @Override
+    public ModuleInformation semesterData(List<ModuleInformationSemesterDataInner> semesterData) {
+        setSemesterData(semesterData);
+        return this;
+    }
+
+    @Override
+    public ModuleInformation addSemesterDataItem(ModuleInformationSemesterDataInner semesterDataItem) {
+        semesters |= SemesterBitmask.of(List.of(semesterDataItem));
+        return this;
+    }
+
+    @Override
+    public List<ModuleInformationSemesterDataInner> getSemesterData() {
+        return SemesterBitmask.toSemesterData(semesters);
+    }
+
+    @Override
+    public void setSemesterData(List<ModuleInformationSemesterDataInner> semesterData) {
+        semesters = SemesterBitmask.of(semesterData);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof CompactModuleInformation
+            && super.equals(other)
+            && departmentId == ((CompactModuleInformation) other).departmentId
+            && facultyId == ((CompactModuleInformation) other).facultyId
+            && creditHundredths == ((CompactModuleInformation) other).creditHundredths
+            && semesters == ((CompactModuleInformation) other).semesters);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + semesters;
+    }
+}
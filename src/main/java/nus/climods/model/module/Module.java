@@ -3,40 +3,57 @@ package nus.climods.model.module;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.openapitools.client.ApiException;
 import org.openapitools.client.api.ModulesApi;
 import org.openapitools.client.model.Lesson;
-import org.openapitools.client.model.ModuleInformationSemesterDataInner;
 import org.openapitools.client.model.SemesterData;
 import org.openapitools.client.model.SemestersEnum;
 
+import nus.climods.model.module.prerequisite.PrerequisiteTree;
+
 /**
  * A wrapper class for <code>ModuleInformation</code>
  */
 public class Module {
 
-    private final org.openapitools.client.model.ModuleInformation apiModuleInfo;
+    /**
+     * Pattern to extract module codes from a prerequisite description
+     */
+    private static final Pattern MODULE_CODE_EXTRACT_PATTERN = Pattern.compile("[A-Z]{2,4}\\d{4}[A-Z]{0,5}\\d{0,2}");
+
+    private static ModuleDetailLoader detailLoader = (academicYear, moduleCode) ->
+        ModulesApi.getInstance().acadYearModulesModuleCodeJsonGet(academicYear, moduleCode);
+    private static ModuleDetailLoader savedDetailLoader = (academicYear, moduleCode) -> {
+        throw new ApiException("No saved details of " + moduleCode);
+    };
+
+    private volatile org.openapitools.client.model.ModuleInformation apiModuleInfo;
+    // Semesters the module is offered in, worked out once from the module information
+    private volatile int semesters;
     private String academicYear;
-    private HashMap<SemestersEnum, Set<LessonTypeEnum>> lessonTypesMap;
+    // The lesson maps are built before they are published, as they are read without the lock of the module
+    private volatile HashMap<SemestersEnum, Set<LessonTypeEnum>> lessonTypesMap;
     // Semester -> LessonTypeEnum -> LessonId -> [Lesson]
-    private HashMap<SemestersEnum, HashMap<LessonTypeEnum, ModuleLessonIdMap>> lessonMap;
+    private volatile HashMap<SemestersEnum, HashMap<LessonTypeEnum, ModuleLessonIdMap>> lessonMap;
 
     /**
-     * Contains detailed module information from API. Only initialised when needed
+     * Contains detailed module information from API. Only initialised when needed, after the lesson maps
      */
-    private org.openapitools.client.model.Module apiModule;
+    private volatile org.openapitools.client.model.Module apiModule;
+    private Optional<PrerequisiteTree> prerequisiteTree;
     private boolean isFocused = false;
 
     /**
@@ -53,6 +70,7 @@ public class Module {
      */
     public Module(org.openapitools.client.model.ModuleInformation apiModuleInfo) {
         this.apiModuleInfo = apiModuleInfo;
+        this.semesters = toSemesterBitmask(apiModuleInfo);
     }
 
     /**
@@ -67,13 +85,75 @@ public class Module {
     }
 
     /**
-     * Initialize module lesson data
+     * Replaces the module information of this module with that of {@code update}, a newer copy of the same module,
+     * keeping its loaded details and focus.
+     */
+    void mergeInformation(Module update) {
+        requireNonNull(update);
+        assert getCode().equalsIgnoreCase(update.getCode());
+        apiModuleInfo = update.apiModuleInfo;
+        semesters = update.semesters;
+    }
+
+    /**
+     * Returns true if {@code other} has the same module information as this module, field by field, whether or not
+     * either holds it compactly.
+     */
+    boolean hasSameInformation(Module other) {
+        requireNonNull(other);
+        if (apiModuleInfo == null || other.apiModuleInfo == null) {
+            return apiModuleInfo == other.apiModuleInfo;
+        }
+        org.openapitools.client.model.ModuleInformation otherInfo = other.apiModuleInfo;
+        return semesters == other.semesters
+            && Objects.equals(apiModuleInfo.getModuleCode(), otherInfo.getModuleCode())
+            && Objects.equals(apiModuleInfo.getTitle(), otherInfo.getTitle())
+            && Objects.equals(apiModuleInfo.getModuleCredit(), otherInfo.getModuleCredit())
+            && Objects.equals(apiModuleInfo.getDepartment(), otherInfo.getDepartment())
+            && Objects.equals(apiModuleInfo.getFaculty(), otherInfo.getFaculty())
+            && Objects.equals(apiModuleInfo.getDescription(), otherInfo.getDescription())
+            && Objects.equals(apiModuleInfo.getPrerequisite(), otherInfo.getPrerequisite());
+    }
+
+    private static int toSemesterBitmask(org.openapitools.client.model.ModuleInformation apiModuleInfo) {
+        if (apiModuleInfo == null) {
+            return SemesterBitmask.NONE;
+        }
+        if (apiModuleInfo instanceof CompactModuleInformation) {
+            return ((CompactModuleInformation) apiModuleInfo).getSemesterBitmask();
+        }
+        return SemesterBitmask.of(apiModuleInfo.getSemesterData());
+    }
+
+    /**
+     * Sets the loader used by {@link #loadMoreData()} to fetch detailed module information.
+     *
+     * @param detailLoader loader of detailed module information
+     */
+    public static void setDetailLoader(ModuleDetailLoader detailLoader) {
+        requireNonNull(detailLoader);
+        Module.detailLoader = detailLoader;
+    }
+
+    /**
+     * Sets the loader used by {@link #getSavedDetail()} to read detailed module information saved on disk. It must
+     * not fetch anything from NUSMods.
+     *
+     * @param savedDetailLoader loader of saved detailed module information
+     */
+    public static void setSavedDetailLoader(ModuleDetailLoader savedDetailLoader) {
+        requireNonNull(savedDetailLoader);
+        Module.savedDetailLoader = savedDetailLoader;
+    }
+
+    /**
+     * Initialize module lesson data from the detailed module information {@code apiModule}
      */
-    private void setLessonData() {
+    private void setLessonData(org.openapitools.client.model.Module apiModule) {
         requireNonNull(apiModule);
 
-        lessonMap = new HashMap<>();
-        lessonTypesMap = new HashMap<>();
+        HashMap<SemestersEnum, HashMap<LessonTypeEnum, ModuleLessonIdMap>> lessonMap = new HashMap<>();
+        HashMap<SemestersEnum, Set<LessonTypeEnum>> lessonTypesMap = new HashMap<>();
 
         List<SemesterData> moduleSemesterData = apiModule.getSemesterData();
         for (SemesterData semesterData : moduleSemesterData) {
@@ -104,6 +184,9 @@ public class Module {
             });
             lessonMap.put(semester, semesterLessonMap);
         }
+
+        this.lessonTypesMap = lessonTypesMap;
+        this.lessonMap = lessonMap;
     }
 
     /**
@@ -147,12 +230,16 @@ public class Module {
     }
 
     /**
-     * Returns the module description
+     * Returns the module description. The module list is read without descriptions, so this is empty until the
+     * detailed module information is loaded, unless the module information given has one.
      *
      * @return module description
      */
     public String getDescription() {
-        return apiModuleInfo.getDescription();
+        if (apiModule != null && apiModule.getDescription() != null) {
+            return apiModule.getDescription();
+        }
+        return Optional.ofNullable(apiModuleInfo.getDescription()).orElse("");
     }
 
     /**
@@ -161,10 +248,16 @@ public class Module {
      * @return list of semesters
      */
     public List<SemestersEnum> getSemesters() {
-        List<ModuleInformationSemesterDataInner> apiSemesterData = apiModuleInfo.getSemesterData();
+        return SemesterBitmask.toSemesters(semesters);
+    }
 
-        return apiSemesterData.stream().map(ModuleInformationSemesterDataInner::getSemester).filter(Objects::nonNull)
-            .map(SemestersEnum::fromValue).collect(Collectors.toList());
+    /**
+     * Returns the semesters that this module is offered as a {@link SemesterBitmask}.
+     *
+     * @return bitmask of semesters
+     */
+    public int getSemesterBitmask() {
+        return semesters;
     }
 
     /**
@@ -174,7 +267,7 @@ public class Module {
      * @return true if module is offered else false
      */
     public boolean availableInSemester(SemestersEnum semester) {
-        return getSemesters().stream().anyMatch(availableSemester -> availableSemester.equals(semester));
+        return SemesterBitmask.contains(semesters, semester);
     }
 
     /**
@@ -243,7 +336,8 @@ public class Module {
      * @return a set of lesson types
      */
     public Set<LessonTypeEnum> getUnselectableLessonTypeEnums(SemestersEnum semester) {
-        Set<LessonTypeEnum> unselectableSet = getLessonTypeEnums(semester);
+        // Copied, as the set of lesson types of the semester must not be modified
+        Set<LessonTypeEnum> unselectableSet = new HashSet<>(getLessonTypeEnums(semester));
         unselectableSet.removeAll(getSelectableLessonTypeEnums(semester));
 
         return unselectableSet;
@@ -346,6 +440,40 @@ public class Module {
         return apiModule.getPrerequisite();
     }
 
+    /**
+     * Returns the module's prerequisite description in the catalogue, which is known without loading the details of the
+     * module.
+     *
+     * @return module prerequisite description, or null if it has none
+     */
+    public String getCataloguePrerequisite() {
+        return apiModuleInfo.getPrerequisite();
+    }
+
+    /**
+     * Returns the module codes found in {@code text}, such as a prerequisite description, in the order they appear.
+     */
+    public static List<String> extractModuleCodes(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return MODULE_CODE_EXTRACT_PATTERN.matcher(text).results().map(MatchResult::group).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the tree of the module's prerequisites, or an empty Optional if NUSMods gives none. The tree is built on
+     * first use and kept.
+     *
+     * @return module prerequisite tree
+     */
+    public synchronized Optional<PrerequisiteTree> getPrerequisiteTree() {
+        requireNonNull(apiModule);
+        if (prerequisiteTree == null) {
+            prerequisiteTree = PrerequisiteTree.of(apiModule.getPrereqTree());
+        }
+        return prerequisiteTree;
+    }
+
     /**
      * Check if module contains keyword.
      * <p>
@@ -356,9 +484,15 @@ public class Module {
      * @return whether module contains keyword in its stated information
      */
     public boolean containsKeyword(Pattern keywordPattern) {
-        List<String> searchRange = Arrays.asList(getCode(), getTitle());
+        return keywordPattern.matcher(getCode()).find() || keywordPattern.matcher(getTitle()).find();
+    }
 
-        return searchRange.stream().anyMatch(range -> keywordPattern.asPredicate().test(range));
+    /**
+     * Returns true if the detailed module information and lesson data are loaded, so that reading the lessons of the
+     * module does not fetch anything.
+     */
+    public boolean isDetailLoaded() {
+        return apiModule != null;
     }
 
     /**
@@ -370,10 +504,34 @@ public class Module {
      *
      * @throws ApiException if api call fails
      */
-    public void loadMoreData() throws ApiException {
+    public synchronized void loadMoreData() throws ApiException {
         if (apiModule == null) {
-            apiModule = ModulesApi.getInstance().acadYearModulesModuleCodeJsonGet(academicYear, getCode());
-            setLessonData();
+            org.openapitools.client.model.Module loadedApiModule = detailLoader.loadModuleDetail(academicYear,
+                getCode());
+            setLessonData(loadedApiModule);
+            apiModule = loadedApiModule;
+        }
+    }
+
+    /**
+     * Returns the detailed module information if it is loaded or saved on disk, without fetching it from NUSMods.
+     * <p>
+     * Details read from disk are not kept by the module, so that checking every module in the list does not hold the
+     * details of all of them in memory.
+     * </p>
+     *
+     * @return detailed module information, or an empty Optional if it is neither loaded nor saved
+     */
+    public Optional<org.openapitools.client.model.Module> getSavedDetail() {
+        synchronized (this) {
+            if (apiModule != null) {
+                return Optional.of(apiModule);
+            }
+        }
+        try {
+            return Optional.of(savedDetailLoader.loadModuleDetail(academicYear, getCode()));
+        } catch (ApiException e) {
+            return Optional.empty();
         }
     }
 
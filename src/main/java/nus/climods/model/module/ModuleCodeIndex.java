@@ -0,0 +1,123 @@
+package nus.climods.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the modules of a list by their upper case module code, kept up to date with the changes of the list.
+ * <p>
+ * Only the modules added or removed by a change are visited, so adding a batch of modules to a large list costs as
+ * much as the batch. Where modules share a code, the one indexed first is looked up, and another module with the code
+ * takes its place when it is removed.
+ * </p>
+ */
+public class ModuleCodeIndex implements ListChangeListener<Module> {
+
+    private final List<Module> modules;
+    private final Map<String, Module> modulesByCode = new HashMap<>();
+    // Number of modules in the list with each code, so that the list is only searched when a shared code loses its
+    // indexed module
+    private final Map<String, Integer> codeCounts = new HashMap<>();
+
+    /**
+     * Builds the index of {@code modules}, and keeps it up to date as the list changes. Modules without a code are
+     * left out.
+     *
+     * @param modules modules to index
+     */
+    public ModuleCodeIndex(ObservableList<Module> modules) {
+        requireNonNull(modules);
+        this.modules = modules;
+        modules.forEach(this::add);
+        modules.addListener(this);
+    }
+
+    private static String normaliseCode(String moduleCode) {
+        return moduleCode.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the module with the code {@code moduleCode}, ignoring case.
+     */
+    public Optional<Module> get(String moduleCode) {
+        if (moduleCode == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(modulesByCode.get(normaliseCode(moduleCode)));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Module> change) {
+        Set<String> orphanedCodes = new HashSet<>();
+        while (change.next()) {
+            // A permutation or an update keeps the modules of the list and their codes, and so do modules put back
+            // in their own places
+            List<? extends Module> removedModules = change.getRemoved();
+            List<? extends Module> addedModules = change.getAddedSubList();
+            int keptCount = countKeptPlaces(removedModules, addedModules);
+            for (Module removedModule : removedModules.subList(keptCount, removedModules.size())) {
+                remove(removedModule).ifPresent(orphanedCodes::add);
+            }
+            addedModules.subList(keptCount, addedModules.size()).forEach(this::add);
+        }
+
+        orphanedCodes.removeIf(modulesByCode::containsKey);
+        if (orphanedCodes.isEmpty()) {
+            return;
+        }
+        for (Module module : modules) {
+            String code = module.getCode() == null ? null : normaliseCode(module.getCode());
+            if (orphanedCodes.remove(code)) {
+                modulesByCode.put(code, module);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of leading places of a change whose module is put back in its own place.
+     */
+    static int countKeptPlaces(List<? extends Module> removedModules, List<? extends Module> addedModules) {
+        int keptCount = 0;
+        while (keptCount < removedModules.size() && keptCount < addedModules.size()
+            && removedModules.get(keptCount) == addedModules.get(keptCount)) {
+            keptCount++;
+        }
+        return keptCount;
+    }
+
+    private void add(Module module) {
+        if (module.getCode() == null) {
+            return;
+        }
+        String code = normaliseCode(module.getCode());
+        codeCounts.merge(code, 1, Integer::sum);
+        modulesByCode.putIfAbsent(code, module);
+    }
+
+    /**
+     * Removes {@code module} from the index, and returns its code if other modules in the list share it but none of
+     * them is indexed.
+     */
+    private Optional<String> remove(Module module) {
+        if (module.getCode() == null) {
+            return Optional.empty();
+        }
+        String code = normaliseCode(module.getCode());
+        Integer remaining = codeCounts.computeIfPresent(code, (unused, count) -> count > 1 ? count - 1 : null);
+        if (modulesByCode.get(code) != module) {
+            return Optional.empty();
+        }
+        modulesByCode.remove(code);
+        return remaining == null ? Optional.empty() : Optional.of(code);
+    }
+}
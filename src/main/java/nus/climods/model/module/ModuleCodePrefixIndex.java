@@ -0,0 +1,73 @@
+package nus.climods.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * An index of modules sorted by their upper case module code.
+ * <p>
+ * Modules whose codes share a prefix are adjacent in code order, so the modules with a given code prefix are found as
+ * a contiguous range by binary search, without visiting the other modules.
+ * </p>
+ */
+public class ModuleCodePrefixIndex {
+
+    private final List<Module> sortedModules;
+    private final String[] sortedCodes;
+
+    /**
+     * Builds the index of {@code modules}. Modules without a code are left out.
+     *
+     * @param modules modules to index
+     */
+    public ModuleCodePrefixIndex(List<Module> modules) {
+        requireNonNull(modules);
+        // The sort is stable, so modules sharing a code keep their list order
+        sortedModules = modules.stream()
+            .filter(module -> module.getCode() != null)
+            .sorted(Comparator.comparing(module -> normaliseCode(module.getCode())))
+            .collect(Collectors.toUnmodifiableList());
+        sortedCodes = sortedModules.stream().map(module -> normaliseCode(module.getCode())).toArray(String[]::new);
+    }
+
+    private static String normaliseCode(String moduleCode) {
+        return moduleCode.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the modules whose code starts with {@code codePrefix}, ignoring case, in code order.
+     *
+     * @param codePrefix any prefix of a module code, e.g. a faculty code or "CS21"
+     */
+    public List<Module> getModulesWithPrefix(String codePrefix) {
+        requireNonNull(codePrefix);
+        String prefix = normaliseCode(codePrefix);
+
+        // Codes before the range compare less than the prefix, and codes after it neither do nor start with it
+        int from = findFirst(code -> code.compareTo(prefix) >= 0);
+        int to = findFirst(code -> code.compareTo(prefix) > 0 && !code.startsWith(prefix));
+        return sortedModules.subList(from, to);
+    }
+
+    /**
+     * Returns the index of the first code satisfying {@code condition}, which must hold for every code after it.
+     */
+    private int findFirst(Predicate<String> condition) {
+        int low = 0;
+        int high = sortedCodes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(sortedCodes[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,18 @@
+package nus.climods.model.module;
+
+import org.openapitools.client.ApiException;
+
+/**
+ * Loads the detailed information of a module, such as its timetable and prerequisites.
+ */
+@FunctionalInterface
+public interface ModuleDetailLoader {
+
+    /**
+     * Returns the detailed information of the module with {@code moduleCode} in {@code academicYear}.
+     *
+     * @throws ApiException if the information could not be fetched from NUSMods.
+     */
+    org.openapitools.client.model.Module loadModuleDetail(String academicYear, String moduleCode)
+        throws ApiException;
+}
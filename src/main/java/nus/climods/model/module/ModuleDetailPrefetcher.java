@@ -0,0 +1,100 @@
+package nus.climods.model.module;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.ApiException;
+
+import nus.climods.commons.core.LogsCenter;
+
+/**
+ * Loads the details of modules in the background, so that commands such as {@code pick} do not wait on NUSMods.
+ * <p>
+ * Modules are loaded on a fixed pool of {@link #MAX_CONCURRENT_REQUESTS} threads, which caps the number of requests
+ * in flight. A command that needs a module still being loaded waits for that load instead of fetching it again, as
+ * {@link Module#loadMoreData()} is synchronized.
+ * </p>
+ */
+public class ModuleDetailPrefetcher {
+
+    /**
+     * Enough to hide the latency of a handful of saved modules without flooding NUSMods.
+     */
+    public static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleDetailPrefetcher.class);
+
+    private final ExecutorService executor;
+
+    /**
+     * Creates a ModuleDetailPrefetcher with at most {@link #MAX_CONCURRENT_REQUESTS} requests in flight.
+     */
+    public ModuleDetailPrefetcher() {
+        this(MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Creates a ModuleDetailPrefetcher with at most {@code maxConcurrentRequests} requests in flight.
+     */
+    public ModuleDetailPrefetcher(int maxConcurrentRequests) {
+        assert maxConcurrentRequests > 0;
+        executor = Executors.newFixedThreadPool(maxConcurrentRequests, createThreadFactory());
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "module-prefetch-" + threadCount.incrementAndGet());
+            // Do not keep the application alive for a pending network call
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts loading the details of {@code modules} in the background.
+     *
+     * @param modules modules to load
+     * @return a future completed with the number of modules loaded successfully, once every load has finished
+     */
+    public CompletableFuture<Integer> prefetch(Collection<Module> modules) {
+        long startTime = System.nanoTime();
+        List<CompletableFuture<Boolean>> loads = modules.stream()
+            .distinct()
+            .map(module -> CompletableFuture.supplyAsync(() -> load(module), executor))
+            .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).thenApply(unused -> {
+            int loadedCount = (int) loads.stream().filter(CompletableFuture::join).count();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.info(String.format("Prefetched details of %d/%d modules in %d ms", loadedCount, loads.size(),
+                elapsedMillis));
+            return loadedCount;
+        });
+    }
+
+    private boolean load(Module module) {
+        try {
+            module.loadMoreData();
+            return true;
+        } catch (ApiException | RuntimeException e) {
+            logger.warning("Failed to prefetch details of " + module.getCode() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Stops loading modules, interrupting requests in flight.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,70 @@
+package nus.climods.model.module;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns the department and faculty names of modules as small ids, so that each module holds an id instead of a
+ * reference to a name shared by hundreds of other modules.
+ * <p>
+ * Ids are handed out in the order names are first seen and never reused, so an id stays valid for the life of the
+ * application. There are about a hundred departments and faculties in a catalogue, far below the
+ * {@link #CAPACITY} names that fit in a {@code short} id; once it is full, new names are given {@link #NO_ID} and
+ * callers keep them as plain strings.
+ * </p>
+ * <p>
+ * Names are looked up from a copy-on-write array without locking, since they are read on every department and
+ * faculty lookup, including from parallel streams, while new names are rare.
+ * </p>
+ */
+public class ModuleFieldDictionary {
+
+    public static final short NO_ID = -1;
+    public static final int CAPACITY = Short.MAX_VALUE;
+
+    // Replaced, never modified, when a name is added
+    private static volatile String[] names = new String[0];
+    // Guarded by the class lock
+    private static final Map<String, Short> ids = new HashMap<>();
+
+    private ModuleFieldDictionary() {
+    }
+
+    /**
+     * Returns the id of {@code name}, adding it to the dictionary if it is new, or {@link #NO_ID} if it is null or
+     * the dictionary is full.
+     */
+    public static synchronized short idOf(String name) {
+        if (name == null) {
+            return NO_ID;
+        }
+        Short id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (names.length >= CAPACITY) {
+            return NO_ID;
+        }
+        String[] newNames = Arrays.copyOf(names, names.length + 1);
+        newNames[names.length] = name;
+        id = (short) names.length;
+        ids.put(name, id);
+        names = newNames;
+        return id;
+    }
+
+    /**
+     * Returns the name with the id {@code id}, or null if it is {@link #NO_ID}.
+     */
+    public static String nameOf(short id) {
+        return id == NO_ID ? null : names[id];
+    }
+
+    /**
+     * Returns the number of names in the dictionary.
+     */
+    public static int size() {
+        return names.length;
+    }
+}
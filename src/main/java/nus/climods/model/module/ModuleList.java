@@ -2,20 +2,41 @@ package nus.climods.model.module;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.openapitools.client.model.SemestersEnum;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+import nus.climods.model.timetable.TimetableFitIndex;
 
 /**
  * A list of modules.
+ * <p>
+ * Modules are indexed by their upper case module code, so looking up a module by code does not scan the list.
+ * Modules may be merged in from a background load, so code off the JavaFX application thread should read the list
+ * through {@link #getModuleSnapshot()}.
+ * </p>
  */
 public class ModuleList implements ReadOnlyModuleList {
 
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
     private final ObservableList<Module> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final ModuleCodeIndex codeIndex = new ModuleCodeIndex(internalList);
+    private Map<SemestersEnum, List<Module>> semesterIndex;
+    private ModuleSearchIndex searchIndex;
+    private ModuleCodePrefixIndex codePrefixIndex;
+    private CompletableFuture<PrerequisiteGraph> prerequisiteGraph;
+    private TimetableFitIndex timetableFitIndex;
 
     /**
      * Constructor for ModuleList class.
@@ -24,11 +45,97 @@ public class ModuleList implements ReadOnlyModuleList {
      */
     public ModuleList(List<Module> modules) {
         requireNonNull(modules);
+        // The code index follows the changes itself, the other indexes are built again when next used
+        internalList.addListener((ListChangeListener<Module>) this::resetIndexes);
         internalList.setAll(modules);
     }
 
     public ModuleList(ReadOnlyModuleList toBeCopied) {
-        this.internalList.setAll(toBeCopied.getModules());
+        this(toBeCopied.getModules());
+    }
+
+    /**
+     * Drops the indexes built from modules which {@code change} adds, removes or moves. A module put back in its own
+     * place by {@link #mergeModules(List)} has had the indexes built from its changed fields dropped already.
+     */
+    private synchronized void resetIndexes(ListChangeListener.Change<? extends Module> change) {
+        boolean isAdded = false;
+        boolean isRemoved = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isAdded = true;
+                isRemoved = true;
+                continue;
+            }
+            List<? extends Module> removedModules = change.getRemoved();
+            List<? extends Module> addedModules = change.getAddedSubList();
+            int keptCount = ModuleCodeIndex.countKeptPlaces(removedModules, addedModules);
+            isAdded |= addedModules.size() > keptCount;
+            isRemoved |= removedModules.size() > keptCount;
+        }
+
+        if (isAdded || isRemoved) {
+            searchIndex = null;
+            codePrefixIndex = null;
+            semesterIndex = null;
+            prerequisiteGraph = null;
+        }
+        // The fit index holds the classes of each module code as saved on disk, which new modules do not change
+        if (isRemoved) {
+            timetableFitIndex = null;
+        }
+    }
+
+    /**
+     * Drops the indexes built from the fields of {@code module} which differ in {@code update}.
+     */
+    private void resetIndexesChangedBy(Module module, Module update) {
+        if (!Objects.equals(module.getTitle(), update.getTitle())) {
+            searchIndex = null;
+        }
+        if (module.getSemesterBitmask() != update.getSemesterBitmask()) {
+            semesterIndex = null;
+        }
+        if (prerequisiteGraph != null && !Objects.equals(module.getCataloguePrerequisite(),
+            update.getCataloguePrerequisite())) {
+            prerequisiteGraph = null;
+        }
+    }
+
+    /**
+     * Merges {@code modules} into the list. A module already in the list takes the module information of the one
+     * with the same code, so that anything holding it sees the update, and other modules are added to the end of the
+     * list.
+     * <p>
+     * The list changes once for each merge, however many modules it updates, so that views of the list are updated
+     * once. If any module information changed, the modules are put back in their places together with the new
+     * modules, and otherwise the new modules are added. Indexes are only dropped where the fields they are built from
+     * changed.
+     * </p>
+     */
+    public synchronized void mergeModules(List<Module> modules) {
+        requireNonNull(modules);
+        List<Module> addedModules = new ArrayList<>();
+        boolean isChanged = false;
+        for (Module module : modules) {
+            Module existingModule = codeIndex.get(module.getCode()).orElse(null);
+            if (existingModule == null) {
+                addedModules.add(module);
+            } else if (!existingModule.hasSameInformation(module)) {
+                resetIndexesChangedBy(existingModule, module);
+                existingModule.mergeInformation(module);
+                isChanged = true;
+            }
+        }
+
+        if (isChanged) {
+            List<Module> mergedModules = new ArrayList<>(internalList.size() + addedModules.size());
+            mergedModules.addAll(internalList);
+            mergedModules.addAll(addedModules);
+            internalList.setAll(mergedModules);
+        } else if (!addedModules.isEmpty()) {
+            internalList.addAll(addedModules);
+        }
     }
 
     @Override
@@ -37,10 +144,71 @@ public class ModuleList implements ReadOnlyModuleList {
     }
 
     @Override
-    public Optional<Module> getListModule(String moduleCode) {
-        return internalUnmodifiableList.stream()
-            .filter(mod -> mod.getCode().equalsIgnoreCase(moduleCode))
-            .findFirst();
+    public synchronized List<Module> getModuleSnapshot() {
+        return List.copyOf(internalList);
+    }
+
+    @Override
+    public synchronized List<Module> getModulesOfferedIn(SemestersEnum semester) {
+        requireNonNull(semester);
+        // Built on first use, as only filtering by semester needs it
+        if (semesterIndex == null) {
+            Map<SemestersEnum, List<Module>> semesterModules = new EnumMap<>(SemestersEnum.class);
+            for (SemestersEnum indexedSemester : SemestersEnum.values()) {
+                semesterModules.put(indexedSemester, new ArrayList<>());
+            }
+            for (Module module : internalList) {
+                for (SemestersEnum offeredSemester : module.getSemesters()) {
+                    semesterModules.get(offeredSemester).add(module);
+                }
+            }
+            // Copied, as callers may read the lists off the JavaFX application thread
+            semesterModules.replaceAll((indexedSemester, modules) -> List.copyOf(modules));
+            semesterIndex = semesterModules;
+        }
+        return semesterIndex.get(semester);
+    }
+
+    @Override
+    public synchronized Optional<Module> getListModule(String moduleCode) {
+        return codeIndex.get(moduleCode);
+    }
+
+    @Override
+    public synchronized ModuleSearchIndex getSearchIndex() {
+        // Built on first use, as only searches need it
+        if (searchIndex == null) {
+            searchIndex = new ModuleSearchIndex(internalList);
+        }
+        return searchIndex;
+    }
+
+    @Override
+    public synchronized ModuleCodePrefixIndex getCodePrefixIndex() {
+        // Built on first use, as only listing by code prefix needs it
+        if (codePrefixIndex == null) {
+            codePrefixIndex = new ModuleCodePrefixIndex(internalList);
+        }
+        return codePrefixIndex;
+    }
+
+    @Override
+    public synchronized CompletableFuture<PrerequisiteGraph> getPrerequisiteGraph() {
+        // Built off the calling thread, as reading every prerequisite description takes a while
+        if (prerequisiteGraph == null) {
+            List<Module> modules = List.copyOf(internalList);
+            prerequisiteGraph = CompletableFuture.supplyAsync(() -> new PrerequisiteGraph(modules));
+        }
+        return prerequisiteGraph;
+    }
+
+    @Override
+    public synchronized TimetableFitIndex getTimetableFitIndex() {
+        // Filled in as modules are checked, as only filtering by timetable needs it
+        if (timetableFitIndex == null) {
+            timetableFitIndex = new TimetableFitIndex();
+        }
+        return timetableFitIndex;
     }
 
     @Override
@@ -50,14 +218,12 @@ public class ModuleList implements ReadOnlyModuleList {
 
     @Override
     public boolean hasModule(String moduleCode) {
-        return internalUnmodifiableList.stream().anyMatch(mod -> mod.getCode().equalsIgnoreCase(moduleCode));
+        return getListModule(moduleCode).isPresent();
     }
 
     @Override
     public Optional<Module> getModule(String moduleCode) {
-        return internalUnmodifiableList.stream()
-            .filter(mod -> mod.getCode().equalsIgnoreCase(moduleCode))
-            .findFirst();
+        return getListModule(moduleCode);
     }
 
     @Override
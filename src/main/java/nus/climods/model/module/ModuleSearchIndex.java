@@ -0,0 +1,249 @@
+package nus.climods.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index over the text fields of a list of modules searched by {@code find}.
+ * <p>
+ * Each field is split on whitespace into lower case tokens, and each token maps to the modules containing it. A
+ * search keyword without whitespace can only match inside a single token, so a plain keyword is resolved by merging
+ * the posting lists of the tokens containing it, without visiting any module. The tokens containing a keyword are
+ * those with a suffix starting with it, which are found as a contiguous range of the sorted suffixes of every token
+ * by binary search. Keywords using regex syntax may match across tokens, so they fall back to a scan of the modules.
+ * </p>
+ */
+public class ModuleSearchIndex {
+
+    /**
+     * Fields of a module covered by the index.
+     */
+    public enum Field {
+        CODE(Module::getCode),
+        TITLE(Module::getTitle);
+
+        private final Function<Module, String> getter;
+
+        Field(Function<Module, String> getter) {
+            this.getter = getter;
+        }
+
+        String getText(Module module) {
+            String text = getter.apply(module);
+            return text == null ? "" : text;
+        }
+    }
+
+    /**
+     * Characters with a special meaning in a regex. Keywords without any of them are plain text.
+     */
+    private static final Pattern REGEX_SYNTAX = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("\\s+");
+
+    private final List<Module> modules;
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+
+    /**
+     * The tokens of one field, each with the ids of the modules containing it, and the suffixes of the tokens in
+     * sorted order. A suffix is stored as the id of its token in the high half of a long and its offset in the token
+     * in the low half, so that no substring is copied.
+     */
+    private static class FieldIndex {
+        private final String[] tokens;
+        private final int[][] tokenModuleIds;
+        private final long[] sortedSuffixes;
+
+        FieldIndex(List<Module> modules, Field field) {
+            Map<String, List<Integer>> tokenPostings = new HashMap<>();
+            for (int i = 0; i < modules.size(); i++) {
+                int moduleId = i;
+                tokenize(field.getText(modules.get(i))).stream().distinct()
+                    .forEach(token -> tokenPostings.computeIfAbsent(token, unused -> new ArrayList<>()).add(moduleId));
+            }
+
+            tokens = tokenPostings.keySet().toArray(String[]::new);
+            tokenModuleIds = new int[tokens.length][];
+            List<Long> suffixes = new ArrayList<>();
+            for (int tokenId = 0; tokenId < tokens.length; tokenId++) {
+                tokenModuleIds[tokenId] = tokenPostings.get(tokens[tokenId]).stream().mapToInt(i -> i).toArray();
+                for (int offset = 0; offset < tokens[tokenId].length(); offset++) {
+                    suffixes.add(toSuffix(tokenId, offset));
+                }
+            }
+            suffixes.sort(this::compareSuffixes);
+            sortedSuffixes = suffixes.stream().mapToLong(suffix -> suffix).toArray();
+        }
+
+        private static long toSuffix(int tokenId, int offset) {
+            return ((long) tokenId << Integer.SIZE) | offset;
+        }
+
+        private String getToken(long suffix) {
+            return tokens[(int) (suffix >>> Integer.SIZE)];
+        }
+
+        private static int getOffset(long suffix) {
+            return (int) suffix;
+        }
+
+        private int compareSuffixes(long first, long second) {
+            String firstToken = getToken(first);
+            String secondToken = getToken(second);
+            int firstOffset = getOffset(first);
+            int secondOffset = getOffset(second);
+            int length = Math.min(firstToken.length() - firstOffset, secondToken.length() - secondOffset);
+            for (int i = 0; i < length; i++) {
+                int difference = firstToken.charAt(firstOffset + i) - secondToken.charAt(secondOffset + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return (firstToken.length() - firstOffset) - (secondToken.length() - secondOffset);
+        }
+
+        /**
+         * Compares {@code suffix} with the suffixes starting with {@code keyword}, which compare as equal.
+         */
+        private int compareWithKeyword(long suffix, String keyword) {
+            String token = getToken(suffix);
+            int offset = getOffset(suffix);
+            int length = Math.min(token.length() - offset, keyword.length());
+            for (int i = 0; i < length; i++) {
+                int difference = token.charAt(offset + i) - keyword.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return token.length() - offset < keyword.length() ? -1 : 0;
+        }
+
+        /**
+         * Returns the index of the first suffix satisfying {@code condition}, which must hold for every suffix after
+         * it.
+         */
+        private int findFirst(LongPredicate condition) {
+            int low = 0;
+            int high = sortedSuffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (condition.test(sortedSuffixes[mid])) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Marks in {@code matches} the modules with a token containing {@code keyword}.
+         */
+        void lookUp(String keyword, BitSet matches) {
+            int from = findFirst(suffix -> compareWithKeyword(suffix, keyword) >= 0);
+            int to = findFirst(suffix -> compareWithKeyword(suffix, keyword) > 0);
+            for (int i = from; i < to; i++) {
+                for (int moduleId : tokenModuleIds[(int) (sortedSuffixes[i] >>> Integer.SIZE)]) {
+                    matches.set(moduleId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the index of {@code modules}.
+     *
+     * @param modules modules to index, in list order
+     */
+    public ModuleSearchIndex(List<Module> modules) {
+        requireNonNull(modules);
+        this.modules = List.copyOf(modules);
+
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex(this.modules, field));
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+            .filter(token -> !token.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code searchRegex} is plain case insensitive ASCII text, which the index can resolve on its own.
+     */
+    static boolean isPlainKeyword(Pattern searchRegex) {
+        String keyword = searchRegex.pattern();
+        return searchRegex.flags() == Pattern.CASE_INSENSITIVE
+            && !keyword.isEmpty()
+            && keyword.chars().allMatch(c -> c < 128)
+            && !REGEX_SYNTAX.matcher(keyword).find()
+            && !TOKEN_SEPARATOR.matcher(keyword).find();
+    }
+
+    /**
+     * Returns the modules in which any of {@code fields} contains a match of any of {@code searchRegexes}.
+     * <p>
+     * This finds the same modules as testing each regex with {@link java.util.regex.Matcher#find()} on each field.
+     * </p>
+     */
+    public Set<Module> search(List<Pattern> searchRegexes, Set<Field> fields) {
+        return countMatches(searchRegexes, fields).keySet();
+    }
+
+    /**
+     * Returns the number of {@code searchRegexes} matching in any of {@code fields}, for each module matched by at
+     * least one of them.
+     * <p>
+     * The counts are computed once, so that results can be ranked without evaluating the regexes again.
+     * </p>
+     */
+    public Map<Module, Integer> countMatches(List<Pattern> searchRegexes, Set<Field> fields) {
+        int[] matchCounts = new int[modules.size()];
+        BitSet matches = new BitSet(modules.size());
+        for (Pattern searchRegex : searchRegexes) {
+            BitSet regexMatches = isPlainKeyword(searchRegex)
+                ? lookUp(searchRegex.pattern().toLowerCase(Locale.ROOT), fields)
+                : scan(searchRegex, fields);
+            regexMatches.stream().forEach(i -> matchCounts[i]++);
+            matches.or(regexMatches);
+        }
+
+        if (matches.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return matches.stream().boxed().collect(Collectors.toUnmodifiableMap(modules::get, i -> matchCounts[i]));
+    }
+
+    private BitSet lookUp(String keyword, Set<Field> fields) {
+        BitSet matches = new BitSet(modules.size());
+        for (Field field : fields) {
+            fieldIndexes.get(field).lookUp(keyword, matches);
+        }
+        return matches;
+    }
+
+    private BitSet scan(Pattern searchRegex, Set<Field> fields) {
+        BitSet matches = new BitSet(modules.size());
+        for (int i = 0; i < modules.size(); i++) {
+            Module module = modules.get(i);
+            if (fields.stream().anyMatch(field -> searchRegex.matcher(field.getText(module)).find())) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+}
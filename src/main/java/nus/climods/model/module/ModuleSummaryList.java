@@ -2,8 +2,11 @@ package nus.climods.model.module;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.openapitools.client.model.ModuleCondensed;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
 
 /**
  * All the module codes to allow for searching for modules.
@@ -20,6 +23,22 @@ public class ModuleSummaryList implements ReadOnlyModuleSummaryList {
         this.condensedModules = acadYearModuleList;
     }
 
+    /**
+     * Returns the modules in the list, each with only its code, title and semesters, until the rest of its module
+     * information is merged in.
+     */
+    @Override
+    public List<Module> toModules(String academicYear) {
+        return condensedModules.stream()
+            .map(condensedModule -> new Module(new CompactModuleInformation()
+                .moduleCode(condensedModule.getModuleCode())
+                .title(condensedModule.getTitle())
+                .semesterData(Optional.ofNullable(condensedModule.getSemesters()).orElse(List.of()).stream()
+                    .map(semester -> new ModuleInformationSemesterDataInner().semester(semester.getValue()))
+                    .collect(Collectors.toList())), academicYear))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public String toString() {
         return condensedModules.size() + " modules";
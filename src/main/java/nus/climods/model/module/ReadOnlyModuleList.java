@@ -1,8 +1,14 @@
 package nus.climods.model.module;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.openapitools.client.model.SemestersEnum;
 
 import javafx.collections.ObservableList;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+import nus.climods.model.timetable.TimetableFitIndex;
 
 
 
@@ -16,8 +22,38 @@ public interface ReadOnlyModuleList {
      */
     ObservableList<Module> getModules();
 
+    /**
+     * Returns a copy of the modules in the list, which can be read while modules are merged into the list.
+     */
+    List<Module> getModuleSnapshot();
+
+    /**
+     * Returns the modules in the list offered in {@code semester}, in list order.
+     */
+    List<Module> getModulesOfferedIn(SemestersEnum semester);
+
     Optional<Module> getListModule(String moduleCode);
 
+    /**
+     * Returns the full-text search index of the modules in the list.
+     */
+    ModuleSearchIndex getSearchIndex();
+
+    /**
+     * Returns the index of the modules in the list by code prefix.
+     */
+    ModuleCodePrefixIndex getCodePrefixIndex();
+
+    /**
+     * Returns the prerequisite graph of the modules in the list, which is built in the background on first use.
+     */
+    CompletableFuture<PrerequisiteGraph> getPrerequisiteGraph();
+
+    /**
+     * Returns the index of the class times of the modules in the list, for finding those fitting a timetable.
+     */
+    TimetableFitIndex getTimetableFitIndex();
+
     boolean isEmpty();
 
     boolean hasModule(String moduleCode);
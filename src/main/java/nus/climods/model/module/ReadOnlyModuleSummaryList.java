@@ -10,4 +10,9 @@ import org.openapitools.client.model.ModuleCondensed;
 public interface ReadOnlyModuleSummaryList {
 
     List<ModuleCondensed> getModuleList();
+
+    /**
+     * Returns a module for each entry of the list, in {@code academicYear}, with the fields the list has.
+     */
+    List<Module> toModules(String academicYear);
 }
@@ -0,0 +1,101 @@
+package nus.climods.model.module;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemestersEnum;
+
+/**
+ * Encodes the semesters a module is offered in as the bits of an int, bit {@code n} standing for semester number
+ * {@code n} as numbered by NUSMods.
+ */
+public class SemesterBitmask {
+
+    public static final int NONE = 0;
+
+    /**
+     * The highest semester number a bitmask can hold.
+     */
+    public static final int MAX_SEMESTER = Integer.SIZE - 1;
+
+    private static final int ALL_SEMESTERS = of(SemestersEnum.values());
+
+    // The semesters of each bitmask of SemestersEnum, indexed by the bitmask shifted down past the unused bit 0
+    private static final List<List<SemestersEnum>> SEMESTER_LISTS = new ArrayList<>();
+
+    static {
+        int semesterBits = ALL_SEMESTERS >>> 1;
+        for (int bits = 0; bits <= semesterBits; bits++) {
+            List<SemestersEnum> semesters = new ArrayList<>();
+            for (SemestersEnum semester : SemestersEnum.values()) {
+                if (contains(bits << 1, semester)) {
+                    semesters.add(semester);
+                }
+            }
+            SEMESTER_LISTS.add(List.copyOf(semesters));
+        }
+    }
+
+    private SemesterBitmask() {
+    }
+
+    /**
+     * Returns the bitmask of the semesters in {@code semesterData}, leaving out those without a whole semester number
+     * from 1 to {@link #MAX_SEMESTER}.
+     */
+    public static int of(List<ModuleInformationSemesterDataInner> semesterData) {
+        int semesters = NONE;
+        if (semesterData == null) {
+            return semesters;
+        }
+        for (ModuleInformationSemesterDataInner semester : semesterData) {
+            BigDecimal number = semester.getSemester();
+            if (number != null && number.signum() > 0 && number.compareTo(BigDecimal.valueOf(MAX_SEMESTER)) <= 0
+                && number.stripTrailingZeros().scale() <= 0) {
+                semesters |= 1 << number.intValue();
+            }
+        }
+        return semesters;
+    }
+
+    /**
+     * Returns the semester data of the semesters in {@code semesters}, in order of semester number.
+     */
+    public static List<ModuleInformationSemesterDataInner> toSemesterData(int semesters) {
+        List<ModuleInformationSemesterDataInner> semesterData = new ArrayList<>(Integer.bitCount(semesters));
+        for (int semester = 1; semester <= MAX_SEMESTER; semester++) {
+            if ((semesters & (1 << semester)) != 0) {
+                semesterData.add(new ModuleInformationSemesterDataInner().semester(BigDecimal.valueOf(semester)));
+            }
+        }
+        return semesterData;
+    }
+
+    /**
+     * Returns the bitmask of {@code semesters}.
+     */
+    public static int of(SemestersEnum... semesters) {
+        int bitmask = NONE;
+        for (SemestersEnum semester : semesters) {
+            bitmask |= 1 << semester.getValue().intValue();
+        }
+        return bitmask;
+    }
+
+    /**
+     * Returns true if {@code semesters} holds {@code semester}.
+     */
+    public static boolean contains(int semesters, SemestersEnum semester) {
+        return (semesters & (1 << semester.getValue().intValue())) != 0;
+    }
+
+    /**
+     * Returns the semesters in {@code semesters} that are in {@link SemestersEnum}, in order. The list is shared by
+     * every caller, and cannot be modified.
+     */
+    public static List<SemestersEnum> toSemesters(int semesters) {
+        return SEMESTER_LISTS.get((semesters & ALL_SEMESTERS) >>> 1);
+    }
+}
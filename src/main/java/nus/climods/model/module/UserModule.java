@@ -1,6 +1,7 @@
 package nus.climods.model.module;
 
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.openapitools.client.model.SemestersEnum;
@@ -82,6 +83,17 @@ public class UserModule {
         return lessons;
     }
 
+    /**
+     * Returns the class number of the lesson of {@code lessonType} picked, if any.
+     *
+     * @param lessonType lesson type
+     * @return class number of the picked lesson
+     */
+    public Optional<String> getLessonId(LessonTypeEnum lessonType) {
+        // Lessons are stored as the class number followed by the lesson timings on the next lines
+        return Optional.ofNullable(lessons.get(lessonType)).map(lessonInfo -> lessonInfo.split("\n", 2)[0]);
+    }
+
     /**
      * Add a lesson to module
      *
@@ -1,24 +1,47 @@
 package nus.climods.model.module.comparator;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
 
 import nus.climods.model.module.Module;
 
 /**
  * A comparator to sort modules based on keyword matches
+ * <p>
+ * The number of matches of each module is computed at most once per comparator, so sorting does not evaluate the
+ * keywords again on every comparison.
+ * </p>
  */
 public class ModuleBestMatchKeywordComparator implements Comparator<Module> {
 
-    private final List<Pattern> searchRegexes;
+    private final Map<Module, Long> keywordNumMatches = new HashMap<>();
+    private final ToLongFunction<Module> keywordNumMatchesCounter;
 
+    /**
+     * Creates a comparator that counts the keyword matches of each module when first compared.
+     *
+     * @param searchRegexes keywords searched for
+     */
     public ModuleBestMatchKeywordComparator(List<Pattern> searchRegexes) {
-        this.searchRegexes = searchRegexes;
+        keywordNumMatchesCounter = module -> searchRegexes.stream().filter(module::containsKeyword).count();
+    }
+
+    /**
+     * Creates a comparator from precomputed keyword match counts, e.g. from a
+     * {@link nus.climods.model.module.ModuleSearchIndex}. Modules without a count have no matches.
+     *
+     * @param keywordNumMatches number of keywords matched by each module
+     */
+    public ModuleBestMatchKeywordComparator(Map<Module, Integer> keywordNumMatches) {
+        keywordNumMatchesCounter = module -> keywordNumMatches.getOrDefault(module, 0);
     }
 
     private long getKeywordNumMatches(Module module) {
-        return searchRegexes.stream().filter(module::containsKeyword).count();
+        return keywordNumMatches.computeIfAbsent(module, keywordNumMatchesCounter::applyAsLong);
     }
 
     /**
@@ -1,6 +1,7 @@
 package nus.climods.model.module.predicate;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -12,20 +13,38 @@ import nus.climods.model.module.Module;
 public class CodeContainsKeywordsPredicate implements Predicate<Module> {
 
     private final Optional<String> facultyCode;
+    private final Optional<Pattern> facultyCodeRegex;
+    private final Set<Module> facultyModules;
 
     /**
      * Makes a predicate testing {@code Module} for
      * @param facultyCode
      */
     public CodeContainsKeywordsPredicate(Optional<String> facultyCode) {
+        this(facultyCode, null);
+    }
+
+    /**
+     * Creates a predicate for modules already known to belong to {@code facultyCode}, e.g. from a
+     * {@link nus.climods.model.module.ModuleCodePrefixIndex}, so that no regex is evaluated when testing a module.
+     *
+     * @param facultyCode    faculty code listed
+     * @param facultyModules modules of the faculty
+     */
+    public CodeContainsKeywordsPredicate(Optional<String> facultyCode, Set<Module> facultyModules) {
         this.facultyCode = facultyCode;
+        // Compiled once here rather than for every module tested
+        this.facultyCodeRegex = facultyCode.map(code -> Pattern.compile(String.format("^(?i)%s\\d{4}$", code)));
+        this.facultyModules = facultyModules;
     }
 
     @Override
     public boolean test(Module module) {
-        if (facultyCode.isPresent()) {
-            Pattern facultyCodeRegex = Pattern.compile(String.format("^(?i)%s\\d{4}$", facultyCode.get()));
-            return facultyCodeRegex.matcher(module.getCode()).find();
+        if (facultyModules != null) {
+            return facultyModules.contains(module);
+        }
+        if (facultyCodeRegex.isPresent()) {
+            return facultyCodeRegex.get().matcher(module.getCode()).find();
         }
         return true;
     }
@@ -1,6 +1,7 @@
 package nus.climods.model.module.predicate;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -12,13 +13,29 @@ import nus.climods.model.module.Module;
 public class ModuleContainsKeywordsPredicate implements Predicate<Module> {
 
     private final List<Pattern> searchRegexes;
+    private final Set<Module> matchingModules;
 
     public ModuleContainsKeywordsPredicate(List<Pattern> searchRegexes) {
+        this(searchRegexes, null);
+    }
+
+    /**
+     * Creates a predicate for modules already known to match {@code searchRegexes}, e.g. from a
+     * {@link nus.climods.model.module.ModuleSearchIndex}, so that no regex is evaluated when testing a module.
+     *
+     * @param searchRegexes   keywords searched for
+     * @param matchingModules modules matching any of the keywords
+     */
+    public ModuleContainsKeywordsPredicate(List<Pattern> searchRegexes, Set<Module> matchingModules) {
         this.searchRegexes = searchRegexes;
+        this.matchingModules = matchingModules;
     }
 
     @Override
     public boolean test(Module module) {
+        if (matchingModules != null) {
+            return matchingModules.contains(module);
+        }
         return searchRegexes.stream().anyMatch(module::containsKeyword);
     }
 
@@ -0,0 +1,36 @@
+package nus.climods.model.module.prerequisite;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Numbers upper case module codes densely from 0, so that a set of modules is a bitset of their numbers.
+ */
+public class ModuleIds {
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Returns the number of {@code moduleCode}, ignoring case, numbering it if it has none yet.
+     */
+    public static int getId(String moduleCode) {
+        requireNonNull(moduleCode);
+        return ids.computeIfAbsent(moduleCode.toUpperCase(Locale.ROOT), code -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns the bitset of the numbers of {@code moduleCodes}.
+     */
+    public static BitSet toBitSet(Collection<String> moduleCodes) {
+        BitSet bitSet = new BitSet();
+        moduleCodes.forEach(moduleCode -> bitSet.set(getId(moduleCode)));
+        return bitSet;
+    }
+}
@@ -0,0 +1,259 @@
+package nus.climods.model.module.prerequisite;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import nus.climods.model.module.Module;
+
+/**
+ * The prerequisites of every module in a module list, as a graph from each module to the modules named in its
+ * prerequisite description in the catalogue, and back.
+ * <p>
+ * Modules are numbered by their position in the list, and the prerequisites and dependents of each are held as arrays
+ * of those numbers. As descriptions can name modules as alternatives to each other, the graph may have cycles, so its
+ * strongly connected components are found once on construction. The prerequisites reachable from each component are
+ * memoised the first time they are asked for, so that deep queries sharing part of their chains only walk it once.
+ * </p>
+ */
+public class PrerequisiteGraph {
+
+    private final List<String> moduleCodes;
+    private final Map<String, Integer> moduleNumbers = new HashMap<>();
+    private final List<Optional<PrerequisiteTree>> prerequisiteTrees;
+    private final int[][] prerequisites;
+    private final int[][] dependents;
+    private final int[] components;
+    private final int[][] componentMembers;
+    private final BitSet[] componentClosures;
+
+    /**
+     * Builds the graph of {@code modules}, parsing their prerequisite descriptions in parallel.
+     */
+    public PrerequisiteGraph(List<Module> modules) {
+        requireNonNull(modules);
+        moduleCodes = modules.stream()
+            .map(module -> module.getCode() == null ? "" : normaliseCode(module.getCode()))
+            .collect(Collectors.toList());
+        for (int i = 0; i < moduleCodes.size(); i++) {
+            // The first module with a code wins, as in the module list
+            moduleNumbers.putIfAbsent(moduleCodes.get(i), i);
+        }
+
+        prerequisiteTrees = modules.parallelStream()
+            .map(module -> PrerequisiteTree.parseDescription(module.getCataloguePrerequisite()))
+            .collect(Collectors.toList());
+        prerequisites = IntStream.range(0, modules.size()).parallel()
+            .mapToObj(i -> toModuleNumbers(prerequisiteTrees.get(i).map(PrerequisiteTree::getModuleCodes)
+                .orElse(List.of()), i))
+            .toArray(int[][]::new);
+        dependents = findDependents();
+        components = findComponents();
+
+        int componentCount = Arrays.stream(components).max().orElse(-1) + 1;
+        List<List<Integer>> members = new ArrayList<>();
+        IntStream.range(0, componentCount).forEach(component -> members.add(new ArrayList<>()));
+        for (int i = 0; i < components.length; i++) {
+            members.get(components[i]).add(i);
+        }
+        componentMembers = members.stream()
+            .map(component -> component.stream().mapToInt(Integer::intValue).toArray())
+            .toArray(int[][]::new);
+        componentClosures = new BitSet[componentCount];
+    }
+
+    private static String normaliseCode(String moduleCode) {
+        return moduleCode.toUpperCase(Locale.ROOT);
+    }
+
+    private int[] toModuleNumbers(List<String> codes, int moduleNumber) {
+        return codes.stream()
+            .map(code -> moduleNumbers.get(normaliseCode(code)))
+            .filter(number -> number != null && number != moduleNumber)
+            .mapToInt(Integer::intValue)
+            .distinct()
+            .toArray();
+    }
+
+    private int[][] findDependents() {
+        int[] dependentCounts = new int[prerequisites.length];
+        Arrays.stream(prerequisites).flatMapToInt(Arrays::stream)
+            .forEach(prerequisite -> dependentCounts[prerequisite]++);
+        int[][] foundDependents = new int[prerequisites.length][];
+        for (int i = 0; i < prerequisites.length; i++) {
+            foundDependents[i] = new int[dependentCounts[i]];
+            dependentCounts[i] = 0;
+        }
+        // Modules are visited in order, so the dependents of each are in module list order
+        for (int module = 0; module < prerequisites.length; module++) {
+            for (int prerequisite : prerequisites[module]) {
+                foundDependents[prerequisite][dependentCounts[prerequisite]++] = module;
+            }
+        }
+        return foundDependents;
+    }
+
+    /**
+     * Numbers the strongly connected components of the graph with Tarjan's algorithm, walking it with explicit stacks.
+     * A component is numbered only after every component it reaches, so prerequisites have lower numbers.
+     */
+    private int[] findComponents() {
+        int moduleCount = prerequisites.length;
+        int[] visitOrder = new int[moduleCount];
+        Arrays.fill(visitOrder, -1);
+        int[] lowLinks = new int[moduleCount];
+        int[] nextEdges = new int[moduleCount];
+        boolean[] isOnStack = new boolean[moduleCount];
+        int[] stack = new int[moduleCount];
+        int[] path = new int[moduleCount];
+        int[] foundComponents = new int[moduleCount];
+        int stackSize = 0;
+        int visitCount = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < moduleCount; root++) {
+            if (visitOrder[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            path[0] = root;
+            visitOrder[root] = lowLinks[root] = visitCount++;
+            stack[stackSize++] = root;
+            isOnStack[root] = true;
+
+            while (depth >= 0) {
+                int module = path[depth];
+                if (nextEdges[module] < prerequisites[module].length) {
+                    int prerequisite = prerequisites[module][nextEdges[module]++];
+                    if (visitOrder[prerequisite] < 0) {
+                        visitOrder[prerequisite] = lowLinks[prerequisite] = visitCount++;
+                        stack[stackSize++] = prerequisite;
+                        isOnStack[prerequisite] = true;
+                        path[++depth] = prerequisite;
+                    } else if (isOnStack[prerequisite]) {
+                        lowLinks[module] = Math.min(lowLinks[module], visitOrder[prerequisite]);
+                    }
+                    continue;
+                }
+
+                if (lowLinks[module] == visitOrder[module]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        isOnStack[member] = false;
+                        foundComponents[member] = componentCount;
+                    } while (member != module);
+                    componentCount++;
+                }
+                depth--;
+                if (depth >= 0) {
+                    lowLinks[path[depth]] = Math.min(lowLinks[path[depth]], lowLinks[module]);
+                }
+            }
+        }
+        return foundComponents;
+    }
+
+    /**
+     * Returns the modules reachable from the members of {@code component}, including its own members if it is a cycle.
+     */
+    private BitSet getComponentClosure(int component) {
+        if (componentClosures[component] != null) {
+            return componentClosures[component];
+        }
+
+        BitSet closure = new BitSet();
+        if (componentMembers[component].length > 1) {
+            Arrays.stream(componentMembers[component]).forEach(closure::set);
+        }
+        for (int member : componentMembers[component]) {
+            for (int prerequisite : prerequisites[member]) {
+                int prerequisiteComponent = components[prerequisite];
+                if (prerequisiteComponent != component && !closure.get(prerequisite)) {
+                    // Prerequisite components have lower numbers, so this recurses at most as deep as the chain
+                    Arrays.stream(componentMembers[prerequisiteComponent]).forEach(closure::set);
+                    closure.or(getComponentClosure(prerequisiteComponent));
+                }
+            }
+        }
+        componentClosures[component] = closure;
+        return closure;
+    }
+
+    /**
+     * Returns the codes of the modules {@code moduleCode} names as prerequisites, in module list order.
+     */
+    public List<String> getPrerequisiteCodes(String moduleCode) {
+        Integer moduleNumber = moduleNumbers.get(normaliseCode(moduleCode));
+        if (moduleNumber == null) {
+            return List.of();
+        }
+        return Arrays.stream(prerequisites[moduleNumber]).sorted().mapToObj(moduleCodes::get)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the codes of the modules in the prerequisite chain of {@code moduleCode}: its prerequisites, theirs, and
+     * so on, in module list order.
+     */
+    public synchronized List<String> getAllPrerequisiteCodes(String moduleCode) {
+        Integer moduleNumber = moduleNumbers.get(normaliseCode(moduleCode));
+        if (moduleNumber == null) {
+            return List.of();
+        }
+        BitSet closure = (BitSet) getComponentClosure(components[moduleNumber]).clone();
+        closure.clear(moduleNumber);
+        return closure.stream().mapToObj(moduleCodes::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the codes of the modules which name {@code moduleCode} as a prerequisite, in module list order.
+     */
+    public List<String> getDependentCodes(String moduleCode) {
+        Integer moduleNumber = moduleNumbers.get(normaliseCode(moduleCode));
+        if (moduleNumber == null) {
+            return List.of();
+        }
+        return Arrays.stream(dependents[moduleNumber]).mapToObj(moduleCodes::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the codes of the modules, apart from {@code takenModuleCodes}, which name one of them as a prerequisite
+     * and whose prerequisites they meet, in module list order.
+     */
+    public List<String> getEligibleModuleCodes(Collection<String> takenModuleCodes) {
+        BitSet takenModuleNumbers = new BitSet();
+        BitSet candidates = new BitSet();
+        for (String moduleCode : takenModuleCodes) {
+            Integer moduleNumber = moduleNumbers.get(normaliseCode(moduleCode));
+            if (moduleNumber != null) {
+                takenModuleNumbers.set(moduleNumber);
+                Arrays.stream(dependents[moduleNumber]).forEach(candidates::set);
+            }
+        }
+        candidates.andNot(takenModuleNumbers);
+
+        BitSet takenModuleIds = ModuleIds.toBitSet(takenModuleCodes);
+        return candidates.stream().parallel()
+            .filter(candidate -> prerequisiteTrees.get(candidate).get().isSatisfiedBy(takenModuleIds))
+            .mapToObj(moduleCodes::get)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of modules in the graph.
+     */
+    public int size() {
+        return moduleCodes.size();
+    }
+}
@@ -0,0 +1,261 @@
+package nus.climods.model.module.prerequisite;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openapitools.client.model.PrereqTree;
+import org.openapitools.client.model.PrereqTreeOneOf;
+import org.openapitools.client.model.PrereqTreeOneOf1;
+
+/**
+ * The prerequisites of a module as a tree of modules, all of or one of which must be taken.
+ * <p>
+ * Modules are held as their {@link ModuleIds} numbers, and the modules directly under a node as a bitset of them, so
+ * whether a set of taken modules meets a node is a few word operations on its bitset, plus a check of each subtree.
+ * </p>
+ */
+public class PrerequisiteTree {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final Pattern DESCRIPTION_TOKEN_PATTERN =
+        Pattern.compile("[A-Z]{2,4}\\d{4}[A-Z]{0,5}\\d{0,2}|\\b(?i:and|or)\\b|[()]");
+
+    private final boolean isAllRequired;
+    private final BitSet moduleIds;
+    private final List<String> moduleCodes;
+    private final List<PrerequisiteTree> subtrees;
+
+    private PrerequisiteTree(boolean isAllRequired, List<String> moduleCodes, List<PrerequisiteTree> subtrees) {
+        this.isAllRequired = isAllRequired;
+        this.moduleCodes = Collections.unmodifiableList(moduleCodes);
+        this.moduleIds = ModuleIds.toBitSet(moduleCodes);
+        this.subtrees = Collections.unmodifiableList(subtrees);
+    }
+
+    /**
+     * Returns the tree of {@code prereqTree}, as given by NUSMods, or an empty Optional if it holds no module.
+     */
+    public static Optional<PrerequisiteTree> of(PrereqTree prereqTree) {
+        if (prereqTree == null || prereqTree.getActualInstance() == null) {
+            return Optional.empty();
+        }
+
+        Object node = prereqTree.getActualInstance();
+        if (node instanceof String) {
+            String moduleCode = ((String) node).trim().toUpperCase(Locale.ROOT);
+            return moduleCode.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new PrerequisiteTree(true, List.of(moduleCode), List.of()));
+        }
+        if (node instanceof PrereqTreeOneOf1) {
+            return of(true, ((PrereqTreeOneOf1) node).getAnd());
+        }
+        return of(false, ((PrereqTreeOneOf) node).getOr());
+    }
+
+    private static Optional<PrerequisiteTree> of(boolean isAllRequired, List<PrereqTree> children) {
+        List<PrerequisiteTree> childTrees = new ArrayList<>();
+        for (PrereqTree child : children == null ? List.<PrereqTree>of() : children) {
+            of(child).ifPresent(childTrees::add);
+        }
+        return combine(isAllRequired, childTrees);
+    }
+
+    /**
+     * Returns the tree of the module codes in a prerequisite description, such as "CS2030 and (CS2040 or CS2040C)", or
+     * an empty Optional if it names no module.
+     * <p>
+     * "and" binds tighter than "or", codes with no word between them are alternatives, as in "CS1010, CS1101S or
+     * CS1010E", and any other words are ignored.
+     * </p>
+     */
+    public static Optional<PrerequisiteTree> parseDescription(String description) {
+        if (description == null) {
+            return Optional.empty();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        int depth = 0;
+        Matcher matcher = DESCRIPTION_TOKEN_PATTERN.matcher(description);
+        while (matcher.find()) {
+            String token = matcher.group().toLowerCase(Locale.ROOT);
+            if (token.equals(")") && depth == 0) {
+                // Unmatched, as in "1)" of a numbered list
+                continue;
+            }
+            depth += token.equals("(") ? 1 : token.equals(")") ? -1 : 0;
+            tokens.add(token.equals(AND) || token.equals(OR) ? token : token.toUpperCase(Locale.ROOT));
+        }
+        return new DescriptionParser(tokens).parseAnyOf();
+    }
+
+    private static Optional<PrerequisiteTree> combine(boolean isAllRequired, List<PrerequisiteTree> children) {
+        List<String> moduleCodes = new ArrayList<>();
+        List<PrerequisiteTree> subtrees = new ArrayList<>();
+        for (PrerequisiteTree child : children) {
+            if (child.isSingleModule()) {
+                moduleCodes.add(child.moduleCodes.get(0));
+            } else if (child.isAllRequired == isAllRequired) {
+                // All of (all of ...) is all of ..., and one of (one of ...) is one of ...
+                moduleCodes.addAll(child.moduleCodes);
+                subtrees.addAll(child.subtrees);
+            } else {
+                subtrees.add(child);
+            }
+        }
+
+        if (moduleCodes.isEmpty() && subtrees.isEmpty()) {
+            return Optional.empty();
+        }
+        if (moduleCodes.isEmpty() && subtrees.size() == 1) {
+            return Optional.of(subtrees.get(0));
+        }
+        return Optional.of(new PrerequisiteTree(isAllRequired, moduleCodes, subtrees));
+    }
+
+    private boolean isSingleModule() {
+        return moduleCodes.size() == 1 && subtrees.isEmpty();
+    }
+
+    /**
+     * Returns true if the modules numbered in {@code takenModuleIds}, as by {@link ModuleIds}, meet the prerequisites.
+     */
+    public boolean isSatisfiedBy(BitSet takenModuleIds) {
+        requireNonNull(takenModuleIds);
+        if (isAllRequired) {
+            for (int id = moduleIds.nextSetBit(0); id >= 0; id = moduleIds.nextSetBit(id + 1)) {
+                if (!takenModuleIds.get(id)) {
+                    return false;
+                }
+            }
+            return subtrees.stream().allMatch(subtree -> subtree.isSatisfiedBy(takenModuleIds));
+        }
+        return moduleIds.intersects(takenModuleIds)
+            || subtrees.stream().anyMatch(subtree -> subtree.isSatisfiedBy(takenModuleIds));
+    }
+
+    /**
+     * Returns the codes of every module in the tree, in the order they appear.
+     */
+    public List<String> getModuleCodes() {
+        Set<String> allModuleCodes = new LinkedHashSet<>();
+        addModuleCodes(allModuleCodes);
+        return new ArrayList<>(allModuleCodes);
+    }
+
+    private void addModuleCodes(Set<String> allModuleCodes) {
+        allModuleCodes.addAll(moduleCodes);
+        subtrees.forEach(subtree -> subtree.addModuleCodes(allModuleCodes));
+    }
+
+    public boolean isAllRequired() {
+        return isAllRequired;
+    }
+
+    /**
+     * Returns the codes of the modules directly under the root, apart from those in subtrees.
+     */
+    public List<String> getRootModuleCodes() {
+        return moduleCodes;
+    }
+
+    public List<PrerequisiteTree> getSubtrees() {
+        return subtrees;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PrerequisiteTree)) {
+            return false;
+        }
+
+        PrerequisiteTree otherTree = (PrerequisiteTree) other;
+        return isAllRequired == otherTree.isAllRequired && moduleCodes.equals(otherTree.moduleCodes)
+            && subtrees.equals(otherTree.subtrees);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isAllRequired, moduleCodes, subtrees);
+    }
+
+    /**
+     * Returns the tree as an expression, e.g. "CS1231 and (CS1010S or CS1010X)".
+     */
+    @Override
+    public String toString() {
+        List<String> operands = new ArrayList<>(moduleCodes);
+        subtrees.forEach(subtree -> operands.add("(" + subtree + ")"));
+        return String.join(isAllRequired ? " and " : " or ", operands);
+    }
+
+    /**
+     * Parses the tokens of a prerequisite description, skipping operators with a missing operand.
+     */
+    private static class DescriptionParser {
+
+        private final List<String> tokens;
+        private int position;
+
+        DescriptionParser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext(String token) {
+            return position < tokens.size() && tokens.get(position).equals(token);
+        }
+
+        Optional<PrerequisiteTree> parseAnyOf() {
+            List<PrerequisiteTree> operands = new ArrayList<>();
+            while (position < tokens.size() && !hasNext(")")) {
+                if (hasNext(OR) || hasNext(AND)) {
+                    position++;
+                    continue;
+                }
+                parseAllOf().ifPresent(operands::add);
+            }
+            return combine(false, operands);
+        }
+
+        private Optional<PrerequisiteTree> parseAllOf() {
+            List<PrerequisiteTree> operands = new ArrayList<>();
+            parseOperand().ifPresent(operands::add);
+            while (hasNext(AND)) {
+                position++;
+                parseOperand().ifPresent(operands::add);
+            }
+            return combine(true, operands);
+        }
+
+        private Optional<PrerequisiteTree> parseOperand() {
+            if (position == tokens.size() || hasNext(")") || hasNext(AND) || hasNext(OR)) {
+                return Optional.empty();
+            }
+            String token = tokens.get(position++);
+            if (!token.equals("(")) {
+                return Optional.of(new PrerequisiteTree(true, List.of(token), List.of()));
+            }
+            Optional<PrerequisiteTree> tree = parseAnyOf();
+            if (hasNext(")")) {
+                position++;
+            }
+            return tree;
+        }
+    }
+}
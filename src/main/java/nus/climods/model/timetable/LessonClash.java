@@ -0,0 +1,60 @@
+package nus.climods.model.timetable;
+
+import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A clash between a class being added to a timetable and a class already in it.
+ */
+public class LessonClash {
+
+    private final TimetableEntry entry;
+    private final TimetableEntry clashingEntry;
+    private final LessonSlot clashingSlot;
+
+    /**
+     * Creates a lesson clash.
+     *
+     * @param entry         class being added
+     * @param clashingEntry class already in the timetable
+     * @param clashingSlot  slot of {@code clashingEntry} which clashes with {@code entry}
+     */
+    public LessonClash(TimetableEntry entry, TimetableEntry clashingEntry, LessonSlot clashingSlot) {
+        requireAllNonNull(entry, clashingEntry, clashingSlot);
+        this.entry = entry;
+        this.clashingEntry = clashingEntry;
+        this.clashingSlot = clashingSlot;
+    }
+
+    public TimetableEntry getEntry() {
+        return entry;
+    }
+
+    public TimetableEntry getClashingEntry() {
+        return clashingEntry;
+    }
+
+    public LessonSlot getClashingSlot() {
+        return clashingSlot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof LessonClash
+            && entry.equals(((LessonClash) other).entry)
+            && clashingEntry.equals(((LessonClash) other).clashingEntry)
+            && clashingSlot.equals(((LessonClash) other).clashingSlot));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entry, clashingEntry, clashingSlot);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s clashes with %s (%s)", entry, clashingEntry, clashingSlot);
+    }
+}
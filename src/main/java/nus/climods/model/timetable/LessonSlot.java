@@ -0,0 +1,183 @@
+package nus.climods.model.timetable;
+
+import static nus.climods.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.LessonWeeks;
+
+/**
+ * A weekly time slot of a lesson, reduced to the day, the start and end minutes of the day, and a bitmask of the
+ * weeks it runs in.
+ */
+public class LessonSlot {
+
+    public static final int MINUTES_PER_UNIT = 5;
+    public static final int UNITS_PER_DAY = 24 * 60 / MINUTES_PER_UNIT;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int MAX_WEEK = Long.SIZE;
+
+    /**
+     * Weeks 1 to 13, assumed for lessons which give their weeks as a date range or not at all.
+     */
+    public static final long TEACHING_WEEKS = (1L << 13) - 1;
+
+    private static final Pattern TIME_FORMAT = Pattern.compile("\\d{4}");
+
+    private final int day;
+    private final int startMinute;
+    private final int endMinute;
+    private final long weeks;
+
+    /**
+     * Creates a lesson slot.
+     *
+     * @param day         day of the week, from 0 for Monday to 6 for Sunday
+     * @param startMinute minute of the day the lesson starts at
+     * @param endMinute   minute of the day the lesson ends at, after {@code startMinute}
+     * @param weeks       weeks the lesson runs in, with bit {@code i} set for week {@code i + 1}
+     */
+    public LessonSlot(int day, int startMinute, int endMinute, long weeks) {
+        checkArgument(day >= 0 && day < DAYS_PER_WEEK, "Invalid day: " + day);
+        checkArgument(startMinute >= 0 && startMinute < endMinute && endMinute <= 24 * 60,
+            "Invalid lesson time: " + startMinute + "-" + endMinute);
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.weeks = weeks;
+    }
+
+    /**
+     * Returns the slot of {@code lesson}, or an empty Optional if its day or time cannot be read.
+     */
+    public static Optional<LessonSlot> of(Lesson lesson) {
+        return of(lesson.getDay(), lesson.getStartTime(), lesson.getEndTime(), lesson.getWeeks());
+    }
+
+    /**
+     * Returns the slot of a lesson on {@code day} from {@code startTime} to {@code endTime} in {@code weeks}, as given
+     * by NUSMods, or an empty Optional if its day or time cannot be read.
+     */
+    public static Optional<LessonSlot> of(String day, String startTime, String endTime, LessonWeeks weeks) {
+        Optional<Integer> parsedDay = parseDay(day);
+        Optional<Integer> startMinute = parseTime(startTime);
+        Optional<Integer> endMinute = parseTime(endTime);
+        if (parsedDay.isEmpty() || startMinute.isEmpty() || endMinute.isEmpty()
+            || startMinute.get() >= endMinute.get()) {
+            return Optional.empty();
+        }
+        return Optional.of(new LessonSlot(parsedDay.get(), startMinute.get(), endMinute.get(), parseWeeks(weeks)));
+    }
+
+    private static Optional<Integer> parseDay(String day) {
+        if (day == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).ordinal());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Integer> parseTime(String time) {
+        if (time == null || !TIME_FORMAT.matcher(time).matches()) {
+            return Optional.empty();
+        }
+        int minute = Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+        return minute <= 24 * 60 ? Optional.of(minute) : Optional.empty();
+    }
+
+    private static long parseWeeks(LessonWeeks lessonWeeks) {
+        if (lessonWeeks == null || !(lessonWeeks.getActualInstance() instanceof List)) {
+            return TEACHING_WEEKS;
+        }
+
+        long weeks = 0;
+        for (BigDecimal week : lessonWeeks.getList()) {
+            int weekNumber = week.intValue();
+            if (weekNumber >= 1 && weekNumber <= MAX_WEEK) {
+                weeks |= 1L << (weekNumber - 1);
+            }
+        }
+        return weeks == 0 ? TEACHING_WEEKS : weeks;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public long getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Returns the first time unit of the day the slot occupies.
+     */
+    public int getStartUnit() {
+        return startMinute / MINUTES_PER_UNIT;
+    }
+
+    /**
+     * Returns the time unit of the day after the last one the slot occupies.
+     */
+    public int getEndUnit() {
+        return (endMinute + MINUTES_PER_UNIT - 1) / MINUTES_PER_UNIT;
+    }
+
+    /**
+     * Returns true if both slots are on the same day of a common week, and overlap in time.
+     */
+    public boolean clashesWith(LessonSlot other) {
+        return day == other.day
+            && (weeks & other.weeks) != 0
+            && startMinute < other.endMinute
+            && other.startMinute < endMinute;
+    }
+
+    private static String formatTime(int minute) {
+        return String.format("%02d%02d", minute / 60, minute % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LessonSlot)) {
+            return false;
+        }
+
+        LessonSlot otherSlot = (LessonSlot) other;
+        return day == otherSlot.day && startMinute == otherSlot.startMinute && endMinute == otherSlot.endMinute
+            && weeks == otherSlot.weeks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, startMinute, endMinute, weeks);
+    }
+
+    @Override
+    public String toString() {
+        String dayName = DayOfWeek.values()[day].name();
+        return String.format("%s%s %s-%s", dayName.charAt(0), dayName.substring(1).toLowerCase(Locale.ROOT),
+            formatTime(startMinute), formatTime(endMinute));
+    }
+}
@@ -0,0 +1,178 @@
+package nus.climods.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The classes of a semester in a user's timetable, with a bitmap of the time they occupy.
+ * <p>
+ * Each bit of the bitmap is a {@value LessonSlot#MINUTES_PER_UNIT} minute unit of a day of a week, so whether a slot
+ * is free is found by checking its range of units in each of its weeks, however many classes the timetable holds.
+ * The classes occupying a slot are only looked for once the bitmap shows a clash.
+ * </p>
+ */
+public class Timetable {
+
+    private static final int UNITS_PER_WEEK = LessonSlot.DAYS_PER_WEEK * LessonSlot.UNITS_PER_DAY;
+
+    private final List<TimetableEntry> entries = new ArrayList<>();
+    private final BitSet occupancy = new BitSet();
+
+    public Timetable() {
+    }
+
+    /**
+     * Creates a timetable holding {@code entries}.
+     */
+    public Timetable(Collection<TimetableEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}, which changes to either timetable leave the other unchanged.
+     */
+    public Timetable(Timetable toBeCopied) {
+        entries.addAll(toBeCopied.entries);
+        occupancy.or(toBeCopied.occupancy);
+    }
+
+    /**
+     * Returns the bit of the first unit of {@code slot} in week {@code week}, counted from 0.
+     */
+    private static int getStartBit(LessonSlot slot, int week) {
+        return week * UNITS_PER_WEEK + slot.getDay() * LessonSlot.UNITS_PER_DAY + slot.getStartUnit();
+    }
+
+    /**
+     * Sets the bits of the units occupied by {@code slot} in {@code bitmap}.
+     */
+    public static void mark(BitSet bitmap, LessonSlot slot) {
+        int length = slot.getEndUnit() - slot.getStartUnit();
+        for (long weeks = slot.getWeeks(); weeks != 0; weeks &= weeks - 1) {
+            int startBit = getStartBit(slot, Long.numberOfTrailingZeros(weeks));
+            bitmap.set(startBit, startBit + length);
+        }
+    }
+
+    /**
+     * Returns the bitmap of the units occupied by {@code slots}.
+     */
+    public static BitSet toBitmap(Collection<LessonSlot> slots) {
+        BitSet bitmap = new BitSet();
+        slots.forEach(slot -> mark(bitmap, slot));
+        return bitmap;
+    }
+
+    /**
+     * Clears the bits of the units occupied by {@code slot} in {@code bitmap}.
+     */
+    private static void unmark(BitSet bitmap, LessonSlot slot) {
+        int length = slot.getEndUnit() - slot.getStartUnit();
+        for (long weeks = slot.getWeeks(); weeks != 0; weeks &= weeks - 1) {
+            int startBit = getStartBit(slot, Long.numberOfTrailingZeros(weeks));
+            bitmap.clear(startBit, startBit + length);
+        }
+    }
+
+    private static boolean isFree(BitSet bitmap, LessonSlot slot) {
+        int length = slot.getEndUnit() - slot.getStartUnit();
+        for (long weeks = slot.getWeeks(); weeks != 0; weeks &= weeks - 1) {
+            int startBit = getStartBit(slot, Long.numberOfTrailingZeros(weeks));
+            int occupiedBit = bitmap.nextSetBit(startBit);
+            if (occupiedBit != -1 && occupiedBit < startBit + length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if none of {@code slots} overlaps with a class of the timetable.
+     */
+    public boolean isFree(Collection<LessonSlot> slots) {
+        return slots.stream().allMatch(slot -> isFree(occupancy, slot));
+    }
+
+    /**
+     * Adds {@code entry} to the timetable, whether or not it clashes.
+     */
+    public void add(TimetableEntry entry) {
+        requireNonNull(entry);
+        entries.add(entry);
+        entry.getSlots().forEach(slot -> mark(occupancy, slot));
+    }
+
+    /**
+     * Removes the classes of the same lesson type of the same module as {@code entry}, which {@code entry} would
+     * replace, freeing the time they occupy unless other classes occupy it too.
+     */
+    public void removeSameLessonType(TimetableEntry entry) {
+        requireNonNull(entry);
+        removeIf(existingEntry -> existingEntry.isSameLessonType(entry));
+    }
+
+    /**
+     * Removes the classes of the module with {@code moduleCode}, freeing the time they occupy unless other classes
+     * occupy it too.
+     */
+    public void removeModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        removeIf(existingEntry -> existingEntry.getModuleCode().equals(moduleCode));
+    }
+
+    private void removeIf(Predicate<TimetableEntry> filter) {
+        List<LessonSlot> freedSlots = new ArrayList<>();
+        entries.removeIf(existingEntry -> {
+            if (!filter.test(existingEntry)) {
+                return false;
+            }
+            freedSlots.addAll(existingEntry.getSlots());
+            return true;
+        });
+        if (freedSlots.isEmpty()) {
+            return;
+        }
+
+        freedSlots.forEach(slot -> unmark(occupancy, slot));
+        // Only the classes on the same day and week as a removed class can share its units
+        for (TimetableEntry existingEntry : entries) {
+            existingEntry.getSlots().stream()
+                .filter(slot -> freedSlots.stream().anyMatch(freedSlot -> freedSlot.getDay() == slot.getDay()
+                    && (freedSlot.getWeeks() & slot.getWeeks()) != 0))
+                .forEach(slot -> mark(occupancy, slot));
+        }
+    }
+
+    public List<TimetableEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the clashes of {@code entry} with the classes of the timetable, apart from a class of the same lesson
+     * type of the same module, which {@code entry} would replace.
+     */
+    public List<LessonClash> getClashes(TimetableEntry entry) {
+        requireNonNull(entry);
+        if (isFree(entry.getSlots())) {
+            return Collections.emptyList();
+        }
+
+        List<LessonClash> clashes = new ArrayList<>();
+        for (TimetableEntry existingEntry : entries) {
+            if (existingEntry.isSameLessonType(entry)) {
+                continue;
+            }
+            existingEntry.getSlots().stream()
+                .filter(existingSlot -> entry.getSlots().stream().anyMatch(existingSlot::clashesWith))
+                .findFirst()
+                .ifPresent(existingSlot -> clashes.add(new LessonClash(entry, existingEntry, existingSlot)));
+        }
+        return clashes;
+    }
+}
@@ -0,0 +1,128 @@
+package nus.climods.model.timetable;
+
+import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.model.module.LessonTypeEnum;
+import nus.climods.model.module.Module;
+
+/**
+ * A class of a module in a timetable, with the slots of all its lessons.
+ */
+public class TimetableEntry {
+
+    private final String moduleCode;
+    private final LessonTypeEnum lessonType;
+    private final String lessonId;
+    private final List<LessonSlot> slots;
+
+    /**
+     * Creates a timetable entry.
+     *
+     * @param moduleCode module code
+     * @param lessonType lesson type
+     * @param lessonId   class number of the lesson
+     * @param slots      slots of the lessons of the class
+     */
+    public TimetableEntry(String moduleCode, LessonTypeEnum lessonType, String lessonId, List<LessonSlot> slots) {
+        requireAllNonNull(moduleCode, lessonType, lessonId, slots);
+        this.moduleCode = moduleCode;
+        this.lessonType = lessonType;
+        this.lessonId = lessonId;
+        this.slots = List.copyOf(slots);
+    }
+
+    /**
+     * Returns the entry of class {@code lessonId} of {@code lessonType} in {@code module}, or an empty Optional if the
+     * module does not offer it in {@code semester}. The lesson data of the module must be loaded.
+     */
+    public static Optional<TimetableEntry> of(Module module, SemestersEnum semester, LessonTypeEnum lessonType,
+        String lessonId) {
+        return Optional.ofNullable(module.getLessons(semester))
+            .map(semesterLessons -> semesterLessons.get(lessonType))
+            .map(lessonIdMap -> lessonIdMap.get(lessonId))
+            .map(lessons -> new TimetableEntry(module.getCode(), lessonType, lessonId, toSlots(lessons)));
+    }
+
+    /**
+     * Returns the entries of every class of {@code lessonType} offered by {@code module} in {@code semester}.
+     */
+    public static List<TimetableEntry> getClasses(Module module, SemestersEnum semester, LessonTypeEnum lessonType) {
+        Map<String, List<Lesson>> lessonIdMap = Optional.ofNullable(module.getLessons(semester))
+            .map(semesterLessons -> semesterLessons.get(lessonType))
+            .orElse(null);
+        if (lessonIdMap == null) {
+            return List.of();
+        }
+        return lessonIdMap.entrySet().stream()
+            .map(entry -> new TimetableEntry(module.getCode(), lessonType, entry.getKey(), toSlots(entry.getValue())))
+            .collect(Collectors.toList());
+    }
+
+    private static List<LessonSlot> toSlots(List<Lesson> lessons) {
+        return lessons.stream().map(LessonSlot::of).flatMap(Optional::stream).collect(Collectors.toList());
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public LessonTypeEnum getLessonType() {
+        return lessonType;
+    }
+
+    public String getLessonId() {
+        return lessonId;
+    }
+
+    public List<LessonSlot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns true if both entries are of the same lesson type of the same module, so that one replaces the other.
+     */
+    public boolean isSameLessonType(TimetableEntry other) {
+        return moduleCode.equalsIgnoreCase(other.moduleCode) && lessonType == other.lessonType;
+    }
+
+    /**
+     * Returns true if any slot of this entry clashes with any slot of {@code other}.
+     */
+    public boolean clashesWith(TimetableEntry other) {
+        return slots.stream().anyMatch(slot -> other.slots.stream().anyMatch(slot::clashesWith));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimetableEntry)) {
+            return false;
+        }
+
+        TimetableEntry otherEntry = (TimetableEntry) other;
+        return moduleCode.equals(otherEntry.moduleCode) && lessonType == otherEntry.lessonType
+            && lessonId.equals(otherEntry.lessonId) && slots.equals(otherEntry.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, lessonType, lessonId, slots);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s", moduleCode, lessonType.name(), lessonId);
+    }
+}
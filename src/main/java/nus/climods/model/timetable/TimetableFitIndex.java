@@ -0,0 +1,115 @@
+package nus.climods.model.timetable;
+
+import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.SemesterData;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.model.module.Module;
+
+/**
+ * The times of the classes of each module, for finding the modules which fit around a user's timetable.
+ * <p>
+ * A module fits if each of its lesson types has a class clashing with no class of the timetable. The classes of each
+ * module are reduced once to their slots and a bitmap of the units they occupy in any week, read from the saved
+ * details of the module so that nothing is fetched from NUSMods. A class whose bitmap misses that of the timetable
+ * cannot clash with it; only the rest are checked week by week. Modules whose details are not saved are left out.
+ * </p>
+ */
+public class TimetableFitIndex {
+
+    private final Map<SemestersEnum, Map<String, List<List<ClassTimes>>>> classTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the modules of {@code modules} offered in {@code semester} which fit around {@code timetable}, checking
+     * them in parallel.
+     */
+    public Set<Module> getFittingModules(Collection<Module> modules, SemestersEnum semester, Timetable timetable) {
+        requireAllNonNull(modules, semester, timetable);
+        List<LessonSlot> occupiedSlots = timetable.getEntries().stream()
+            .flatMap(entry -> entry.getSlots().stream())
+            .collect(Collectors.toList());
+        BitSet occupiedWeekBitmap = TimetableObjective.toWeekBitmap(occupiedSlots);
+
+        return modules.parallelStream()
+            .filter(module -> module.getCode() != null && module.availableInSemester(semester))
+            .filter(module -> getClassTimes(module, semester)
+                .map(lessonTypes -> lessonTypes.stream().allMatch(classes -> classes.stream()
+                    .anyMatch(times -> times.isFree(timetable, occupiedWeekBitmap))))
+                .orElse(false))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the times of the classes of each lesson type of {@code module} in {@code semester}, or an empty Optional
+     * if the details of the module are not saved.
+     */
+    private Optional<List<List<ClassTimes>>> getClassTimes(Module module, SemestersEnum semester) {
+        Map<String, List<List<ClassTimes>>> semesterClassTimes =
+            classTimes.computeIfAbsent(semester, unused -> new ConcurrentHashMap<>());
+        List<List<ClassTimes>> cached = semesterClassTimes.get(module.getCode());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Not cached while missing, as the details may yet be saved by a crawl
+        Optional<List<List<ClassTimes>>> read = module.getSavedDetail()
+            .map(detail -> toClassTimes(detail, semester));
+        read.ifPresent(lessonTypes -> semesterClassTimes.put(module.getCode(), lessonTypes));
+        return read;
+    }
+
+    private static List<List<ClassTimes>> toClassTimes(org.openapitools.client.model.Module detail,
+        SemestersEnum semester) {
+        List<Lesson> lessons = Optional.ofNullable(detail.getSemesterData()).orElse(List.of()).stream()
+            .filter(semesterData -> semesterData.getSemester() != null
+                && semester.getValue().compareTo(semesterData.getSemester()) == 0)
+            .map(SemesterData::getTimetable)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(List.of());
+
+        // Lesson type -> class number -> slots of the lessons of the class
+        Map<String, Map<String, List<LessonSlot>>> classSlots = new LinkedHashMap<>();
+        for (Lesson lesson : lessons) {
+            LessonSlot.of(lesson).ifPresent(slot -> classSlots
+                .computeIfAbsent(lesson.getLessonType(), unused -> new LinkedHashMap<>())
+                .computeIfAbsent(lesson.getClassNo(), unused -> new ArrayList<>())
+                .add(slot));
+        }
+        return classSlots.values().stream()
+            .map(classes -> classes.values().stream().map(ClassTimes::new).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The slots of the lessons of a class, and the bitmap of the units they occupy in any week.
+     */
+    private static class ClassTimes {
+
+        private final List<LessonSlot> slots;
+        private final BitSet weekBitmap;
+
+        ClassTimes(List<LessonSlot> slots) {
+            this.slots = List.copyOf(slots);
+            weekBitmap = TimetableObjective.toWeekBitmap(slots);
+        }
+
+        boolean isFree(Timetable timetable, BitSet occupiedWeekBitmap) {
+            return !weekBitmap.intersects(occupiedWeekBitmap) || timetable.isFree(slots);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package nus.climods.model.timetable;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The preferences a timetable is optimised for, scoring a timetable with a cost to be minimised.
+ * <p>
+ * A timetable is scored on its typical week, with the units of each day occupied in any week. Each day with classes
+ * costs {@value #DAY_COST}, each day with a class before the earliest start time costs {@value #EARLY_START_COST},
+ * each day without a free hour between 1100 and 1400 costs {@value #NO_LUNCH_BREAK_COST}, and each minute between the
+ * first and last class of a day which no class occupies costs 1. Only the preferences chosen count towards the cost.
+ * </p>
+ * <p>
+ * Adding a class never removes a day, an early class or a missing lunch break, so those costs only grow as a
+ * timetable is filled in. Dead time is the exception, as a class may fill a gap, which is why the lower bound of the
+ * cost takes away the units the remaining classes could fill.
+ * </p>
+ */
+public class TimetableObjective {
+
+    public static final int DAY_COST = 240;
+    public static final int EARLY_START_COST = 120;
+    public static final int NO_LUNCH_BREAK_COST = 60;
+
+    /**
+     * Objective which any clash-free timetable meets.
+     */
+    public static final TimetableObjective NONE = new TimetableObjective(false, Optional.empty(), false, false);
+
+    private static final int LUNCH_START_UNIT = 11 * 60 / LessonSlot.MINUTES_PER_UNIT;
+    private static final int LUNCH_END_UNIT = 14 * 60 / LessonSlot.MINUTES_PER_UNIT;
+    private static final int LUNCH_BREAK_UNITS = 60 / LessonSlot.MINUTES_PER_UNIT;
+
+    private final boolean isMinimisingDays;
+    private final Optional<Integer> earliestStartMinute;
+    private final boolean isKeepingLunchBreak;
+    private final boolean isMinimisingDeadTime;
+
+    /**
+     * Creates an objective.
+     *
+     * @param isMinimisingDays     whether to have classes on as few days as possible
+     * @param earliestStartMinute  minute of the day no class should start before, if any
+     * @param isKeepingLunchBreak  whether to keep a free hour between 1100 and 1400 on days with classes
+     * @param isMinimisingDeadTime whether to have as little free time as possible between classes of a day
+     */
+    public TimetableObjective(boolean isMinimisingDays, Optional<Integer> earliestStartMinute,
+        boolean isKeepingLunchBreak, boolean isMinimisingDeadTime) {
+        this.isMinimisingDays = isMinimisingDays;
+        this.earliestStartMinute = earliestStartMinute;
+        this.isKeepingLunchBreak = isKeepingLunchBreak;
+        this.isMinimisingDeadTime = isMinimisingDeadTime;
+    }
+
+    /**
+     * Returns the bitmap of the units occupied by {@code slots} in any week, with bit
+     * {@code day * UNITS_PER_DAY + unit} set for each unit of each day.
+     */
+    public static BitSet toWeekBitmap(Iterable<LessonSlot> slots) {
+        BitSet weekBitmap = new BitSet(LessonSlot.DAYS_PER_WEEK * LessonSlot.UNITS_PER_DAY);
+        for (LessonSlot slot : slots) {
+            int dayStart = slot.getDay() * LessonSlot.UNITS_PER_DAY;
+            weekBitmap.set(dayStart + slot.getStartUnit(), dayStart + slot.getEndUnit());
+        }
+        return weekBitmap;
+    }
+
+    /**
+     * Returns the cost of a timetable occupying {@code weekBitmap}, as returned by {@link #toWeekBitmap(Iterable)}.
+     */
+    public int getCost(BitSet weekBitmap) {
+        return getLowerBound(weekBitmap, 0);
+    }
+
+    /**
+     * Returns a cost no higher than that of any timetable occupying {@code weekBitmap} and then up to
+     * {@code remainingUnits} more units, each of which fills at most a unit of dead time.
+     */
+    public int getLowerBound(BitSet weekBitmap, int remainingUnits) {
+        int deadUnits = isMinimisingDeadTime ? Math.max(0, getDeadUnits(weekBitmap) - remainingUnits) : 0;
+        return getFixedCost(weekBitmap) + deadUnits * LessonSlot.MINUTES_PER_UNIT;
+    }
+
+    /**
+     * Returns the cost of the days, early classes and missing lunch breaks of {@code weekBitmap}.
+     */
+    private int getFixedCost(BitSet weekBitmap) {
+        int cost = 0;
+        for (int day = 0; day < LessonSlot.DAYS_PER_WEEK; day++) {
+            int dayStart = day * LessonSlot.UNITS_PER_DAY;
+            int firstUnit = weekBitmap.nextSetBit(dayStart);
+            if (firstUnit == -1 || firstUnit >= dayStart + LessonSlot.UNITS_PER_DAY) {
+                continue;
+            }
+            if (isMinimisingDays) {
+                cost += DAY_COST;
+            }
+            if (earliestStartMinute.isPresent()
+                && (firstUnit - dayStart) * LessonSlot.MINUTES_PER_UNIT < earliestStartMinute.get()) {
+                cost += EARLY_START_COST;
+            }
+            if (isKeepingLunchBreak && !hasLunchBreak(weekBitmap, dayStart)) {
+                cost += NO_LUNCH_BREAK_COST;
+            }
+        }
+        return cost;
+    }
+
+    private static boolean hasLunchBreak(BitSet weekBitmap, int dayStart) {
+        int lunchEnd = dayStart + LUNCH_END_UNIT;
+        for (int freeUnit = weekBitmap.nextClearBit(dayStart + LUNCH_START_UNIT);
+            freeUnit + LUNCH_BREAK_UNITS <= lunchEnd;
+            freeUnit = weekBitmap.nextClearBit(freeUnit)) {
+            int occupiedUnit = weekBitmap.nextSetBit(freeUnit);
+            if (occupiedUnit == -1 || occupiedUnit >= freeUnit + LUNCH_BREAK_UNITS) {
+                return true;
+            }
+            freeUnit = occupiedUnit;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of free units between the first and last occupied units of each day.
+     */
+    private static int getDeadUnits(BitSet weekBitmap) {
+        int deadUnits = 0;
+        for (int day = 0; day < LessonSlot.DAYS_PER_WEEK; day++) {
+            int dayStart = day * LessonSlot.UNITS_PER_DAY;
+            int firstUnit = weekBitmap.nextSetBit(dayStart);
+            if (firstUnit == -1 || firstUnit >= dayStart + LessonSlot.UNITS_PER_DAY) {
+                continue;
+            }
+            int lastUnit = weekBitmap.previousSetBit(dayStart + LessonSlot.UNITS_PER_DAY - 1);
+            deadUnits += lastUnit - firstUnit + 1 - weekBitmap.get(firstUnit, lastUnit + 1).cardinality();
+        }
+        return deadUnits;
+    }
+
+    public boolean isMinimisingDays() {
+        return isMinimisingDays;
+    }
+
+    public Optional<Integer> getEarliestStartMinute() {
+        return earliestStartMinute;
+    }
+
+    public boolean isKeepingLunchBreak() {
+        return isKeepingLunchBreak;
+    }
+
+    public boolean isMinimisingDeadTime() {
+        return isMinimisingDeadTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimetableObjective)) {
+            return false;
+        }
+
+        TimetableObjective otherObjective = (TimetableObjective) other;
+        return isMinimisingDays == otherObjective.isMinimisingDays
+            && earliestStartMinute.equals(otherObjective.earliestStartMinute)
+            && isKeepingLunchBreak == otherObjective.isKeepingLunchBreak
+            && isMinimisingDeadTime == otherObjective.isMinimisingDeadTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isMinimisingDays, earliestStartMinute, isKeepingLunchBreak, isMinimisingDeadTime);
+    }
+}
@@ -0,0 +1,48 @@
+package nus.climods.model.timetable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The outcome of a timetable search: the best classes found, their cost, and how much searching it took.
+ */
+public class TimetableSolution {
+
+    private final Optional<List<TimetableEntry>> entries;
+    private final int cost;
+    private final long nodesExplored;
+    private final boolean isComplete;
+
+    /**
+     * Creates a search outcome.
+     *
+     * @param entries       best classes found, in the order of the choices searched, if any
+     * @param cost          cost of {@code entries} under the objective searched for
+     * @param nodesExplored number of partial choices of classes visited
+     * @param isComplete    whether the whole search tree was explored, so that {@code entries} are optimal, or there
+     *                      are none at all
+     */
+    public TimetableSolution(Optional<List<TimetableEntry>> entries, int cost, long nodesExplored,
+        boolean isComplete) {
+        this.entries = entries;
+        this.cost = cost;
+        this.nodesExplored = nodesExplored;
+        this.isComplete = isComplete;
+    }
+
+    public Optional<List<TimetableEntry>> getEntries() {
+        return entries;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public long getNodesExplored() {
+        return nodesExplored;
+    }
+
+    public boolean isComplete() {
+        return isComplete;
+    }
+}
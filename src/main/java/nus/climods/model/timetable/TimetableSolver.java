@@ -0,0 +1,458 @@
+package nus.climods.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+import static nus.climods.commons.util.AppUtil.checkArgument;
+import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Searches for a choice of class for each lesson type of a timetable such that no two classes clash, and which costs
+ * the least under a {@link TimetableObjective}.
+ * <p>
+ * Each class is reduced to the bitmap of the time units it occupies, and classes of a lesson type with the same bitmap
+ * are merged, as they are interchangeable. The search backtracks, choosing at each step the lesson type with the fewest
+ * classes fitting the classes chosen so far, so that a dead end is found as soon as a lesson type has none left. Its
+ * classes are tried in order of the lower bound of the cost of the timetables they lead to, and a class is not tried
+ * at all once that bound reaches the cost of the best timetable found so far. The first levels of the search tree are
+ * explored in parallel on a {@link ForkJoinPool}, sharing the best cost found.
+ * </p>
+ */
+public class TimetableSolver {
+
+    /**
+     * Depth of the search tree up to which each branch is explored in a task of its own.
+     */
+    private static final int PARALLEL_DEPTH = 2;
+
+    private static final int NOT_CHOSEN = -1;
+    private static final int ALL_CHOSEN = -2;
+    private static final int DEAD_END = -3;
+
+    private final ForkJoinPool pool;
+
+    public TimetableSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TimetableSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a class for each of {@code choices} such that the classes clash neither with each other nor with
+     * {@code fixedEntries}, or an empty Optional if there is none.
+     *
+     * @param fixedEntries classes which cannot be changed
+     * @param choices      classes to choose from, one list per lesson type
+     * @return chosen classes, in the order of {@code choices}
+     * @throws InterruptedException if interrupted while searching
+     */
+    public Optional<List<TimetableEntry>> solve(List<TimetableEntry> fixedEntries, List<List<TimetableEntry>> choices)
+        throws InterruptedException {
+        return optimise(fixedEntries, choices, TimetableObjective.NONE).getEntries();
+    }
+
+    /**
+     * Returns the clash-free choice of a class for each of {@code choices} which, with {@code fixedEntries}, costs the
+     * least under {@code objective}.
+     *
+     * @param fixedEntries classes which cannot be changed
+     * @param choices      classes to choose from, one list per lesson type
+     * @param objective    objective to minimise the cost of
+     * @return optimal classes, in the order of {@code choices}, if any
+     * @throws InterruptedException if interrupted while searching
+     */
+    public TimetableSolution optimise(List<TimetableEntry> fixedEntries, List<List<TimetableEntry>> choices,
+        TimetableObjective objective) throws InterruptedException {
+        return optimise(fixedEntries, choices, objective, Optional.empty());
+    }
+
+    /**
+     * Returns the clash-free choice of a class for each of {@code choices} which, with {@code fixedEntries}, costs the
+     * least under {@code objective}, out of those found within {@code timeBudget}.
+     *
+     * @param fixedEntries classes which cannot be changed
+     * @param choices      classes to choose from, one list per lesson type
+     * @param objective    objective to minimise the cost of
+     * @param timeBudget   time after which the search stops and returns the best classes found so far
+     * @return best classes found, in the order of {@code choices}, if any
+     * @throws InterruptedException if interrupted while searching
+     */
+    public TimetableSolution optimise(List<TimetableEntry> fixedEntries, List<List<TimetableEntry>> choices,
+        TimetableObjective objective, Duration timeBudget) throws InterruptedException {
+        requireNonNull(timeBudget);
+        return optimise(fixedEntries, choices, objective, Optional.of(timeBudget));
+    }
+
+    /**
+     * Returns a clash-free choice of a class for each of {@code choices} which keeps as many of
+     * {@code previousEntries} as it can, such as after a module is added to a solved timetable.
+     * <p>
+     * The choices without a previous class, or whose previous class clashes with {@code fixedEntries} or an earlier
+     * previous class, are searched first, around the other previous classes. Each time that fails, the choices whose
+     * previous class overlaps a class of a choice being searched are searched too, until every choice is, so that only
+     * the part of the timetable around the change is searched again unless the change reaches further.
+     * </p>
+     *
+     * @param fixedEntries    classes which cannot be changed
+     * @param choices         classes to choose from, one list per lesson type
+     * @param previousEntries class chosen before for each of {@code choices}, if any
+     * @param objective       objective to minimise the cost of
+     * @param timeBudget      time after which the search stops and returns the best classes found so far
+     * @return classes found, in the order of {@code choices}, with the nodes explored by every search, and complete if
+     *               the last search was
+     * @throws InterruptedException if interrupted while searching
+     */
+    public TimetableSolution repair(List<TimetableEntry> fixedEntries, List<List<TimetableEntry>> choices,
+        List<Optional<TimetableEntry>> previousEntries, TimetableObjective objective, Duration timeBudget)
+        throws InterruptedException {
+        requireAllNonNull(fixedEntries, choices, previousEntries, objective, timeBudget);
+        checkArgument(choices.size() == previousEntries.size(), "Each choice needs a previous class");
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        boolean[] isSearched = new boolean[choices.size()];
+        Timetable keptTimetable = new Timetable(fixedEntries);
+        for (int i = 0; i < choices.size(); i++) {
+            Optional<TimetableEntry> previousEntry = previousEntries.get(i);
+            isSearched[i] = previousEntry.isEmpty() || !keptTimetable.isFree(previousEntry.get().getSlots());
+            if (!isSearched[i]) {
+                keptTimetable.add(previousEntry.get());
+            }
+        }
+
+        long nodesExplored = 0;
+        while (true) {
+            List<TimetableEntry> keptEntries = new ArrayList<>(fixedEntries);
+            List<List<TimetableEntry>> searchedChoices = new ArrayList<>();
+            for (int i = 0; i < choices.size(); i++) {
+                if (isSearched[i]) {
+                    searchedChoices.add(choices.get(i));
+                } else {
+                    keptEntries.add(previousEntries.get(i).get());
+                }
+            }
+
+            TimetableSolution solution = optimise(keptEntries, searchedChoices, objective,
+                Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            nodesExplored += solution.getNodesExplored();
+            if (solution.getEntries().isPresent()) {
+                Iterator<TimetableEntry> searchedEntries = solution.getEntries().get().iterator();
+                List<TimetableEntry> entries = new ArrayList<>();
+                for (int i = 0; i < choices.size(); i++) {
+                    entries.add(isSearched[i] ? searchedEntries.next() : previousEntries.get(i).get());
+                }
+                return new TimetableSolution(Optional.of(entries), solution.getCost(), nodesExplored,
+                    solution.isComplete());
+            }
+            if (!solution.isComplete() || searchedChoices.size() == choices.size()) {
+                return new TimetableSolution(Optional.empty(), solution.getCost(), nodesExplored,
+                    solution.isComplete());
+            }
+
+            if (!widen(choices, previousEntries, isSearched)) {
+                Arrays.fill(isSearched, true);
+            }
+        }
+    }
+
+    /**
+     * Marks the choices whose previous class overlaps a class of a searched choice as searched, and returns false if
+     * there are none.
+     */
+    private static boolean widen(List<List<TimetableEntry>> choices, List<Optional<TimetableEntry>> previousEntries,
+        boolean[] isSearched) {
+        BitSet searchedBitmap = new BitSet();
+        for (int i = 0; i < choices.size(); i++) {
+            if (isSearched[i]) {
+                choices.get(i).forEach(entry -> searchedBitmap.or(Timetable.toBitmap(entry.getSlots())));
+            }
+        }
+
+        boolean isWidened = false;
+        for (int i = 0; i < choices.size(); i++) {
+            if (!isSearched[i]
+                && Timetable.toBitmap(previousEntries.get(i).get().getSlots()).intersects(searchedBitmap)) {
+                isSearched[i] = true;
+                isWidened = true;
+            }
+        }
+        return isWidened;
+    }
+
+    private TimetableSolution optimise(List<TimetableEntry> fixedEntries, List<List<TimetableEntry>> choices,
+        TimetableObjective objective, Optional<Duration> timeBudget) throws InterruptedException {
+        requireAllNonNull(fixedEntries, choices, objective);
+        List<LessonSlot> fixedSlots = new ArrayList<>();
+        fixedEntries.forEach(entry -> fixedSlots.addAll(entry.getSlots()));
+
+        Search search = new Search(choices, objective, timeBudget.map(budget -> System.nanoTime() + budget.toNanos()));
+        int[] noneChosen = new int[choices.size()];
+        Arrays.fill(noneChosen, NOT_CHOSEN);
+        BitSet fixedWeekBitmap = TimetableObjective.toWeekBitmap(fixedSlots);
+        int remainingUnits = Arrays.stream(search.maxUnits).sum();
+        search.rootLowerBound = objective.getLowerBound(fixedWeekBitmap, remainingUnits);
+        ForkJoinTask<Void> task = pool.submit(search.new SearchTask(Timetable.toBitmap(fixedSlots), fixedWeekBitmap,
+            noneChosen, remainingUnits, search.rootLowerBound, 0));
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            search.stop();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Timetable search failed", e.getCause());
+        }
+
+        return search.getSolution();
+    }
+
+    /**
+     * State of a search, shared by the tasks exploring it.
+     */
+    private class Search {
+        private final List<List<TimetableEntry>> classes = new ArrayList<>();
+        private final BitSet[][] bitmaps;
+        private final BitSet[][] weekBitmaps;
+        private final int[] maxUnits;
+        private final TimetableObjective objective;
+        private final Optional<Long> deadline;
+        private final AtomicBoolean isStopped = new AtomicBoolean(false);
+        private final AtomicBoolean isOverBudget = new AtomicBoolean(false);
+        private final LongAdder nodesExplored = new LongAdder();
+        private final AtomicInteger bestCost = new AtomicInteger(Integer.MAX_VALUE);
+        private int[] bestChosen;
+        private int rootLowerBound;
+
+        Search(List<List<TimetableEntry>> choices, TimetableObjective objective, Optional<Long> deadline) {
+            this.objective = objective;
+            this.deadline = deadline;
+            bitmaps = new BitSet[choices.size()][];
+            weekBitmaps = new BitSet[choices.size()][];
+            maxUnits = new int[choices.size()];
+            for (int i = 0; i < choices.size(); i++) {
+                // Keeps the first class of each distinct bitmap
+                Map<BitSet, TimetableEntry> distinctClasses = new LinkedHashMap<>();
+                for (TimetableEntry entry : choices.get(i)) {
+                    distinctClasses.putIfAbsent(Timetable.toBitmap(entry.getSlots()), entry);
+                }
+                classes.add(new ArrayList<>(distinctClasses.values()));
+                bitmaps[i] = distinctClasses.keySet().toArray(new BitSet[0]);
+                weekBitmaps[i] = distinctClasses.values().stream()
+                    .map(entry -> TimetableObjective.toWeekBitmap(entry.getSlots()))
+                    .toArray(BitSet[]::new);
+                maxUnits[i] = Arrays.stream(weekBitmaps[i]).mapToInt(BitSet::cardinality).max().orElse(0);
+            }
+        }
+
+        void stop() {
+            isStopped.set(true);
+        }
+
+        /**
+         * Counts a visit to a node, and returns false if the search should not go on from it.
+         */
+        boolean visit() {
+            nodesExplored.increment();
+            if (deadline.isPresent() && System.nanoTime() - deadline.get() >= 0) {
+                isOverBudget.set(true);
+                stop();
+            }
+            return !isStopped.get();
+        }
+
+        /**
+         * Records {@code chosen} if it costs less than the best choice found so far, and stops the search once no
+         * choice can cost less.
+         */
+        synchronized void offer(int[] chosen, int cost) {
+            if (cost < bestCost.get()) {
+                bestChosen = chosen.clone();
+                bestCost.set(cost);
+            }
+            if (cost <= rootLowerBound) {
+                stop();
+            }
+        }
+
+        synchronized TimetableSolution getSolution() {
+            Optional<List<TimetableEntry>> entries = Optional.empty();
+            if (bestChosen != null) {
+                List<TimetableEntry> solution = new ArrayList<>();
+                for (int i = 0; i < bestChosen.length; i++) {
+                    solution.add(classes.get(i).get(bestChosen[i]));
+                }
+                entries = Optional.of(solution);
+            }
+            return new TimetableSolution(entries, bestCost.get(), nodesExplored.sum(), !isOverBudget.get());
+        }
+
+        /**
+         * Returns the choice with the fewest classes fitting {@code occupancy}, {@code ALL_CHOSEN} if every choice is
+         * made, or {@code DEAD_END} if a choice has no class left.
+         */
+        int selectChoice(BitSet occupancy, int[] chosen) {
+            int selected = ALL_CHOSEN;
+            int fewestFitting = Integer.MAX_VALUE;
+            for (int i = 0; i < chosen.length; i++) {
+                if (chosen[i] != NOT_CHOSEN) {
+                    continue;
+                }
+                int fitting = 0;
+                for (BitSet bitmap : bitmaps[i]) {
+                    if (!bitmap.intersects(occupancy)) {
+                        fitting++;
+                    }
+                }
+                if (fitting == 0) {
+                    return DEAD_END;
+                }
+                if (fitting < fewestFitting) {
+                    selected = i;
+                    fewestFitting = fitting;
+                }
+            }
+            return selected;
+        }
+
+        /**
+         * Returns the classes of choice {@code selected} fitting {@code occupancy} whose lower bound is below the best
+         * cost found so far, by increasing lower bound.
+         */
+        List<Branch> getBranches(BitSet occupancy, BitSet weekBitmap, int selected, int remainingUnits) {
+            List<Branch> branches = new ArrayList<>();
+            for (int c = 0; c < bitmaps[selected].length; c++) {
+                if (bitmaps[selected][c].intersects(occupancy)) {
+                    continue;
+                }
+                BitSet branchWeekBitmap = (BitSet) weekBitmap.clone();
+                branchWeekBitmap.or(weekBitmaps[selected][c]);
+                int lowerBound = objective.getLowerBound(branchWeekBitmap, remainingUnits - maxUnits[selected]);
+                if (lowerBound < bestCost.get()) {
+                    branches.add(new Branch(c, branchWeekBitmap, lowerBound));
+                }
+            }
+            branches.sort(Comparator.comparingInt(branch -> branch.lowerBound));
+            return branches;
+        }
+
+        /**
+         * Explores the completions of {@code chosen} in the calling thread, updating {@code occupancy} and
+         * {@code chosen} in place.
+         */
+        void searchSequentially(BitSet occupancy, BitSet weekBitmap, int[] chosen, int remainingUnits) {
+            if (!visit()) {
+                return;
+            }
+            int selected = selectChoice(occupancy, chosen);
+            if (selected == ALL_CHOSEN) {
+                offer(chosen, objective.getCost(weekBitmap));
+                return;
+            }
+            if (selected == DEAD_END) {
+                return;
+            }
+
+            for (Branch branch : getBranches(occupancy, weekBitmap, selected, remainingUnits)) {
+                // Branches come by increasing lower bound, so none after this one can beat the best cost either
+                if (branch.lowerBound >= bestCost.get()) {
+                    return;
+                }
+                BitSet bitmap = bitmaps[selected][branch.classIndex];
+                occupancy.or(bitmap);
+                chosen[selected] = branch.classIndex;
+                searchSequentially(occupancy, branch.weekBitmap, chosen, remainingUnits - maxUnits[selected]);
+                // The class did not overlap the occupancy, so clearing its bits restores it
+                occupancy.andNot(bitmap);
+                chosen[selected] = NOT_CHOSEN;
+            }
+        }
+
+        /**
+         * A class to try for a choice, with the typical week and lower bound of the cost it leads to.
+         */
+        private class Branch {
+            private final int classIndex;
+            private final BitSet weekBitmap;
+            private final int lowerBound;
+
+            Branch(int classIndex, BitSet weekBitmap, int lowerBound) {
+                this.classIndex = classIndex;
+                this.weekBitmap = weekBitmap;
+                this.lowerBound = lowerBound;
+            }
+        }
+
+        /**
+         * Task exploring the completions of a partial choice of classes.
+         */
+        private class SearchTask extends RecursiveAction {
+            private final BitSet occupancy;
+            private final BitSet weekBitmap;
+            private final int[] chosen;
+            private final int remainingUnits;
+            private final int lowerBound;
+            private final int depth;
+
+            SearchTask(BitSet occupancy, BitSet weekBitmap, int[] chosen, int remainingUnits, int lowerBound,
+                int depth) {
+                this.occupancy = occupancy;
+                this.weekBitmap = weekBitmap;
+                this.chosen = chosen;
+                this.remainingUnits = remainingUnits;
+                this.lowerBound = lowerBound;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute() {
+                // A sibling task may have found a cheaper timetable since this one was forked
+                if (lowerBound >= bestCost.get()) {
+                    return;
+                }
+                if (depth >= PARALLEL_DEPTH) {
+                    searchSequentially(occupancy, weekBitmap, chosen, remainingUnits);
+                    return;
+                }
+
+                if (!visit()) {
+                    return;
+                }
+                int selected = selectChoice(occupancy, chosen);
+                if (selected == ALL_CHOSEN) {
+                    offer(chosen, objective.getCost(weekBitmap));
+                    return;
+                }
+                if (selected == DEAD_END) {
+                    return;
+                }
+
+                List<SearchTask> tasks = new ArrayList<>();
+                for (Branch branch : getBranches(occupancy, weekBitmap, selected, remainingUnits)) {
+                    BitSet branchOccupancy = (BitSet) occupancy.clone();
+                    branchOccupancy.or(bitmaps[selected][branch.classIndex]);
+                    int[] branchChosen = chosen.clone();
+                    branchChosen[selected] = branch.classIndex;
+                    tasks.add(new SearchTask(branchOccupancy, branch.weekBitmap, branchChosen,
+                        remainingUnits - maxUnits[selected], branch.lowerBound, depth + 1));
+                }
+                invokeAll(tasks);
+            }
+        }
+    }
+}
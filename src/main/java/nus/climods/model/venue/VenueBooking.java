@@ -0,0 +1,70 @@
+package nus.climods.model.venue;
+
+import static nus.climods.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import nus.climods.model.timetable.LessonSlot;
+
+/**
+ * A lesson of a module held in a venue.
+ */
+public class VenueBooking {
+
+    private final String moduleCode;
+    private final String lessonType;
+    private final String classNo;
+    private final LessonSlot slot;
+
+    /**
+     * Creates a venue booking.
+     *
+     * @param moduleCode module code
+     * @param lessonType lesson type, as given by NUSMods
+     * @param classNo    class number of the lesson
+     * @param slot       time slot of the lesson
+     */
+    public VenueBooking(String moduleCode, String lessonType, String classNo, LessonSlot slot) {
+        requireAllNonNull(moduleCode, lessonType, classNo, slot);
+        this.moduleCode = moduleCode;
+        this.lessonType = lessonType;
+        this.classNo = classNo;
+        this.slot = slot;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getLessonType() {
+        return lessonType;
+    }
+
+    public String getClassNo() {
+        return classNo;
+    }
+
+    public LessonSlot getSlot() {
+        return slot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof VenueBooking
+            && moduleCode.equals(((VenueBooking) other).moduleCode)
+            && lessonType.equals(((VenueBooking) other).lessonType)
+            && classNo.equals(((VenueBooking) other).classNo)
+            && slot.equals(((VenueBooking) other).slot));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, lessonType, classNo, slot);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s [%s] (%s)", moduleCode, lessonType, classNo, slot);
+    }
+}
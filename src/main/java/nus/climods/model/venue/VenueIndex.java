@@ -0,0 +1,202 @@
+package nus.climods.model.venue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.openapitools.client.model.VenueInformation;
+import org.openapitools.client.model.VenueLesson;
+
+import nus.climods.model.timetable.LessonSlot;
+
+/**
+ * The lessons held in each venue in a semester, indexed by venue, day and time.
+ * <p>
+ * Venues are kept sorted by their upper case name, so the venues of a building are found by name prefix. The lessons
+ * of each day of a venue are sorted by start time, alongside the latest end time of the lessons up to each of them, so
+ * the lessons overlapping a time are found by a binary search for the last lesson starting before it ends, then
+ * walking back only while earlier lessons may still be running.
+ * </p>
+ */
+public class VenueIndex {
+
+    private final TreeMap<String, Venue> venues = new TreeMap<>();
+
+    /**
+     * Creates an index of {@code bookingsByVenue}, from venue name to the lessons held in it.
+     */
+    public VenueIndex(Map<String, List<VenueBooking>> bookingsByVenue) {
+        requireNonNull(bookingsByVenue);
+        bookingsByVenue.forEach((name, bookings) -> {
+            if (name != null && !name.isBlank()) {
+                venues.put(normaliseName(name), new Venue(name, bookings));
+            }
+        });
+    }
+
+    /**
+     * Returns the index of the venue information given by NUSMods, from venue name to its classes on each day.
+     * Lessons whose day or time cannot be read are left out.
+     */
+    public static VenueIndex of(Map<String, List<VenueInformation>> venueInformation) {
+        requireNonNull(venueInformation);
+        Map<String, List<VenueBooking>> bookingsByVenue = new LinkedHashMap<>();
+        venueInformation.forEach((name, days) -> bookingsByVenue.put(name, Optional.ofNullable(days)
+            .orElse(List.of()).stream()
+            .flatMap(day -> Optional.ofNullable(day.getClasses()).orElse(List.of()).stream()
+                .map(lesson -> toBooking(lesson, day))
+                .flatMap(Optional::stream))
+            .collect(Collectors.toList())));
+        return new VenueIndex(bookingsByVenue);
+    }
+
+    private static Optional<VenueBooking> toBooking(VenueLesson lesson, VenueInformation day) {
+        String dayName = lesson.getDay() != null || day.getDay() == null ? lesson.getDay() : day.getDay().getValue();
+        return LessonSlot.of(dayName, lesson.getStartTime(), lesson.getEndTime(), lesson.getWeeks())
+            .map(slot -> new VenueBooking(Optional.ofNullable(lesson.getModuleCode()).orElse(""),
+                Optional.ofNullable(lesson.getLessonType()).orElse(""),
+                Optional.ofNullable(lesson.getClassNo()).orElse(""), slot));
+    }
+
+    private static String normaliseName(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the lessons held in each venue, in venue name order, with the lessons of each venue in time order.
+     */
+    public Map<String, List<VenueBooking>> getBookingsByVenue() {
+        Map<String, List<VenueBooking>> bookingsByVenue = new LinkedHashMap<>();
+        venues.values().forEach(venue -> bookingsByVenue.put(venue.name, venue.getBookings()));
+        return bookingsByVenue;
+    }
+
+    /**
+     * Returns the name of the venue named {@code name}, ignoring case, or an empty Optional if no lesson is held there.
+     */
+    public Optional<String> getVenueName(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(venues.get(normaliseName(name))).map(venue -> venue.name);
+    }
+
+    /**
+     * Returns the lessons held in the venue named {@code name} overlapping {@code slot}, in time order.
+     */
+    public List<VenueBooking> getBookings(String name, LessonSlot slot) {
+        requireNonNull(name);
+        requireNonNull(slot);
+        Venue venue = venues.get(normaliseName(name));
+        if (venue == null) {
+            return List.of();
+        }
+        List<VenueBooking> bookings = new ArrayList<>();
+        venue.findOverlapping(slot, bookings, false);
+        Collections.reverse(bookings);
+        return bookings;
+    }
+
+    /**
+     * Returns the names of the venues whose name starts with {@code prefix}, ignoring case, with no lesson overlapping
+     * {@code slot}, in name order.
+     */
+    public List<String> getFreeVenues(String prefix, LessonSlot slot) {
+        requireNonNull(prefix);
+        requireNonNull(slot);
+        String normalisedPrefix = normaliseName(prefix);
+        return venues.subMap(normalisedPrefix, true, normalisedPrefix + Character.MAX_VALUE, false).values().stream()
+            .filter(venue -> venue.findOverlapping(slot, new ArrayList<>(), true))
+            .map(venue -> venue.name)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of venues in the index.
+     */
+    public int size() {
+        return venues.size();
+    }
+
+    /**
+     * The lessons of each day of a venue, sorted by start time.
+     */
+    private static class Venue {
+
+        private static final Comparator<VenueBooking> START_ORDER = Comparator
+            .comparingInt((VenueBooking booking) -> booking.getSlot().getStartMinute())
+            .thenComparingInt(booking -> booking.getSlot().getEndMinute());
+
+        private final String name;
+        private final VenueBooking[][] bookingsByDay = new VenueBooking[LessonSlot.DAYS_PER_WEEK][];
+        private final int[][] startMinutesByDay = new int[LessonSlot.DAYS_PER_WEEK][];
+        // Latest end minute of the lessons of a day up to and including each one
+        private final int[][] maxEndMinutesByDay = new int[LessonSlot.DAYS_PER_WEEK][];
+
+        Venue(String name, List<VenueBooking> bookings) {
+            this.name = name.trim();
+            for (int day = 0; day < LessonSlot.DAYS_PER_WEEK; day++) {
+                int dayOfBookings = day;
+                VenueBooking[] dayBookings = bookings.stream()
+                    .filter(booking -> booking.getSlot().getDay() == dayOfBookings)
+                    .sorted(START_ORDER)
+                    .toArray(VenueBooking[]::new);
+                int[] startMinutes = new int[dayBookings.length];
+                int[] maxEndMinutes = new int[dayBookings.length];
+                int maxEndMinute = 0;
+                for (int i = 0; i < dayBookings.length; i++) {
+                    startMinutes[i] = dayBookings[i].getSlot().getStartMinute();
+                    maxEndMinute = Math.max(maxEndMinute, dayBookings[i].getSlot().getEndMinute());
+                    maxEndMinutes[i] = maxEndMinute;
+                }
+                bookingsByDay[day] = dayBookings;
+                startMinutesByDay[day] = startMinutes;
+                maxEndMinutesByDay[day] = maxEndMinutes;
+            }
+        }
+
+        List<VenueBooking> getBookings() {
+            return Arrays.stream(bookingsByDay).flatMap(Arrays::stream).collect(Collectors.toList());
+        }
+
+        /**
+         * Adds the lessons overlapping {@code slot} to {@code found}, latest starting first.
+         *
+         * @param isFreeCheck whether to stop at the first overlapping lesson
+         * @return true if no lesson overlaps {@code slot}
+         */
+        boolean findOverlapping(LessonSlot slot, List<VenueBooking> found, boolean isFreeCheck) {
+            VenueBooking[] bookings = bookingsByDay[slot.getDay()];
+            int[] maxEndMinutes = maxEndMinutesByDay[slot.getDay()];
+            // Index of the first lesson starting at or after the slot ends
+            int end = Arrays.binarySearch(startMinutesByDay[slot.getDay()], slot.getEndMinute());
+            if (end < 0) {
+                end = -end - 1;
+            } else {
+                while (end > 0 && startMinutesByDay[slot.getDay()][end - 1] == slot.getEndMinute()) {
+                    end--;
+                }
+            }
+
+            boolean isFree = true;
+            for (int i = end - 1; i >= 0 && maxEndMinutes[i] > slot.getStartMinute(); i--) {
+                if (bookings[i].getSlot().clashesWith(slot)) {
+                    found.add(bookings[i]);
+                    isFree = false;
+                    if (isFreeCheck) {
+                        break;
+                    }
+                }
+            }
+            return isFree;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package nus.climods.model.venue;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+/**
+ * Loads the index of the lessons held in each venue in a semester.
+ */
+@FunctionalInterface
+public interface VenueLoader {
+
+    /**
+     * Returns the venue index of {@code semester} in {@code academicYear}.
+     *
+     * @throws ApiException if the venue information could not be fetched from NUSMods.
+     */
+    VenueIndex loadVenueIndex(String academicYear, SemestersEnum semester) throws ApiException;
+}
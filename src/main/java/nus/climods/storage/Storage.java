@@ -9,6 +9,8 @@ import nus.climods.model.ReadOnlyUserPrefs;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.UniqueUserModuleList;
 import nus.climods.storage.exceptions.StorageException;
+import nus.climods.storage.module.ModuleDetailStorage;
+import nus.climods.storage.module.ModuleListStorage;
 import nus.climods.storage.module.user.UserModuleListStorage;
 
 /**
@@ -27,4 +29,8 @@ public interface Storage extends UserPrefsStorage {
     UserModuleListStorage getUserModuleListStorage();
 
     void saveUserModuleList(UniqueUserModuleList uniqueUserModuleList) throws StorageException;
+
+    ModuleListStorage getModuleListStorage();
+
+    ModuleDetailStorage getModuleDetailStorage();
 }
@@ -11,6 +11,8 @@ import nus.climods.model.ReadOnlyUserPrefs;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.UniqueUserModuleList;
 import nus.climods.storage.exceptions.StorageException;
+import nus.climods.storage.module.ModuleDetailStorage;
+import nus.climods.storage.module.ModuleListStorage;
 import nus.climods.storage.module.user.UserModuleListStorage;
 
 /**
@@ -22,13 +24,19 @@ public class StorageManager implements Storage {
 
     private UserPrefsStorage userPrefsStorage;
     private UserModuleListStorage userModuleListStorage;
+    private ModuleListStorage moduleListStorage;
+    private ModuleDetailStorage moduleDetailStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code UserModuleListStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code UserModuleListStorage}, {@code UserPrefStorage},
+     * {@code ModuleListStorage} and {@code ModuleDetailStorage}.
      */
-    public StorageManager(UserModuleListStorage userModuleListStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(UserModuleListStorage userModuleListStorage, UserPrefsStorage userPrefsStorage,
+                          ModuleListStorage moduleListStorage, ModuleDetailStorage moduleDetailStorage) {
         this.userModuleListStorage = userModuleListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.moduleListStorage = moduleListStorage;
+        this.moduleDetailStorage = moduleDetailStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,4 +69,16 @@ public class StorageManager implements Storage {
     public void saveUserModuleList(UniqueUserModuleList uniqueUserModuleList) throws StorageException {
         userModuleListStorage.saveUserModuleList(uniqueUserModuleList);
     }
+
+    // ================ ModuleList methods ==============================
+
+    @Override
+    public ModuleListStorage getModuleListStorage() {
+        return moduleListStorage;
+    }
+
+    @Override
+    public ModuleDetailStorage getModuleDetailStorage() {
+        return moduleDetailStorage;
+    }
 }
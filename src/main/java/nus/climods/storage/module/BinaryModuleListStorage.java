@@ -0,0 +1,232 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openapitools.client.model.ModuleInformation;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.commons.util.FileUtil;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.ReadOnlyModuleList;
+
+/**
+ * A class to access ModuleList snapshots stored in the binary format of {@link MappedModuleListSnapshot}.
+ * <p>
+ * Snapshots are memory mapped rather than read, so reading one costs about as much as opening its file, and modules
+ * decode their fields from the mapping as they are shown. A file cannot be replaced on every platform while it is
+ * mapped, so each academic year has two snapshot files, and a new snapshot is written over one that has not been
+ * mapped, or else over the older of them. The newer of the two is read, or the older one if the newer one was cut
+ * short.
+ * </p>
+ * <p>
+ * A json snapshot left by {@link JsonModuleListStorage} is migrated to a binary snapshot the first time its academic
+ * year is read without one, and then deleted.
+ * </p>
+ */
+public class BinaryModuleListStorage implements ModuleListStorage {
+
+    /**
+     * As for {@link JsonModuleListStorage}, a snapshot younger than this is treated as up to date.
+     */
+    public static final Duration MAX_SNAPSHOT_AGE = JsonModuleListStorage.MAX_SNAPSHOT_AGE;
+
+    private static final String[] MODULE_LIST_FILE_NAMES = {"moduleInfo.0.bin", "moduleInfo.1.bin"};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryModuleListStorage.class);
+
+    private final Path directoryPath;
+    private final JsonModuleListStorage legacyStorage;
+    // Snapshot files mapped by this storage, which are not written over while the application runs
+    private final Set<Path> mappedFilePaths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a BinaryModuleListStorage that keeps its snapshots in {@code directoryPath}.
+     *
+     * @param directoryPath directory holding one sub directory per academic year
+     */
+    public BinaryModuleListStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+        legacyStorage = new JsonModuleListStorage(directoryPath);
+    }
+
+    /**
+     * Returns the snapshot files of {@code academicYear} that exist, newest first.
+     */
+    private List<Path> getSnapshotFilePaths(String academicYear) {
+        return Stream.of(MODULE_LIST_FILE_NAMES)
+            .map(fileName -> directoryPath.resolve(academicYear).resolve(fileName))
+            .filter(FileUtil::isFileExists)
+            .sorted(Comparator.comparing(this::getLastModified).reversed())
+            .collect(Collectors.toList());
+    }
+
+    private Instant getLastModified(Path filePath) {
+        try {
+            return Files.getLastModifiedTime(filePath).toInstant();
+        } catch (IOException e) {
+            logger.warning("Unable to read modification time of " + filePath + ": " + e.getMessage());
+            return Instant.MIN;
+        }
+    }
+
+    @Override
+    public Path getModuleListFilePath(String academicYear) {
+        requireNonNull(academicYear);
+        return getSnapshotFilePaths(academicYear).stream()
+            .findFirst()
+            .orElse(directoryPath.resolve(academicYear).resolve(MODULE_LIST_FILE_NAMES[0]));
+    }
+
+    @Override
+    public Optional<ReadOnlyModuleList> readModuleList(String academicYear) throws DataConversionException {
+        requireNonNull(academicYear);
+        if (getSnapshotFilePaths(academicYear).isEmpty()) {
+            migrateLegacySnapshot(academicYear);
+        }
+
+        DataConversionException error = null;
+        for (Path filePath : getSnapshotFilePaths(academicYear)) {
+            try {
+                return readModuleList(academicYear, filePath);
+            } catch (DataConversionException e) {
+                // A write cut short leaves the older snapshot to fall back on
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the json snapshot of {@code academicYear}, if there is one, as a binary snapshot as old as it, and deletes
+     * it. A json snapshot which cannot be read is deleted without being migrated.
+     */
+    private void migrateLegacySnapshot(String academicYear) {
+        Path legacyFilePath = legacyStorage.getModuleListFilePath(academicYear);
+        if (!FileUtil.isFileExists(legacyFilePath)) {
+            return;
+        }
+
+        try {
+            Optional<List<ModuleInformation>> moduleInfos = legacyStorage.readModuleInformation(academicYear,
+                legacyFilePath);
+            if (moduleInfos.isPresent()) {
+                Path filePath = directoryPath.resolve(academicYear).resolve(MODULE_LIST_FILE_NAMES[0]);
+                saveModuleList(moduleInfos.get(), academicYear, filePath);
+                Files.setLastModifiedTime(filePath, Files.getLastModifiedTime(legacyFilePath));
+                logger.info("Migrated module list snapshot " + legacyFilePath + " to " + filePath);
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Deleting module list snapshot " + legacyFilePath + ", as it is not in the correct format");
+        } catch (IOException e) {
+            logger.warning("Unable to migrate module list snapshot " + legacyFilePath + ": " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(legacyFilePath);
+        } catch (IOException e) {
+            logger.warning("Unable to delete module list snapshot " + legacyFilePath + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyModuleList> readModuleList(String academicYear, Path filePath)
+            throws DataConversionException {
+        requireNonNull(academicYear);
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Module list snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        MappedModuleListSnapshot snapshot;
+        try {
+            snapshot = MappedModuleListSnapshot.map(filePath);
+            mappedFilePaths.add(filePath.toAbsolutePath().normalize());
+        } catch (IOException e) {
+            logger.warning("Error reading from module list snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        if (!academicYear.equals(snapshot.getAcademicYear())) {
+            logger.info("Module list snapshot " + filePath + " is not for academic year " + academicYear);
+            return Optional.empty();
+        }
+
+        List<Module> modules = new ArrayList<>(snapshot.getModuleCount());
+        for (int i = 0; i < snapshot.getModuleCount(); i++) {
+            modules.add(new Module(snapshot.getModule(i), academicYear));
+        }
+        return Optional.of(new ModuleList(modules));
+    }
+
+    @Override
+    public boolean isModuleListStale(String academicYear) {
+        requireNonNull(academicYear);
+        List<Path> filePaths = getSnapshotFilePaths(academicYear);
+        return filePaths.isEmpty()
+            || getLastModified(filePaths.get(0)).plus(MAX_SNAPSHOT_AGE).isBefore(Instant.now());
+    }
+
+    @Override
+    public void saveModuleList(List<ModuleInformation> modules, String academicYear) throws IOException {
+        requireNonNull(academicYear);
+        saveModuleList(modules, academicYear, getFilePathToWrite(academicYear));
+    }
+
+    /**
+     * Returns the snapshot file of {@code academicYear} to write a new snapshot over: a missing one, else one that has
+     * not been mapped, else the older one. The newer snapshot is mapped on startup unless it failed validation, in
+     * which case the older one is, so the file mapped is remembered rather than guessed from the ages of the files.
+     */
+    private Path getFilePathToWrite(String academicYear) {
+        List<Path> filePaths = Stream.of(MODULE_LIST_FILE_NAMES)
+            .map(fileName -> directoryPath.resolve(academicYear).resolve(fileName))
+            .collect(Collectors.toList());
+        Optional<Path> missingFilePath = filePaths.stream()
+            .filter(filePath -> !FileUtil.isFileExists(filePath))
+            .findFirst();
+        if (missingFilePath.isPresent()) {
+            return missingFilePath.get();
+        }
+
+        List<Path> unmappedFilePaths = filePaths.stream()
+            .filter(filePath -> !mappedFilePaths.contains(filePath.toAbsolutePath().normalize()))
+            .collect(Collectors.toList());
+        List<Path> candidates = unmappedFilePaths.isEmpty() ? filePaths : unmappedFilePaths;
+        return candidates.stream()
+            .min(Comparator.comparing(this::getLastModified))
+            .orElseThrow();
+    }
+
+    @Override
+    public void saveModuleList(List<ModuleInformation> modules, String academicYear, Path filePath)
+            throws IOException {
+        requireNonNull(modules);
+        requireNonNull(academicYear);
+        requireNonNull(filePath);
+
+        MappedModuleListSnapshot.write(filePath, academicYear, modules);
+    }
+}
@@ -0,0 +1,57 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Module;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.module.ModuleDetailLoader;
+
+/**
+ * Loads the detailed information of modules from a {@link ModuleDetailStorage}, falling back to another loader on a
+ * cache miss and saving what it returns.
+ */
+public class CachedModuleDetailLoader implements ModuleDetailLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(CachedModuleDetailLoader.class);
+
+    private final ModuleDetailStorage moduleDetailStorage;
+    private final ModuleDetailLoader fallbackLoader;
+
+    /**
+     * Creates a CachedModuleDetailLoader backed by {@code moduleDetailStorage} and {@code fallbackLoader}.
+     */
+    public CachedModuleDetailLoader(ModuleDetailStorage moduleDetailStorage, ModuleDetailLoader fallbackLoader) {
+        requireNonNull(moduleDetailStorage);
+        requireNonNull(fallbackLoader);
+
+        this.moduleDetailStorage = moduleDetailStorage;
+        this.fallbackLoader = fallbackLoader;
+    }
+
+    @Override
+    public Module loadModuleDetail(String academicYear, String moduleCode) throws ApiException {
+        try {
+            Optional<Module> cachedModule = moduleDetailStorage.readModuleDetail(academicYear, moduleCode);
+            if (cachedModule.isPresent()) {
+                return cachedModule.get();
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Cached details of " + moduleCode + " are not in the correct format. Fetching them again");
+        }
+
+        Module module = fallbackLoader.loadModuleDetail(academicYear, moduleCode);
+        try {
+            moduleDetailStorage.saveModuleDetail(module, academicYear);
+        } catch (IOException e) {
+            logger.warning("Problem while caching details of " + moduleCode + ": " + e.getMessage());
+        }
+        return module;
+    }
+}
@@ -0,0 +1,76 @@
+package nus.climods.storage.module;
+
+import java.util.Objects;
+
+/**
+ * The progress of a {@link ModuleDetailCrawler} crawl.
+ */
+public class CrawlProgress {
+
+    private final int crawledCount;
+    private final int failedCount;
+    private final int moduleCount;
+    private final boolean isDone;
+
+    /**
+     * Creates a CrawlProgress.
+     *
+     * @param crawledCount number of modules whose details are saved, including those saved by earlier crawls
+     * @param failedCount  number of modules whose details could not be fetched
+     * @param moduleCount  number of modules to crawl
+     * @param isDone       whether the crawl has stopped, having crawled every module or given up
+     */
+    public CrawlProgress(int crawledCount, int failedCount, int moduleCount, boolean isDone) {
+        assert crawledCount >= 0 && failedCount >= 0 && crawledCount + failedCount <= moduleCount;
+        this.crawledCount = crawledCount;
+        this.failedCount = failedCount;
+        this.moduleCount = moduleCount;
+        this.isDone = isDone;
+    }
+
+    public int getCrawledCount() {
+        return crawledCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public int getModuleCount() {
+        return moduleCount;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public boolean isComplete() {
+        return crawledCount == moduleCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CrawlProgress)) {
+            return false;
+        }
+
+        CrawlProgress otherProgress = (CrawlProgress) other;
+        return crawledCount == otherProgress.crawledCount && failedCount == otherProgress.failedCount
+            && moduleCount == otherProgress.moduleCount && isDone == otherProgress.isDone;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(crawledCount, failedCount, moduleCount, isDone);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CrawlProgress<%d/%d, %d failed%s>", crawledCount, moduleCount, failedCount,
+            isDone ? ", done" : "");
+    }
+}
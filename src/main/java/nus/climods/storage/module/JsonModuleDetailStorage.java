@@ -0,0 +1,220 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openapitools.client.ApiClient;
+import org.openapitools.client.model.Module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.commons.util.FileUtil;
+
+/**
+ * A class to access the detailed information of modules stored as json files on the hard disk.
+ * <p>
+ * Each module is stored in its own file under the directory of its academic year. Entries expire after
+ * {@link #MAX_DETAIL_AGE} after they are saved, and once an academic year holds more than
+ * {@link #MAX_DETAIL_ENTRIES} modules, the least recently used ones are deleted.
+ * </p>
+ * <p>
+ * The entries of an academic year are listed from the disk once, in order of last access time, and their use is then
+ * tracked in memory. Reading an entry also sets its last access time, so that the order carries over to the next
+ * launch, while its modification time stays the time it was saved.
+ * </p>
+ * <p>
+ * Entries are written in the NUSMods format, with the object mapper of the API client, as the generated models do not
+ * accept the explicit nulls {@link nus.climods.commons.util.JsonUtil} writes.
+ * </p>
+ */
+public class JsonModuleDetailStorage implements ModuleDetailStorage {
+
+    /**
+     * Timetables rarely change within a week, and an expired entry is cheap to refresh through HTTP revalidation.
+     */
+    public static final Duration MAX_DETAIL_AGE = Duration.ofDays(7);
+
+    /**
+     * Comfortably more than the modules a user views in a year, while keeping the cache to a few megabytes.
+     */
+    public static final int MAX_DETAIL_ENTRIES = 1000;
+
+    /**
+     * Maximum entries of a storage which never evicts entries.
+     */
+    public static final int UNBOUNDED_ENTRIES = Integer.MAX_VALUE;
+
+    private static final String MODULE_DETAIL_DIRECTORY_NAME = "modules";
+    private static final String MODULE_DETAIL_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonModuleDetailStorage.class);
+
+    private static final ObjectMapper objectMapper = new ApiClient().getObjectMapper();
+
+    private final Path directoryPath;
+    private final Duration maxAge;
+    private final int maxEntries;
+    // Entries of each academic year directory, least recently used first
+    private final Map<Path, LinkedHashMap<Path, Boolean>> accessOrders = new HashMap<>();
+
+    /**
+     * Creates a JsonModuleDetailStorage that keeps its entries in {@code directoryPath}.
+     *
+     * @param directoryPath directory holding one sub directory per academic year
+     */
+    public JsonModuleDetailStorage(Path directoryPath) {
+        this(directoryPath, MAX_DETAIL_AGE, MAX_DETAIL_ENTRIES);
+    }
+
+    /**
+     * Creates a JsonModuleDetailStorage that keeps at most {@code maxEntries} entries per academic year, each for at
+     * most {@code maxAge}.
+     */
+    public JsonModuleDetailStorage(Path directoryPath, Duration maxAge, int maxEntries) {
+        requireNonNull(directoryPath);
+        requireNonNull(maxAge);
+        assert maxEntries > 0;
+
+        this.directoryPath = directoryPath;
+        this.maxAge = maxAge;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Path getModuleDetailFilePath(String academicYear, String moduleCode) {
+        requireNonNull(moduleCode);
+        return getModuleDetailDirectoryPath(academicYear).resolve(moduleCode + MODULE_DETAIL_FILE_EXTENSION);
+    }
+
+    private Path getModuleDetailDirectoryPath(String academicYear) {
+        requireNonNull(academicYear);
+        return directoryPath.resolve(academicYear).resolve(MODULE_DETAIL_DIRECTORY_NAME);
+    }
+
+    @Override
+    public synchronized Optional<Module> readModuleDetail(String academicYear, String moduleCode)
+            throws DataConversionException {
+        Path filePath = getModuleDetailFilePath(academicYear, moduleCode);
+        if (!FileUtil.isFileExists(filePath) || isExpired(filePath)) {
+            return Optional.empty();
+        }
+
+        Module module;
+        try {
+            module = objectMapper.readValue(FileUtil.readFromFile(filePath), Module.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from module detail file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        if (isBounded()) {
+            markUsed(getModuleDetailDirectoryPath(academicYear), filePath);
+        }
+        return Optional.of(module);
+    }
+
+    private boolean isBounded() {
+        return maxEntries < UNBOUNDED_ENTRIES;
+    }
+
+    private void markUsed(Path detailDirectoryPath, Path filePath) {
+        try {
+            getAccessOrder(detailDirectoryPath).put(filePath, true);
+            Files.getFileAttributeView(filePath, BasicFileAttributeView.class)
+                .setTimes(null, FileTime.from(Instant.now()), null);
+        } catch (IOException e) {
+            // The order in memory is still right, only the next launch may evict this entry early
+            logger.fine("Unable to mark " + filePath + " as used: " + e.getMessage());
+        }
+    }
+
+    private LinkedHashMap<Path, Boolean> getAccessOrder(Path detailDirectoryPath) throws IOException {
+        LinkedHashMap<Path, Boolean> accessOrder = accessOrders.get(detailDirectoryPath);
+        if (accessOrder != null) {
+            return accessOrder;
+        }
+
+        List<Path> files;
+        try (Stream<Path> listedFiles = Files.list(detailDirectoryPath)) {
+            files = listedFiles.filter(file -> file.toString().endsWith(MODULE_DETAIL_FILE_EXTENSION))
+                .collect(Collectors.toList());
+        }
+        Map<Path, FileTime> lastAccessTimes = files.stream()
+            .collect(Collectors.toMap(file -> file, this::getLastAccessTime));
+        files.sort(Comparator.comparing(lastAccessTimes::get));
+        accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+        for (Path file : files) {
+            accessOrder.put(file, true);
+        }
+        accessOrders.put(detailDirectoryPath, accessOrder);
+        return accessOrder;
+    }
+
+    private boolean isExpired(Path filePath) {
+        try {
+            Instant lastModified = Files.getLastModifiedTime(filePath).toInstant();
+            return lastModified.plus(maxAge).isBefore(Instant.now());
+        } catch (IOException e) {
+            logger.warning("Unable to read modification time of " + filePath + ": " + e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized void saveModuleDetail(Module module, String academicYear) throws IOException {
+        requireNonNull(module);
+
+        Path filePath = getModuleDetailFilePath(academicYear, module.getModuleCode());
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, objectMapper.writeValueAsString(module));
+        // An unbounded storage, such as that of a catalogue crawl, need not track the use of its entries
+        if (isBounded()) {
+            Path detailDirectoryPath = getModuleDetailDirectoryPath(academicYear);
+            getAccessOrder(detailDirectoryPath).put(filePath, true);
+            evictLeastRecentlyUsedEntries(detailDirectoryPath);
+        }
+    }
+
+    private void evictLeastRecentlyUsedEntries(Path detailDirectoryPath) throws IOException {
+        LinkedHashMap<Path, Boolean> accessOrder = getAccessOrder(detailDirectoryPath);
+        int excess = accessOrder.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+
+        Iterator<Path> leastRecentlyUsedFiles = accessOrder.keySet().iterator();
+        for (int i = 0; i < excess; i++) {
+            Files.deleteIfExists(leastRecentlyUsedFiles.next());
+            leastRecentlyUsedFiles.remove();
+        }
+        logger.fine("Evicted " + excess + " module details from " + detailDirectoryPath);
+    }
+
+    private FileTime getLastAccessTime(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastAccessTime();
+        } catch (IOException e) {
+            // Treat unreadable entries as the least recently used, so that they are evicted first
+            return FileTime.fromMillis(0);
+        }
+    }
+}
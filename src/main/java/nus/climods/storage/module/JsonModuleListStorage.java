@@ -3,68 +3,173 @@ package nus.climods.storage.module;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import org.openapitools.client.model.ModuleInformation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import nus.climods.commons.core.LogsCenter;
 import nus.climods.commons.exceptions.DataConversionException;
 import nus.climods.commons.exceptions.IllegalValueException;
+import nus.climods.commons.util.FileUtil;
 import nus.climods.commons.util.JsonUtil;
 import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.ReadOnlyModuleList;
 
 /**
- * A class to access ModuleList data stored as a json file on the hard disk.
+ * A class to access ModuleList snapshots stored as json files on the hard disk.
+ * <p>
+ * Snapshots are now kept by {@link BinaryModuleListStorage}, which reads json snapshots with this class only to
+ * migrate them.
+ * </p>
+ * <p>
+ * Each academic year is stored in its own sub directory of the cache directory, so switching academic years does not
+ * invalidate the snapshot of another year. Snapshots are read with a streaming parser that keeps only the fields
+ * shown in the module list, see {@link ModuleInformationReader}.
+ * </p>
  */
 public class JsonModuleListStorage implements ModuleListStorage {
 
+    /**
+     * NUSMods regenerates its data at most once a day, so a snapshot younger than this is treated as up to date.
+     */
+    public static final Duration MAX_SNAPSHOT_AGE = Duration.ofDays(1);
+
+    public static final String MESSAGE_MISSING_MODULES = "Module list snapshot has no modules field.";
+
+    private static final String MODULE_LIST_FILE_NAME = "moduleInfo.json";
+    private static final String FIELD_ACADEMIC_YEAR = "academicYear";
+    private static final String FIELD_MODULES = "modules";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private static final Logger logger = LogsCenter.getLogger(JsonModuleListStorage.class);
 
-    private final Path filePath;
+    private final Path directoryPath;
 
-    public JsonModuleListStorage(Path filePath) {
-        this.filePath = filePath;
+    /**
+     * Creates a JsonModuleListStorage that keeps its snapshots in {@code directoryPath}.
+     *
+     * @param directoryPath directory holding one sub directory per academic year
+     */
+    public JsonModuleListStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
     }
 
     @Override
-    public Path getModuleListFilePath() {
-        return filePath;
+    public Path getModuleListFilePath(String academicYear) {
+        requireNonNull(academicYear);
+        return directoryPath.resolve(academicYear).resolve(MODULE_LIST_FILE_NAME);
     }
 
     @Override
     public Optional<ReadOnlyModuleList> readModuleList(String academicYear) throws DataConversionException {
-        return readModuleList(academicYear, filePath);
+        return readModuleList(academicYear, getModuleListFilePath(academicYear));
     }
 
     @Override
     public Optional<ReadOnlyModuleList> readModuleList(String academicYear, Path filePath)
             throws DataConversionException {
+        requireNonNull(academicYear);
         requireNonNull(filePath);
 
-        Optional<JsonSerializableModuleList> jsonModuleList = JsonUtil.readJsonFile(
-            filePath, JsonSerializableModuleList.class);
+        return readModuleInformation(academicYear, filePath).map(moduleInfos -> {
+            List<Module> modules = new ArrayList<>(moduleInfos.size());
+            moduleInfos.forEach(moduleInfo -> modules.add(new Module(moduleInfo, academicYear)));
+            return new ModuleList(modules);
+        });
+    }
 
-        if (jsonModuleList.isEmpty()) {
+    /**
+     * Returns the module information of the snapshot at {@code filePath}, as shown in the module list. Returns
+     * {@code Optional.empty()} if the file is not found, or if the snapshot belongs to a different academic year.
+     *
+     * @throws DataConversionException if the file is not a module list snapshot.
+     */
+    Optional<List<ModuleInformation>> readModuleInformation(String academicYear, Path filePath)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Module list snapshot " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonModuleList.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        String snapshotAcademicYear = null;
+        List<ModuleInformation> moduleInfos = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Module list snapshot is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(FIELD_ACADEMIC_YEAR)) {
+                    snapshotAcademicYear = parser.getValueAsString();
+                } else if (fieldName.equals(FIELD_MODULES) && parser.currentToken() == JsonToken.START_ARRAY
+                    && (snapshotAcademicYear == null || snapshotAcademicYear.equals(academicYear))) {
+                    List<ModuleInformation> readModuleInfos = new ArrayList<>();
+                    new ModuleInformationReader().readModules(parser, readModuleInfos::add);
+                    moduleInfos = readModuleInfos;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from module list snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        if (!academicYear.equals(snapshotAcademicYear)) {
+            logger.info("Module list snapshot " + filePath + " is not for academic year " + academicYear);
+            return Optional.empty();
+        }
+
+        if (moduleInfos == null) {
+            logger.info("Illegal values found in " + filePath + ": " + MESSAGE_MISSING_MODULES);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_MODULES));
         }
+        return Optional.of(moduleInfos);
     }
 
     @Override
-    public void saveModuleList(List<Module> modules) throws IOException {
+    public boolean isModuleListStale(String academicYear) {
+        Path filePath = getModuleListFilePath(academicYear);
+        if (!FileUtil.isFileExists(filePath)) {
+            return true;
+        }
+
+        try {
+            Instant lastModified = Files.getLastModifiedTime(filePath).toInstant();
+            return lastModified.plus(MAX_SNAPSHOT_AGE).isBefore(Instant.now());
+        } catch (IOException e) {
+            logger.warning("Unable to read modification time of " + filePath + ": " + e.getMessage());
+            return true;
+        }
+    }
 
+    @Override
+    public void saveModuleList(List<ModuleInformation> modules, String academicYear) throws IOException {
+        saveModuleList(modules, academicYear, getModuleListFilePath(academicYear));
     }
 
     @Override
-    public void saveModuleList(List<Module> modules, Path filePath) throws IOException {
+    public void saveModuleList(List<ModuleInformation> modules, String academicYear, Path filePath)
+            throws IOException {
+        requireNonNull(modules);
+        requireNonNull(academicYear);
+        requireNonNull(filePath);
 
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableModuleList(academicYear, modules), filePath);
     }
 }
@@ -0,0 +1,42 @@
+package nus.climods.storage.module;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The modules a {@link ModuleDetailCrawler} has crawled so far, serializable to JSON format.
+ */
+class JsonSerializableCrawlCheckpoint {
+
+    private final String academicYear;
+    private final long startedAt;
+    private final List<String> crawledModuleCodes;
+
+    /**
+     * Constructs a {@code JsonSerializableCrawlCheckpoint} with the given details.
+     *
+     * @param startedAt time the crawl started, in milliseconds since the epoch
+     */
+    @JsonCreator
+    public JsonSerializableCrawlCheckpoint(@JsonProperty("academicYear") String academicYear,
+                                           @JsonProperty("startedAt") long startedAt,
+                                           @JsonProperty("crawledModuleCodes") List<String> crawledModuleCodes) {
+        this.academicYear = academicYear;
+        this.startedAt = startedAt;
+        this.crawledModuleCodes = crawledModuleCodes;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public List<String> getCrawledModuleCodes() {
+        return crawledModuleCodes == null ? List.of() : crawledModuleCodes;
+    }
+}
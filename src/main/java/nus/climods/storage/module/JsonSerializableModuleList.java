@@ -1,7 +1,6 @@
 package nus.climods.storage.module;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.openapitools.client.model.ModuleInformation;
 
@@ -9,29 +8,23 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import nus.climods.commons.exceptions.IllegalValueException;
-import nus.climods.model.module.ModuleList;
-
+/**
+ * An Immutable module list snapshot that is serializable to JSON format. Snapshots are read back by
+ * {@link JsonModuleListStorage} with a streaming parser.
+ */
 @JsonRootName(value = "moduleList")
 class JsonSerializableModuleList {
 
+    private final String academicYear;
     private final List<ModuleInformation> modules;
 
     /**
-     * Constructs a {@code JsonSerializableModuleList} with the given modules.
+     * Constructs a {@code JsonSerializableModuleList} with the given academic year and modules.
      */
     @JsonCreator
-    public JsonSerializableModuleList(@JsonProperty("modules") List<ModuleInformation> modules) {
+    public JsonSerializableModuleList(@JsonProperty("academicYear") String academicYear,
+                                      @JsonProperty("modules") List<ModuleInformation> modules) {
+        this.academicYear = academicYear;
         this.modules = modules;
     }
-
-    /**
-     * Converts this module list into the model's {@code ModuleList} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public ModuleList toModelType() throws IllegalValueException {
-        return new ModuleList(modules.stream().map(nus.climods.model.module.Module::new).collect(
-                Collectors.toList()));
-    }
 }
@@ -0,0 +1,80 @@
+package nus.climods.storage.module;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+
+/**
+ * Module information that decodes its fields from a {@link MappedModuleListSnapshot} each time they are read, so that
+ * a module list read from a snapshot holds no strings of its own.
+ */
+class MappedModuleInformation extends ModuleInformation {
+
+    private final MappedModuleListSnapshot snapshot;
+    private final int index;
+
+    MappedModuleInformation(MappedModuleListSnapshot snapshot, int index) {
+        this.snapshot = snapshot;
+        this.index = index;
+    }
+
+    @Override
+    public String getModuleCode() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_MODULE_CODE);
+    }
+
+    @Override
+    public String getTitle() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_TITLE);
+    }
+
+    @Override
+    public String getDescription() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_DESCRIPTION);
+    }
+
+    @Override
+    public String getModuleCredit() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_MODULE_CREDIT);
+    }
+
+    @Override
+    public String getDepartment() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_DEPARTMENT);
+    }
+
+    @Override
+    public String getFaculty() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_FACULTY);
+    }
+
+    @Override
+    public String getPrerequisite() {
+        return snapshot.getString(index, MappedModuleListSnapshot.FIELD_PREREQUISITE);
+    }
+
+    @Override
+    public List<ModuleInformationSemesterDataInner> getSemesterData() {
+        return snapshot.getSemesterData(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof MappedModuleInformation
+            && snapshot == ((MappedModuleInformation) other).snapshot
+            && index == ((MappedModuleInformation) other).index);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(snapshot), index);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedModuleInformation[" + getModuleCode() + "]";
+    }
+}
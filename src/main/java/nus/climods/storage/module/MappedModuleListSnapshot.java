@@ -0,0 +1,218 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+
+import nus.climods.model.module.SemesterBitmask;
+
+/**
+ * A module list snapshot in a compact binary format, read through a memory mapping of its file.
+ * <p>
+ * A snapshot is a fixed size header, then one fixed size record of string table indexes per module, then the offsets
+ * of the strings in the string table, then the UTF-8 bytes of the strings. Each distinct string is stored once. The
+ * header holds a checksum of everything after it, so a snapshot cut short by a failed write is not read. Nothing is
+ * decoded up front: the modules of a snapshot decode their fields from the mapping each time they are read.
+ * </p>
+ */
+class MappedModuleListSnapshot {
+
+    /**
+     * "CMOD" in ASCII.
+     */
+    static final int MAGIC = 0x434d4f44;
+
+    /**
+     * Changed whenever the layout changes, so that snapshots in an older layout are downloaded again.
+     */
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+
+    // Byte offsets of the header fields
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_CHECKSUM = 8;
+    private static final int HEADER_ACADEMIC_YEAR = 16;
+    private static final int HEADER_MODULE_COUNT = 20;
+    private static final int HEADER_STRING_COUNT = 24;
+
+    // Byte offsets of the fields of a module record, each an int
+    static final int FIELD_MODULE_CODE = 0;
+    static final int FIELD_TITLE = 4;
+    static final int FIELD_DESCRIPTION = 8;
+    static final int FIELD_MODULE_CREDIT = 12;
+    static final int FIELD_DEPARTMENT = 16;
+    static final int FIELD_FACULTY = 20;
+    static final int FIELD_PREREQUISITE = 24;
+    // A SemesterBitmask
+    static final int FIELD_SEMESTERS = 28;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int NO_STRING = -1;
+
+    private final ByteBuffer buffer;
+    private final String academicYear;
+    private final int moduleCount;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+
+    private MappedModuleListSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException("Not a module list snapshot");
+        }
+        if (buffer.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException("Module list snapshot version " + buffer.getInt(HEADER_VERSION) + " is not "
+                + VERSION);
+        }
+
+        moduleCount = buffer.getInt(HEADER_MODULE_COUNT);
+        int stringCount = buffer.getInt(HEADER_STRING_COUNT);
+        long stringDataOffset = HEADER_SIZE + (long) moduleCount * RECORD_SIZE + (stringCount + 1L) * Integer.BYTES;
+        if (moduleCount < 0 || stringCount < 0 || stringDataOffset > buffer.capacity()) {
+            throw new IOException("Module list snapshot is cut short");
+        }
+        stringOffsetsStart = HEADER_SIZE + moduleCount * RECORD_SIZE;
+        stringDataStart = (int) stringDataOffset;
+        if (buffer.getInt(stringDataStart - Integer.BYTES) != buffer.capacity() - stringDataStart) {
+            throw new IOException("Module list snapshot is cut short");
+        }
+        if (buffer.getLong(HEADER_CHECKSUM) != computeChecksum(buffer)) {
+            throw new IOException("Module list snapshot does not match its checksum");
+        }
+        academicYear = getString(buffer.getInt(HEADER_ACADEMIC_YEAR));
+    }
+
+    /**
+     * Maps the snapshot in {@code filePath} into memory.
+     *
+     * @throws IOException if the file could not be read, or is not a complete snapshot of this version.
+     */
+    static MappedModuleListSnapshot map(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return new MappedModuleListSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code modules} in {@code academicYear} to {@code filePath}, replacing the file.
+     */
+    static void write(Path filePath, String academicYear, List<ModuleInformation> modules) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(academicYear);
+        requireNonNull(modules);
+
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        ByteBuffer records = ByteBuffer.allocate(modules.size() * RECORD_SIZE);
+        int academicYearIndex = addString(stringIndexes, academicYear);
+        for (ModuleInformation module : modules) {
+            records.putInt(addString(stringIndexes, module.getModuleCode()))
+                .putInt(addString(stringIndexes, module.getTitle()))
+                .putInt(addString(stringIndexes, module.getDescription()))
+                .putInt(addString(stringIndexes, module.getModuleCredit()))
+                .putInt(addString(stringIndexes, module.getDepartment()))
+                .putInt(addString(stringIndexes, module.getFaculty()))
+                .putInt(addString(stringIndexes, module.getPrerequisite()))
+                .putInt(SemesterBitmask.of(module.getSemesterData()));
+        }
+
+        List<byte[]> strings = new ArrayList<>();
+        int stringDataSize = 0;
+        for (String string : stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            stringDataSize += bytes.length;
+        }
+
+        ByteBuffer snapshot = ByteBuffer.allocate(HEADER_SIZE + records.capacity()
+            + (strings.size() + 1) * Integer.BYTES + stringDataSize);
+        snapshot.putInt(MAGIC).putInt(VERSION).putLong(0).putInt(academicYearIndex).putInt(modules.size())
+            .putInt(strings.size()).putInt(0);
+        snapshot.put(records.flip());
+        int stringOffset = 0;
+        for (byte[] string : strings) {
+            snapshot.putInt(stringOffset);
+            stringOffset += string.length;
+        }
+        snapshot.putInt(stringOffset);
+        strings.forEach(snapshot::put);
+        snapshot.putLong(HEADER_CHECKSUM, computeChecksum(snapshot));
+
+        // Truncating a file in place would pull it out from under any mapping of it, so a new file is moved in instead
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Files.createDirectories(filePath.toAbsolutePath().getParent());
+        Files.write(tempFilePath, snapshot.array());
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int addString(Map<String, Integer> stringIndexes, String string) {
+        return string == null ? NO_STRING : stringIndexes.computeIfAbsent(string, key -> stringIndexes.size());
+    }
+
+    private static long computeChecksum(ByteBuffer snapshot) {
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.duplicate().position(HEADER_SIZE).limit(snapshot.capacity()));
+        return checksum.getValue();
+    }
+
+    String getAcademicYear() {
+        return academicYear;
+    }
+
+    int getModuleCount() {
+        return moduleCount;
+    }
+
+    /**
+     * Returns the module information of the {@code index}th module, which reads its fields from this snapshot.
+     */
+    ModuleInformation getModule(int index) {
+        assert index >= 0 && index < moduleCount;
+        return new MappedModuleInformation(this, index);
+    }
+
+    /**
+     * Returns the string in the {@code field} of the {@code index}th module, or null if it has none.
+     */
+    String getString(int index, int field) {
+        return getString(buffer.getInt(HEADER_SIZE + index * RECORD_SIZE + field));
+    }
+
+    /**
+     * Returns the semesters the {@code index}th module is offered in, in order.
+     */
+    List<ModuleInformationSemesterDataInner> getSemesterData(int index) {
+        return SemesterBitmask.toSemesterData(buffer.getInt(HEADER_SIZE + index * RECORD_SIZE + FIELD_SEMESTERS));
+    }
+
+    private String getString(int stringIndex) {
+        if (stringIndex == NO_STRING) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsetsStart + stringIndex * Integer.BYTES);
+        int end = buffer.getInt(stringOffsetsStart + (stringIndex + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        // Reads from a duplicate, so that reads from several threads do not move each other's position
+        buffer.duplicate().position(stringDataStart + start).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,314 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Module;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.commons.util.JsonUtil;
+import nus.climods.model.module.ModuleDetailLoader;
+
+/**
+ * Fetches the details of every module in the background and saves them in a {@link ModuleDetailStorage}, so that
+ * questions about the timetables of all modules can be answered offline.
+ * <p>
+ * At most {@code maxConcurrentRequests} requests are in flight, and requests start at least
+ * {@code minRequestInterval} apart, so as not to flood NUSMods. Each crawling thread takes the next module from a
+ * queue shared by the crawl, so no task is queued up front for each module. The modules crawled so far are written to
+ * a checkpoint file every {@link #CHECKPOINT_INTERVAL} modules, so that an interrupted crawl skips them when started
+ * again, until the crawl is {@link #MAX_CRAWL_AGE} old. A crawl gives up after {@link #MAX_CONSECUTIVE_FAILURES}
+ * failures in a row, as NUSMods is then likely unreachable.
+ * </p>
+ */
+public class ModuleDetailCrawler {
+
+    /**
+     * As for {@link nus.climods.model.module.ModuleDetailPrefetcher}, enough to hide latency without flooding NUSMods.
+     */
+    public static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Ten requests a second crawls a catalogue of about 6000 modules in ten minutes.
+     */
+    public static final Duration MIN_REQUEST_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * Timetables are set well before a semester, so a crawl is only repeated once a month.
+     */
+    public static final Duration MAX_CRAWL_AGE = Duration.ofDays(30);
+
+    public static final int CHECKPOINT_INTERVAL = 50;
+    public static final int MAX_CONSECUTIVE_FAILURES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleDetailCrawler.class);
+
+    private final ModuleDetailStorage moduleDetailStorage;
+    private final ModuleDetailLoader loader;
+    private final Path checkpointFilePath;
+    private final Duration minRequestInterval;
+    private final int maxConcurrentRequests;
+    private final ExecutorService executor;
+
+    private long nextRequestNanos = Long.MIN_VALUE;
+    private Crawl currentCrawl;
+
+    /**
+     * Creates a ModuleDetailCrawler with at most {@link #MAX_CONCURRENT_REQUESTS} requests in flight, started
+     * {@link #MIN_REQUEST_INTERVAL} apart.
+     *
+     * @param moduleDetailStorage storage to save the details in
+     * @param loader              loader fetching the details from NUSMods
+     * @param checkpointFilePath  file recording the modules crawled so far
+     */
+    public ModuleDetailCrawler(ModuleDetailStorage moduleDetailStorage, ModuleDetailLoader loader,
+        Path checkpointFilePath) {
+        this(moduleDetailStorage, loader, checkpointFilePath, MAX_CONCURRENT_REQUESTS, MIN_REQUEST_INTERVAL);
+    }
+
+    /**
+     * Creates a ModuleDetailCrawler with at most {@code maxConcurrentRequests} requests in flight, started
+     * {@code minRequestInterval} apart.
+     */
+    public ModuleDetailCrawler(ModuleDetailStorage moduleDetailStorage, ModuleDetailLoader loader,
+        Path checkpointFilePath, int maxConcurrentRequests, Duration minRequestInterval) {
+        requireNonNull(moduleDetailStorage);
+        requireNonNull(loader);
+        requireNonNull(checkpointFilePath);
+        requireNonNull(minRequestInterval);
+        assert maxConcurrentRequests > 0;
+
+        this.moduleDetailStorage = moduleDetailStorage;
+        this.loader = loader;
+        this.checkpointFilePath = checkpointFilePath;
+        this.minRequestInterval = minRequestInterval;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        executor = Executors.newFixedThreadPool(maxConcurrentRequests, createThreadFactory());
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "module-crawl-" + threadCount.incrementAndGet());
+            // Do not keep the application alive for a pending network call
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts crawling the details of {@code moduleCodes} in {@code academicYear}, skipping those crawled by an earlier
+     * crawl with the same checkpoint file.
+     *
+     * @param progressListener called with the progress after each module, from a crawling thread
+     * @return a future completed with the final progress once the crawl stops
+     */
+    public CompletableFuture<CrawlProgress> crawl(String academicYear, List<String> moduleCodes,
+        Consumer<CrawlProgress> progressListener) {
+        requireNonNull(academicYear);
+        requireNonNull(moduleCodes);
+        requireNonNull(progressListener);
+
+        Crawl crawl = new Crawl(academicYear, moduleCodes, progressListener);
+        synchronized (this) {
+            currentCrawl = crawl;
+        }
+        Queue<String> remainingModuleCodes = moduleCodes.stream()
+            .distinct()
+            .filter(moduleCode -> !crawl.crawledModuleCodes.contains(moduleCode))
+            .collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+        logger.info(String.format("Crawling details of %d/%d modules", remainingModuleCodes.size(),
+            crawl.moduleCount));
+
+        CompletableFuture<?>[] workers = IntStream.range(0, Math.min(maxConcurrentRequests,
+                remainingModuleCodes.size()))
+            .mapToObj(i -> CompletableFuture.runAsync(() -> crawl.fetchAll(remainingModuleCodes), executor))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(workers).handle((unused, e) -> crawl.finish());
+    }
+
+    /**
+     * Waits until a request may start, so that requests start at least {@code minRequestInterval} apart.
+     */
+    private void waitForTurn() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            nextRequestNanos = Math.max(nextRequestNanos, now);
+            waitNanos = nextRequestNanos - now;
+            nextRequestNanos += minRequestInterval.toNanos();
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /**
+     * Stops crawling, interrupting requests in flight, and records the modules crawled so far in the checkpoint file.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        Crawl crawl;
+        synchronized (this) {
+            crawl = currentCrawl;
+        }
+        if (crawl != null) {
+            crawl.stop();
+        }
+    }
+
+    /**
+     * The state of a single crawl, shared by its fetches.
+     */
+    private class Crawl {
+
+        private final String academicYear;
+        private final Instant startedAt;
+        private final Set<String> crawledModuleCodes;
+        private final int moduleCount;
+        private final Consumer<CrawlProgress> progressListener;
+        private int crawledCount;
+        private int failedCount;
+        private int consecutiveFailureCount;
+        private int uncheckpointedCount;
+        private boolean isStopped;
+
+        Crawl(String academicYear, List<String> moduleCodes, Consumer<CrawlProgress> progressListener) {
+            this.academicYear = academicYear;
+            this.progressListener = progressListener;
+            Set<String> distinctModuleCodes = new LinkedHashSet<>(moduleCodes);
+            moduleCount = distinctModuleCodes.size();
+
+            Optional<JsonSerializableCrawlCheckpoint> checkpoint = readCheckpoint()
+                .filter(saved -> academicYear.equals(saved.getAcademicYear()))
+                .filter(saved -> Instant.ofEpochMilli(saved.getStartedAt()).plus(MAX_CRAWL_AGE)
+                    .isAfter(Instant.now()));
+            startedAt = checkpoint.map(saved -> Instant.ofEpochMilli(saved.getStartedAt())).orElse(Instant.now());
+            crawledModuleCodes = new LinkedHashSet<>(checkpoint
+                .map(JsonSerializableCrawlCheckpoint::getCrawledModuleCodes).orElse(List.of()));
+            crawledCount = (int) distinctModuleCodes.stream().filter(crawledModuleCodes::contains).count();
+        }
+
+        private Optional<JsonSerializableCrawlCheckpoint> readCheckpoint() {
+            try {
+                return JsonUtil.readJsonFile(checkpointFilePath, JsonSerializableCrawlCheckpoint.class);
+            } catch (DataConversionException e) {
+                logger.warning("Crawl checkpoint is not in the correct format. Crawling from the start");
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Fetches the modules of {@code moduleCodes} one at a time, until none are left or the crawl stops.
+         */
+        void fetchAll(Queue<String> moduleCodes) {
+            while (!isStopped() && !Thread.currentThread().isInterrupted()) {
+                String moduleCode = moduleCodes.poll();
+                if (moduleCode == null) {
+                    return;
+                }
+                fetch(moduleCode);
+            }
+        }
+
+        private synchronized boolean isStopped() {
+            return isStopped;
+        }
+
+        private void fetch(String moduleCode) {
+            try {
+                waitForTurn();
+                Module module = loader.loadModuleDetail(academicYear, moduleCode);
+                moduleDetailStorage.saveModuleDetail(module, academicYear);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ApiException | IOException | RuntimeException e) {
+                logger.fine("Failed to crawl details of " + moduleCode + ": " + e.getMessage());
+                onFailure();
+                return;
+            }
+            onSuccess(moduleCode);
+        }
+
+        private void onSuccess(String moduleCode) {
+            CrawlProgress progress;
+            synchronized (this) {
+                crawledModuleCodes.add(moduleCode);
+                crawledCount++;
+                consecutiveFailureCount = 0;
+                if (++uncheckpointedCount >= CHECKPOINT_INTERVAL) {
+                    saveCheckpoint();
+                }
+                progress = getProgress(false);
+            }
+            progressListener.accept(progress);
+        }
+
+        private void onFailure() {
+            CrawlProgress progress;
+            synchronized (this) {
+                failedCount++;
+                if (++consecutiveFailureCount >= MAX_CONSECUTIVE_FAILURES && !isStopped) {
+                    logger.warning("Stopped crawling module details after " + consecutiveFailureCount
+                        + " failures in a row");
+                    isStopped = true;
+                }
+                progress = getProgress(false);
+            }
+            progressListener.accept(progress);
+        }
+
+        private CrawlProgress getProgress(boolean isDone) {
+            return new CrawlProgress(crawledCount, failedCount, moduleCount, isDone);
+        }
+
+        private void saveCheckpoint() {
+            uncheckpointedCount = 0;
+            try {
+                JsonUtil.saveJsonFile(new JsonSerializableCrawlCheckpoint(academicYear, startedAt.toEpochMilli(),
+                    new ArrayList<>(crawledModuleCodes)), checkpointFilePath);
+            } catch (IOException e) {
+                logger.warning("Problem while saving crawl checkpoint: " + e.getMessage());
+            }
+        }
+
+        synchronized void stop() {
+            isStopped = true;
+            saveCheckpoint();
+        }
+
+        CrawlProgress finish() {
+            CrawlProgress progress;
+            synchronized (this) {
+                saveCheckpoint();
+                progress = getProgress(true);
+            }
+            logger.info(String.format("Crawled details of %d/%d modules, %d failed", progress.getCrawledCount(),
+                progress.getModuleCount(), progress.getFailedCount()));
+            progressListener.accept(progress);
+            return progress;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package nus.climods.storage.module;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.openapitools.client.model.Module;
+
+import nus.climods.commons.exceptions.DataConversionException;
+
+/**
+ * Represents a storage for the detailed information of modules, keyed by academic year and module code.
+ */
+public interface ModuleDetailStorage {
+
+    /**
+     * Returns the file path of the detailed information of {@code moduleCode} in {@code academicYear}.
+     */
+    Path getModuleDetailFilePath(String academicYear, String moduleCode);
+
+    /**
+     * Returns the detailed information of {@code moduleCode} in {@code academicYear}. Returns {@code Optional.empty()}
+     * if it is not stored, or if it is older than the refresh interval.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     */
+    Optional<Module> readModuleDetail(String academicYear, String moduleCode) throws DataConversionException;
+
+    /**
+     * Saves the detailed information of a module in {@code academicYear}, evicting the oldest entries if the storage
+     * is full.
+     *
+     * @param module cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveModuleDetail(Module module, String academicYear) throws IOException;
+}
@@ -0,0 +1,146 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import nus.climods.model.module.CompactModuleInformation;
+
+/**
+ * Reads module information from a {@code moduleInfo.json} array one module at a time, keeping only the fields shown
+ * in the module list.
+ * <p>
+ * The description, preclusion, corequisite, workload and exam times of a module are skipped without being decoded.
+ * The module list never shows them, and the detailed module information fetched when a module card is expanded has
+ * its own copy of each. Modules are read into {@link CompactModuleInformation}, which keeps their department,
+ * faculty, credits and semesters encoded.
+ * </p>
+ */
+public class ModuleInformationReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Passes each module of the {@code moduleInfo.json} array in {@code in} to {@code moduleConsumer}, in order.
+     * The stream is closed afterwards.
+     *
+     * @throws IOException if the stream could not be read or is not a json array of modules.
+     */
+    public static void read(InputStream in, Consumer<ModuleInformation> moduleConsumer) throws IOException {
+        requireNonNull(in);
+        requireNonNull(moduleConsumer);
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            parser.nextToken();
+            new ModuleInformationReader().readModules(parser, moduleConsumer);
+        }
+    }
+
+    /**
+     * Returns the modules of the {@code moduleInfo.json} array in {@code in}.
+     *
+     * @see #read(InputStream, Consumer)
+     */
+    public static List<ModuleInformation> readAll(InputStream in) throws IOException {
+        List<ModuleInformation> modules = new ArrayList<>();
+        read(in, modules::add);
+        return modules;
+    }
+
+    /**
+     * Reads the array of modules starting at the current token of {@code parser}, up to and including its end.
+     *
+     * @throws IOException if the current token does not start an array of modules.
+     */
+    void readModules(JsonParser parser, Consumer<ModuleInformation> moduleConsumer) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            moduleConsumer.accept(readModule(parser));
+        }
+        expect(parser, JsonToken.END_ARRAY);
+    }
+
+    private ModuleInformation readModule(JsonParser parser) throws IOException {
+        ModuleInformation module = new CompactModuleInformation();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case ModuleInformation.JSON_PROPERTY_MODULE_CODE:
+                module.setModuleCode(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_TITLE:
+                module.setTitle(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_MODULE_CREDIT:
+                module.setModuleCredit(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_DEPARTMENT:
+                module.setDepartment(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_FACULTY:
+                module.setFaculty(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_PREREQUISITE:
+                module.setPrerequisite(readString(parser));
+                break;
+            case ModuleInformation.JSON_PROPERTY_SEMESTER_DATA:
+                module.setSemesterData(readSemesterData(parser));
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return module;
+    }
+
+    private List<ModuleInformationSemesterDataInner> readSemesterData(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        List<ModuleInformationSemesterDataInner> semesterData = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ModuleInformationSemesterDataInner semester = new ModuleInformationSemesterDataInner();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(ModuleInformationSemesterDataInner.JSON_PROPERTY_SEMESTER)
+                    && parser.currentToken().isNumeric()) {
+                    semester.setSemester(parser.getDecimalValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            semesterData.add(semester);
+        }
+        expect(parser, JsonToken.END_ARRAY);
+        return semesterData;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.currentToken() != token) {
+            throw new JsonParseException(parser, "Expected " + token + " but found " + parser.currentToken());
+        }
+    }
+}
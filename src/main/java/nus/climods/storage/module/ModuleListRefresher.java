@@ -0,0 +1,129 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.ModuleInformation;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.util.StringUtil;
+import nus.climods.model.module.Module;
+
+/**
+ * Streams the module information of an academic year from NUSMods in the background and saves it as the module list
+ * snapshot, so that the application can start on a condensed or stale module list and have it filled in behind it.
+ * <p>
+ * Modules are passed on in batches of {@code batchSize} as they are read, so that each change to the module list
+ * covers many modules.
+ * </p>
+ */
+public class ModuleListRefresher {
+
+    /**
+     * About a tenth of a catalogue, so that the module list is filled in a few changes without waiting on the whole
+     * download for any of them.
+     */
+    public static final int BATCH_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleListRefresher.class);
+
+    private final ModuleListStorage moduleListStorage;
+    private final ModuleInformationSource source;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "module-list-refresh");
+        // Do not keep the application alive for a pending network call
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Opens the json array of module information of an academic year, as served by NUSMods.
+     */
+    @FunctionalInterface
+    public interface ModuleInformationSource {
+
+        /**
+         * Returns a stream of the {@code moduleInfo.json} of {@code academicYear}, which the caller closes.
+         *
+         * @throws ApiException if the module information could not be fetched from NUSMods.
+         */
+        InputStream openModuleInformation(String academicYear) throws ApiException;
+    }
+
+    /**
+     * Creates a ModuleListRefresher passing on modules in batches of {@link #BATCH_SIZE}.
+     *
+     * @param moduleListStorage storage to save the module list snapshot in
+     * @param source            source of the module information
+     */
+    public ModuleListRefresher(ModuleListStorage moduleListStorage, ModuleInformationSource source) {
+        this(moduleListStorage, source, BATCH_SIZE);
+    }
+
+    /**
+     * Creates a ModuleListRefresher passing on modules in batches of {@code batchSize}.
+     */
+    public ModuleListRefresher(ModuleListStorage moduleListStorage, ModuleInformationSource source, int batchSize) {
+        requireNonNull(moduleListStorage);
+        requireNonNull(source);
+        assert batchSize > 0;
+
+        this.moduleListStorage = moduleListStorage;
+        this.source = source;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts streaming the module information of {@code academicYear}, saving it as the snapshot once it is all read.
+     *
+     * @param batchConsumer called with each batch of modules, in order, from the refreshing thread
+     * @return a future completed with the module information read, or exceptionally if it could not be fetched
+     */
+    public CompletableFuture<List<ModuleInformation>> refresh(String academicYear,
+        Consumer<List<Module>> batchConsumer) {
+        requireNonNull(academicYear);
+        requireNonNull(batchConsumer);
+        return CompletableFuture.supplyAsync(() -> read(academicYear, batchConsumer), executor);
+    }
+
+    private List<ModuleInformation> read(String academicYear, Consumer<List<Module>> batchConsumer) {
+        List<ModuleInformation> moduleInfos = new ArrayList<>();
+        List<Module> batch = new ArrayList<>();
+        try (InputStream in = source.openModuleInformation(academicYear)) {
+            ModuleInformationReader.read(in, moduleInfo -> {
+                moduleInfos.add(moduleInfo);
+                batch.add(new Module(moduleInfo, academicYear));
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            });
+        } catch (ApiException | IOException e) {
+            logger.warning("Failed to refresh module list from nusmods API : " + StringUtil.getDetails(e));
+            throw new CompletionException(e);
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+        logger.info(String.format("Refreshed %d modules from nusmods API", moduleInfos.size()));
+
+        try {
+            moduleListStorage.saveModuleList(moduleInfos, academicYear);
+        } catch (IOException e) {
+            logger.warning("Failed to save module list snapshot : " + StringUtil.getDetails(e));
+        }
+        return moduleInfos;
+    }
+}
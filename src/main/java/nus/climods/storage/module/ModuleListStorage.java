@@ -5,31 +5,49 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
+import org.openapitools.client.model.ModuleInformation;
+
 import nus.climods.commons.exceptions.DataConversionException;
-import nus.climods.model.module.Module;
 import nus.climods.model.module.ReadOnlyModuleList;
 
 /**
- * Represents a storage for {@link nus.climods.model.module.ModuleList}.
+ * Represents a storage for {@link nus.climods.model.module.ModuleList}, keyed by academic year.
  */
 public interface ModuleListStorage {
 
     /**
-     * Returns the file path of the module list data file.
+     * Returns the file path of the module list snapshot for {@code academicYear}.
      */
-    Path getModuleListFilePath();
+    Path getModuleListFilePath(String academicYear);
 
     /**
-     * Returns module list data as a ReadOnlyModuleList. Returns {@code Optional.empty()} if storage file is not found.
+     * Returns module list data as a ReadOnlyModuleList. Returns {@code Optional.empty()} if storage file is not found,
+     * or if the stored snapshot belongs to a different academic year.
      *
      * @throws DataConversionException if the data in storage is not in the expected format.
-     * @throws IOException             if there was any problem when reading from the storage.
      */
     Optional<ReadOnlyModuleList> readModuleList(String academicYear) throws DataConversionException;
 
+    /**
+     * @see #readModuleList(String)
+     */
     Optional<ReadOnlyModuleList> readModuleList(String academicYear, Path filePath) throws DataConversionException;
 
-    void saveModuleList(List<Module> modules) throws IOException;
+    /**
+     * Returns true if the snapshot for {@code academicYear} is missing or older than the refresh interval.
+     */
+    boolean isModuleListStale(String academicYear);
 
-    void saveModuleList(List<Module> modules, Path filePath) throws IOException;
+    /**
+     * Saves the given module information as the snapshot for {@code academicYear}.
+     *
+     * @param modules cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveModuleList(List<ModuleInformation> modules, String academicYear) throws IOException;
+
+    /**
+     * @see #saveModuleList(List, String)
+     */
+    void saveModuleList(List<ModuleInformation> modules, String academicYear, Path filePath) throws IOException;
 }
@@ -0,0 +1,70 @@
+package nus.climods.storage.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Module;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.module.ModuleDetailLoader;
+
+/**
+ * Loads the detailed information of modules saved in any of a list of {@link ModuleDetailStorage}s, in order, without
+ * fetching or saving anything.
+ * <p>
+ * Modules found in none of the storages are remembered as missing until {@link #forgetMissingModules()} is called,
+ * such as when a crawl saves more modules, so that checking every module of the catalogue again does not look each
+ * missing module up on disk again.
+ * </p>
+ */
+public class SavedModuleDetailLoader implements ModuleDetailLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(SavedModuleDetailLoader.class);
+
+    private final List<ModuleDetailStorage> moduleDetailStorages;
+    // Academic year and code of the modules found in none of the storages
+    private final Set<String> missingModules = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a SavedModuleDetailLoader reading from {@code moduleDetailStorages}, in order.
+     */
+    public SavedModuleDetailLoader(ModuleDetailStorage... moduleDetailStorages) {
+        this.moduleDetailStorages = List.of(moduleDetailStorages);
+    }
+
+    @Override
+    public Module loadModuleDetail(String academicYear, String moduleCode) throws ApiException {
+        requireNonNull(academicYear);
+        requireNonNull(moduleCode);
+
+        String key = academicYear + " " + moduleCode;
+        if (!missingModules.contains(key)) {
+            for (ModuleDetailStorage moduleDetailStorage : moduleDetailStorages) {
+                try {
+                    Optional<Module> module = moduleDetailStorage.readModuleDetail(academicYear, moduleCode);
+                    if (module.isPresent()) {
+                        return module.get();
+                    }
+                } catch (DataConversionException e) {
+                    logger.warning("Saved details of " + moduleCode + " are not in the correct format");
+                }
+            }
+            missingModules.add(key);
+        }
+        throw new ApiException("Details of " + moduleCode + " are not saved");
+    }
+
+    /**
+     * Looks up the modules found missing so far again on their next load.
+     */
+    public void forgetMissingModules() {
+        missingModules.clear();
+    }
+}
@@ -0,0 +1,69 @@
+package nus.climods.storage.venue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.venue.VenueIndex;
+import nus.climods.model.venue.VenueLoader;
+
+/**
+ * Loads venue indexes from a {@link VenueStorage}, falling back to another loader on a cache miss or a stale index and
+ * saving what it returns. A stale index is still returned if the other loader fails, as the module list snapshot is.
+ */
+public class CachedVenueLoader implements VenueLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(CachedVenueLoader.class);
+
+    private final VenueStorage venueStorage;
+    private final VenueLoader fallbackLoader;
+
+    /**
+     * Creates a CachedVenueLoader backed by {@code venueStorage} and {@code fallbackLoader}.
+     */
+    public CachedVenueLoader(VenueStorage venueStorage, VenueLoader fallbackLoader) {
+        requireNonNull(venueStorage);
+        requireNonNull(fallbackLoader);
+
+        this.venueStorage = venueStorage;
+        this.fallbackLoader = fallbackLoader;
+    }
+
+    @Override
+    public VenueIndex loadVenueIndex(String academicYear, SemestersEnum semester) throws ApiException {
+        Optional<VenueIndex> cachedVenueIndex = Optional.empty();
+        try {
+            cachedVenueIndex = venueStorage.readVenueIndex(academicYear, semester);
+        } catch (DataConversionException e) {
+            logger.warning("Cached venues of " + semester + " are not in the correct format. Fetching them again");
+        }
+        if (cachedVenueIndex.isPresent() && !venueStorage.isVenueIndexStale(academicYear, semester)) {
+            return cachedVenueIndex.get();
+        }
+
+        VenueIndex venueIndex;
+        try {
+            venueIndex = fallbackLoader.loadVenueIndex(academicYear, semester);
+        } catch (ApiException e) {
+            if (cachedVenueIndex.isEmpty()) {
+                throw e;
+            }
+            logger.warning("Unable to fetch venues of " + semester + ", using the stale cached venues: "
+                + e.getMessage());
+            return cachedVenueIndex.get();
+        }
+        try {
+            venueStorage.saveVenueIndex(venueIndex, academicYear, semester);
+        } catch (IOException e) {
+            logger.warning("Problem while caching venues of " + semester + ": " + e.getMessage());
+        }
+        return venueIndex;
+    }
+}
@@ -0,0 +1,94 @@
+package nus.climods.storage.venue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nus.climods.commons.exceptions.IllegalValueException;
+import nus.climods.model.timetable.LessonSlot;
+import nus.climods.model.venue.VenueBooking;
+
+/**
+ * Jackson-friendly version of {@link VenueBooking}.
+ */
+class JsonAdaptedVenueBooking {
+
+    public static final String MESSAGE_INVALID_BOOKING = "Venue booking of %s has invalid fields.";
+
+    private final String moduleCode;
+    private final String lessonType;
+    private final String classNo;
+    private final int day;
+    private final int startMinute;
+    private final int endMinute;
+    private final long weeks;
+
+    /**
+     * Constructs a {@code JsonAdaptedVenueBooking} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedVenueBooking(@JsonProperty("moduleCode") String moduleCode,
+                                   @JsonProperty("lessonType") String lessonType,
+                                   @JsonProperty("classNo") String classNo,
+                                   @JsonProperty("day") int day,
+                                   @JsonProperty("startMinute") int startMinute,
+                                   @JsonProperty("endMinute") int endMinute,
+                                   @JsonProperty("weeks") long weeks) {
+        this.moduleCode = moduleCode;
+        this.lessonType = lessonType;
+        this.classNo = classNo;
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.weeks = weeks;
+    }
+
+    /**
+     * Converts a given {@code VenueBooking} into this class for Jackson use.
+     */
+    public JsonAdaptedVenueBooking(VenueBooking source) {
+        this(source.getModuleCode(), source.getLessonType(), source.getClassNo(), source.getSlot().getDay(),
+            source.getSlot().getStartMinute(), source.getSlot().getEndMinute(), source.getSlot().getWeeks());
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getLessonType() {
+        return lessonType;
+    }
+
+    public String getClassNo() {
+        return classNo;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public long getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted booking into the model's {@code VenueBooking} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public VenueBooking toModelType() throws IllegalValueException {
+        try {
+            return new VenueBooking(moduleCode, lessonType, classNo,
+                new LessonSlot(day, startMinute, endMinute, weeks));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_BOOKING, moduleCode));
+        }
+    }
+}
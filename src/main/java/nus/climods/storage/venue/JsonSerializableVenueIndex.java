@@ -0,0 +1,85 @@
+package nus.climods.storage.venue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nus.climods.commons.exceptions.IllegalValueException;
+import nus.climods.model.venue.VenueBooking;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * An immutable venue index of a semester that is serializable to JSON format.
+ * <p>
+ * Only the lessons of each venue are stored, already sorted by day and time, so the index is rebuilt from them in a
+ * single pass without the rest of the venue information given by NUSMods.
+ * </p>
+ */
+class JsonSerializableVenueIndex {
+
+    public static final String MESSAGE_MISSING_VENUES = "Venue index has no venues field.";
+
+    private final String academicYear;
+    private final String semester;
+    private final Map<String, List<JsonAdaptedVenueBooking>> venues;
+
+    /**
+     * Constructs a {@code JsonSerializableVenueIndex} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableVenueIndex(@JsonProperty("academicYear") String academicYear,
+                                      @JsonProperty("semester") String semester,
+                                      @JsonProperty("venues") Map<String, List<JsonAdaptedVenueBooking>> venues) {
+        this.academicYear = academicYear;
+        this.semester = semester;
+        this.venues = venues;
+    }
+
+    /**
+     * Converts a given {@code VenueIndex} into this class for Jackson use.
+     */
+    public JsonSerializableVenueIndex(VenueIndex source, String academicYear, String semester) {
+        this(academicYear, semester, new LinkedHashMap<>());
+        source.getBookingsByVenue().forEach((name, bookings) -> venues.put(name,
+            bookings.stream().map(JsonAdaptedVenueBooking::new).collect(Collectors.toList())));
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public Map<String, List<JsonAdaptedVenueBooking>> getVenues() {
+        return venues;
+    }
+
+    /**
+     * Converts this venue index into the model's {@code VenueIndex} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public VenueIndex toModelType() throws IllegalValueException {
+        if (venues == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_VENUES);
+        }
+
+        Map<String, List<VenueBooking>> bookingsByVenue = new LinkedHashMap<>();
+        for (Map.Entry<String, List<JsonAdaptedVenueBooking>> venue : venues.entrySet()) {
+            List<JsonAdaptedVenueBooking> jsonBookings = venue.getValue() == null ? List.of() : venue.getValue();
+            List<VenueBooking> bookings = new ArrayList<>();
+            for (JsonAdaptedVenueBooking booking : jsonBookings) {
+                bookings.add(booking.toModelType());
+            }
+            bookingsByVenue.put(venue.getKey(), bookings);
+        }
+        return new VenueIndex(bookingsByVenue);
+    }
+}
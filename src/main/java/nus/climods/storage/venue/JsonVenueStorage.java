@@ -0,0 +1,109 @@
+package nus.climods.storage.venue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.core.LogsCenter;
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.commons.exceptions.IllegalValueException;
+import nus.climods.commons.util.FileUtil;
+import nus.climods.commons.util.JsonUtil;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * A class to access venue indexes stored as json files on the hard disk.
+ * <p>
+ * The index of each semester is stored in the sub directory of its academic year, next to the module list snapshot of
+ * that year. Indexes are stale after {@link #MAX_VENUE_INDEX_AGE}, but are still read, so that venues can be looked
+ * up offline.
+ * </p>
+ */
+public class JsonVenueStorage implements VenueStorage {
+
+    /**
+     * Venues only change with the timetables of the modules held in them, which rarely change within a week.
+     */
+    public static final Duration MAX_VENUE_INDEX_AGE = Duration.ofDays(7);
+
+    private static final String VENUE_INDEX_FILE_NAME_FORMAT = "venues-%s.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonVenueStorage.class);
+
+    private final Path directoryPath;
+
+    /**
+     * Creates a JsonVenueStorage that keeps its indexes in {@code directoryPath}.
+     *
+     * @param directoryPath directory holding one sub directory per academic year
+     */
+    public JsonVenueStorage(Path directoryPath) {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+    }
+
+    @Override
+    public Path getVenueIndexFilePath(String academicYear, SemestersEnum semester) {
+        requireNonNull(academicYear);
+        requireNonNull(semester);
+        return directoryPath.resolve(academicYear).resolve(String.format(VENUE_INDEX_FILE_NAME_FORMAT,
+            semester.name()));
+    }
+
+    @Override
+    public synchronized Optional<VenueIndex> readVenueIndex(String academicYear, SemestersEnum semester)
+            throws DataConversionException {
+        Path filePath = getVenueIndexFilePath(academicYear, semester);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        Optional<JsonSerializableVenueIndex> jsonVenueIndex = JsonUtil.readJsonFile(filePath,
+            JsonSerializableVenueIndex.class);
+        if (jsonVenueIndex.isEmpty()
+            || !academicYear.equals(jsonVenueIndex.get().getAcademicYear())
+            || !semester.name().equals(jsonVenueIndex.get().getSemester())) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonVenueIndex.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public boolean isVenueIndexStale(String academicYear, SemestersEnum semester) {
+        Path filePath = getVenueIndexFilePath(academicYear, semester);
+        if (!FileUtil.isFileExists(filePath)) {
+            return true;
+        }
+        try {
+            Instant lastModified = Files.getLastModifiedTime(filePath).toInstant();
+            return lastModified.plus(MAX_VENUE_INDEX_AGE).isBefore(Instant.now());
+        } catch (IOException e) {
+            logger.warning("Unable to read modification time of " + filePath + ": " + e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized void saveVenueIndex(VenueIndex venueIndex, String academicYear, SemestersEnum semester)
+            throws IOException {
+        requireNonNull(venueIndex);
+
+        Path filePath = getVenueIndexFilePath(academicYear, semester);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableVenueIndex(venueIndex, academicYear, semester.name()), filePath);
+    }
+}
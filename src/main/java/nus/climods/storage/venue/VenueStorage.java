@@ -0,0 +1,43 @@
+package nus.climods.storage.venue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.venue.VenueIndex;
+
+/**
+ * Represents a storage for {@link VenueIndex}, keyed by academic year and semester.
+ */
+public interface VenueStorage {
+
+    /**
+     * Returns the file path of the venue index of {@code semester} in {@code academicYear}.
+     */
+    Path getVenueIndexFilePath(String academicYear, SemestersEnum semester);
+
+    /**
+     * Returns the venue index of {@code semester} in {@code academicYear}, however old it is. Returns
+     * {@code Optional.empty()} if it is not stored.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     */
+    Optional<VenueIndex> readVenueIndex(String academicYear, SemestersEnum semester) throws DataConversionException;
+
+    /**
+     * Returns true if the venue index of {@code semester} in {@code academicYear} is missing or older than the refresh
+     * interval.
+     */
+    boolean isVenueIndexStale(String academicYear, SemestersEnum semester);
+
+    /**
+     * Saves the venue index of {@code semester} in {@code academicYear}.
+     *
+     * @param venueIndex cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveVenueIndex(VenueIndex venueIndex, String academicYear, SemestersEnum semester) throws IOException;
+}
@@ -1,5 +1,7 @@
 package nus.climods.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.animation.PauseTransition;
@@ -20,9 +22,6 @@ import nus.climods.commons.core.GuiSettings;
 import nus.climods.commons.core.LogsCenter;
 import nus.climods.logic.Logic;
 import nus.climods.logic.commands.CommandResult;
-import nus.climods.logic.commands.exceptions.CommandException;
-import nus.climods.logic.parser.exceptions.ParseException;
-import nus.climods.storage.exceptions.StorageException;
 import nus.climods.ui.common.CommandBox;
 import nus.climods.ui.common.HelpWindow;
 import nus.climods.ui.common.ResultDisplay;
@@ -37,6 +36,7 @@ import nus.climods.ui.module.SavedModuleListPanel;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled: %s";
 
     private static final double SCALE = 0.7;
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -152,7 +152,7 @@ public class MainWindow extends UiPart<Stage> {
 
         modulesPane.getItems().addAll(moduleListPanelPlaceholder, savedModuleListPanelPlaceholder);
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getUserModuleListPath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getUserModuleListPath(), logic.getCrawlProgress());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(new CommandSession(this::executeCommand));
@@ -202,13 +202,26 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the pending result.
      *
-     * @see Logic#execute(String)
+     * @see Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException, StorageException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = logic.executeAsync(commandText);
+        // Handlers run on the JavaFX Application Thread, see Logic#executeAsync(String)
+        result.whenComplete((commandResult, e) -> {
+            if (e instanceof CancellationException) {
+                logger.info("Cancelled command: " + commandText);
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMAND_CANCELLED, commandText));
+                return;
+            }
+
+            if (e != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(e.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -219,12 +232,8 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException | StorageException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
+        // Return the original future, so that cancelling it also cancels the command
+        return result;
     }
 }
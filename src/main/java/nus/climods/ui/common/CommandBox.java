@@ -1,14 +1,16 @@
 package nus.climods.ui.common;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
 import nus.climods.commons.core.CommandSession;
-import nus.climods.logic.commands.exceptions.CommandException;
-import nus.climods.logic.parser.exceptions.ParseException;
-import nus.climods.storage.exceptions.StorageException;
+import nus.climods.logic.commands.CommandResult;
 import nus.climods.ui.UiPart;
 
 /**
@@ -20,10 +22,14 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandSession commandSession;
+    private CompletableFuture<CommandResult> runningCommand;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator commandProgressIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -41,6 +47,14 @@ public class CommandBox extends UiPart<Region> {
                 return;
             }
 
+            // Only cancellation is allowed while a command is running
+            if (isCommandRunning()) {
+                if (event.getCode().equals(KeyCode.ESCAPE)) {
+                    cancelRunningCommand();
+                }
+                return;
+            }
+
             switch (event.getCode()) {
             case UP:
                 commandTextField.setText(commandSession.getPreviousCommand());
@@ -60,16 +74,39 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isCommandRunning()) {
             return;
         }
 
-        try {
-            commandSession.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException | StorageException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        runningCommand = commandSession.execute(commandText);
+        setStyleToIndicateCommandRunning(true);
+        runningCommand.whenComplete((commandResult, e) -> {
+            setStyleToIndicateCommandRunning(false);
+            if (e == null) {
+                commandTextField.setText("");
+            } else if (!(e instanceof CancellationException)) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private boolean isCommandRunning() {
+        return runningCommand != null && !runningCommand.isDone();
+    }
+
+    /**
+     * Cancels the running command, keeping its text in the command box.
+     */
+    private void cancelRunningCommand() {
+        runningCommand.cancel(true);
+    }
+
+    /**
+     * Shows or hides the progress indicator, and prevents editing the command while it is running.
+     */
+    private void setStyleToIndicateCommandRunning(boolean isRunning) {
+        commandTextField.setEditable(!isRunning);
+        commandProgressIndicator.setVisible(isRunning);
     }
 
     /**
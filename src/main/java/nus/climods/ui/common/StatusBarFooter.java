@@ -3,9 +3,11 @@ package nus.climods.ui.common;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import nus.climods.storage.module.CrawlProgress;
 import nus.climods.ui.UiPart;
 
 /**
@@ -15,14 +17,34 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private static final String CRAWL_IN_PROGRESS_STATUS = "Saving module details for offline use: %1$d/%2$d";
+    private static final String CRAWL_COMPLETE_STATUS = "All %d module details saved for offline use";
+    private static final String CRAWL_STOPPED_STATUS = "%1$d/%2$d module details saved for offline use";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label crawlStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the progress of {@code crawlProgress}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<CrawlProgress> crawlProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        crawlProgress.addListener((observable, oldProgress, newProgress) -> showCrawlProgress(newProgress));
+        showCrawlProgress(crawlProgress.getValue());
+    }
+
+    private void showCrawlProgress(CrawlProgress progress) {
+        if (progress == null) {
+            crawlStatus.setText("");
+        } else if (progress.isComplete()) {
+            crawlStatus.setText(String.format(CRAWL_COMPLETE_STATUS, progress.getModuleCount()));
+        } else {
+            crawlStatus.setText(String.format(progress.isDone() ? CRAWL_STOPPED_STATUS : CRAWL_IN_PROGRESS_STATUS,
+                progress.getCrawledCount(), progress.getModuleCount()));
+        }
     }
 }
@@ -85,7 +85,10 @@ public class ModuleCard extends UiPart<Region> {
         department.setText(module.getDepartment());
         moduleInfo.getChildren()
                 .addAll(module.getSemesters().stream().map(SemesterPill::new).collect(Collectors.toList()));
-        moduleInfo.getChildren().add(new ModuleCreditsPill(module.getModuleCredit()));
+        // Modules from the condensed module list have no credits until the full module list is loaded
+        if (module.getModuleCredit() != null) {
+            moduleInfo.getChildren().add(new ModuleCreditsPill(module.getModuleCredit()));
+        }
 
         moduleDescription.setText(module.getDescription().replace("\n", " "));
 
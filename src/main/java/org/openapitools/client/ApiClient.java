@@ -65,6 +65,7 @@ public class ApiClient {
     private Consumer<HttpResponse<String>> asyncResponseInterceptor;
     private Duration readTimeout;
     private Duration connectTimeout;
+    private RevalidationCache revalidationCache;
 
     /**
      * Create an instance of ApiClient.
@@ -78,6 +79,7 @@ public class ApiClient {
         connectTimeout = null;
         responseInterceptor = null;
         asyncResponseInterceptor = null;
+        revalidationCache = null;
     }
 
     /**
@@ -96,6 +98,7 @@ public class ApiClient {
         connectTimeout = null;
         responseInterceptor = null;
         asyncResponseInterceptor = null;
+        revalidationCache = null;
     }
 
     private static String valueToString(Object value) {
@@ -363,6 +366,29 @@ public class ApiClient {
         return this;
     }
 
+    /**
+     * Get the cache used to revalidate responses.
+     *
+     * @return The cache that was set, or null if there isn't any.
+     */
+    public RevalidationCache getRevalidationCache() {
+        return revalidationCache;
+    }
+
+    /**
+     * Set a cache used to revalidate responses.
+     *
+     * <p>Requests are sent with the validators of the cached response, and a {@code 304 Not Modified} response is
+     * served from the cache.</p>
+     *
+     * @param revalidationCache The cache to use. A value of null disables revalidation.
+     * @return This object.
+     */
+    public ApiClient setRevalidationCache(RevalidationCache revalidationCache) {
+        this.revalidationCache = revalidationCache;
+        return this;
+    }
+
     /**
      * Get the custom async response interceptor. Use this interceptor when asyncNative is set to 'true'.
      *
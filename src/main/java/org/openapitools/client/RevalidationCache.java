@@ -0,0 +1,347 @@
+package org.openapitools.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores response bodies next to their HTTP validators ({@code ETag} and {@code Last-Modified}).
+ *
+ * <p>Requests for a URI that has a stored body are sent as conditional requests, so that the server can answer
+ * {@code 304 Not Modified} instead of resending the body. The API classes then serve the stored body, which turns an
+ * unchanged resource into a cache hit.</p>
+ *
+ * <p>Each entry is kept as two files in the cache directory, named after a hash of the URI: the raw body and a
+ * properties file with the validators. Entries are written atomically, so this class is safe to share between the
+ * threads of one process.</p>
+ */
+public class RevalidationCache {
+
+    public static final String HEADER_ETAG = "ETag";
+    public static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    public static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    public static final int STATUS_NOT_MODIFIED = 304;
+
+    private static final String BODY_FILE_SUFFIX = ".body";
+    private static final String VALIDATORS_FILE_SUFFIX = ".properties";
+    private static final String PROPERTY_URI = "uri";
+    private static final String PROPERTY_ETAG = "etag";
+    private static final String PROPERTY_LAST_MODIFIED = "lastModified";
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Logger log = Logger.getLogger(RevalidationCache.class.getName());
+
+    private final Path directory;
+
+    /**
+     * Create a cache that keeps its entries in {@code directory}.
+     *
+     * @param directory The cache directory. It is created when the first entry is stored.
+     */
+    public RevalidationCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Wrap a request interceptor so that it also adds the stored validators of the request URI.
+     *
+     * @param interceptor The interceptor to run first. May be null.
+     * @return A request interceptor that adds {@code If-None-Match} and {@code If-Modified-Since} headers.
+     */
+    public Consumer<HttpRequest.Builder> withValidators(Consumer<HttpRequest.Builder> interceptor) {
+        return builder -> {
+            if (interceptor != null) {
+                interceptor.accept(builder);
+            }
+            addValidators(builder);
+        };
+    }
+
+    /**
+     * Add the stored validators of the request URI to a request, if there is a stored body to fall back on.
+     *
+     * @param builder A fully configured request builder.
+     */
+    public void addValidators(HttpRequest.Builder builder) {
+        URI uri = builder.copy().build().uri();
+        Optional<Properties> validators = readValidators(uri);
+        if (validators.isEmpty() || !Files.exists(getBodyPath(uri))) {
+            return;
+        }
+
+        String etag = validators.get().getProperty(PROPERTY_ETAG);
+        if (etag != null) {
+            builder.setHeader(HEADER_IF_NONE_MATCH, etag);
+        }
+        String lastModified = validators.get().getProperty(PROPERTY_LAST_MODIFIED);
+        if (lastModified != null) {
+            builder.setHeader(HEADER_IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+
+    /**
+     * Open the stored body of a URI.
+     *
+     * @param uri The request URI.
+     * @return The stored body, which the caller must close, or an empty Optional if there is none.
+     */
+    public Optional<InputStream> getBody(URI uri) {
+        Path bodyPath = getBodyPath(uri);
+        if (!Files.exists(bodyPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.newInputStream(bodyPath));
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to read cached body of " + uri, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a body together with the validators in its response headers, as the body is read. Responses without
+     * validators are not stored, as they cannot be revalidated.
+     *
+     * <p>The body is copied to a temporary file as it is read through the returned stream, so that it is never held
+     * in memory as a whole. On close, the rest of the body is read and the entry is replaced with it, unless reading
+     * the body failed.</p>
+     *
+     * @param uri     The request URI.
+     * @param headers The response headers.
+     * @param body    The raw response body.
+     * @return A stream of {@code body}, which the caller must close.
+     */
+    public InputStream put(URI uri, HttpHeaders headers, InputStream body) {
+        Optional<String> etag = headers.firstValue(HEADER_ETAG);
+        Optional<String> lastModified = headers.firstValue(HEADER_LAST_MODIFIED);
+        if (etag.isEmpty() && lastModified.isEmpty()) {
+            return body;
+        }
+
+        Properties validators = new Properties();
+        validators.setProperty(PROPERTY_URI, uri.toString());
+        etag.ifPresent(value -> validators.setProperty(PROPERTY_ETAG, value));
+        lastModified.ifPresent(value -> validators.setProperty(PROPERTY_LAST_MODIFIED, value));
+
+        try {
+            Files.createDirectories(directory);
+            return new CachingInputStream(uri, validators, body, Files.createTempFile(directory, null, null));
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to cache body of " + uri, e);
+            return body;
+        }
+    }
+
+    private Optional<Properties> readValidators(URI uri) {
+        Path validatorsPath = getValidatorsPath(uri);
+        if (!Files.exists(validatorsPath)) {
+            return Optional.empty();
+        }
+
+        Properties validators = new Properties();
+        try (InputStream in = Files.newInputStream(validatorsPath)) {
+            validators.load(in);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to read cached validators of " + uri, e);
+            return Optional.empty();
+        }
+        // Guard against hash collisions
+        return uri.toString().equals(validators.getProperty(PROPERTY_URI)) ? Optional.of(validators) : Optional.empty();
+    }
+
+    private void writeAtomically(Path target, OutputWriter writer) throws IOException {
+        Path temp = Files.createTempFile(directory, null, null);
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path getBodyPath(URI uri) {
+        return directory.resolve(getKey(uri) + BODY_FILE_SUFFIX);
+    }
+
+    private Path getValidatorsPath(URI uri) {
+        return directory.resolve(getKey(uri) + VALIDATORS_FILE_SUFFIX);
+    }
+
+    private static String getKey(URI uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Copies a body to a temporary file as it is read, and stores the file with its validators once the body has been
+     * read in full.
+     */
+    private class CachingInputStream extends FilterInputStream {
+
+        private final URI uri;
+        private final Properties validators;
+        private final Path tempBodyPath;
+        private OutputStream out;
+        private boolean isReadFailed = false;
+
+        private CachingInputStream(URI uri, Properties validators, InputStream body, Path tempBodyPath)
+            throws IOException {
+            super(body);
+            this.uri = uri;
+            this.validators = validators;
+            this.tempBodyPath = tempBodyPath;
+            try {
+                out = Files.newOutputStream(tempBodyPath);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempBodyPath);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n;
+            do {
+                n = read(b, 0, 1);
+            } while (n == 0);
+            return n == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n;
+            try {
+                n = in.read(b, off, len);
+            } catch (IOException e) {
+                isReadFailed = true;
+                throw e;
+            }
+            if (n > 0) {
+                write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes still have to be stored
+            byte[] skipped = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            int read = read(skipped, 0, skipped.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+        }
+
+        @Override
+        public void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (!isReadFailed && out != null) {
+                    // Parsers may stop before the end of the body, which is still needed for a complete entry
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    while (out != null && read(buffer, 0, buffer.length) != -1) {
+                    }
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Unable to read the rest of the body of " + uri, e);
+            } finally {
+                try {
+                    in.close();
+                } finally {
+                    store();
+                }
+            }
+        }
+
+        private void write(byte[] b, int off, int len) {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Unable to cache body of " + uri, e);
+                discard();
+            }
+        }
+
+        private void store() {
+            if (out == null) {
+                return;
+            }
+            if (isReadFailed) {
+                discard();
+                return;
+            }
+            try {
+                out.close();
+                out = null;
+                // Body goes first, so that validators are never sent without a body to fall back on
+                moveAtomically(tempBodyPath, getBodyPath(uri));
+                writeAtomically(getValidatorsPath(uri), validatorsOut -> validators.store(validatorsOut, null));
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Unable to cache body of " + uri, e);
+                discard();
+            }
+        }
+
+        private void discard() {
+            try {
+                if (out != null) {
+                    out.close();
+                }
+                Files.deleteIfExists(tempBodyPath);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Unable to delete partially cached body of " + uri, e);
+            } finally {
+                out = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface OutputWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -20,11 +20,13 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.openapitools.client.ApiClient;
 import org.openapitools.client.ApiException;
 import org.openapitools.client.ApiResponse;
+import org.openapitools.client.RevalidationCache;
 import org.openapitools.client.model.Module;
 import org.openapitools.client.model.ModuleCondensed;
 import org.openapitools.client.model.ModuleInformation;
@@ -42,6 +44,7 @@ public class ModulesApi {
     private final Duration memberVarReadTimeout;
     private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
     private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+    private final RevalidationCache memberVarRevalidationCache;
 
     private static ModulesApi instance; // Singleton instance
 
@@ -50,7 +53,7 @@ public class ModulesApi {
         this(new ApiClient());
     }
 
-    public static ModulesApi getInstance() {
+    public static synchronized ModulesApi getInstance() {
         if(instance == null){
             instance = new ModulesApi();
         }
@@ -58,11 +61,23 @@ public class ModulesApi {
         return instance;
     }
 
+    /**
+     * Replace the singleton instance, e.g. with one whose {@link ApiClient} has a {@link RevalidationCache}.
+     *
+     * @param modulesApi The instance returned by {@link #getInstance()} from now on.
+     */
+    public static synchronized void setInstance(ModulesApi modulesApi) {
+        instance = modulesApi;
+    }
+
     public ModulesApi(ApiClient apiClient) {
         memberVarHttpClient = apiClient.getHttpClient();
         memberVarObjectMapper = apiClient.getObjectMapper();
         memberVarBaseUri = apiClient.getBaseUri();
-        memberVarInterceptor = apiClient.getRequestInterceptor();
+        memberVarRevalidationCache = apiClient.getRevalidationCache();
+        memberVarInterceptor = memberVarRevalidationCache == null
+            ? apiClient.getRequestInterceptor()
+            : memberVarRevalidationCache.withValidators(apiClient.getRequestInterceptor());
         memberVarReadTimeout = apiClient.getReadTimeout();
         memberVarResponseInterceptor = apiClient.getResponseInterceptor();
         memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
@@ -74,6 +89,45 @@ public class ModulesApi {
         return new ApiException(response.statusCode(), message, response.headers(), body);
     }
 
+    /**
+     * Get the body of a response. A {@code 304 Not Modified} response is served from the revalidation cache, and a
+     * successful response is stored in it as it is read, if there is one.
+     *
+     * @param operationId The operation, for the exception message.
+     * @param response    The response.
+     * @return The response body, which the caller must close.
+     * @throws ApiException if the response is unsuccessful.
+     */
+    private InputStream getResponseBody(String operationId, HttpResponse<InputStream> response)
+        throws IOException, ApiException {
+        if (memberVarRevalidationCache != null
+            && response.statusCode() == RevalidationCache.STATUS_NOT_MODIFIED) {
+            Optional<InputStream> cachedBody = memberVarRevalidationCache.getBody(getRequestUri(response));
+            if (cachedBody.isPresent()) {
+                response.body().close();
+                return cachedBody.get();
+            }
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw getApiException(operationId, response);
+        }
+        if (memberVarRevalidationCache == null) {
+            return response.body();
+        }
+        return memberVarRevalidationCache.put(getRequestUri(response), response.headers(), response.body());
+    }
+
+    /**
+     * Get the URI of the original request of a response, before any redirects.
+     */
+    private static URI getRequestUri(HttpResponse<?> response) {
+        HttpResponse<?> first = response;
+        while (first.previousResponse().isPresent()) {
+            first = first.previousResponse().get();
+        }
+        return first.request().uri();
+    }
+
     private String formatExceptionMessage(String operationId, int statusCode, String body) {
         if (body == null || body.isEmpty()) {
             body = "[no body]";
@@ -117,13 +171,11 @@ public class ModulesApi {
                 memberVarResponseInterceptor.accept(localVarResponse);
             }
             try {
-                if (localVarResponse.statusCode() / 100 != 2) {
-                    throw getApiException("acadYearModuleInfoJsonGet", localVarResponse);
-                }
+                InputStream localVarResponseBody = getResponseBody("acadYearModuleInfoJsonGet", localVarResponse);
                 return new ApiResponse<List<ModuleInformation>>(
                     localVarResponse.statusCode(),
                     localVarResponse.headers().map(),
-                    memberVarObjectMapper.readValue(localVarResponse.body(),
+                    memberVarObjectMapper.readValue(localVarResponseBody,
                         new TypeReference<List<ModuleInformation>>() {
                         }) // closes the InputStream
 
@@ -138,6 +190,32 @@ public class ModulesApi {
         }
     }
 
+    /**
+     * Get the unparsed body of {@link #acadYearModuleInfoJsonGet(String)}, so that it can be read with a streaming
+     * parser instead of being deserialised as a whole. The caller must close the returned stream.
+     *
+     * @param acadYear academic year, with the slash (/) replaced by a dash (required)
+     * @return InputStream of the json array of module information
+     * @throws ApiException if fails to make API call
+     */
+    public InputStream acadYearModuleInfoJsonGetAsStream(String acadYear) throws ApiException {
+        HttpRequest.Builder localVarRequestBuilder = acadYearModuleInfoJsonGetRequestBuilder(acadYear);
+        try {
+            HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+                localVarRequestBuilder.build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+            if (memberVarResponseInterceptor != null) {
+                memberVarResponseInterceptor.accept(localVarResponse);
+            }
+            return getResponseBody("acadYearModuleInfoJsonGet", localVarResponse);
+        } catch (IOException e) {
+            throw new ApiException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
+        }
+    }
+
     private HttpRequest.Builder acadYearModuleInfoJsonGetRequestBuilder(String acadYear) throws ApiException {
         // verify the required parameter 'acadYear' is set
         if (acadYear == null) {
@@ -208,13 +286,11 @@ public class ModulesApi {
                 memberVarResponseInterceptor.accept(localVarResponse);
             }
             try {
-                if (localVarResponse.statusCode() / 100 != 2) {
-                    throw getApiException("acadYearModuleInformationJsonGet", localVarResponse);
-                }
+                InputStream localVarResponseBody = getResponseBody("acadYearModuleInformationJsonGet", localVarResponse);
                 return new ApiResponse<List<ModuleInformation>>(
                     localVarResponse.statusCode(),
                     localVarResponse.headers().map(),
-                    memberVarObjectMapper.readValue(localVarResponse.body(),
+                    memberVarObjectMapper.readValue(localVarResponseBody,
                         new TypeReference<List<ModuleInformation>>() {
                         }) // closes the InputStream
 
@@ -291,13 +367,11 @@ public class ModulesApi {
                 memberVarResponseInterceptor.accept(localVarResponse);
             }
             try {
-                if (localVarResponse.statusCode() / 100 != 2) {
-                    throw getApiException("acadYearModuleListJsonGet", localVarResponse);
-                }
+                InputStream localVarResponseBody = getResponseBody("acadYearModuleListJsonGet", localVarResponse);
                 return new ApiResponse<List<ModuleCondensed>>(
                     localVarResponse.statusCode(),
                     localVarResponse.headers().map(),
-                    memberVarObjectMapper.readValue(localVarResponse.body(),
+                    memberVarObjectMapper.readValue(localVarResponseBody,
                         new TypeReference<List<ModuleCondensed>>() {
                         }) // closes the InputStream
 
@@ -373,13 +447,11 @@ public class ModulesApi {
                 memberVarResponseInterceptor.accept(localVarResponse);
             }
             try {
-                if (localVarResponse.statusCode() / 100 != 2) {
-                    throw getApiException("acadYearModulesModuleCodeJsonGet", localVarResponse);
-                }
+                InputStream localVarResponseBody = getResponseBody("acadYearModulesModuleCodeJsonGet", localVarResponse);
                 return new ApiResponse<Module>(
                     localVarResponse.statusCode(),
                     localVarResponse.headers().map(),
-                    memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Module>() {
+                    memberVarObjectMapper.readValue(localVarResponseBody, new TypeReference<Module>() {
                     }) // closes the InputStream
 
                 );
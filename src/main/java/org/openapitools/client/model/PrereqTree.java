@@ -487,7 +487,8 @@ public class PrereqTree extends AbstractOpenApiSchema {
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize PrereqTreeOneOf
             try {
-                boolean attemptParsing = !matched;
+                // unknown properties are ignored, so an "and" node would otherwise be read as an empty "or" node
+                boolean attemptParsing = !matched && tree.has("or");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (PrereqTreeOneOf.class.equals(Integer.class) || PrereqTreeOneOf.class.equals(Long.class)
                         || PrereqTreeOneOf.class.equals(Float.class) || PrereqTreeOneOf.class.equals(Double.class)
@@ -522,7 +523,7 @@ public class PrereqTree extends AbstractOpenApiSchema {
 
             // deserialize PrereqTreeOneOf1
             try {
-                boolean attemptParsing = !matched;
+                boolean attemptParsing = !matched && tree.has("and");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (PrereqTreeOneOf1.class.equals(Integer.class) || PrereqTreeOneOf1.class.equals(Long.class)
                         || PrereqTreeOneOf1.class.equals(Float.class) || PrereqTreeOneOf1.class.equals(Double.class)
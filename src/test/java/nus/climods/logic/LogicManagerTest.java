@@ -0,0 +1,90 @@
+package nus.climods.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.CommandResult;
+import nus.climods.logic.commands.HelpCommand;
+import nus.climods.logic.parser.exceptions.ParseException;
+import nus.climods.model.Model;
+import nus.climods.model.ModelManager;
+import nus.climods.model.UserPrefs;
+import nus.climods.model.module.ModuleList;
+import nus.climods.model.module.ModuleStub;
+import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.module.UserModule;
+import nus.climods.model.venue.VenueLoaderStub;
+
+public class LogicManagerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor();
+    // Stands in for the JavaFX Application Thread, so that tests control when model changes are applied
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final Model model = createModel();
+    private final LogicManager logic = new LogicManager(model, null, commandExecutor, uiTasks::add);
+
+    private static Model createModel() {
+        UniqueUserModuleList userModuleList = new UniqueUserModuleList();
+        userModuleList.add(new UserModule("CS2103", SemestersEnum.S1));
+        return new ModelManager(new ModuleList(List.of(new ModuleStub("Software Engineering", "CS2103"))),
+            userModuleList, new UserPrefs(), new VenueLoaderStub());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandExecutor.shutdownNow();
+    }
+
+    @Test
+    public void executeAsync_validCommand_completedOnUiExecutor() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync(HelpCommand.COMMAND_WORD);
+
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(result.isDone());
+        uiTask.run();
+
+        assertTrue(result.isDone());
+        assertTrue(result.get().isShowHelp());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completedExceptionally() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("unknownCommand");
+
+        assertTrue(result.isCompletedExceptionally());
+        try {
+            result.get();
+        } catch (ExecutionException | InterruptedException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+        }
+    }
+
+    @Test
+    public void executeAsync_cancelled_modelUnchanged() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("rm CS2103");
+
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(result.cancel(true));
+        uiTask.run();
+
+        assertTrue(result.isCancelled());
+        assertTrue(model.hasUserModule(new UserModule("CS2103", SemestersEnum.S1)));
+        assertEquals(0, uiTasks.size());
+    }
+}
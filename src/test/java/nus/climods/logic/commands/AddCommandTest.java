@@ -12,6 +12,7 @@ import nus.climods.model.ModelManager;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 public class AddCommandTest {
@@ -20,7 +21,7 @@ public class AddCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
     public void construct_nullModule_throwsException() {
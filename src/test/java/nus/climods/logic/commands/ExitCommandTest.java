@@ -11,6 +11,7 @@ import nus.climods.model.ModelManager;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 public class ExitCommandTest {
@@ -19,7 +20,7 @@ public class ExitCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
     public void execute_exit_success() throws CommandException {
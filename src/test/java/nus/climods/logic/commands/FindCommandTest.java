@@ -11,12 +11,14 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import nus.climods.commons.core.Messages;
+import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.model.Model;
 import nus.climods.model.ModelManager;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.Module;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 class FindCommandTest {
@@ -25,10 +27,10 @@ class FindCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
-    public void execute_zeroKeywords_noModulesFound() {
+    public void execute_zeroKeywords_noModulesFound() throws CommandException {
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, 0);
 
         FindCommand command = new FindCommand(Collections.emptyList());
@@ -39,7 +41,7 @@ class FindCommandTest {
     }
 
     @Test
-    public void execute_multipleKeywords_multipleModulesFound() {
+    public void execute_multipleKeywords_multipleModulesFound() throws CommandException {
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, 3);
 
         FindCommand command = new FindCommand(prepareSearchRegexes("CS2103"));
@@ -51,7 +53,7 @@ class FindCommandTest {
     }
 
     @Test
-    public void execute_regexKeywords_multipleModulesFound() {
+    public void execute_regexKeywords_multipleModulesFound() throws CommandException {
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, 4);
 
         FindCommand command = new FindCommand(prepareSearchRegexes("^CS210[0-3]$"));
@@ -63,7 +65,7 @@ class FindCommandTest {
     }
 
     @Test
-    public void execute_regexKeywords_correctSortOrder() {
+    public void execute_regexKeywords_correctSortOrder() throws CommandException {
         FindCommand command = new FindCommand(prepareSearchRegexes("software engineering"));
         command.execute(model);
 
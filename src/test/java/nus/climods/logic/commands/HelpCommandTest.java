@@ -10,6 +10,7 @@ import nus.climods.model.ModelManager;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 public class HelpCommandTest {
@@ -18,7 +19,7 @@ public class HelpCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
     public void execute_help_success() {
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 
 import nus.climods.commons.core.Messages;
+import nus.climods.logic.commands.exceptions.CommandException;
 import nus.climods.logic.parser.ListCommandParser;
 import nus.climods.logic.parser.exceptions.ParseException;
 import nus.climods.model.Model;
@@ -13,6 +14,7 @@ import nus.climods.model.ModelManager;
 import nus.climods.model.UserPrefs;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 class ListCommandTest {
@@ -21,10 +23,10 @@ class ListCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
-    public void execute_zeroKeywords_allModulesFound() throws ParseException {
+    public void execute_zeroKeywords_allModulesFound() throws ParseException, CommandException {
         // No faculty code should return the entire catalogue of modules
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW,
             model.getFilteredModuleList().size());
@@ -35,7 +37,7 @@ class ListCommandTest {
     }
 
     @Test
-    public void execute_validFacultyCode() throws ParseException {
+    public void execute_validFacultyCode() throws ParseException, CommandException {
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, 86);
 
         ListCommand command = new ListCommandParser().parse("ST");
@@ -45,7 +47,7 @@ class ListCommandTest {
     }
 
     @Test
-    public void execute_invalidFacultyCode() throws ParseException {
+    public void execute_invalidFacultyCode() throws ParseException, CommandException {
         String expectedMessage = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, 0);
 
         ListCommand command = new ListCommandParser().parse("CSssss");
@@ -15,6 +15,7 @@ import nus.climods.model.module.LessonTypeEnum;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
 import nus.climods.model.module.UserModule;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 
@@ -24,7 +25,7 @@ public class PickCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     private void addCS1010J() {
         model.addUserModule(new UserModule("CS1010J", SemestersEnum.S1));
@@ -16,6 +16,7 @@ import nus.climods.model.UserPrefs;
 import nus.climods.model.module.Module;
 import nus.climods.model.module.ModuleList;
 import nus.climods.model.module.UniqueUserModuleList;
+import nus.climods.model.venue.VenueLoaderStub;
 import nus.climods.testutil.ModuleListTestUtil;
 
 public class PrereqsCommandTest {
@@ -26,7 +27,7 @@ public class PrereqsCommandTest {
     private final Model model =
         new ModelManager(new ModuleList(ModuleListTestUtil.loadModuleList(testAcademicYear)),
             new UniqueUserModuleList(),
-            new UserPrefs());
+            new UserPrefs(), new VenueLoaderStub());
 
     @Test
     public void execute_moduleCodeNotValid_throwsException() {
@@ -64,7 +65,9 @@ public class PrereqsCommandTest {
     public void execute_prereqHasValidModules_returnsSuccess() {
         PrereqsCommand cmd = new PrereqsCommand("CS2106");
         String errMsg = "Prerequisite description: CS2100 or EE2007 or EE2024 or EE2028\n"
-            + "Showing available prerequisites for CS2106";
+            + "Showing available prerequisites for CS2106\n"
+            + "Prerequisites: CS2100 or EE2007 or EE2024 or EE2028\n"
+            + PrereqsCommand.MESSAGE_PREREQUISITES_NOT_MET;
         try {
             CommandResult res = cmd.execute(model);
             Assertions.assertTrue(res.getFeedbackToUser().equals(errMsg));
@@ -6,9 +6,11 @@ import static nus.climods.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.SemestersEnum;
 
 import nus.climods.logic.commands.FindCommand;
 
@@ -41,4 +43,21 @@ class FindCommandParserTest {
     public void parse_invalidRegexKeyword_throwsParseException() {
         assertParseFailure(parser, "*", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_fitsFlag_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(Collections.singletonList(Pattern.compile("software")),
+            Optional.of(SemestersEnum.S2));
+
+        assertParseSuccess(parser, "software --fits S2", expectedFindCommand);
+        assertParseSuccess(parser, "--FITS s2 software", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fitsFlagWithoutSemester_throwsParseException() {
+        assertParseFailure(parser, "software --fits", ParserUtil.MESSAGE_INVALID_FITS_SEMESTER);
+        assertParseFailure(parser, "software --fits S5", ParserUtil.MESSAGE_INVALID_FITS_SEMESTER);
+        assertParseFailure(parser, "--fits S1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            FindCommand.MESSAGE_USAGE));
+    }
 }
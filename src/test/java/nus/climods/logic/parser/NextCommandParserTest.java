@@ -0,0 +1,30 @@
+package nus.climods.logic.parser;
+
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import nus.climods.logic.commands.NextCommand;
+import nus.climods.logic.parser.parameters.ModuleCodeParameter;
+
+public class NextCommandParserTest {
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_emptyInput_nextCommandSuccess() {
+        assertParseSuccess(parser, "  ", new NextCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_moduleCode_nextCommandSuccess() {
+        assertParseSuccess(parser, " cs2030", new NextCommand(Optional.of("CS2030")));
+    }
+
+    @Test
+    public void parse_invalidModuleCode_throwsParseException() {
+        assertParseFailure(parser, "abc", String.format(ModuleCodeParameter.PARSE_EXCEPTION_MESSAGE, "abc"));
+    }
+}
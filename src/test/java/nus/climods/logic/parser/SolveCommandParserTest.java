@@ -0,0 +1,49 @@
+package nus.climods.logic.parser;
+
+import static nus.climods.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.SolveCommand;
+import nus.climods.logic.parser.parameters.SemesterTypeParameter;
+import nus.climods.model.timetable.TimetableObjective;
+
+public class SolveCommandParserTest {
+    private SolveCommandParser parser = new SolveCommandParser();
+
+    @Test
+    public void parse_emptyInput_throwsParseException() {
+        assertParseFailure(parser, "", SemesterTypeParameter.INVALID_INPUT_MESSAGE);
+    }
+
+    @Test
+    public void parse_invalidSemester_throwsParseException() {
+        assertParseFailure(parser, "k1", String.format(SemesterTypeParameter.PARSE_EXCEPTION_MESSAGE, "k1"));
+    }
+
+    @Test
+    public void parse_solveCommandSuccess() {
+        assertParseSuccess(parser, "s2", new SolveCommand(SemestersEnum.S2));
+    }
+
+    @Test
+    public void parse_objectiveFlags_solveCommandSuccess() {
+        assertParseSuccess(parser, "s1 --days --after 1030 --LUNCH --gaps", new SolveCommand(SemestersEnum.S1,
+            new TimetableObjective(true, Optional.of(10 * 60 + 30), true, true)));
+        assertParseSuccess(parser, "s1 --gaps", new SolveCommand(SemestersEnum.S1,
+            new TimetableObjective(false, Optional.empty(), false, true)));
+    }
+
+    @Test
+    public void parse_invalidObjectiveFlags_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SolveCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "s1 --after", expectedMessage);
+        assertParseFailure(parser, "s1 --after 2460", expectedMessage);
+        assertParseFailure(parser, "s1 --weekends", expectedMessage);
+    }
+}
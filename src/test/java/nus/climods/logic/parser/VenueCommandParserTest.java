@@ -0,0 +1,52 @@
+package nus.climods.logic.parser;
+
+import static nus.climods.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nus.climods.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.logic.commands.VenueCommand;
+import nus.climods.model.timetable.LessonSlot;
+
+class VenueCommandParserTest {
+
+    private static final String DEFAULT_ERROR_MESSAGE =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, VenueCommand.MESSAGE_USAGE);
+
+    private final VenueCommandParser parser = new VenueCommandParser();
+
+    @Test
+    public void parse_venueOnly_currentTime() {
+        assertParseSuccess(parser, "s1 I3-AUD",
+            new VenueCommand(SemestersEnum.S1, "I3-AUD", Optional.empty(), false));
+    }
+
+    @Test
+    public void parse_freeVenuesWithTime() {
+        VenueCommand expected = new VenueCommand(SemestersEnum.S2, "COM1",
+            Optional.of(new LessonSlot(0, 14 * 60, 16 * 60, VenueCommand.ALL_WEEKS)), true);
+
+        assertParseSuccess(parser, "s2 COM1 mon 1400 1600 --free", expected);
+        assertParseSuccess(parser, "--FREE S2 COM1 Monday 1400 1600", expected);
+    }
+
+    @Test
+    public void parse_startTimeOnly_singleUnit() {
+        assertParseSuccess(parser, "s1 I3-AUD fri 1600", new VenueCommand(SemestersEnum.S1, "I3-AUD",
+            Optional.of(new LessonSlot(4, 16 * 60, 16 * 60 + LessonSlot.MINUTES_PER_UNIT, VenueCommand.ALL_WEEKS)),
+            false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "s1", DEFAULT_ERROR_MESSAGE);
+        assertParseFailure(parser, "s1 COM1 mon", DEFAULT_ERROR_MESSAGE);
+        assertParseFailure(parser, "s1 COM1 mo 1400", String.format(VenueCommand.MESSAGE_INVALID_DAY, "mo"));
+        assertParseFailure(parser, "s1 COM1 mon 1600 1400", VenueCommand.MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, "s1 COM1 mon 2pm", VenueCommand.MESSAGE_INVALID_TIME);
+    }
+}
@@ -0,0 +1,92 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+
+import nus.climods.commons.util.JsonUtil;
+
+public class CompactModuleInformationTest {
+
+    private static ModuleInformationSemesterDataInner semester(int semester) {
+        return new ModuleInformationSemesterDataInner().semester(BigDecimal.valueOf(semester));
+    }
+
+    private static ModuleInformation createModuleInformation(String moduleCredit) {
+        return new ModuleInformation().moduleCode("CS2103").title("Software Engineering").moduleCredit(moduleCredit)
+            .department("Computer Science").faculty("Computing").prerequisite("CS2030")
+            .semesterData(List.of(semester(2), semester(1)));
+    }
+
+    @Test
+    public void of_moduleInformation_sameValues() {
+        ModuleInformation compactModuleInfo = CompactModuleInformation.of(createModuleInformation("4"));
+
+        assertEquals("CS2103", compactModuleInfo.getModuleCode());
+        assertEquals("Software Engineering", compactModuleInfo.getTitle());
+        assertEquals("4", compactModuleInfo.getModuleCredit());
+        assertEquals("Computer Science", compactModuleInfo.getDepartment());
+        assertEquals("Computing", compactModuleInfo.getFaculty());
+        assertEquals("CS2030", compactModuleInfo.getPrerequisite());
+        assertEquals(List.of(semester(1), semester(2)), compactModuleInfo.getSemesterData());
+    }
+
+    @Test
+    public void getModuleCredit_variousCredits_formattedWithoutTrailingZeros() {
+        assertEquals("2.5", CompactModuleInformation.of(createModuleInformation("2.50")).getModuleCredit());
+        assertEquals("0", CompactModuleInformation.of(createModuleInformation("0")).getModuleCredit());
+        assertEquals("12", CompactModuleInformation.of(createModuleInformation("12")).getModuleCredit());
+    }
+
+    @Test
+    public void getModuleCredit_notANumber_keptAsText() {
+        assertEquals("4-8", CompactModuleInformation.of(createModuleInformation("4-8")).getModuleCredit());
+        assertEquals("0.125", CompactModuleInformation.of(createModuleInformation("0.125")).getModuleCredit());
+        assertNull(CompactModuleInformation.of(createModuleInformation(null)).getModuleCredit());
+    }
+
+    @Test
+    public void getDepartment_sameName_sameString() {
+        ModuleInformation first = CompactModuleInformation.of(createModuleInformation("4"));
+        ModuleInformation second = new CompactModuleInformation().department(new String("Computer Science"));
+
+        assertSame(first.getDepartment(), second.getDepartment());
+        assertNull(new CompactModuleInformation().getFaculty());
+    }
+
+    @Test
+    public void addSemesterDataItem_newSemester_added() {
+        ModuleInformation compactModuleInfo = new CompactModuleInformation().addSemesterDataItem(semester(3));
+        compactModuleInfo.addSemesterDataItem(semester(1));
+
+        assertEquals(List.of(semester(1), semester(3)), compactModuleInfo.getSemesterData());
+    }
+
+    @Test
+    public void equals() {
+        ModuleInformation compactModuleInfo = CompactModuleInformation.of(createModuleInformation("4"));
+
+        assertTrue(compactModuleInfo.equals(CompactModuleInformation.of(createModuleInformation("4.0"))));
+        assertFalse(compactModuleInfo.equals(CompactModuleInformation.of(createModuleInformation("2"))));
+        assertFalse(compactModuleInfo.equals(createModuleInformation("4")));
+    }
+
+    @Test
+    public void toJsonString_compactModuleInformation_decodedFields() throws Exception {
+        String json = JsonUtil.toJsonString(CompactModuleInformation.of(createModuleInformation("4")));
+
+        assertTrue(json.contains("\"department\" : \"Computer Science\""), json);
+        assertTrue(json.contains("\"moduleCredit\" : \"4\""), json);
+        assertFalse(json.contains("departmentId"), json);
+        assertFalse(json.contains("creditHundredths"), json);
+    }
+}
@@ -0,0 +1,90 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ModuleCodeIndexTest {
+
+    private final ObservableList<Module> modules = FXCollections.observableArrayList(
+        new ModuleStub("Software Engineering", "CS2103T"),
+        new ModuleStub("Programming Methodology", "CS1010"));
+    private final ModuleCodeIndex index = new ModuleCodeIndex(modules);
+
+    @Test
+    public void get_anyCase_sameModule() {
+        assertSame(modules.get(0), index.get("cs2103t").get());
+        assertFalse(index.get("CS2103").isPresent());
+        assertFalse(index.get(null).isPresent());
+    }
+
+    @Test
+    public void get_modulesAdded_addedModulesFound() {
+        Module added = new ModuleStub("Data Structures", "CS2040S");
+        modules.addAll(new ModuleStub("Calculus", "MA1521"), added);
+        modules.add(0, new ModuleStub("Statistics", "ST2334"));
+
+        assertSame(added, index.get("CS2040S").get());
+        assertSame(modules.get(0), index.get("st2334").get());
+        assertSame(modules.get(1), index.get("CS2103T").get());
+    }
+
+    @Test
+    public void get_modulesRemoved_removedModulesNotFound() {
+        Module kept = modules.get(1);
+        modules.remove(0);
+
+        assertFalse(index.get("CS2103T").isPresent());
+        assertSame(kept, index.get("CS1010").get());
+
+        modules.clear();
+
+        assertFalse(index.get("CS1010").isPresent());
+    }
+
+    @Test
+    public void get_moduleReplaced_replacementFound() {
+        Module replacement = new ModuleStub("Software Engineering", "CS2103T");
+        modules.set(0, replacement);
+        modules.set(1, modules.get(1));
+
+        assertSame(replacement, index.get("CS2103T").get());
+        assertSame(modules.get(1), index.get("CS1010").get());
+    }
+
+    @Test
+    public void get_modulesPutBackWithNewModule_allFound() {
+        Module added = new ModuleStub("Data Structures", "CS2040S");
+        List<Module> mergedModules = new ArrayList<>(modules);
+        mergedModules.add(added);
+        modules.setAll(mergedModules);
+
+        assertSame(modules.get(0), index.get("CS2103T").get());
+        assertSame(modules.get(1), index.get("CS1010").get());
+        assertSame(added, index.get("CS2040S").get());
+    }
+
+    @Test
+    public void get_sharedCodeRemoved_otherModuleFound() {
+        Module first = new ModuleStub("First", "CS3230");
+        Module second = new ModuleStub("Second", "cs3230");
+        modules.addAll(first, second);
+
+        assertSame(first, index.get("CS3230").get());
+
+        modules.remove(first);
+
+        assertSame(second, index.get("CS3230").get());
+
+        modules.remove(second);
+
+        assertFalse(index.get("CS3230").isPresent());
+    }
+}
@@ -0,0 +1,72 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformation;
+
+public class ModuleCodePrefixIndexTest {
+
+    private static Module createModule(String code) {
+        return new Module(new ModuleInformation().moduleCode(code).title(code));
+    }
+
+    private final List<Module> modules = List.of(
+        createModule("MA1521"),
+        createModule("CS2103T"),
+        createModule("CS1010S"),
+        createModule("CS2103"),
+        createModule("CS2101"),
+        createModule("CSA1000"),
+        createModule("ST2334"),
+        createModule("CS1010"));
+    private final ModuleCodePrefixIndex index = new ModuleCodePrefixIndex(modules);
+
+    private List<String> getCodesWithPrefix(String codePrefix) {
+        return index.getModulesWithPrefix(codePrefix).stream().map(Module::getCode).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getModulesWithPrefix_facultyCode_returnsModulesInCodeOrder() {
+        assertEquals(List.of("CS1010", "CS1010S", "CS2101", "CS2103", "CS2103T", "CSA1000"),
+            getCodesWithPrefix("CS"));
+        assertEquals(List.of("ST2334"), getCodesWithPrefix("ST"));
+    }
+
+    @Test
+    public void getModulesWithPrefix_longerPrefix_returnsNarrowerRange() {
+        assertEquals(List.of("CS2101", "CS2103", "CS2103T"), getCodesWithPrefix("CS21"));
+        assertEquals(List.of("CS2103", "CS2103T"), getCodesWithPrefix("cs2103"));
+        assertEquals(List.of("CS2103T"), getCodesWithPrefix("CS2103T"));
+    }
+
+    @Test
+    public void getModulesWithPrefix_emptyPrefix_returnsAllModules() {
+        assertEquals(modules.size(), index.getModulesWithPrefix("").size());
+    }
+
+    @Test
+    public void getModulesWithPrefix_noMatch_returnsEmptyList() {
+        assertTrue(index.getModulesWithPrefix("CS3").isEmpty());
+        assertTrue(index.getModulesWithPrefix("AA").isEmpty());
+        assertTrue(index.getModulesWithPrefix("ZZ").isEmpty());
+        assertTrue(index.getModulesWithPrefix("CS2103TX").isEmpty());
+    }
+
+    @Test
+    public void getModulesWithPrefix_duplicateCodes_keepsListOrder() {
+        Module first = createModule("CS2103");
+        Module second = createModule("cs2103");
+        ModuleCodePrefixIndex duplicateIndex = new ModuleCodePrefixIndex(List.of(first, second));
+
+        List<Module> found = duplicateIndex.getModulesWithPrefix("CS2103");
+        assertEquals(2, found.size());
+        assertSame(first, found.get(0));
+        assertSame(second, found.get(1));
+    }
+}
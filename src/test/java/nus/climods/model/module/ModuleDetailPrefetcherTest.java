@@ -0,0 +1,86 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.ApiException;
+
+public class ModuleDetailPrefetcherTest {
+
+    private static final int MAX_CONCURRENT_REQUESTS = 2;
+
+    private final ModuleDetailPrefetcher prefetcher = new ModuleDetailPrefetcher(MAX_CONCURRENT_REQUESTS);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * A module that takes a while to load, and fails to load if its code starts with "FAIL".
+     */
+    private class SlowModuleStub extends ModuleStub {
+        private int loadCount = 0;
+
+        SlowModuleStub(String code) {
+            super("Title of " + code, code);
+        }
+
+        @Override
+        public synchronized void loadMoreData() throws ApiException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new ApiException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            loadCount++;
+            if (getCode().startsWith("FAIL")) {
+                throw new ApiException("Module not found");
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        prefetcher.shutdown();
+    }
+
+    @Test
+    public void prefetch_manyModules_concurrencyCapped() throws Exception {
+        List<SlowModuleStub> modules = IntStream.range(0, 10)
+            .mapToObj(i -> new SlowModuleStub("CS210" + i))
+            .collect(Collectors.toList());
+
+        int loadedCount = prefetcher.prefetch(List.copyOf(modules)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(10, loadedCount);
+        assertTrue(modules.stream().allMatch(module -> module.loadCount == 1));
+        assertTrue(maxInFlight.get() <= MAX_CONCURRENT_REQUESTS);
+    }
+
+    @Test
+    public void prefetch_failedAndDuplicateModules_countsSuccessfulLoads() throws Exception {
+        SlowModuleStub module = new SlowModuleStub("CS2103");
+        SlowModuleStub failingModule = new SlowModuleStub("FAIL1000");
+
+        int loadedCount = prefetcher.prefetch(List.of(module, failingModule, module)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, loadedCount);
+        assertEquals(1, module.loadCount);
+    }
+
+    @Test
+    public void prefetch_noModules_completesImmediately() throws Exception {
+        int loadedCount = prefetcher.prefetch(List.of()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, loadedCount);
+    }
+}
@@ -0,0 +1,179 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleCondensed;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemestersEnum;
+
+import javafx.collections.ListChangeListener;
+import nus.climods.model.module.prerequisite.PrerequisiteGraph;
+
+public class ModuleListTest {
+
+    @Test
+    public void getListModule_anyCase_sameModule() {
+        Module module = new ModuleStub("Software Engineering", "CS2103T");
+        ModuleList moduleList = new ModuleList(List.of(new ModuleStub("Software Engineering", "CS2103"), module));
+
+        assertSame(module, moduleList.getListModule("cs2103t").get());
+        assertSame(module, moduleList.getModule("Cs2103T").get());
+        assertTrue(moduleList.hasModule("CS2103T"));
+        assertFalse(moduleList.hasModule("CS2103X"));
+        assertFalse(moduleList.getListModule(null).isPresent());
+    }
+
+    @Test
+    public void getListModule_duplicateCodes_firstModuleReturned() {
+        Module first = new ModuleStub("First", "CS2103");
+        ModuleList moduleList = new ModuleList(List.of(first, new ModuleStub("Second", "cs2103")));
+
+        assertSame(first, moduleList.getListModule("CS2103").get());
+    }
+
+    @Test
+    public void copy_sameLookups() {
+        ModuleList moduleList = new ModuleList(new ModuleList(List.of(new ModuleStub("Title", "CS2103"))));
+
+        assertTrue(moduleList.hasModule("cs2103"));
+    }
+
+    @Test
+    public void getListModule_modulesMerged_mergedModulesFound() {
+        Module existing = new ModuleStub("Software Engineering", "CS2103");
+        ModuleList moduleList = new ModuleList(List.of(existing));
+
+        moduleList.mergeModules(List.of(new ModuleStub("Data Structures", "CS2040S")));
+        moduleList.mergeModules(List.of(new ModuleStub("Calculus", "MA1521"),
+            new Module(new ModuleInformation().moduleCode("CS2103").title("Software Engineering"), "2022-2023")));
+
+        assertSame(existing, moduleList.getListModule("cs2103").get());
+        assertEquals("CS2040S", moduleList.getListModule("CS2040S").get().getCode());
+        assertEquals("MA1521", moduleList.getListModule("ma1521").get().getCode());
+        assertEquals(3, moduleList.getModules().size());
+    }
+
+    @Test
+    public void mergeModules_condensedModules_filledInPlace() {
+        ModuleSummaryList summaryList = new ModuleSummaryList(List.of(
+            new ModuleCondensed().moduleCode("CS2103").title("Software Engineering")
+                .semesters(List.of(SemestersEnum.S1)),
+            new ModuleCondensed().moduleCode("CS2040").title("Data Structures").semesters(List.of())));
+        ModuleList moduleList = new ModuleList(summaryList.toModules("2022-2023"));
+        Module condensedModule = moduleList.getListModule("CS2103").get();
+        assertEquals(List.of(SemestersEnum.S1), condensedModule.getSemesters());
+        assertNull(condensedModule.getModuleCredit());
+        List<ListChangeListener.Change<? extends Module>> changes = new ArrayList<>();
+        moduleList.getModules().addListener((ListChangeListener<Module>) changes::add);
+
+        moduleList.mergeModules(List.of(
+            new Module(new ModuleInformation().moduleCode("CS2103").title("Software Engineering").moduleCredit("4")
+                .semesterData(List.of()), "2022-2023"),
+            new Module(new ModuleInformation().moduleCode("CS1010").title("Programming Methodology"), "2022-2023")));
+
+        // The modules are put back in their own places and the new module is added after them, in one change
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).next());
+        List<? extends Module> removedModules = changes.get(0).getRemoved();
+        List<? extends Module> addedModules = changes.get(0).getAddedSubList();
+        assertEquals(2, ModuleCodeIndex.countKeptPlaces(removedModules, addedModules));
+        assertEquals(2, removedModules.size());
+        assertEquals(List.of("CS1010"), addedModules.subList(2, addedModules.size()).stream().map(Module::getCode)
+            .collect(Collectors.toList()));
+        assertFalse(changes.get(0).next());
+        assertEquals(List.of("CS2103", "CS2040", "CS1010"),
+            moduleList.getModuleSnapshot().stream().map(Module::getCode).collect(Collectors.toList()));
+        assertSame(condensedModule, moduleList.getListModule("CS2103").get());
+        assertEquals("4", condensedModule.getModuleCredit());
+        assertTrue(moduleList.hasModule("CS1010"));
+    }
+
+    @Test
+    public void getModulesOfferedIn_modulesMerged_indexUpdated() {
+        ModuleSummaryList summaryList = new ModuleSummaryList(List.of(
+            new ModuleCondensed().moduleCode("CS2103").title("Software Engineering")
+                .semesters(List.of(SemestersEnum.S1, SemestersEnum.S2)),
+            new ModuleCondensed().moduleCode("CS2040").title("Data Structures").semesters(List.of(SemestersEnum.S2)),
+            new ModuleCondensed().moduleCode("CS1010R").title("Programming").semesters(List.of(SemestersEnum.ST1))));
+        ModuleList moduleList = new ModuleList(summaryList.toModules("2022-2023"));
+        Module module = moduleList.getListModule("CS2103").get();
+
+        assertEquals(List.of("CS2103", "CS2040"), moduleList.getModulesOfferedIn(SemestersEnum.S2).stream()
+            .map(Module::getCode).collect(Collectors.toList()));
+        assertEquals(List.of(), moduleList.getModulesOfferedIn(SemestersEnum.ST2));
+
+        moduleList.mergeModules(List.of(new Module(new ModuleInformation().moduleCode("CS2103")
+            .title("Software Engineering")
+            .semesterData(List.of(new ModuleInformationSemesterDataInner().semester(BigDecimal.ONE))), "2022-2023")));
+
+        assertEquals(List.of(SemestersEnum.S1), module.getSemesters());
+        assertFalse(module.availableInSemester(SemestersEnum.S2));
+        assertEquals(List.of(module), moduleList.getModulesOfferedIn(SemestersEnum.S1));
+        assertFalse(moduleList.getModulesOfferedIn(SemestersEnum.S2).contains(module));
+    }
+
+    @Test
+    public void getPrerequisiteGraph_modulesMerged_rebuiltOnlyIfInputsChanged() {
+        ModuleList moduleList = new ModuleList(List.of(
+            new Module(new ModuleInformation().moduleCode("CS2103").title("Software Engineering")
+                .prerequisite("CS2040"), "2022-2023"),
+            new Module(new ModuleInformation().moduleCode("CS2040").title("Data Structures"), "2022-2023")));
+        CompletableFuture<PrerequisiteGraph> graph = moduleList.getPrerequisiteGraph();
+
+        moduleList.mergeModules(List.of(new Module(new ModuleInformation().moduleCode("CS2103")
+            .title("Software Engineering").moduleCredit("4").prerequisite("CS2040"), "2022-2023")));
+
+        assertSame(graph, moduleList.getPrerequisiteGraph());
+
+        moduleList.mergeModules(List.of(new Module(new ModuleInformation().moduleCode("CS2103")
+            .title("Software Engineering").prerequisite("CS1010"), "2022-2023")));
+        CompletableFuture<PrerequisiteGraph> rebuiltGraph = moduleList.getPrerequisiteGraph();
+
+        assertNotSame(graph, rebuiltGraph);
+
+        moduleList.mergeModules(List.of(new Module(new ModuleInformation().moduleCode("CS1010")
+            .title("Programming Methodology"), "2022-2023")));
+
+        assertNotSame(rebuiltGraph, moduleList.getPrerequisiteGraph());
+        assertEquals(List.of("CS1010"), moduleList.getPrerequisiteGraph().join().getAllPrerequisiteCodes("CS2103"));
+    }
+
+    @Test
+    public void mergeModules_unchangedModules_listAndIndexesKept() {
+        ModuleList moduleList = new ModuleList(List.of(
+            new Module(new ModuleInformation().moduleCode("CS2103").title("Software Engineering"), "2022-2023"),
+            new Module(new ModuleInformation().moduleCode("CS2040").title("Data Structures"), "2022-2023")));
+        ModuleSearchIndex searchIndex = moduleList.getSearchIndex();
+        ModuleCodePrefixIndex codePrefixIndex = moduleList.getCodePrefixIndex();
+        List<ListChangeListener.Change<? extends Module>> changes = new ArrayList<>();
+        moduleList.getModules().addListener((ListChangeListener<Module>) changes::add);
+
+        moduleList.mergeModules(List.of(
+            new Module(new ModuleInformation().moduleCode("CS2103").title("Software Engineering"), "2022-2023")));
+
+        assertEquals(List.of(), changes);
+        assertSame(searchIndex, moduleList.getSearchIndex());
+
+        moduleList.mergeModules(List.of(
+            new Module(new ModuleInformation().moduleCode("CS2040").title("Data Structures and Algorithms"),
+                "2022-2023")));
+
+        assertEquals(1, changes.size());
+        // Only the title changed, so only the index searching titles is built again
+        assertNotSame(searchIndex, moduleList.getSearchIndex());
+        assertSame(codePrefixIndex, moduleList.getCodePrefixIndex());
+    }
+}
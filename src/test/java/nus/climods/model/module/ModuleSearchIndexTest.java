@@ -0,0 +1,97 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformation;
+
+public class ModuleSearchIndexTest {
+
+    private static final Set<ModuleSearchIndex.Field> CODE_AND_TITLE =
+        EnumSet.of(ModuleSearchIndex.Field.CODE, ModuleSearchIndex.Field.TITLE);
+
+    private static Module createModule(String code, String title) {
+        return new Module(new ModuleInformation().moduleCode(code).title(title));
+    }
+
+    private final List<Module> modules = List.of(
+        createModule("CS2103", "Software Engineering"),
+        createModule("CS2103T", "Software Engineering"),
+        createModule("CS2101", "Effective Communication for Computing Professionals"),
+        createModule("MA1521", "Calculus for Computing"),
+        createModule("ST2334", "Probability and Statistics"),
+        createModule("CS3230", "Design and Analysis of Algorithms"));
+    private final ModuleSearchIndex index = new ModuleSearchIndex(modules);
+
+    private static List<Pattern> toSearchRegexes(String... keywords) {
+        return List.of(keywords).stream().map(keyword -> Pattern.compile(keyword, Pattern.CASE_INSENSITIVE))
+            .collect(Collectors.toList());
+    }
+
+    private Set<String> search(String... keywords) {
+        return index.search(toSearchRegexes(keywords), CODE_AND_TITLE).stream().map(Module::getCode)
+            .collect(Collectors.toSet());
+    }
+
+    private Set<String> scan(String... keywords) {
+        List<Pattern> searchRegexes = toSearchRegexes(keywords);
+        return modules.stream().filter(module -> searchRegexes.stream().anyMatch(module::containsKeyword))
+            .map(Module::getCode).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void isPlainKeyword() {
+        assertTrue(ModuleSearchIndex.isPlainKeyword(Pattern.compile("software", Pattern.CASE_INSENSITIVE)));
+        assertTrue(ModuleSearchIndex.isPlainKeyword(Pattern.compile("object-oriented", Pattern.CASE_INSENSITIVE)));
+        assertFalse(ModuleSearchIndex.isPlainKeyword(Pattern.compile("^CS210[0-3]$", Pattern.CASE_INSENSITIVE)));
+        assertFalse(ModuleSearchIndex.isPlainKeyword(Pattern.compile("software")));
+    }
+
+    @Test
+    public void search_plainKeywords_sameAsScan() {
+        assertEquals(Set.of("CS2103", "CS2103T"), search("cs2103"));
+        assertEquals(Set.of("CS2103", "CS2103T", "MA1521"), search("software", "CALCULUS"));
+        assertEquals(Set.of("CS2101", "MA1521"), search("comput"));
+        assertEquals(Set.of(), search("hardware"));
+
+        for (String keyword : List.of("cs2103", "software", "comput", "for", "engineering", "2", "hardware", "a",
+            "an", "ana", "ysis", "s", "cs3230", "cs32300", "z", "-", "")) {
+            assertEquals(scan(keyword), search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void search_regexKeywords_sameAsScan() {
+        assertEquals(Set.of("CS2101", "CS2103"), search("^CS210[0-3]$"));
+
+        for (String keyword : List.of("^CS210[0-3]$", "software.engineering", "ST\\d+", "prob|calc")) {
+            assertEquals(scan(keyword), search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void search_titleField_matchesTitleOnly() {
+        Set<Module> matches = index.search(toSearchRegexes("cs2103", "calc"),
+            EnumSet.of(ModuleSearchIndex.Field.TITLE));
+
+        assertEquals(Set.of("MA1521"), matches.stream().map(Module::getCode).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void countMatches_multipleKeywords_numberOfKeywordsMatched() {
+        List<Pattern> searchRegexes = toSearchRegexes("software", "engineering", "CS2103T");
+        Map<String, Integer> keywordNumMatches = index.countMatches(searchRegexes, CODE_AND_TITLE).entrySet().stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().getCode(), Map.Entry::getValue));
+
+        assertEquals(Map.of("CS2103", 2, "CS2103T", 3), keywordNumMatches);
+    }
+}
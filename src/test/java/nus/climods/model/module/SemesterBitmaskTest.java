@@ -0,0 +1,57 @@
+package nus.climods.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemestersEnum;
+
+public class SemesterBitmaskTest {
+
+    private static ModuleInformationSemesterDataInner semester(String semester) {
+        return new ModuleInformationSemesterDataInner().semester(new BigDecimal(semester));
+    }
+
+    @Test
+    public void of_semesterData_invalidSemestersLeftOut() {
+        int semesters = SemesterBitmask.of(List.of(semester("4"), semester("1.0"), semester("2.5"), semester("0"),
+            semester("32"), new ModuleInformationSemesterDataInner()));
+
+        assertEquals(SemesterBitmask.of(SemestersEnum.S1, SemestersEnum.ST2), semesters);
+        assertEquals(SemesterBitmask.NONE, SemesterBitmask.of((List<ModuleInformationSemesterDataInner>) null));
+    }
+
+    @Test
+    public void contains() {
+        int semesters = SemesterBitmask.of(SemestersEnum.S2, SemestersEnum.ST1);
+
+        assertTrue(SemesterBitmask.contains(semesters, SemestersEnum.S2));
+        assertTrue(SemesterBitmask.contains(semesters, SemestersEnum.ST1));
+        assertFalse(SemesterBitmask.contains(semesters, SemestersEnum.S1));
+        assertFalse(SemesterBitmask.contains(SemesterBitmask.NONE, SemestersEnum.ST2));
+    }
+
+    @Test
+    public void toSemesters_anySemesters_inOrder() {
+        assertEquals(List.of(SemestersEnum.S1, SemestersEnum.ST2),
+            SemesterBitmask.toSemesters(SemesterBitmask.of(SemestersEnum.ST2, SemestersEnum.S1)));
+        assertEquals(List.of(SemestersEnum.values()),
+            SemesterBitmask.toSemesters(SemesterBitmask.of(SemestersEnum.values())));
+        assertEquals(List.of(), SemesterBitmask.toSemesters(SemesterBitmask.NONE));
+        // Semesters outside SemestersEnum are left out
+        assertEquals(List.of(SemestersEnum.S2), SemesterBitmask.toSemesters(SemesterBitmask.of(
+            List.of(semester("2"), semester("5")))));
+    }
+
+    @Test
+    public void toSemesterData_semesters_roundTrip() {
+        List<ModuleInformationSemesterDataInner> semesterData = List.of(semester("1"), semester("3"));
+
+        assertEquals(semesterData, SemesterBitmask.toSemesterData(SemesterBitmask.of(semesterData)));
+    }
+}
@@ -0,0 +1,68 @@
+package nus.climods.model.module.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ModuleStub;
+
+class ModuleBestMatchKeywordComparatorTest {
+
+    private final AtomicInteger containsKeywordCount = new AtomicInteger();
+
+    /**
+     * A module that counts how often a keyword is evaluated against it.
+     */
+    private class CountingModuleStub extends ModuleStub {
+        CountingModuleStub(String title, String code) {
+            super(title, code);
+        }
+
+        @Override
+        public boolean containsKeyword(Pattern keywordPattern) {
+            containsKeywordCount.incrementAndGet();
+            return super.containsKeyword(keywordPattern);
+        }
+    }
+
+    private final List<Module> modules = List.of(
+        new CountingModuleStub("Effective Communication for Computing Professionals", "CS2101"),
+        new CountingModuleStub("Software Engineering", "CS2103"),
+        new CountingModuleStub("Software Testing", "CS4218"),
+        new CountingModuleStub("Computer Organisation", "CS2100"));
+
+    private static List<String> sortCodes(List<Module> modules, ModuleBestMatchKeywordComparator comparator) {
+        List<Module> sortedModules = new ArrayList<>(modules);
+        sortedModules.sort(comparator);
+        return sortedModules.stream().map(Module::getCode).collect(Collectors.toList());
+    }
+
+    @Test
+    public void compare_searchRegexes_eachKeywordEvaluatedOncePerModule() {
+        List<Pattern> searchRegexes = List.of(Pattern.compile("software", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("engineering", Pattern.CASE_INSENSITIVE));
+
+        List<String> sortedCodes = sortCodes(modules, new ModuleBestMatchKeywordComparator(searchRegexes));
+
+        assertEquals(List.of("CS2103", "CS4218", "CS2101", "CS2100"), sortedCodes);
+        assertEquals(searchRegexes.size() * modules.size(), containsKeywordCount.get());
+    }
+
+    @Test
+    public void compare_precomputedMatches_noKeywordEvaluated() {
+        Map<Module, Integer> keywordNumMatches = Map.of(modules.get(1), 2, modules.get(2), 1);
+
+        List<String> sortedCodes = sortCodes(modules, new ModuleBestMatchKeywordComparator(keywordNumMatches));
+
+        assertEquals(List.of("CS2103", "CS4218", "CS2101", "CS2100"), sortedCodes);
+        assertEquals(0, containsKeywordCount.get());
+    }
+}
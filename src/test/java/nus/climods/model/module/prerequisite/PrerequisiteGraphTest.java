@@ -0,0 +1,65 @@
+package nus.climods.model.module.prerequisite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformation;
+
+import nus.climods.model.module.Module;
+
+class PrerequisiteGraphTest {
+
+    private static Module createModule(String code, String prerequisite) {
+        return new Module(new ModuleInformation().moduleCode(code).title(code).prerequisite(prerequisite));
+    }
+
+    private final PrerequisiteGraph graph = new PrerequisiteGraph(List.of(
+        createModule("CS1010", null),
+        createModule("CS1231", null),
+        createModule("CS2030", "CS1010 or its equivalent"),
+        createModule("CS2040", "CS1010"),
+        createModule("CS2103", "CS2030 and CS2040"),
+        createModule("CS3203", "CS2103 and CS9999"),
+        createModule("MA1100", "MA1100T"),
+        createModule("MA1100T", "MA1100"),
+        createModule("MA2202", "MA1100 or MA1100T")));
+
+    @Test
+    void getPrerequisiteCodes_unknownCodesDropped() {
+        assertEquals(List.of("CS2103"), graph.getPrerequisiteCodes("cs3203"));
+        assertEquals(List.of("CS2030", "CS2040"), graph.getPrerequisiteCodes("CS2103"));
+        assertEquals(List.of(), graph.getPrerequisiteCodes("CS9999"));
+    }
+
+    @Test
+    void getAllPrerequisiteCodes_sharedChain_returnsClosureInListOrder() {
+        assertEquals(List.of("CS1010", "CS2030", "CS2040"), graph.getAllPrerequisiteCodes("CS2103"));
+        assertEquals(List.of("CS1010", "CS2030", "CS2040", "CS2103"), graph.getAllPrerequisiteCodes("CS3203"));
+        assertEquals(List.of(), graph.getAllPrerequisiteCodes("CS1231"));
+    }
+
+    @Test
+    void getAllPrerequisiteCodes_cycle_excludesQueriedModule() {
+        assertEquals(List.of("MA1100T"), graph.getAllPrerequisiteCodes("MA1100"));
+        assertEquals(List.of("MA1100", "MA1100T"), graph.getAllPrerequisiteCodes("MA2202"));
+    }
+
+    @Test
+    void getDependentCodes() {
+        assertEquals(List.of("CS2030", "CS2040"), graph.getDependentCodes("CS1010"));
+        assertEquals(List.of("MA1100T", "MA2202"), graph.getDependentCodes("MA1100"));
+        assertEquals(List.of(), graph.getDependentCodes("CS3203"));
+    }
+
+    @Test
+    void getEligibleModuleCodes_allOfPrerequisites_requiresEveryOne() {
+        assertEquals(List.of("CS2030", "CS2040"), graph.getEligibleModuleCodes(List.of("CS1010")));
+        assertEquals(List.of("CS2040"), graph.getEligibleModuleCodes(List.of("CS1010", "CS2030")));
+        assertEquals(List.of("CS2103"), graph.getEligibleModuleCodes(List.of("cs1010", "CS2030", "CS2040")));
+        // CS3203 also needs CS9999, which is not offered
+        assertEquals(List.of(), graph.getEligibleModuleCodes(List.of("CS1010", "CS2030", "CS2040", "CS2103")));
+        assertEquals(List.of("MA1100T", "MA2202"), graph.getEligibleModuleCodes(List.of("MA1100")));
+    }
+}
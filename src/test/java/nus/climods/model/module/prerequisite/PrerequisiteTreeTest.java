@@ -0,0 +1,79 @@
+package nus.climods.model.module.prerequisite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.ApiClient;
+import org.openapitools.client.model.PrereqTree;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PrerequisiteTreeTest {
+
+    private final ObjectMapper mapper = new ApiClient().getObjectMapper();
+
+    private PrerequisiteTree parse(String json) throws JsonProcessingException {
+        return PrerequisiteTree.of(mapper.readValue(json, PrereqTree.class)).orElseThrow();
+    }
+
+    @Test
+    void of_andNode_keepsAllRequired() throws JsonProcessingException {
+        PrerequisiteTree tree = parse("{\"and\":[\"CS1231\",{\"or\":[\"CS1010S\",\"CS1010X\"]}]}");
+
+        assertTrue(tree.isAllRequired());
+        assertEquals(List.of("CS1231"), tree.getRootModuleCodes());
+        assertEquals(1, tree.getSubtrees().size());
+        assertFalse(tree.getSubtrees().get(0).isAllRequired());
+        assertEquals("CS1231 and (CS1010S or CS1010X)", tree.toString());
+    }
+
+    @Test
+    void of_nestedSameOperator_flattened() throws JsonProcessingException {
+        PrerequisiteTree tree = parse("{\"or\":[\"CS2100\",{\"or\":[\"EE2007\",\"EE2024\"]}]}");
+
+        assertEquals("CS2100 or EE2007 or EE2024", tree.toString());
+        assertEquals(tree, parse("{\"or\":[\"CS2100\",\"EE2007\",\"EE2024\"]}"));
+    }
+
+    @Test
+    void of_emptyOrMissing_returnsEmpty() throws JsonProcessingException {
+        assertEquals(Optional.empty(), PrerequisiteTree.of(null));
+        assertEquals(Optional.empty(), PrerequisiteTree.of(mapper.readValue("{\"and\":[]}", PrereqTree.class)));
+    }
+
+    @Test
+    void isSatisfiedBy() throws JsonProcessingException {
+        PrerequisiteTree tree = parse("{\"and\":[\"CS1231\",{\"or\":[\"CS1010S\",\"CS1010X\"]}]}");
+
+        assertTrue(tree.isSatisfiedBy(ModuleIds.toBitSet(List.of("CS1231", "CS1010X"))));
+        assertTrue(tree.isSatisfiedBy(ModuleIds.toBitSet(List.of("cs1231", "cs1010s", "MA1521"))));
+        assertFalse(tree.isSatisfiedBy(ModuleIds.toBitSet(List.of("CS1231"))));
+        assertFalse(tree.isSatisfiedBy(ModuleIds.toBitSet(List.of("CS1010S", "CS1010X"))));
+    }
+
+    @Test
+    void getModuleCodes_distinctInOrder() throws JsonProcessingException {
+        PrerequisiteTree tree = parse("{\"or\":[{\"and\":[\"CS1231\",\"CS1010\"]},{\"and\":[\"MA1100\",\"CS1010\"]}]}");
+
+        assertEquals(List.of("CS1231", "CS1010", "MA1100"), tree.getModuleCodes());
+    }
+
+    @Test
+    void parseDescription() {
+        assertEquals("CS2030 and (CS2040 or CS2040C)",
+            PrerequisiteTree.parseDescription("CS2030 and (CS2040 or CS2040C)").orElseThrow().toString());
+        assertEquals("CS1010 or CS1101S or CS1010E",
+            PrerequisiteTree.parseDescription("CS1010, CS1101S or CS1010E or equivalent").orElseThrow().toString());
+        assertEquals("MA1521 or (CS1231 and MA1101R)",
+            PrerequisiteTree.parseDescription("1) CS1231 AND MA1101R or MA1521").orElseThrow().toString());
+        assertEquals("CS2100", PrerequisiteTree.parseDescription("and CS2100 (or").orElseThrow().toString());
+        assertEquals(Optional.empty(), PrerequisiteTree.parseDescription("Pass in GCE 'O' Level Mathematics"));
+        assertEquals(Optional.empty(), PrerequisiteTree.parseDescription(null));
+    }
+}
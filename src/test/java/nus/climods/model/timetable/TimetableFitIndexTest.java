@@ -0,0 +1,100 @@
+package nus.climods.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.LessonWeeks;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemesterData;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.model.module.LessonTypeEnum;
+import nus.climods.model.module.Module;
+
+public class TimetableFitIndexTest {
+
+    private static final long ODD_WEEKS = 0b1010101010101L;
+
+    private static final Map<String, List<Lesson>> SAVED_LESSONS = Map.of(
+        "CS1010", List.of(lesson("Lecture", "1", "Monday", "0900", "1100"),
+            lesson("Lecture", "2", "Wednesday", "0800", "1000"),
+            lesson("Tutorial", "01", "Friday", "1400", "1500")),
+        "CS1231", List.of(lesson("Lecture", "1", "Monday", "0800", "0900"),
+            lesson("Tutorial", "01", "Friday", "1400", "1500")),
+        "CS2030", List.of(lesson("Laboratory", "01", "Tuesday", "1000", "1200")
+            .weeks(new LessonWeeks(List.of(new BigDecimal(2), new BigDecimal(4))))),
+        "CS2040", List.of());
+
+    private final TimetableFitIndex index = new TimetableFitIndex();
+    private final Timetable timetable = new Timetable(List.of(
+        new TimetableEntry("MA1521", LessonTypeEnum.LEC, "1",
+            List.of(new LessonSlot(0, 8 * 60, 10 * 60, LessonSlot.TEACHING_WEEKS))),
+        new TimetableEntry("MA1521", LessonTypeEnum.TUT, "1",
+            List.of(new LessonSlot(1, 10 * 60, 12 * 60, ODD_WEEKS)))));
+
+    private static Lesson lesson(String lessonType, String classNo, String day, String start, String end) {
+        return new Lesson().lessonType(lessonType).classNo(classNo).day(day).startTime(start).endTime(end);
+    }
+
+    private static Module module(String code, SemestersEnum... semesters) {
+        return new Module(new ModuleInformation().moduleCode(code).title(code)
+            .semesterData(Arrays.stream(semesters)
+                .map(semester -> new ModuleInformationSemesterDataInner().semester(semester.getValue()))
+                .collect(Collectors.toList())));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Module.setSavedDetailLoader((academicYear, moduleCode) -> {
+            if (!SAVED_LESSONS.containsKey(moduleCode)) {
+                throw new ApiException("Not saved");
+            }
+            return new org.openapitools.client.model.Module().moduleCode(moduleCode).title(moduleCode)
+                .semesterData(List.of(new SemesterData().semester(SemestersEnum.S1.getValue())
+                    .timetable(SAVED_LESSONS.get(moduleCode))));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Module.setSavedDetailLoader((academicYear, moduleCode) -> {
+            throw new ApiException("Not saved");
+        });
+    }
+
+    @Test
+    public void getFittingModules() {
+        Module freeLecture = module("CS1010", SemestersEnum.S1);
+        Module onlyLectureClashes = module("CS1231", SemestersEnum.S1);
+        Module freeInOtherWeeks = module("CS2030", SemestersEnum.S1);
+        Module noLessons = module("CS2040", SemestersEnum.S1);
+        Module notSaved = module("CS2100", SemestersEnum.S1);
+        Module notOffered = module("CS1010", SemestersEnum.S2);
+
+        Set<Module> fittingModules = index.getFittingModules(List.of(freeLecture, onlyLectureClashes,
+            freeInOtherWeeks, noLessons, notSaved, notOffered), SemestersEnum.S1, timetable);
+
+        assertEquals(Set.of(freeLecture, freeInOtherWeeks, noLessons), fittingModules);
+    }
+
+    @Test
+    public void getFittingModules_emptyTimetable_allSavedModulesFit() {
+        Module clashingLecture = module("CS1231", SemestersEnum.S1);
+        Module notSaved = module("CS2100", SemestersEnum.S1);
+
+        assertEquals(Set.of(clashingLecture), index.getFittingModules(List.of(clashingLecture, notSaved),
+            SemestersEnum.S1, new Timetable()));
+    }
+}
@@ -0,0 +1,63 @@
+package nus.climods.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class TimetableObjectiveTest {
+
+    private static final TimetableObjective ALL_OBJECTIVES =
+        new TimetableObjective(true, Optional.of(10 * 60), true, true);
+
+    private static LessonSlot slot(int day, int startHour, int endHour) {
+        return new LessonSlot(day, startHour * 60, endHour * 60, LessonSlot.TEACHING_WEEKS);
+    }
+
+    @Test
+    public void getCost_noObjective_isZero() {
+        BitSet weekBitmap = TimetableObjective.toWeekBitmap(List.of(slot(0, 8, 9), slot(0, 11, 14), slot(3, 8, 9)));
+
+        assertEquals(0, TimetableObjective.NONE.getCost(weekBitmap));
+    }
+
+    @Test
+    public void getCost_emptyWeek_isZero() {
+        assertEquals(0, ALL_OBJECTIVES.getCost(new BitSet()));
+    }
+
+    @Test
+    public void getCost_allObjectives_addsCostOfEachDay() {
+        // Monday: early, no lunch break, an hour of dead time. Thursday: lunch break and no dead time.
+        BitSet weekBitmap = TimetableObjective.toWeekBitmap(
+            List.of(slot(0, 9, 10), slot(0, 11, 12), slot(0, 12, 14), slot(3, 14, 16)));
+
+        assertEquals(2 * TimetableObjective.DAY_COST + TimetableObjective.EARLY_START_COST
+            + TimetableObjective.NO_LUNCH_BREAK_COST + 60, ALL_OBJECTIVES.getCost(weekBitmap));
+    }
+
+    @Test
+    public void getCost_lunchBreakBetweenLessons_isFree() {
+        TimetableObjective lunchBreak = new TimetableObjective(false, Optional.empty(), true, false);
+
+        assertEquals(0, lunchBreak.getCost(TimetableObjective.toWeekBitmap(List.of(slot(0, 11, 12), slot(0, 13, 14)))));
+        assertEquals(TimetableObjective.NO_LUNCH_BREAK_COST, lunchBreak.getCost(TimetableObjective.toWeekBitmap(
+            List.of(slot(0, 10, 12), new LessonSlot(0, 12 * 60 + 30, 14 * 60, LessonSlot.TEACHING_WEEKS)))));
+    }
+
+    @Test
+    public void getLowerBound_remainingUnitsMayFillDeadTime() {
+        BitSet weekBitmap = TimetableObjective.toWeekBitmap(List.of(slot(0, 10, 11), slot(0, 13, 14)));
+        TimetableObjective deadTime = new TimetableObjective(false, Optional.empty(), false, true);
+        int hourUnits = 60 / LessonSlot.MINUTES_PER_UNIT;
+
+        assertEquals(120, deadTime.getLowerBound(weekBitmap, 0));
+        assertEquals(60, deadTime.getLowerBound(weekBitmap, hourUnits));
+        assertEquals(0, deadTime.getLowerBound(weekBitmap, 3 * hourUnits));
+        assertTrue(deadTime.getLowerBound(weekBitmap, hourUnits) <= deadTime.getCost(weekBitmap));
+    }
+}
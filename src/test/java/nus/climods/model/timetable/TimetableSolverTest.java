@@ -0,0 +1,252 @@
+package nus.climods.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import nus.climods.model.module.LessonTypeEnum;
+
+public class TimetableSolverTest {
+
+    private final TimetableSolver solver = new TimetableSolver();
+
+    private static TimetableEntry entry(String moduleCode, LessonTypeEnum lessonType, String lessonId, int day,
+        int startHour) {
+        LessonSlot slot = new LessonSlot(day, startHour * 60, (startHour + 1) * 60, LessonSlot.TEACHING_WEEKS);
+        return new TimetableEntry(moduleCode, lessonType, lessonId, List.of(slot));
+    }
+
+    private static void assertNoClashes(List<TimetableEntry> fixedEntries, List<TimetableEntry> solution) {
+        Timetable timetable = new Timetable(fixedEntries);
+        for (TimetableEntry entry : solution) {
+            assertEquals(List.of(), timetable.getClashes(entry));
+            timetable.add(entry);
+        }
+    }
+
+    @Test
+    public void solve_avoidsFixedLessonsAndOtherChoices() throws InterruptedException {
+        List<TimetableEntry> fixedEntries = List.of(entry("CS2103", LessonTypeEnum.LEC, "1", 0, 10));
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 11), entry("CS2101", LessonTypeEnum.SEC, "2", 0, 12)));
+
+        Optional<List<TimetableEntry>> solution = solver.solve(fixedEntries, choices);
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(1), choices.get(1).get(1))), solution);
+    }
+
+    @Test
+    public void solve_noClashFreeChoice_returnsEmpty() throws InterruptedException {
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 10), entry("CS2101", LessonTypeEnum.SEC, "2", 0, 11)),
+            List.of(entry("CS2100", LessonTypeEnum.LAB, "1", 0, 10), entry("CS2100", LessonTypeEnum.LAB, "2", 0, 11)));
+
+        assertTrue(solver.solve(List.of(), choices).isEmpty());
+    }
+
+    @Test
+    public void solve_noChoices_returnsEmptySolution() throws InterruptedException {
+        assertEquals(Optional.of(List.of()), solver.solve(List.of(), List.of()));
+    }
+
+    @Test
+    public void solve_manyModulesWithManySlots_findsSolution() throws InterruptedException {
+        // 10 modules with 2 lesson types of 36 classes each, over the 9 hours of 4 days
+        List<List<TimetableEntry>> choices = new ArrayList<>();
+        for (int module = 0; module < 10; module++) {
+            for (LessonTypeEnum lessonType : List.of(LessonTypeEnum.TUT, LessonTypeEnum.LAB)) {
+                List<TimetableEntry> classes = new ArrayList<>();
+                for (int c = 0; c < 36; c++) {
+                    classes.add(entry("CS" + (2100 + module), lessonType, String.valueOf(c), c % 4,
+                        9 + (c * 7 + module) % 9));
+                }
+                choices.add(classes);
+            }
+        }
+
+        Optional<List<TimetableEntry>> solution = solver.solve(List.of(), choices);
+
+        assertTrue(solution.isPresent());
+        assertEquals(choices.size(), solution.get().size());
+        for (int i = 0; i < choices.size(); i++) {
+            assertTrue(choices.get(i).contains(solution.get().get(i)));
+        }
+        assertNoClashes(List.of(), solution.get());
+    }
+
+    @Test
+    public void solve_tightTimetable_findsOnlySolution() throws InterruptedException {
+        // 6 lesson types over 6 hours, each allowed in 3 consecutive hours, forcing a single assignment
+        List<List<TimetableEntry>> choices = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            List<TimetableEntry> classes = new ArrayList<>();
+            for (int hour = Math.max(0, i - 2); hour <= i; hour++) {
+                classes.add(entry("CS" + (2100 + i), LessonTypeEnum.TUT, String.valueOf(hour), 0, 8 + hour));
+            }
+            choices.add(classes);
+        }
+
+        List<TimetableEntry> solution = solver.solve(List.of(), choices).get();
+
+        assertNoClashes(List.of(), solution);
+        for (int i = 0; i < 6; i++) {
+            assertEquals(String.valueOf(i), solution.get(i).getLessonId());
+        }
+        assertFalse(solver.solve(List.of(entry("CS1010", LessonTypeEnum.LEC, "1", 0, 8)), choices).isPresent());
+    }
+
+    @Test
+    public void optimise_fewestDays_picksClassesOnSameDay() throws InterruptedException {
+        List<TimetableEntry> fixedEntries = List.of(entry("CS2103", LessonTypeEnum.LEC, "1", 2, 10));
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 2, 12)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 1, 10), entry("CS2101", LessonTypeEnum.SEC, "2", 2, 10),
+                entry("CS2101", LessonTypeEnum.SEC, "3", 2, 14)));
+        TimetableObjective objective = new TimetableObjective(true, Optional.empty(), false, false);
+
+        TimetableSolution solution = solver.optimise(fixedEntries, choices, objective);
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(1), choices.get(1).get(2))), solution.getEntries());
+        assertEquals(TimetableObjective.DAY_COST, solution.getCost());
+        assertTrue(solution.isComplete());
+        assertTrue(solution.getNodesExplored() > 0);
+    }
+
+    @Test
+    public void optimise_deadTimeAndEarlyStart_picksCompactLateClasses() throws InterruptedException {
+        List<TimetableEntry> fixedEntries = List.of(entry("CS2103", LessonTypeEnum.LEC, "1", 0, 12));
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 8), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 15),
+                entry("CS2103", LessonTypeEnum.TUT, "03", 0, 13)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 9), entry("CS2101", LessonTypeEnum.SEC, "2", 0, 14)));
+        TimetableObjective objective = new TimetableObjective(false, Optional.of(10 * 60), false, true);
+
+        TimetableSolution solution = solver.optimise(fixedEntries, choices, objective);
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(2), choices.get(1).get(1))), solution.getEntries());
+        assertEquals(0, solution.getCost());
+    }
+
+    @Test
+    public void optimise_lunchBreak_keepsFreeHour() throws InterruptedException {
+        List<TimetableEntry> fixedEntries = List.of(entry("CS2103", LessonTypeEnum.LEC, "1", 0, 11),
+            entry("CS2101", LessonTypeEnum.LEC, "1", 0, 13));
+        List<List<TimetableEntry>> choices = List.of(List.of(
+            entry("CS2103", LessonTypeEnum.TUT, "01", 0, 12), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 15)));
+        TimetableObjective objective = new TimetableObjective(false, Optional.empty(), true, false);
+
+        TimetableSolution solution = solver.optimise(fixedEntries, choices, objective);
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(1))), solution.getEntries());
+        assertEquals(0, solution.getCost());
+    }
+
+    @Test
+    public void optimise_matchesExhaustiveSearch() throws InterruptedException {
+        // 5 lesson types of 6 classes each over 3 days, checked against every combination
+        List<List<TimetableEntry>> choices = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<TimetableEntry> classes = new ArrayList<>();
+            for (int c = 0; c < 6; c++) {
+                classes.add(entry("CS" + (2100 + i), LessonTypeEnum.TUT, String.valueOf(c), (i + c) % 3,
+                    8 + (i * 5 + c * 3) % 10));
+            }
+            choices.add(classes);
+        }
+        TimetableObjective objective = new TimetableObjective(true, Optional.of(9 * 60), true, true);
+
+        int bestCost = Integer.MAX_VALUE;
+        for (int combination = 0; combination < Math.pow(6, choices.size()); combination++) {
+            List<LessonSlot> slots = new ArrayList<>();
+            for (int i = 0, rest = combination; i < choices.size(); i++, rest /= 6) {
+                slots.addAll(choices.get(i).get(rest % 6).getSlots());
+            }
+            if (Timetable.toBitmap(slots).cardinality() == slots.size() * 12 * 13) {
+                bestCost = Math.min(bestCost, objective.getCost(TimetableObjective.toWeekBitmap(slots)));
+            }
+        }
+
+        TimetableSolution solution = solver.optimise(List.of(), choices, objective);
+
+        assertEquals(bestCost, solution.getCost());
+        assertNoClashes(List.of(), solution.getEntries().get());
+    }
+
+    @Test
+    public void optimise_exhaustedTimeBudget_returnsIncompleteSolution() throws InterruptedException {
+        List<List<TimetableEntry>> choices = List.of(List.of(
+            entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)));
+        TimetableObjective objective = new TimetableObjective(true, Optional.empty(), false, false);
+
+        TimetableSolution solution = solver.optimise(List.of(), choices, objective, Duration.ZERO);
+
+        assertFalse(solution.isComplete());
+        assertTrue(solution.getEntries().isEmpty());
+    }
+
+    @Test
+    public void repair_newChoiceFits_keepsPreviousEntries() throws InterruptedException {
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 10), entry("CS2101", LessonTypeEnum.SEC, "2", 0, 12)));
+        List<Optional<TimetableEntry>> previousEntries = List.of(Optional.of(choices.get(0).get(0)), Optional.empty());
+
+        TimetableSolution solution = solver.repair(List.of(), choices, previousEntries, TimetableObjective.NONE,
+            Duration.ofSeconds(10));
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(0), choices.get(1).get(1))), solution.getEntries());
+        assertTrue(solution.isComplete());
+    }
+
+    @Test
+    public void repair_newChoiceBlocked_movesOnlyClashingEntries() throws InterruptedException {
+        // The new choice only fits at 10, where CS2103 was, and CS2100 is left alone on another day
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)),
+            List.of(entry("CS2100", LessonTypeEnum.LAB, "1", 1, 10), entry("CS2100", LessonTypeEnum.LAB, "2", 1, 11)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 10)));
+        List<Optional<TimetableEntry>> previousEntries = List.of(Optional.of(choices.get(0).get(0)),
+            Optional.of(choices.get(1).get(1)), Optional.empty());
+
+        TimetableSolution solution = solver.repair(List.of(), choices, previousEntries, TimetableObjective.NONE,
+            Duration.ofSeconds(10));
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(1), choices.get(1).get(1), choices.get(2).get(0))),
+            solution.getEntries());
+    }
+
+    @Test
+    public void repair_pinnedEntryClashes_movesPreviousEntry() throws InterruptedException {
+        List<TimetableEntry> pinnedEntries = List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 10));
+        List<List<TimetableEntry>> choices = List.of(List.of(
+            entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10), entry("CS2103", LessonTypeEnum.TUT, "02", 0, 11)));
+
+        TimetableSolution solution = solver.repair(pinnedEntries, choices, List.of(Optional.of(choices.get(0).get(0))),
+            TimetableObjective.NONE, Duration.ofSeconds(10));
+
+        assertEquals(Optional.of(List.of(choices.get(0).get(1))), solution.getEntries());
+    }
+
+    @Test
+    public void repair_noClashFreeChoice_returnsEmpty() throws InterruptedException {
+        List<List<TimetableEntry>> choices = List.of(
+            List.of(entry("CS2103", LessonTypeEnum.TUT, "01", 0, 10)),
+            List.of(entry("CS2101", LessonTypeEnum.SEC, "1", 0, 10)));
+
+        TimetableSolution solution = solver.repair(List.of(), choices,
+            List.of(Optional.of(choices.get(0).get(0)), Optional.empty()), TimetableObjective.NONE,
+            Duration.ofSeconds(10));
+
+        assertTrue(solution.getEntries().isEmpty());
+        assertTrue(solution.isComplete());
+    }
+}
@@ -0,0 +1,157 @@
+package nus.climods.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.Lesson;
+import org.openapitools.client.model.LessonWeeks;
+
+import nus.climods.model.module.LessonTypeEnum;
+
+public class TimetableTest {
+
+    private static final long ODD_WEEKS = 0b1010101010101L;
+    private static final long EVEN_WEEKS = 0b0101010101010L;
+
+    private static LessonSlot slot(int day, String start, String end, long weeks) {
+        return new LessonSlot(day, toMinute(start), toMinute(end), weeks);
+    }
+
+    private static int toMinute(String time) {
+        return Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+
+    private static TimetableEntry entry(String moduleCode, LessonTypeEnum lessonType, String lessonId,
+        LessonSlot... slots) {
+        return new TimetableEntry(moduleCode, lessonType, lessonId, List.of(slots));
+    }
+
+    @Test
+    public void of_validLesson_returnsSlot() {
+        Lesson lesson = new Lesson().day("Wednesday").startTime("1430").endTime("1615")
+            .weeks(new LessonWeeks(List.of(new BigDecimal(1), new BigDecimal(3))));
+
+        assertEquals(Optional.of(new LessonSlot(2, 14 * 60 + 30, 16 * 60 + 15, 0b101)), LessonSlot.of(lesson));
+    }
+
+    @Test
+    public void of_missingWeeks_assumesTeachingWeeks() {
+        Lesson lesson = new Lesson().day("Monday").startTime("0800").endTime("1000");
+
+        assertEquals(LessonSlot.TEACHING_WEEKS, LessonSlot.of(lesson).get().getWeeks());
+    }
+
+    @Test
+    public void of_invalidLesson_returnsEmpty() {
+        assertTrue(LessonSlot.of(new Lesson().day("Someday").startTime("0800").endTime("1000")).isEmpty());
+        assertTrue(LessonSlot.of(new Lesson().day("Monday").startTime("8am").endTime("1000")).isEmpty());
+        assertTrue(LessonSlot.of(new Lesson().day("Monday").startTime("1000").endTime("0800")).isEmpty());
+        assertTrue(LessonSlot.of(new Lesson()).isEmpty());
+    }
+
+    @Test
+    public void clashesWith() {
+        LessonSlot mondayMorning = slot(0, "0800", "1000", LessonSlot.TEACHING_WEEKS);
+
+        assertTrue(mondayMorning.clashesWith(slot(0, "0900", "1100", LessonSlot.TEACHING_WEEKS)));
+        // back to back
+        assertFalse(mondayMorning.clashesWith(slot(0, "1000", "1100", LessonSlot.TEACHING_WEEKS)));
+        // different day
+        assertFalse(mondayMorning.clashesWith(slot(1, "0800", "1000", LessonSlot.TEACHING_WEEKS)));
+        // different weeks
+        assertFalse(slot(0, "0800", "1000", ODD_WEEKS).clashesWith(slot(0, "0800", "1000", EVEN_WEEKS)));
+    }
+
+    @Test
+    public void isFree() {
+        Timetable timetable = new Timetable(List.of(
+            entry("CS2103", LessonTypeEnum.LEC, "1", slot(4, "1600", "1800", LessonSlot.TEACHING_WEEKS)),
+            entry("CS2101", LessonTypeEnum.SEC, "3", slot(0, "0800", "1000", ODD_WEEKS))));
+
+        assertTrue(timetable.isFree(List.of(slot(4, "1800", "1900", LessonSlot.TEACHING_WEEKS))));
+        assertTrue(timetable.isFree(List.of(slot(0, "0800", "1000", EVEN_WEEKS))));
+        assertTrue(timetable.isFree(List.of(slot(0, "1000", "1005", LessonSlot.TEACHING_WEEKS))));
+        assertFalse(timetable.isFree(List.of(slot(4, "1755", "1900", LessonSlot.TEACHING_WEEKS))));
+        assertFalse(timetable.isFree(List.of(slot(0, "0900", "0930", 1L << 12))));
+    }
+
+    @Test
+    public void getClashes_returnsClashingEntries() {
+        TimetableEntry lecture = entry("CS2103", LessonTypeEnum.LEC, "1",
+            slot(4, "1600", "1800", LessonSlot.TEACHING_WEEKS));
+        TimetableEntry sectional = entry("CS2101", LessonTypeEnum.SEC, "3",
+            slot(0, "0800", "1000", ODD_WEEKS), slot(3, "0800", "1000", ODD_WEEKS));
+        Timetable timetable = new Timetable(List.of(lecture, sectional));
+
+        TimetableEntry tutorial = entry("CS2100", LessonTypeEnum.TUT, "05",
+            slot(3, "0900", "1000", LessonSlot.TEACHING_WEEKS), slot(4, "1700", "1800", LessonSlot.TEACHING_WEEKS));
+
+        assertEquals(List.of(new LessonClash(tutorial, lecture, lecture.getSlots().get(0)),
+            new LessonClash(tutorial, sectional, sectional.getSlots().get(1))), timetable.getClashes(tutorial));
+        assertEquals(List.of(), timetable.getClashes(entry("CS2100", LessonTypeEnum.TUT, "06",
+            slot(3, "1000", "1100", LessonSlot.TEACHING_WEEKS))));
+    }
+
+    @Test
+    public void getClashes_sameLessonType_ignoresReplacedEntry() {
+        Timetable timetable = new Timetable(List.of(
+            entry("CS2103", LessonTypeEnum.TUT, "01", slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS))));
+
+        assertEquals(List.of(), timetable.getClashes(
+            entry("CS2103", LessonTypeEnum.TUT, "02", slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS))));
+    }
+
+    @Test
+    public void removeSameLessonType_freesReplacedSlots() {
+        TimetableEntry oldTutorial = entry("CS2103", LessonTypeEnum.TUT, "01",
+            slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS));
+        TimetableEntry lecture = entry("CS2103", LessonTypeEnum.LEC, "1",
+            slot(2, "1030", "1200", ODD_WEEKS));
+        Timetable timetable = new Timetable(List.of(oldTutorial, lecture));
+        TimetableEntry newTutorial = entry("CS2103", LessonTypeEnum.TUT, "02",
+            slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS));
+
+        timetable.removeSameLessonType(newTutorial);
+
+        assertEquals(List.of(lecture), timetable.getEntries());
+        assertTrue(timetable.isFree(List.of(slot(2, "1000", "1030", LessonSlot.TEACHING_WEEKS))));
+        assertTrue(timetable.isFree(List.of(slot(2, "1030", "1100", EVEN_WEEKS))));
+        assertFalse(timetable.isFree(List.of(slot(2, "1030", "1100", ODD_WEEKS))));
+    }
+
+    @Test
+    public void removeModule_clashingClassKept_sharedSlotsStayOccupied() {
+        TimetableEntry tutorial = entry("CS2103", LessonTypeEnum.TUT, "01",
+            slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS));
+        TimetableEntry lecture = entry("CS2101", LessonTypeEnum.LEC, "1",
+            slot(2, "1030", "1200", ODD_WEEKS), slot(4, "0800", "0900", LessonSlot.TEACHING_WEEKS));
+        Timetable timetable = new Timetable(List.of(tutorial, lecture));
+
+        timetable.removeModule("CS2101");
+
+        assertEquals(List.of(tutorial), timetable.getEntries());
+        assertFalse(timetable.isFree(List.of(slot(2, "1030", "1100", ODD_WEEKS))));
+        assertTrue(timetable.isFree(List.of(slot(2, "1100", "1200", ODD_WEEKS))));
+        assertTrue(timetable.isFree(List.of(slot(4, "0800", "0900", LessonSlot.TEACHING_WEEKS))));
+    }
+
+    @Test
+    public void copy_copyChanged_originalUnchanged() {
+        TimetableEntry tutorial = entry("CS2103", LessonTypeEnum.TUT, "01",
+            slot(2, "1000", "1100", LessonSlot.TEACHING_WEEKS));
+        Timetable timetable = new Timetable(List.of(tutorial));
+
+        Timetable copy = new Timetable(timetable);
+        copy.removeModule("CS2103");
+
+        assertEquals(List.of(tutorial), timetable.getEntries());
+        assertFalse(timetable.isFree(tutorial.getSlots()));
+        assertTrue(copy.isFree(tutorial.getSlots()));
+    }
+}
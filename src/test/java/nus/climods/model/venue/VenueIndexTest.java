@@ -0,0 +1,81 @@
+package nus.climods.model.venue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.LessonWeeks;
+import org.openapitools.client.model.VenueInformation;
+import org.openapitools.client.model.VenueLesson;
+
+import nus.climods.model.timetable.LessonSlot;
+
+public class VenueIndexTest {
+
+    private static final long ODD_WEEKS = 0b1010101010101L;
+    private static final long ALL_WEEKS = -1L;
+
+    private static final VenueBooking CS2103_LECTURE = booking("CS2103", "Lecture", "1",
+        new LessonSlot(4, 16 * 60, 18 * 60, LessonSlot.TEACHING_WEEKS));
+    private static final VenueBooking CS1010_LECTURE = booking("CS1010", "Lecture", "1",
+        new LessonSlot(0, 10 * 60, 12 * 60, LessonSlot.TEACHING_WEEKS));
+    private static final VenueBooking CS2030_LECTURE = booking("CS2030", "Lecture", "1",
+        new LessonSlot(0, 8 * 60, 14 * 60, LessonSlot.TEACHING_WEEKS));
+    private static final VenueBooking CS2040_TUTORIAL = booking("CS2040", "Tutorial", "01",
+        new LessonSlot(0, 14 * 60, 15 * 60, ODD_WEEKS));
+    private static final VenueBooking CS2100_TUTORIAL = booking("CS2100", "Tutorial", "02",
+        new LessonSlot(0, 15 * 60, 16 * 60, LessonSlot.TEACHING_WEEKS));
+
+    private final VenueIndex index = new VenueIndex(Map.of(
+        "I3-AUD", List.of(CS2103_LECTURE, CS1010_LECTURE, CS2030_LECTURE),
+        "COM1-0208", List.of(CS2040_TUTORIAL),
+        "COM1-0207", List.of(CS2100_TUTORIAL),
+        "COM2-0108", List.of()));
+
+    private static VenueBooking booking(String moduleCode, String lessonType, String classNo, LessonSlot slot) {
+        return new VenueBooking(moduleCode, lessonType, classNo, slot);
+    }
+
+    private static LessonSlot monday(int startHour, int endHour) {
+        return new LessonSlot(0, startHour * 60, endHour * 60, ALL_WEEKS);
+    }
+
+    @Test
+    public void getBookings_overlappingLessons_inTimeOrder() {
+        assertEquals(List.of(CS2030_LECTURE, CS1010_LECTURE), index.getBookings("i3-aud", monday(11, 12)));
+        // A long lesson starting early is still found behind a later, shorter one
+        assertEquals(List.of(CS2030_LECTURE), index.getBookings("I3-AUD", monday(13, 14)));
+        assertEquals(List.of(), index.getBookings("I3-AUD", monday(14, 16)));
+        assertEquals(List.of(), index.getBookings("LT19", monday(8, 18)));
+    }
+
+    @Test
+    public void getBookings_otherWeeks_notOverlapping() {
+        assertEquals(List.of(), index.getBookings("COM1-0208", new LessonSlot(0, 14 * 60, 15 * 60, 0b10)));
+        assertEquals(List.of(CS2040_TUTORIAL), index.getBookings("COM1-0208", monday(14, 15)));
+    }
+
+    @Test
+    public void getFreeVenues_byPrefix() {
+        assertEquals(List.of("COM1-0207"), index.getFreeVenues("com1", monday(14, 15)));
+        assertEquals(List.of(), index.getFreeVenues("COM1", monday(14, 16)));
+        assertEquals(List.of("COM1-0207", "COM1-0208", "COM2-0108"), index.getFreeVenues("COM", monday(8, 10)));
+    }
+
+    @Test
+    public void of_venueInformation() {
+        VenueLesson lesson = new VenueLesson().moduleCode("CS2103").lessonType("Lecture").classNo("1")
+            .startTime("1600").endTime("1800")
+            .weeks(new LessonWeeks(List.of(new BigDecimal(1), new BigDecimal(3))));
+        VenueIndex venueIndex = VenueIndex.of(Map.of("I3-AUD", List.of(
+            new VenueInformation().day(VenueInformation.DayEnum.FRIDAY).classes(List.of(lesson)))));
+
+        assertEquals(Optional.of("I3-AUD"), venueIndex.getVenueName("i3-aud"));
+        assertEquals(List.of(booking("CS2103", "Lecture", "1", new LessonSlot(4, 16 * 60, 18 * 60, 0b101))),
+            venueIndex.getBookingsByVenue().get("I3-AUD"));
+    }
+}
@@ -0,0 +1,16 @@
+package nus.climods.model.venue;
+
+import java.util.Map;
+
+import org.openapitools.client.model.SemestersEnum;
+
+/**
+ * A stub for {@link VenueLoader} which loads no venues, so that tests do not fetch them from NUSMods.
+ */
+public class VenueLoaderStub implements VenueLoader {
+
+    @Override
+    public VenueIndex loadVenueIndex(String academicYear, SemestersEnum semester) {
+        return new VenueIndex(Map.of());
+    }
+}
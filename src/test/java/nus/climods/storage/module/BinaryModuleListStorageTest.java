@@ -0,0 +1,218 @@
+package nus.climods.storage.module;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ReadOnlyModuleList;
+
+class BinaryModuleListStorageTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+
+    @TempDir
+    public Path testFolder;
+
+    private static ModuleInformation createModuleInformation(String code, String title, String... semesters) {
+        ModuleInformation module = new ModuleInformation().moduleCode(code).title(title).moduleCredit("4")
+            .department("Computer Science").faculty("Computing").semesterData(new ArrayList<>());
+        for (String semester : semesters) {
+            module.addSemesterDataItem(new ModuleInformationSemesterDataInner().semester(new BigDecimal(semester)));
+        }
+        return module;
+    }
+
+    private final List<ModuleInformation> data = List.of(
+        createModuleInformation("CS2103", "Software Engineering", "1", "2")
+            .prerequisite("CS2030 or CS2113").description("Théorie et pratique"),
+        createModuleInformation("CS2040S", "Data Structures and Algorithms", "2"),
+        createModuleInformation("CS1010R", "Programming Methodology", "3", "4").department(null));
+
+    private static List<String> getCodes(ReadOnlyModuleList moduleList) {
+        return moduleList.getModules().stream().map(Module::getCode).collect(Collectors.toList());
+    }
+
+    private static void setLastModified(Path filePath, Instant lastModified) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.from(lastModified));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+
+        assertFalse(storage.readModuleList(TEST_ACADEMIC_YEAR).isPresent());
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void saveAndReadModuleList_success() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+
+        Optional<ReadOnlyModuleList> readBack = storage.readModuleList(TEST_ACADEMIC_YEAR);
+        assertTrue(readBack.isPresent());
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"), getCodes(readBack.get()));
+
+        Module module = readBack.get().getModule("CS2103").get();
+        assertEquals("Software Engineering", module.getTitle());
+        assertEquals("Théorie et pratique", module.getDescription());
+        assertEquals("4", module.getModuleCredit());
+        assertEquals("Computer Science", module.getDepartment());
+        assertEquals("CS2030 or CS2113", module.getCataloguePrerequisite());
+        assertEquals(List.of(SemestersEnum.S1, SemestersEnum.S2), module.getSemesters());
+
+        Module specialTermModule = readBack.get().getModule("CS1010R").get();
+        assertNull(specialTermModule.getDepartment());
+        assertEquals("", specialTermModule.getDescription());
+        assertEquals(List.of(SemestersEnum.ST1, SemestersEnum.ST2), specialTermModule.getSemesters());
+        assertFalse(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void saveModuleList_twice_writesOtherFile() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+        Path firstFilePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        setLastModified(firstFilePath, Instant.now().minusSeconds(60));
+        // The first snapshot stays mapped while the second is written
+        ReadOnlyModuleList firstModuleList = storage.readModuleList(TEST_ACADEMIC_YEAR).get();
+
+        storage.saveModuleList(data.subList(0, 1), TEST_ACADEMIC_YEAR);
+
+        Path secondFilePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        assertNotEquals(firstFilePath, secondFilePath);
+        assertEquals(List.of("CS2103"), getCodes(storage.readModuleList(TEST_ACADEMIC_YEAR).get()));
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"), getCodes(firstModuleList));
+    }
+
+    @Test
+    public void readModuleList_newestCutShort_olderSnapshotRead() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+        setLastModified(storage.getModuleListFilePath(TEST_ACADEMIC_YEAR), Instant.now().minusSeconds(60));
+        storage.saveModuleList(data.subList(0, 1), TEST_ACADEMIC_YEAR);
+
+        Path newestFilePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        byte[] bytes = Files.readAllBytes(newestFilePath);
+        Files.write(newestFilePath, Arrays.copyOf(bytes, bytes.length - 1));
+        setLastModified(newestFilePath, Instant.now());
+
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"),
+            getCodes(storage.readModuleList(TEST_ACADEMIC_YEAR).get()));
+    }
+
+    @Test
+    public void saveModuleList_olderSnapshotMapped_writesOverNewestSnapshot() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+        Path olderFilePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        setLastModified(olderFilePath, Instant.now().minusSeconds(60));
+        storage.saveModuleList(data.subList(0, 1), TEST_ACADEMIC_YEAR);
+        Path newestFilePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        byte[] bytes = Files.readAllBytes(newestFilePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(newestFilePath, bytes);
+        // The newest snapshot fails validation, so the older one is the one mapped on startup
+        BinaryModuleListStorage restartedStorage = new BinaryModuleListStorage(testFolder);
+        ReadOnlyModuleList mappedModuleList = restartedStorage.readModuleList(TEST_ACADEMIC_YEAR).get();
+
+        restartedStorage.saveModuleList(data.subList(1, 2), TEST_ACADEMIC_YEAR);
+
+        assertEquals(newestFilePath, restartedStorage.getModuleListFilePath(TEST_ACADEMIC_YEAR));
+        assertEquals(List.of("CS2040S"), getCodes(restartedStorage.readModuleList(TEST_ACADEMIC_YEAR).get()));
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"),
+            getCodes(restartedStorage.readModuleList(TEST_ACADEMIC_YEAR, olderFilePath).get()));
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"), getCodes(mappedModuleList));
+    }
+
+    @Test
+    public void readModuleList_corruptedSnapshot_throwsDataConversionException() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+        Path filePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readModuleList(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void readModuleList_notASnapshot_throwsDataConversionException() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        Path filePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        Files.createDirectories(filePath.getParent());
+        Files.writeString(filePath, "{\"academicYear\":\"" + TEST_ACADEMIC_YEAR + "\",\"modules\":[]}");
+
+        assertThrows(DataConversionException.class, () -> storage.readModuleList(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void readModuleList_otherAcademicYear_emptyResult() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR, testFolder.resolve("2021-2022").resolve("moduleInfo.0.bin"));
+
+        assertFalse(storage.readModuleList("2021-2022").isPresent());
+    }
+
+    @Test
+    public void readModuleList_jsonSnapshot_migratedAndDeleted() throws Exception {
+        JsonModuleListStorage legacyStorage = new JsonModuleListStorage(testFolder);
+        legacyStorage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+        Path legacyFilePath = legacyStorage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        setLastModified(legacyFilePath, Instant.now().minus(BinaryModuleListStorage.MAX_SNAPSHOT_AGE).minusSeconds(60));
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"),
+            getCodes(storage.readModuleList(TEST_ACADEMIC_YEAR).get()));
+        assertFalse(Files.exists(legacyFilePath));
+        // The migrated snapshot is as old as the json snapshot, so it is still refreshed
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+        assertEquals(List.of("CS2103", "CS2040S", "CS1010R"),
+            getCodes(new BinaryModuleListStorage(testFolder).readModuleList(TEST_ACADEMIC_YEAR).get()));
+    }
+
+    @Test
+    public void readModuleList_invalidJsonSnapshot_deleted() throws Exception {
+        Path legacyFilePath = new JsonModuleListStorage(testFolder).getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        Files.createDirectories(legacyFilePath.getParent());
+        Files.writeString(legacyFilePath, "not json");
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+
+        assertFalse(storage.readModuleList(TEST_ACADEMIC_YEAR).isPresent());
+        assertFalse(Files.exists(legacyFilePath));
+    }
+
+    @Test
+    public void isModuleListStale_oldSnapshot_returnsTrue() throws Exception {
+        BinaryModuleListStorage storage = new BinaryModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+
+        setLastModified(storage.getModuleListFilePath(TEST_ACADEMIC_YEAR),
+            Instant.now().minus(BinaryModuleListStorage.MAX_SNAPSHOT_AGE).minusSeconds(60));
+
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+}
@@ -0,0 +1,115 @@
+package nus.climods.storage.module;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.model.Module;
+import org.openapitools.client.model.Workload;
+
+import nus.climods.commons.util.FileUtil;
+
+class JsonModuleDetailStorageTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+
+    @TempDir
+    public Path testFolder;
+
+    private static Module createModule(String code) {
+        return new Module().moduleCode(code).title("Title of " + code).moduleCredit("4").acadYear("2022/2023")
+            .department("Computer Science").faculty("Computing").workload(new Workload("2-1-1-3-3"));
+    }
+
+    @Test
+    public void readModuleDetail_nullModuleCode_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonModuleDetailStorage(testFolder)
+            .readModuleDetail(TEST_ACADEMIC_YEAR, null));
+    }
+
+    @Test
+    public void readModuleDetail_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonModuleDetailStorage(testFolder).readModuleDetail(TEST_ACADEMIC_YEAR, "CS2103").isPresent());
+    }
+
+    @Test
+    public void saveAndReadModuleDetail_success() throws Exception {
+        JsonModuleDetailStorage storage = new JsonModuleDetailStorage(testFolder);
+        Module module = createModule("CS2103");
+        storage.saveModuleDetail(module, TEST_ACADEMIC_YEAR);
+
+        assertEquals(module, storage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2103").get());
+        assertFalse(storage.readModuleDetail("2021-2022", "CS2103").isPresent());
+    }
+
+    @Test
+    public void readModuleDetail_expiredEntry_emptyResult() throws Exception {
+        JsonModuleDetailStorage storage = new JsonModuleDetailStorage(testFolder);
+        storage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+
+        Path filePath = storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2103");
+        Instant expired = Instant.now().minus(JsonModuleDetailStorage.MAX_DETAIL_AGE).minus(Duration.ofHours(1));
+        Files.setLastModifiedTime(filePath, FileTime.from(expired));
+
+        assertFalse(storage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2103").isPresent());
+    }
+
+    @Test
+    public void saveModuleDetail_storageFull_oldestEntryEvicted() throws Exception {
+        JsonModuleDetailStorage storage = new JsonModuleDetailStorage(testFolder,
+            JsonModuleDetailStorage.MAX_DETAIL_AGE, 2);
+        storage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+        storage.saveModuleDetail(createModule("CS2101"), TEST_ACADEMIC_YEAR);
+        Files.setLastModifiedTime(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2103"),
+            FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+
+        storage.saveModuleDetail(createModule("CS2040S"), TEST_ACADEMIC_YEAR);
+
+        assertFalse(FileUtil.isFileExists(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2103")));
+        assertTrue(storage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2101").isPresent());
+        assertTrue(storage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2040S").isPresent());
+    }
+
+    @Test
+    public void saveModuleDetail_storageFull_leastRecentlyReadEntryEvicted() throws Exception {
+        JsonModuleDetailStorage storage = new JsonModuleDetailStorage(testFolder,
+            JsonModuleDetailStorage.MAX_DETAIL_AGE, 2);
+        storage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+        storage.saveModuleDetail(createModule("CS2101"), TEST_ACADEMIC_YEAR);
+        Path filePath = storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2103");
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+
+        assertTrue(storage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2103").isPresent());
+        storage.saveModuleDetail(createModule("CS2040S"), TEST_ACADEMIC_YEAR);
+
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertEquals(savedTime, Files.getLastModifiedTime(filePath));
+        assertFalse(FileUtil.isFileExists(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2101")));
+    }
+
+    @Test
+    public void saveModuleDetail_newStorage_orderReadFromAccessTimes() throws Exception {
+        JsonModuleDetailStorage storage = new JsonModuleDetailStorage(testFolder,
+            JsonModuleDetailStorage.MAX_DETAIL_AGE, 2);
+        storage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+        storage.saveModuleDetail(createModule("CS2101"), TEST_ACADEMIC_YEAR);
+        Files.setAttribute(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2101"), "lastAccessTime",
+            FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+
+        JsonModuleDetailStorage reopenedStorage = new JsonModuleDetailStorage(testFolder,
+            JsonModuleDetailStorage.MAX_DETAIL_AGE, 2);
+        reopenedStorage.saveModuleDetail(createModule("CS2040S"), TEST_ACADEMIC_YEAR);
+
+        assertFalse(FileUtil.isFileExists(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2101")));
+        assertTrue(FileUtil.isFileExists(storage.getModuleDetailFilePath(TEST_ACADEMIC_YEAR, "CS2103")));
+    }
+}
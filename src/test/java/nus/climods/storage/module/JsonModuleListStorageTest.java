@@ -0,0 +1,113 @@
+package nus.climods.storage.module;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.model.ModuleInformation;
+import org.openapitools.client.model.ModuleInformationSemesterDataInner;
+import org.openapitools.client.model.SemestersEnum;
+import org.openapitools.client.model.Workload;
+
+import nus.climods.commons.exceptions.DataConversionException;
+import nus.climods.model.module.Module;
+import nus.climods.model.module.ReadOnlyModuleList;
+
+class JsonModuleListStorageTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+
+    @TempDir
+    public Path testFolder;
+
+    private static ModuleInformation createModuleInformation(String code, String title, String semester) {
+        return new ModuleInformation().moduleCode(code).title(title).moduleCredit("4").department("Computer Science")
+            .workload(new Workload("2-1-1-3-3"))
+            .addSemesterDataItem(new ModuleInformationSemesterDataInner().semester(new BigDecimal(semester)));
+    }
+
+    private final List<ModuleInformation> data = List.of(
+        createModuleInformation("CS2103", "Software Engineering", "1"),
+        createModuleInformation("CS2040S", "Data Structures and Algorithms", "2"));
+
+    @Test
+    public void readModuleList_nullAcademicYear_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonModuleListStorage(testFolder).readModuleList(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+
+        assertFalse(storage.readModuleList(TEST_ACADEMIC_YEAR).isPresent());
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void saveAndReadModuleList_success() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+
+        Optional<ReadOnlyModuleList> readBack = storage.readModuleList(TEST_ACADEMIC_YEAR);
+        assertTrue(readBack.isPresent());
+        assertEquals(List.of("CS2103", "CS2040S"),
+            readBack.get().getModules().stream().map(Module::getCode).collect(Collectors.toList()));
+
+        Module module = readBack.get().getModule("CS2040S").get();
+        assertEquals("Data Structures and Algorithms", module.getTitle());
+        assertEquals(List.of(SemestersEnum.S2), module.getSemesters());
+        assertFalse(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void readModuleList_otherAcademicYear_emptyResult() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR, storage.getModuleListFilePath("2021-2022"));
+
+        assertFalse(storage.readModuleList("2021-2022").isPresent());
+    }
+
+    @Test
+    public void readModuleList_descriptionNotKept() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        storage.saveModuleList(List.of(createModuleInformation("CS2103", "Software Engineering", "1")
+            .description("A long description")), TEST_ACADEMIC_YEAR);
+
+        Module module = storage.readModuleList(TEST_ACADEMIC_YEAR).get().getModule("CS2103").get();
+        assertEquals("", module.getDescription());
+        assertEquals("Computer Science", module.getDepartment());
+    }
+
+    @Test
+    public void readModuleList_missingModules_throwsDataConversionException() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        Path filePath = storage.getModuleListFilePath(TEST_ACADEMIC_YEAR);
+        Files.createDirectories(filePath.getParent());
+        Files.writeString(filePath, "{\"academicYear\":\"" + TEST_ACADEMIC_YEAR + "\"}");
+
+        assertThrows(DataConversionException.class, () -> storage.readModuleList(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void isModuleListStale_oldSnapshot_returnsTrue() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        storage.saveModuleList(data, TEST_ACADEMIC_YEAR);
+
+        Instant expired = Instant.now().minus(JsonModuleListStorage.MAX_SNAPSHOT_AGE).minusSeconds(60);
+        Files.setLastModifiedTime(storage.getModuleListFilePath(TEST_ACADEMIC_YEAR), FileTime.from(expired));
+
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+}
@@ -0,0 +1,103 @@
+package nus.climods.storage.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Module;
+import org.openapitools.client.model.Workload;
+
+import nus.climods.model.module.ModuleDetailLoader;
+
+class ModuleDetailCrawlerTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+    private static final List<String> MODULE_CODES = List.of("CS1010", "CS2030", "CS2040", "CS2103", "MA1521");
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<String> fetchedModuleCodes = Collections.synchronizedList(new ArrayList<>());
+
+    private ModuleDetailLoader createLoader(Set<String> failingModuleCodes) {
+        return (academicYear, moduleCode) -> {
+            fetchedModuleCodes.add(moduleCode);
+            if (failingModuleCodes.contains(moduleCode)) {
+                throw new ApiException("Unreachable");
+            }
+            return new Module().moduleCode(moduleCode).title("Title of " + moduleCode)
+                .workload(new Workload("2-1-1-3-3"));
+        };
+    }
+
+    private ModuleDetailCrawler createCrawler(JsonModuleDetailStorage storage, ModuleDetailLoader loader,
+        int maxConcurrentRequests) {
+        return new ModuleDetailCrawler(storage, loader, testFolder.resolve("checkpoint.json"), maxConcurrentRequests,
+            Duration.ZERO);
+    }
+
+    private JsonModuleDetailStorage createStorage() {
+        return new JsonModuleDetailStorage(testFolder, ModuleDetailCrawler.MAX_CRAWL_AGE,
+            JsonModuleDetailStorage.UNBOUNDED_ENTRIES);
+    }
+
+    @Test
+    public void crawl_allModules_savedInStorage() throws Exception {
+        JsonModuleDetailStorage storage = createStorage();
+        List<CrawlProgress> updates = Collections.synchronizedList(new ArrayList<>());
+        CrawlProgress progress = createCrawler(storage, createLoader(Set.of()), 2)
+            .crawl(TEST_ACADEMIC_YEAR, MODULE_CODES, updates::add).get();
+
+        assertEquals(new CrawlProgress(MODULE_CODES.size(), 0, MODULE_CODES.size(), true), progress);
+        assertTrue(progress.isComplete());
+        assertEquals(progress, updates.get(updates.size() - 1));
+        for (String moduleCode : MODULE_CODES) {
+            assertTrue(storage.readModuleDetail(TEST_ACADEMIC_YEAR, moduleCode).isPresent());
+        }
+    }
+
+    @Test
+    public void crawl_afterEarlierCrawl_onlyFetchesRemainingModules() throws Exception {
+        JsonModuleDetailStorage storage = createStorage();
+        CrawlProgress progress = createCrawler(storage, createLoader(Set.of("CS2040")), 1)
+            .crawl(TEST_ACADEMIC_YEAR, MODULE_CODES, update -> { }).get();
+        assertEquals(new CrawlProgress(MODULE_CODES.size() - 1, 1, MODULE_CODES.size(), true), progress);
+
+        fetchedModuleCodes.clear();
+        progress = createCrawler(storage, createLoader(Set.of()), 1)
+            .crawl(TEST_ACADEMIC_YEAR, MODULE_CODES, update -> { }).get();
+        assertEquals(List.of("CS2040"), fetchedModuleCodes);
+        assertTrue(progress.isComplete());
+
+        // A checkpoint of another academic year is not resumed
+        fetchedModuleCodes.clear();
+        createCrawler(storage, createLoader(Set.of()), 1).crawl("2023-2024", MODULE_CODES, update -> { }).get();
+        assertEquals(MODULE_CODES.size(), fetchedModuleCodes.size());
+    }
+
+    @Test
+    public void crawl_consecutiveFailures_stopsCrawl() throws Exception {
+        List<String> moduleCodes = IntStream.range(0, 3 * ModuleDetailCrawler.MAX_CONSECUTIVE_FAILURES)
+            .mapToObj(i -> String.format("CS%04d", i))
+            .collect(Collectors.toList());
+        CrawlProgress progress = createCrawler(createStorage(), createLoader(Set.copyOf(moduleCodes)), 1)
+            .crawl(TEST_ACADEMIC_YEAR, moduleCodes, update -> { }).get();
+
+        assertEquals(ModuleDetailCrawler.MAX_CONSECUTIVE_FAILURES, fetchedModuleCodes.size());
+        assertEquals(new CrawlProgress(0, ModuleDetailCrawler.MAX_CONSECUTIVE_FAILURES, moduleCodes.size(), true),
+            progress);
+        assertFalse(progress.isComplete());
+    }
+}
@@ -0,0 +1,80 @@
+package nus.climods.storage.module;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.ModuleInformation;
+
+public class ModuleInformationReaderTest {
+
+    private static final String MODULE_INFO_JSON = "[{\"moduleCode\":\"CS2103\",\"title\":\"Software Engineering\","
+        + "\"description\":\"This module introduces the necessary conceptual and analytical tools.\","
+        + "\"moduleCredit\":\"4\",\"department\":\"Computer Science\",\"faculty\":\"Computing\","
+        + "\"workload\":[2,1,0,3,4],\"prerequisite\":\"CS2030 or CS2113\",\"preclusion\":\"CS2113\","
+        + "\"attributes\":{\"su\":true},"
+        + "\"semesterData\":[{\"semester\":1,\"examDate\":\"2022-11-29T05:00:00.000Z\",\"examDuration\":120},"
+        + "{\"semester\":2}]},"
+        + "{\"moduleCode\":\"CS2040S\",\"title\":\"Data Structures and Algorithms\",\"moduleCredit\":4,"
+        + "\"department\":\"Computer Science\",\"faculty\":\"Computing\",\"prerequisite\":null,"
+        + "\"semesterData\":[]}]";
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readAll_listViewFieldsKept() throws IOException {
+        List<ModuleInformation> modules = ModuleInformationReader.readAll(toStream(MODULE_INFO_JSON));
+
+        assertEquals(2, modules.size());
+        ModuleInformation module = modules.get(0);
+        assertEquals("CS2103", module.getModuleCode());
+        assertEquals("Software Engineering", module.getTitle());
+        assertEquals("4", module.getModuleCredit());
+        assertEquals("Computer Science", module.getDepartment());
+        assertEquals("Computing", module.getFaculty());
+        assertEquals("CS2030 or CS2113", module.getPrerequisite());
+        assertEquals(2, module.getSemesterData().size());
+        assertEquals(BigDecimal.ONE, module.getSemesterData().get(0).getSemester());
+        assertEquals(new BigDecimal(2), module.getSemesterData().get(1).getSemester());
+
+        assertEquals("4", modules.get(1).getModuleCredit());
+        assertNull(modules.get(1).getPrerequisite());
+        assertEquals(List.of(), modules.get(1).getSemesterData());
+    }
+
+    @Test
+    public void readAll_heavyFieldsSkipped() throws IOException {
+        ModuleInformation module = ModuleInformationReader.readAll(toStream(MODULE_INFO_JSON)).get(0);
+
+        assertNull(module.getDescription());
+        assertNull(module.getPreclusion());
+        assertNull(module.getWorkload());
+        assertNull(module.getSemesterData().get(0).getExamDate());
+        assertNull(module.getSemesterData().get(0).getExamDuration());
+    }
+
+    @Test
+    public void readAll_departmentNamesShared() throws IOException {
+        List<ModuleInformation> modules = ModuleInformationReader.readAll(toStream(MODULE_INFO_JSON));
+
+        assertSame(modules.get(0).getDepartment(), modules.get(1).getDepartment());
+        assertSame(modules.get(0).getFaculty(), modules.get(1).getFaculty());
+    }
+
+    @Test
+    public void readAll_notAnArray_throwsIoException() {
+        assertThrows(IOException.class, () -> ModuleInformationReader.readAll(toStream("{\"modules\":[]}")));
+        assertThrows(IOException.class, () -> ModuleInformationReader.readAll(toStream("[{\"moduleCode\":")));
+    }
+}
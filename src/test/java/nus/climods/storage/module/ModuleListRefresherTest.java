@@ -0,0 +1,85 @@
+package nus.climods.storage.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.ModuleInformation;
+
+import nus.climods.model.module.Module;
+
+class ModuleListRefresherTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+    private static final List<String> MODULE_CODES = List.of("CS1010", "CS2030", "CS2040", "CS2103", "MA1521");
+
+    @TempDir
+    public Path testFolder;
+
+    private static String toModuleInfoJson(List<String> moduleCodes) {
+        return moduleCodes.stream()
+            .map(moduleCode -> "{\"moduleCode\":\"" + moduleCode + "\",\"title\":\"Title of " + moduleCode + "\","
+                + "\"description\":\"Description of " + moduleCode + "\",\"semesterData\":[{\"semester\":1}]}")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static ModuleListRefresher.ModuleInformationSource createSource(String json) {
+        return academicYear -> new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void refresh_allModules_mergedInBatchesAndSaved() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        List<List<Module>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        List<ModuleInformation> moduleInfos = new ModuleListRefresher(storage,
+            createSource(toModuleInfoJson(MODULE_CODES)), 2).refresh(TEST_ACADEMIC_YEAR, batches::add).get();
+
+        assertEquals(MODULE_CODES, moduleInfos.stream().map(ModuleInformation::getModuleCode)
+            .collect(Collectors.toList()));
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(MODULE_CODES, batches.stream().flatMap(List::stream).map(Module::getCode)
+            .collect(Collectors.toList()));
+        assertEquals(MODULE_CODES.size(), storage.readModuleList(TEST_ACADEMIC_YEAR).get().getModules().size());
+        assertFalse(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+
+    @Test
+    public void refresh_fullBatches_noEmptyBatch() throws Exception {
+        List<List<Module>> batches = Collections.synchronizedList(new ArrayList<>());
+        List<String> moduleCodes = IntStream.range(0, 6).mapToObj(i -> "CS100" + i).collect(Collectors.toList());
+
+        new ModuleListRefresher(new JsonModuleListStorage(testFolder), createSource(toModuleInfoJson(moduleCodes)), 3)
+            .refresh(TEST_ACADEMIC_YEAR, batches::add).get();
+
+        assertEquals(List.of(3, 3), batches.stream().map(List::size).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void refresh_unreachable_completesExceptionallyWithoutSaving() throws Exception {
+        JsonModuleListStorage storage = new JsonModuleListStorage(testFolder);
+        List<List<Module>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<List<ModuleInformation>> refresh = new ModuleListRefresher(storage, academicYear -> {
+            throw new ApiException("Unreachable");
+        }).refresh(TEST_ACADEMIC_YEAR, batches::add);
+
+        Throwable error = refresh.handle((moduleInfos, refreshError) -> refreshError).get();
+        assertTrue(error.getCause() instanceof ApiException);
+        assertTrue(batches.isEmpty());
+        assertTrue(storage.isModuleListStale(TEST_ACADEMIC_YEAR));
+    }
+}
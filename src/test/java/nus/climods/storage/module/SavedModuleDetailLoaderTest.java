@@ -0,0 +1,51 @@
+package nus.climods.storage.module;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Module;
+import org.openapitools.client.model.Workload;
+
+class SavedModuleDetailLoaderTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+
+    @TempDir
+    public Path testFolder;
+
+    private static Module createModule(String code) {
+        return new Module().moduleCode(code).title("Title of " + code).moduleCredit("4").acadYear("2022/2023")
+            .workload(new Workload("2-1-1-3-3"));
+    }
+
+    @Test
+    public void loadModuleDetail_savedInEitherStorage_returnedWithoutSaving() throws Exception {
+        JsonModuleDetailStorage crawledStorage = new JsonModuleDetailStorage(testFolder.resolve("crawled"));
+        JsonModuleDetailStorage viewedStorage = new JsonModuleDetailStorage(testFolder.resolve("viewed"));
+        viewedStorage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+        SavedModuleDetailLoader loader = new SavedModuleDetailLoader(crawledStorage, viewedStorage);
+
+        assertEquals(createModule("CS2103"), loader.loadModuleDetail(TEST_ACADEMIC_YEAR, "CS2103"));
+        assertFalse(crawledStorage.readModuleDetail(TEST_ACADEMIC_YEAR, "CS2103").isPresent());
+    }
+
+    @Test
+    public void loadModuleDetail_missingModuleSavedLater_foundOnlyAfterForgettingMisses() throws Exception {
+        JsonModuleDetailStorage crawledStorage = new JsonModuleDetailStorage(testFolder);
+        SavedModuleDetailLoader loader = new SavedModuleDetailLoader(crawledStorage);
+
+        assertThrows(ApiException.class, () -> loader.loadModuleDetail(TEST_ACADEMIC_YEAR, "CS2103"));
+
+        crawledStorage.saveModuleDetail(createModule("CS2103"), TEST_ACADEMIC_YEAR);
+        assertThrows(ApiException.class, () -> loader.loadModuleDetail(TEST_ACADEMIC_YEAR, "CS2103"));
+
+        loader.forgetMissingModules();
+        assertEquals(createModule("CS2103"), loader.loadModuleDetail(TEST_ACADEMIC_YEAR, "CS2103"));
+    }
+}
@@ -0,0 +1,124 @@
+package nus.climods.storage.venue;
+
+import static nus.climods.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.SemestersEnum;
+
+import nus.climods.model.timetable.LessonSlot;
+import nus.climods.model.venue.VenueBooking;
+import nus.climods.model.venue.VenueIndex;
+import nus.climods.model.venue.VenueLoader;
+
+class JsonVenueStorageTest {
+
+    private static final String TEST_ACADEMIC_YEAR = "2022-2023";
+
+    @TempDir
+    public Path testFolder;
+
+    private final VenueIndex venueIndex = new VenueIndex(Map.of(
+        "I3-AUD", List.of(new VenueBooking("CS2103", "Lecture", "1", new LessonSlot(4, 960, 1080, 0b101)),
+            new VenueBooking("CS1010", "Lecture", "1", new LessonSlot(0, 600, 720, LessonSlot.TEACHING_WEEKS))),
+        "COM1-0207", List.of()));
+
+    private static void expire(JsonVenueStorage storage, SemestersEnum semester) throws Exception {
+        Files.setLastModifiedTime(storage.getVenueIndexFilePath(TEST_ACADEMIC_YEAR, semester),
+            FileTime.from(Instant.now().minus(JsonVenueStorage.MAX_VENUE_INDEX_AGE).minusSeconds(60)));
+    }
+
+    @Test
+    public void readVenueIndex_missingFile_emptyResult() throws Exception {
+        assertTrue(new JsonVenueStorage(testFolder).readVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1).isEmpty());
+    }
+
+    @Test
+    public void saveAndRead_sameIndex() throws Exception {
+        JsonVenueStorage storage = new JsonVenueStorage(testFolder);
+        storage.saveVenueIndex(venueIndex, TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+
+        VenueIndex readBack = storage.readVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1).orElseThrow();
+        assertEquals(venueIndex.getBookingsByVenue(), readBack.getBookingsByVenue());
+        // Another semester is stored in its own file
+        assertTrue(storage.readVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S2).isEmpty());
+    }
+
+    @Test
+    public void readVenueIndex_expired_staleIndexRead() throws Exception {
+        JsonVenueStorage storage = new JsonVenueStorage(testFolder);
+        assertTrue(storage.isVenueIndexStale(TEST_ACADEMIC_YEAR, SemestersEnum.S1));
+        storage.saveVenueIndex(venueIndex, TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+        assertFalse(storage.isVenueIndexStale(TEST_ACADEMIC_YEAR, SemestersEnum.S1));
+
+        expire(storage, SemestersEnum.S1);
+
+        assertTrue(storage.isVenueIndexStale(TEST_ACADEMIC_YEAR, SemestersEnum.S1));
+        assertEquals(venueIndex.getBookingsByVenue(),
+            storage.readVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1).orElseThrow().getBookingsByVenue());
+    }
+
+    @Test
+    public void cachedVenueLoader_onlyFetchesOnCacheMiss() throws Exception {
+        List<SemestersEnum> fetchedSemesters = new ArrayList<>();
+        VenueLoader apiLoader = (academicYear, semester) -> {
+            fetchedSemesters.add(semester);
+            return venueIndex;
+        };
+        CachedVenueLoader loader = new CachedVenueLoader(new JsonVenueStorage(testFolder), apiLoader);
+
+        loader.loadVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+        VenueIndex cached = loader.loadVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+
+        assertEquals(List.of(SemestersEnum.S1), fetchedSemesters);
+        assertEquals(venueIndex.getBookingsByVenue(), cached.getBookingsByVenue());
+    }
+
+    @Test
+    public void cachedVenueLoader_staleIndex_fetchedAgain() throws Exception {
+        JsonVenueStorage storage = new JsonVenueStorage(testFolder);
+        storage.saveVenueIndex(new VenueIndex(Map.of()), TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+        expire(storage, SemestersEnum.S1);
+
+        VenueIndex loaded = new CachedVenueLoader(storage, (academicYear, semester) -> venueIndex)
+            .loadVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+
+        assertEquals(venueIndex.getBookingsByVenue(), loaded.getBookingsByVenue());
+        assertFalse(storage.isVenueIndexStale(TEST_ACADEMIC_YEAR, SemestersEnum.S1));
+    }
+
+    @Test
+    public void cachedVenueLoader_fetchFails_staleIndexReturned() throws Exception {
+        JsonVenueStorage storage = new JsonVenueStorage(testFolder);
+        storage.saveVenueIndex(venueIndex, TEST_ACADEMIC_YEAR, SemestersEnum.S1);
+        expire(storage, SemestersEnum.S1);
+        CachedVenueLoader loader = new CachedVenueLoader(storage, (academicYear, semester) -> {
+            throw new ApiException("Unreachable");
+        });
+
+        assertEquals(venueIndex.getBookingsByVenue(),
+            loader.loadVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1).getBookingsByVenue());
+    }
+
+    @Test
+    public void cachedVenueLoader_fetchFails_throwsApiException() {
+        CachedVenueLoader loader = new CachedVenueLoader(new JsonVenueStorage(testFolder), (academicYear, semester) -> {
+            throw new ApiException("Unreachable");
+        });
+
+        assertThrows(ApiException.class, () ->
+            loader.loadVenueIndex(TEST_ACADEMIC_YEAR, SemestersEnum.S1));
+    }
+}
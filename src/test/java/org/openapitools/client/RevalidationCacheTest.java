@@ -0,0 +1,140 @@
+package org.openapitools.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for RevalidationCache
+ */
+public class RevalidationCacheTest {
+
+    private static final URI MODULE_URI = URI.create("https://api.nusmods.com/v2/2022-2023/modules/CS2103.json");
+    private static final URI OTHER_URI = URI.create("https://api.nusmods.com/v2/2022-2023/modules/CS2101.json");
+    private static final byte[] BODY = "{\"moduleCode\":\"CS2103\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String ETAG = "\"5f3c-1a2b\"";
+    private static final String LAST_MODIFIED = "Sat, 01 Oct 2022 00:00:00 GMT";
+
+    @TempDir
+    public Path testFolder;
+
+    private static HttpHeaders headers(Map<String, List<String>> map) {
+        return HttpHeaders.of(map, (name, value) -> true);
+    }
+
+    private static void put(RevalidationCache cache, URI uri, HttpHeaders headers, byte[] body) throws IOException {
+        try (InputStream in = cache.put(uri, headers, new ByteArrayInputStream(body))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    private static byte[] getBody(RevalidationCache cache, URI uri) throws IOException {
+        try (InputStream in = cache.getBody(uri).get()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static HttpRequest buildRequest(RevalidationCache cache, URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(uri).GET();
+        cache.addValidators(builder);
+        return builder.build();
+    }
+
+    @Test
+    public void addValidators_emptyCache_noValidators() {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        HttpRequest request = buildRequest(cache, MODULE_URI);
+
+        assertTrue(request.headers().firstValue(RevalidationCache.HEADER_IF_NONE_MATCH).isEmpty());
+        assertTrue(request.headers().firstValue(RevalidationCache.HEADER_IF_MODIFIED_SINCE).isEmpty());
+    }
+
+    @Test
+    public void put_withValidators_bodyAndValidatorsStored() throws IOException {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        put(cache, MODULE_URI, headers(Map.of(RevalidationCache.HEADER_ETAG, List.of(ETAG),
+            RevalidationCache.HEADER_LAST_MODIFIED, List.of(LAST_MODIFIED))), BODY);
+
+        assertArrayEquals(BODY, getBody(cache, MODULE_URI));
+        HttpRequest request = buildRequest(cache, MODULE_URI);
+        assertEquals(ETAG, request.headers().firstValue(RevalidationCache.HEADER_IF_NONE_MATCH).get());
+        assertEquals(LAST_MODIFIED, request.headers().firstValue(RevalidationCache.HEADER_IF_MODIFIED_SINCE).get());
+
+        // Entries are kept per URI, and survive a new cache on the same directory
+        RevalidationCache reopened = new RevalidationCache(testFolder);
+        assertArrayEquals(BODY, getBody(reopened, MODULE_URI));
+        assertFalse(reopened.getBody(OTHER_URI).isPresent());
+        assertTrue(buildRequest(reopened, OTHER_URI).headers().map().isEmpty());
+    }
+
+    @Test
+    public void put_withoutValidators_notStored() throws IOException {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        put(cache, MODULE_URI, headers(Map.of()), BODY);
+
+        assertFalse(cache.getBody(MODULE_URI).isPresent());
+    }
+
+    @Test
+    public void put_closedBeforeEnd_wholeBodyStored() throws IOException {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        try (InputStream in = cache.put(MODULE_URI, headers(Map.of(RevalidationCache.HEADER_ETAG, List.of(ETAG))),
+            new ByteArrayInputStream(BODY))) {
+            assertEquals(BODY[0], in.read());
+        }
+
+        assertArrayEquals(BODY, getBody(cache, MODULE_URI));
+    }
+
+    @Test
+    public void put_readFails_previousEntryKept() throws IOException {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        put(cache, MODULE_URI, headers(Map.of(RevalidationCache.HEADER_ETAG, List.of(ETAG))), BODY);
+
+        InputStream failingBody = new SequenceInputStream(new ByteArrayInputStream(new byte[] {'['}),
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Connection reset");
+                }
+            });
+        try (InputStream in = cache.put(MODULE_URI, headers(Map.of(RevalidationCache.HEADER_ETAG,
+            List.of("\"other\""))), failingBody)) {
+            assertThrows(IOException.class, in::readAllBytes);
+        }
+
+        assertArrayEquals(BODY, getBody(cache, MODULE_URI));
+        assertEquals(ETAG, buildRequest(cache, MODULE_URI).headers()
+            .firstValue(RevalidationCache.HEADER_IF_NONE_MATCH).get());
+    }
+
+    @Test
+    public void withValidators_runsWrappedInterceptorFirst() throws IOException {
+        RevalidationCache cache = new RevalidationCache(testFolder);
+        put(cache, MODULE_URI, headers(Map.of(RevalidationCache.HEADER_ETAG, List.of(ETAG))), BODY);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(MODULE_URI).GET();
+        cache.withValidators(b -> b.header("User-Agent", "CliMods")).accept(builder);
+        HttpRequest request = builder.build();
+
+        assertEquals("CliMods", request.headers().firstValue("User-Agent").get());
+        assertEquals(ETAG, request.headers().firstValue(RevalidationCache.HEADER_IF_NONE_MATCH).get());
+    }
+}